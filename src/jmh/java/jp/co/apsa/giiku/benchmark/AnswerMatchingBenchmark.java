@@ -0,0 +1,71 @@
+package jp.co.apsa.giiku.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import jp.co.apsa.giiku.domain.valueobject.AnswerKey;
+
+/**
+ * クイズ回答（{@code QuizController.answerQuestion}）の正規化・正誤判定コスト。
+ *
+ * <ul>
+ *   <li>{@code matchCachedKey}: キャッシュ済みの解答キーで判定（現在の動作）</li>
+ *   <li>{@code buildKeyAndMatch}: 回答ごとに解答キーを作成して判定</li>
+ *   <li>{@code normalize}: 回答文字列の正規化のみ</li>
+ * </ul>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AnswerMatchingBenchmark {
+
+    /** 正解文字列（単一選択・複数選択・記述） */
+    @Param({"B", "A,C,D", "オブジェクト指向"})
+    private String correctAnswer;
+
+    private String answer;
+
+    private AnswerKey answerKey;
+
+    @Setup
+    public void setUp() {
+        answerKey = AnswerKey.of(correctAnswer, "解説");
+        // 大文字小文字・空白・並び順の違う回答を判定する
+        StringBuilder reversed = new StringBuilder();
+        String[] parts = correctAnswer.split(",");
+        for (int i = parts.length - 1; i >= 0; i--) {
+            reversed.append(' ').append(parts[i].toLowerCase()).append(" ,");
+        }
+        answer = reversed.toString();
+        if (!answerKey.matches(answer)) {
+            throw new IllegalStateException("回答が正解と判定されません: " + answer);
+        }
+    }
+
+    @Benchmark
+    public boolean matchCachedKey() {
+        return answerKey.matches(answer);
+    }
+
+    @Benchmark
+    public boolean buildKeyAndMatch() {
+        return AnswerKey.of(correctAnswer, "解説").matches(answer);
+    }
+
+    @Benchmark
+    public Object normalize() {
+        return AnswerKey.normalize(answer);
+    }
+}
@@ -0,0 +1,87 @@
+package jp.co.apsa.giiku.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jp.co.apsa.giiku.service.ContentSanitizer;
+
+/**
+ * 講義ページ1回分のコンテンツブロックのサニタイズコスト比較。
+ *
+ * <ul>
+ *   <li>{@code perRequest}: 表示のたびに Jsoup で解析（従来の動作）</li>
+ *   <li>{@code hashCached}: 内容のハッシュ値をキーにしたキャッシュを参照</li>
+ *   <li>{@code stored}: 書き込み時に保存したサニタイズ結果をそのまま返す</li>
+ * </ul>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContentSanitizeBenchmark {
+
+    /** 1ページあたりのブロック数 */
+    @Param({"20"})
+    private int blocks;
+
+    private List<String> contents;
+
+    private List<String> stored;
+
+    private ContentSanitizer sanitizer;
+
+    @Setup
+    public void setUp() {
+        sanitizer = new ContentSanitizer(new SimpleMeterRegistry());
+        contents = new ArrayList<>();
+        stored = new ArrayList<>();
+        for (int i = 0; i < blocks; i++) {
+            StringBuilder html = new StringBuilder();
+            html.append("<h3>ブロック").append(i).append("</h3>");
+            for (int j = 0; j < 10; j++) {
+                html.append("<p>Java の <b>クラス</b> と <i>オブジェクト</i> の関係を説明します。")
+                        .append("<a href=\"https://example.com/").append(j).append("\">参考</a></p>");
+            }
+            html.append("<script>alert('x')</script><pre><code>System.out.println(\"Hello\");</code></pre>");
+            contents.add(html.toString());
+            stored.add(sanitizer.sanitize(html.toString()));
+            sanitizer.sanitizeCached(html.toString());
+        }
+    }
+
+    @Benchmark
+    public void perRequest(Blackhole bh) {
+        for (String content : contents) {
+            bh.consume(sanitizer.sanitize(content));
+        }
+    }
+
+    @Benchmark
+    public void hashCached(Blackhole bh) {
+        for (String content : contents) {
+            bh.consume(sanitizer.sanitizeCached(content));
+        }
+    }
+
+    @Benchmark
+    public void stored(Blackhole bh) {
+        for (String content : stored) {
+            bh.consume(content);
+        }
+    }
+}
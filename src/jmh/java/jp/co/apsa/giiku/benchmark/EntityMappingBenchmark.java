@@ -0,0 +1,143 @@
+package jp.co.apsa.giiku.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
+import com.github.dozermapper.core.loader.api.TypeMappingOptions;
+
+import jp.co.apsa.giiku.domain.entity.ProgramSchedule;
+import jp.co.apsa.giiku.domain.entity.UserRole;
+import jp.co.apsa.giiku.dto.ProgramScheduleResponseDto;
+import jp.co.apsa.giiku.dto.UserRoleResponseDto;
+import jp.co.apsa.giiku.mapper.ProgramScheduleMapper;
+import jp.co.apsa.giiku.mapper.UserRoleMapper;
+
+/**
+ * 一覧1ページ分のエンティティをレスポンスDTOに変換するコストの比較。
+ *
+ * <ul>
+ *   <li>{@code dozer*}: 従来の {@code DozerConfig} と同じ設定の Dozer（リフレクション）</li>
+ *   <li>{@code generated*}: コンパイル時に生成したマッパー</li>
+ * </ul>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EntityMappingBenchmark {
+
+    /** 1ページあたりの件数 */
+    @Param({"50"})
+    private int pageSize;
+
+    private List<ProgramSchedule> schedules;
+
+    private List<UserRole> roles;
+
+    private Mapper dozer;
+
+    private ProgramScheduleMapper programScheduleMapper;
+
+    private UserRoleMapper userRoleMapper;
+
+    @Setup
+    public void setUp() {
+        dozer = DozerBeanMapperBuilder.create()
+                .withMappingBuilder(new BeanMappingBuilder() {
+                    @Override
+                    protected void configure() {
+                        mapping(ProgramSchedule.class, ProgramSchedule.class, TypeMappingOptions.oneWay())
+                                .exclude("id").exclude("version")
+                                .exclude("createdBy").exclude("createdAt")
+                                .exclude("updatedBy").exclude("updatedAt");
+                        mapping(UserRole.class, UserRole.class, TypeMappingOptions.oneWay())
+                                .exclude("id").exclude("version")
+                                .exclude("createdBy").exclude("createdAt")
+                                .exclude("updatedBy").exclude("updatedAt");
+                    }
+                })
+                .build();
+        programScheduleMapper = Mappers.getMapper(ProgramScheduleMapper.class);
+        userRoleMapper = Mappers.getMapper(UserRoleMapper.class);
+
+        LocalDateTime now = LocalDateTime.of(2025, 4, 1, 9, 0);
+        schedules = new ArrayList<>();
+        roles = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            ProgramSchedule schedule = new ProgramSchedule();
+            schedule.setId((long) i);
+            schedule.setProgramId(10L + i % 5);
+            schedule.setInstructorId(20L + i % 3);
+            schedule.setStartDate(LocalDate.of(2025, 4, 1).plusDays(i));
+            schedule.setEndDate(LocalDate.of(2025, 4, 5).plusDays(i));
+            schedule.setMaxStudents(30);
+            schedule.setCurrentStudents(i % 30);
+            schedule.setCreatedAt(now);
+            schedule.setUpdatedAt(now);
+            schedules.add(schedule);
+
+            UserRole role = new UserRole((long) i, UserRole.RoleName.STUDENT, UserRole.PermissionLevel.STUDENT, 1L);
+            role.setId((long) i);
+            role.setRoleDescription("受講者");
+            role.setCreatedAt(now);
+            role.setUpdatedAt(now);
+            roles.add(role);
+        }
+
+        // 両者の変換結果が一致することを確認してから計測する
+        ProgramScheduleResponseDto expected = dozer.map(schedules.get(1), ProgramScheduleResponseDto.class);
+        ProgramScheduleResponseDto actual = programScheduleMapper.toResponseDto(schedules.get(1));
+        if (!expected.getId().equals(actual.getId()) || !expected.getProgramId().equals(actual.getProgramId())
+                || !expected.getCreatedAt().equals(actual.getCreatedAt())) {
+            throw new IllegalStateException("変換結果が一致しません");
+        }
+    }
+
+    @Benchmark
+    public void dozerProgramSchedule(Blackhole bh) {
+        for (ProgramSchedule schedule : schedules) {
+            bh.consume(dozer.map(schedule, ProgramScheduleResponseDto.class));
+        }
+    }
+
+    @Benchmark
+    public void generatedProgramSchedule(Blackhole bh) {
+        for (ProgramSchedule schedule : schedules) {
+            bh.consume(programScheduleMapper.toResponseDto(schedule));
+        }
+    }
+
+    @Benchmark
+    public void dozerUserRole(Blackhole bh) {
+        for (UserRole role : roles) {
+            bh.consume(dozer.map(role, UserRoleResponseDto.class));
+        }
+    }
+
+    @Benchmark
+    public void generatedUserRole(Blackhole bh) {
+        for (UserRole role : roles) {
+            bh.consume(userRoleMapper.toResponseDto(role));
+        }
+    }
+}
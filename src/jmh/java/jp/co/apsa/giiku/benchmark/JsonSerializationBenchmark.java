@@ -0,0 +1,112 @@
+package jp.co.apsa.giiku.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jp.co.apsa.giiku.domain.entity.Chapter;
+import jp.co.apsa.giiku.domain.entity.Quiz;
+import jp.co.apsa.giiku.domain.entity.QuizQuestionBank;
+
+/**
+ * {@code Quiz}・{@code QuizQuestionBank} のレスポンスJSON生成コスト。
+ * Spring Boot の既定と同じ設定の ObjectMapper を使い、1レスポンス分のリストを直列化します。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    /** 1レスポンスあたりの件数 */
+    @Param({"20"})
+    private int size;
+
+    private ObjectWriter writer;
+
+    private List<Quiz> quizzes;
+
+    private List<QuizQuestionBank> questions;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+
+        LocalDateTime now = LocalDateTime.of(2025, 4, 1, 9, 0);
+        Chapter chapter = new Chapter();
+        chapter.setId(3L);
+        chapter.setChapterNumber(1);
+        chapter.setTitle("Java の基礎");
+        chapter.setCreatedAt(now);
+        chapter.setUpdatedAt(now);
+
+        quizzes = new ArrayList<>();
+        questions = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Quiz quiz = new Quiz();
+            quiz.setId((long) i);
+            quiz.setTitle("理解度テスト " + i);
+            quiz.setChapter(chapter);
+            quiz.setStudentId(100L + i);
+            quiz.setQuizStatus("GRADED");
+            quiz.setTotalQuestions(10);
+            quiz.setTotalPoints(20);
+            quiz.setEarnedPoints(15);
+            quiz.setPercentageScore(75.0);
+            quiz.setQuestionIds("1,2,3,4,5,6,7,8,9,10");
+            quiz.setStudentAnswers("A,B,C,D,A,B,C,D,A,B");
+            quiz.setStartTime(now);
+            quiz.setEndTime(now.plusMinutes(20));
+            quiz.setCreatedAt(now);
+            quiz.setUpdatedAt(now);
+            quizzes.add(quiz);
+
+            QuizQuestionBank question = new QuizQuestionBank();
+            question.setId((long) i);
+            question.setChapter(chapter);
+            question.setQuestionNumber(i + 1);
+            question.setQuestionType("single");
+            question.setQuestionText("次のうち、クラスとオブジェクトの関係として正しいものはどれですか。");
+            question.setOptionA("クラスはオブジェクトの設計図である");
+            question.setOptionB("オブジェクトはクラスの設計図である");
+            question.setOptionC("両者は同じものである");
+            question.setOptionD("関係はない");
+            question.setCorrectAnswer("A");
+            question.setExplanation("クラスを元にオブジェクト（インスタンス）を生成します。");
+            question.setPoints(2);
+            question.setCreatedAt(now);
+            questions.add(question);
+        }
+    }
+
+    @Benchmark
+    public String quizzes() throws JsonProcessingException {
+        return writer.writeValueAsString(quizzes);
+    }
+
+    @Benchmark
+    public String quizQuestions() throws JsonProcessingException {
+        return writer.writeValueAsString(questions);
+    }
+}
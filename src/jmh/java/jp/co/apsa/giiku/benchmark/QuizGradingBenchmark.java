@@ -0,0 +1,86 @@
+package jp.co.apsa.giiku.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import jp.co.apsa.giiku.domain.entity.Quiz;
+import jp.co.apsa.giiku.domain.repository.QuestionBankRepository;
+import jp.co.apsa.giiku.service.QuizGradingService;
+
+/**
+ * クイズ提出時の自動採点（{@link QuizGradingService#grade}）のコスト。
+ *
+ * <p>解答キーの取得はDBを使わず、事前に用意した行を返すリポジトリで置き換えます。
+ * 計測対象は問題IDと回答の解析、及び採点結果の反映です。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuizGradingBenchmark {
+
+    /** 1クイズあたりの問題数 */
+    @Param({"10", "50"})
+    private int questions;
+
+    private QuizGradingService gradingService;
+
+    private String questionIds;
+
+    private String studentAnswers;
+
+    @Setup
+    public void setUp() {
+        List<Object[]> rows = new ArrayList<>();
+        StringJoiner ids = new StringJoiner(",");
+        StringJoiner answers = new StringJoiner(",");
+        for (int i = 0; i < questions; i++) {
+            long id = 1000L + i;
+            String correct = String.valueOf((char) ('A' + i % 4));
+            rows.add(new Object[] {id, correct, i % 3 + 1});
+            ids.add(String.valueOf(id));
+            // 3問に1問は不正解
+            answers.add(i % 3 == 0 ? "E" : " " + correct.toLowerCase() + " ");
+        }
+        questionIds = ids.toString();
+        studentAnswers = answers.toString();
+
+        QuestionBankRepository repository = (QuestionBankRepository) Proxy.newProxyInstance(
+                QuestionBankRepository.class.getClassLoader(), new Class<?>[] {QuestionBankRepository.class},
+                (proxy, method, args) -> {
+                    if ("findAnswerKeysByIdIn".equals(method.getName())) {
+                        return rows;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        gradingService = new QuizGradingService();
+        Field field = ReflectionUtils.findField(QuizGradingService.class, "questionBankRepository");
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, gradingService, repository);
+    }
+
+    @Benchmark
+    public Quiz grade() {
+        Quiz quiz = new Quiz();
+        quiz.setQuestionIds(questionIds);
+        quiz.setStudentAnswers(studentAnswers);
+        return gradingService.grade(quiz);
+    }
+}
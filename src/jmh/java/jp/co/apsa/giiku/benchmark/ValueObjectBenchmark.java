@@ -0,0 +1,64 @@
+package jp.co.apsa.giiku.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import jp.co.apsa.giiku.domain.valueobject.LogLevel;
+import jp.co.apsa.giiku.domain.valueobject.SlackId;
+
+/**
+ * {@link LogLevel#of} と {@link SlackId} の検証コスト。
+ * 不正な値は例外を生成するため、正常値とは別に計測します。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValueObjectBenchmark {
+
+    private String validLevel = " warn ";
+
+    private String invalidLevel = "VERBOSE";
+
+    private String validSlackId = "yamada_taro";
+
+    private String invalidSlackId = "山田 太郎";
+
+    @Benchmark
+    public LogLevel logLevelValid() {
+        return LogLevel.of(validLevel);
+    }
+
+    @Benchmark
+    public Object logLevelInvalid() {
+        try {
+            return LogLevel.of(invalidLevel);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public boolean slackIdValid() {
+        return SlackId.isValid(validSlackId);
+    }
+
+    @Benchmark
+    public boolean slackIdInvalid() {
+        return SlackId.isValid(invalidSlackId);
+    }
+
+    @Benchmark
+    public Object slackIdOf() {
+        return SlackId.of(validSlackId);
+    }
+}
@@ -0,0 +1,165 @@
+package jp.co.apsa.giiku.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 負荷試験用の教室データ。
+ *
+ * <p>講義・チャプター・問題は Flyway のカリキュラム初期データを使い、講師1名と学生N名だけを
+ * 専用の会社 {@code LOADTEST} に作成します。既存のユーザーは再利用するため、同じDBに対して
+ * 何度でも実行できます。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public class ClassroomFixture {
+
+    /** 全ユーザー共通のパスワード */
+    public static final String PASSWORD = "loadtest-pass";
+
+    public static final String INSTRUCTOR_USERNAME = "load_instructor";
+
+    private static final String COMPANY_CODE = "LOADTEST";
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (username, password, email, name, company_id, role, gender, created_by, updated_by) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 3, 1, 1) ON CONFLICT (username) DO NOTHING";
+
+    private final List<Student> students = new ArrayList<>();
+
+    private final List<Question> quizQuestions = new ArrayList<>();
+
+    private final List<Question> exerciseQuestions = new ArrayList<>();
+
+    private long lectureId;
+
+    private ClassroomFixture() {
+    }
+
+    /**
+     * 教室データを用意します。
+     *
+     * @param jdbcTemplate 接続先DB
+     * @param settings 設定
+     * @return 教室データ
+     */
+    public static ClassroomFixture prepare(JdbcTemplate jdbcTemplate, LoadTestSettings settings) {
+        ClassroomFixture fixture = new ClassroomFixture();
+        Long companyId = jdbcTemplate.queryForObject(
+                "INSERT INTO companies (name, code, created_by, updated_by) VALUES ('負荷試験', ?, 1, 1) "
+                + "ON CONFLICT (code) DO UPDATE SET name = EXCLUDED.name RETURNING id",
+                Long.class, COMPANY_CODE);
+
+        // ログイン時の照合は毎回行われるが、ハッシュ化は1回で足りる
+        String hash = new BCryptPasswordEncoder().encode(PASSWORD);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] {INSTRUCTOR_USERNAME, hash, INSTRUCTOR_USERNAME + "@loadtest.invalid",
+                "負荷試験講師", companyId, "INSTRUCTOR"});
+        for (int i = 1; i <= settings.getStudents(); i++) {
+            String username = studentUsername(i);
+            rows.add(new Object[] {username, hash, username + "@loadtest.invalid",
+                    "負荷試験学生" + i, companyId, "TRAINEE"});
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, rows);
+        jdbcTemplate.query("SELECT id, username FROM users WHERE company_id = ? AND role = 'TRAINEE' "
+                + "AND username LIKE 'load\\_student\\_%' ORDER BY username", rs -> {
+                    if (fixture.students.size() < settings.getStudents()) {
+                        fixture.students.add(new Student(rs.getLong("id"), rs.getString("username")));
+                    }
+                }, companyId);
+
+        fixture.lectureId = settings.getLectureId() != null ? settings.getLectureId()
+                : jdbcTemplate.queryForObject("SELECT MIN(l.lecture_id) FROM lecture_chapter_links l "
+                        + "WHERE EXISTS (SELECT 1 FROM quiz_question_bank q WHERE q.chapter_id = l.chapter_id) "
+                        + "AND EXISTS (SELECT 1 FROM exercise_question_bank e WHERE e.chapter_id = l.chapter_id)",
+                        Long.class);
+        jdbcTemplate.query("SELECT q.id, q.correct_answer FROM quiz_question_bank q "
+                + "JOIN lecture_chapter_links l ON l.chapter_id = q.chapter_id "
+                + "WHERE l.lecture_id = ? ORDER BY q.id", rs -> {
+                    fixture.quizQuestions.add(new Question(rs.getLong(1), rs.getString(2)));
+                }, fixture.lectureId);
+        jdbcTemplate.query("SELECT e.id, e.correct_answer FROM exercise_question_bank e "
+                + "JOIN lecture_chapter_links l ON l.chapter_id = e.chapter_id "
+                + "WHERE l.lecture_id = ? ORDER BY e.id", rs -> {
+                    fixture.exerciseQuestions.add(new Question(rs.getLong(1), rs.getString(2)));
+                }, fixture.lectureId);
+        if (fixture.quizQuestions.isEmpty() || fixture.exerciseQuestions.isEmpty()) {
+            throw new IllegalArgumentException("クイズ・演習問題のある講義が見つかりません: lectureId=" + fixture.lectureId);
+        }
+        return fixture;
+    }
+
+    private static String studentUsername(int number) {
+        return String.format("load_student_%04d", number);
+    }
+
+    public List<Student> getStudents() {
+        return students;
+    }
+
+    public List<Question> getQuizQuestions() {
+        return quizQuestions;
+    }
+
+    public List<Question> getExerciseQuestions() {
+        return exerciseQuestions;
+    }
+
+    public long getLectureId() {
+        return lectureId;
+    }
+
+    /**
+     * 教室で使うクイズID。
+     *
+     * <p>回答のストリームは講義単位で見るため、講義IDをクイズIDとして使います。</p>
+     *
+     * @return クイズID
+     */
+    public long getQuizId() {
+        return lectureId;
+    }
+
+    /** 学生 */
+    public static final class Student {
+        private final long id;
+        private final String username;
+
+        private Student(long id, String username) {
+            this.id = id;
+            this.username = username;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+    }
+
+    /** 問題と正解 */
+    public static final class Question {
+        private final long id;
+        private final String correctAnswer;
+
+        private Question(long id, String correctAnswer) {
+            this.id = id;
+            this.correctAnswer = correctAnswer;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getCorrectAnswer() {
+            return correctAnswer;
+        }
+    }
+}
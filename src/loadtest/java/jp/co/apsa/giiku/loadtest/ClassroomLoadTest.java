@@ -0,0 +1,251 @@
+package jp.co.apsa.giiku.loadtest;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jp.co.apsa.giiku.GiikuSystemApplication;
+import jp.co.apsa.giiku.service.AnswerStreamAggregator;
+
+/**
+ * ライブ授業の負荷試験。
+ *
+ * <p>アプリケーションを起動し、講師1名と学生N名のブラウザを模擬します。</p>
+ * <ul>
+ *   <li>学生: ログイン → 回答ストリームの購読 → 講義ページの表示 → クイズ・演習の回答を繰り返す</li>
+ *   <li>講師: スナップショットと差分フレームを購読し、回答から受信までの遅延を計測する</li>
+ * </ul>
+ *
+ * <p>回答内容・順序は {@code loadtest.seed} から決まるため、同じ設定なら同じ負荷を再現できます。
+ * 操作ごとの件数・スループット・p50/p99 を表示し、JSONにも出力します。</p>
+ *
+ * <pre>
+ * ./gradlew loadTest -Ploadtest.students=100 -Ploadtest.answers=30
+ * </pre>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public final class ClassroomLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClassroomLoadTest.class);
+
+    /** 最後の差分フレームが届くまでの待ち時間 */
+    private static final long DRAIN_MS = 2_000L;
+
+    /** 回答が正解になる割合 */
+    private static final double CORRECT_RATIO = 0.7;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ClassroomLoadTest() {
+    }
+
+    /**
+     * 負荷試験を実行します。
+     *
+     * @param args 未使用
+     */
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        PostgreSQLContainer<?> container = null;
+        String url = settings.getDatabaseUrl();
+        String username = settings.getDatabaseUsername();
+        String password = settings.getDatabasePassword();
+        if (url == null) {
+            container = new PostgreSQLContainer<>("postgres:15").withDatabaseName("giiku_loadtest");
+            container.start();
+            url = container.getJdbcUrl();
+            username = container.getUsername();
+            password = container.getPassword();
+        }
+
+        // 既定の dev プロファイルより優先させるため起動引数で渡す
+        try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext)
+                new SpringApplicationBuilder(GiikuSystemApplication.class).run(
+                        "--spring.profiles.active=loadtest",
+                        "--server.port=0",
+                        "--spring.datasource.url=" + url,
+                        "--spring.datasource.username=" + username,
+                        "--spring.datasource.password=" + password)) {
+            String baseUrl = "http://localhost:" + context.getWebServer().getPort();
+            ClassroomFixture fixture = ClassroomFixture.prepare(context.getBean(JdbcTemplate.class), settings);
+            logger.info("負荷試験開始: students={}, answers={}, lectureId={}, quiz={}問, exercise={}問",
+                    fixture.getStudents().size(), settings.getAnswersPerStudent(), fixture.getLectureId(),
+                    fixture.getQuizQuestions().size(), fixture.getExerciseQuestions().size());
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            long elapsed = run(baseUrl, fixture, settings, recorder);
+            report(recorder.summarize(elapsed), settings, fixture, elapsed);
+        } finally {
+            if (container != null) {
+                container.stop();
+            }
+        }
+    }
+
+    private static long run(String baseUrl, ClassroomFixture fixture, LoadTestSettings settings,
+                            LatencyRecorder recorder) throws Exception {
+        List<ClassroomFixture.Student> students = fixture.getStudents();
+        ExecutorService pool = Executors.newFixedThreadPool(students.size());
+        CountDownLatch ready = new CountDownLatch(students.size());
+        CountDownLatch start = new CountDownLatch(1);
+        LongAdder framesReceived = new LongAdder();
+        try (ClassroomSession instructor = new ClassroomSession(baseUrl, recorder)) {
+            instructor.login(ClassroomFixture.INSTRUCTOR_USERNAME, ClassroomFixture.PASSWORD);
+            instructor.connectStomp();
+            watch(instructor, fixture, recorder);
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < students.size(); i++) {
+                ClassroomFixture.Student student = students.get(i);
+                Random random = new Random(settings.getSeed() + i);
+                futures.add(pool.submit(() -> {
+                    try (ClassroomSession session = new ClassroomSession(baseUrl, recorder)) {
+                        try {
+                            session.login(student.getUsername(), ClassroomFixture.PASSWORD);
+                            session.connectStomp();
+                            session.subscribe(AnswerStreamAggregator.QUIZ_TOPIC_PREFIX + fixture.getQuizId()
+                                    + "/delta", payload -> framesReceived.increment());
+                        } finally {
+                            // 準備に失敗した学生がいても他の学生は開始する
+                            ready.countDown();
+                        }
+                        start.await();
+                        attend(session, student, fixture, settings, random);
+                    }
+                    return null;
+                }));
+            }
+
+            ready.await();
+            long startedAt = System.nanoTime();
+            start.countDown();
+            int failures = 0;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    failures++;
+                    logger.warn("学生の操作が中断しました", e);
+                }
+            }
+            long elapsed = System.nanoTime() - startedAt;
+            Thread.sleep(DRAIN_MS);
+            logger.info("学生の差分フレーム受信数={}, 中断した学生数={}", framesReceived.sum(), failures);
+            return elapsed;
+        } finally {
+            pool.shutdownNow();
+            pool.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /** 学生1人の授業中の操作 */
+    private static void attend(ClassroomSession session, ClassroomFixture.Student student, ClassroomFixture fixture,
+                               LoadTestSettings settings, Random random) throws Exception {
+        session.openLecture(fixture.getLectureId());
+        for (int n = 0; n < settings.getAnswersPerStudent(); n++) {
+            boolean correct = random.nextDouble() < CORRECT_RATIO;
+            if (n % 2 == 0) {
+                ClassroomFixture.Question question = pick(fixture.getQuizQuestions(), random);
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("quizId", fixture.getQuizId());
+                body.put("studentId", student.getId());
+                body.put("answer", correct ? question.getCorrectAnswer() : "Z");
+                session.postJson("POST /api/quizzes/questions/{id}/answer",
+                        "/api/quizzes/questions/" + question.getId() + "/answer",
+                        objectMapper.writeValueAsString(body));
+            } else {
+                ClassroomFixture.Question question = pick(fixture.getExerciseQuestions(), random);
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("studentId", student.getId());
+                body.put("lectureId", fixture.getLectureId());
+                body.put("answerText", correct ? question.getCorrectAnswer() : "負荷試験の回答");
+                body.put("correct", correct);
+                session.postJson("POST /api/question-banks/{id}/answer",
+                        "/api/question-banks/" + question.getId() + "/answer",
+                        objectMapper.writeValueAsString(body));
+            }
+            if (settings.getThinkTimeMs() > 0) {
+                Thread.sleep(settings.getThinkTimeMs());
+            }
+        }
+    }
+
+    /** 講師の画面と同じ宛先を購読し、回答から受信までの遅延を記録する */
+    private static void watch(ClassroomSession instructor, ClassroomFixture fixture, LatencyRecorder recorder) {
+        String quizTopic = AnswerStreamAggregator.QUIZ_TOPIC_PREFIX + fixture.getQuizId();
+        instructor.subscribe("/app/answers/" + fixture.getQuizId(), payload -> { });
+        instructor.subscribe(quizTopic + "/delta",
+                payload -> recordDelivery(recorder, "STOMP /topic/answers delta", payload));
+        for (ClassroomFixture.Question question : fixture.getExerciseQuestions()) {
+            instructor.subscribe(AnswerStreamAggregator.EXERCISE_TOPIC_PREFIX + question.getId() + "/delta",
+                    payload -> recordDelivery(recorder, "STOMP /topic/exercise-answers delta", payload));
+        }
+    }
+
+    private static void recordDelivery(LatencyRecorder recorder, String operation, String payload) {
+        long receivedAt = System.currentTimeMillis();
+        try {
+            for (JsonNode answer : objectMapper.readTree(payload).path("newAnswers")) {
+                long answeredAt = answer.path("answeredAt").asLong();
+                if (answeredAt > 0) {
+                    recorder.record(operation, TimeUnit.MILLISECONDS.toNanos(Math.max(0, receivedAt - answeredAt)));
+                }
+            }
+        } catch (Exception e) {
+            recorder.recordError(operation);
+        }
+    }
+
+    private static ClassroomFixture.Question pick(List<ClassroomFixture.Question> questions, Random random) {
+        return questions.get(random.nextInt(questions.size()));
+    }
+
+    private static void report(List<Map<String, Object>> rows, LoadTestSettings settings, ClassroomFixture fixture,
+                               long elapsedNanos) throws Exception {
+        StringBuilder table = new StringBuilder(String.format("%n%-40s %8s %7s %10s %9s %9s %9s%n",
+                "operation", "count", "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)"));
+        for (Map<String, Object> row : rows) {
+            table.append(String.format("%-40s %8d %7d %10.2f %9.2f %9.2f %9.2f%n", row.get("operation"),
+                    row.get("count"), row.get("errors"), row.get("throughputPerSec"),
+                    row.get("p50Ms"), row.get("p99Ms"), row.get("maxMs")));
+        }
+        logger.info("負荷試験結果{}", table);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("students", fixture.getStudents().size());
+        result.put("answersPerStudent", settings.getAnswersPerStudent());
+        result.put("thinkTimeMs", settings.getThinkTimeMs());
+        result.put("seed", settings.getSeed());
+        result.put("lectureId", fixture.getLectureId());
+        result.put("elapsedMs", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        result.put("operations", rows);
+        File file = new File(settings.getReportFile());
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, result);
+        logger.info("結果を出力しました: {}", file.getAbsolutePath());
+    }
+}
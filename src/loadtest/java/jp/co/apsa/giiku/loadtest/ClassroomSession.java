@@ -0,0 +1,200 @@
+package jp.co.apsa.giiku.loadtest;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.CookieManager;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+/**
+ * ブラウザ1つ分のセッション。
+ *
+ * <p>フォームログインで得たセッションCookieを使い、HTTPのリクエストとSTOMPの購読を行います。
+ * 各リクエストの応答時間は {@link LatencyRecorder} に操作名ごとに記録します。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public class ClassroomSession implements AutoCloseable {
+
+    private static final Pattern CSRF_PATTERN =
+            Pattern.compile("name=\"_csrf\"[^>]*value=\"([^\"]+)\"");
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+
+    private final LatencyRecorder recorder;
+
+    private final CookieManager cookies = new CookieManager();
+
+    private final HttpClient httpClient;
+
+    private WebSocketStompClient stompClient;
+
+    private StompSession stompSession;
+
+    /**
+     * セッションを作成します。
+     *
+     * @param baseUrl アプリケーションのURL（例: {@code http://localhost:8080}）
+     * @param recorder 応答時間の記録先
+     */
+    public ClassroomSession(String baseUrl, LatencyRecorder recorder) {
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+        this.httpClient = HttpClient.newBuilder()
+                .cookieHandler(cookies)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(TIMEOUT)
+                .build();
+    }
+
+    /**
+     * ログイン画面のCSRFトークンを使ってフォームログインします。
+     *
+     * @param username ユーザー名
+     * @param password パスワード
+     */
+    public void login(String username, String password) throws IOException, InterruptedException {
+        HttpResponse<String> page = send("GET /login", HttpRequest.newBuilder(uri("/login")).GET(), 200);
+        Matcher matcher = CSRF_PATTERN.matcher(page.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("ログイン画面にCSRFトークンがありません");
+        }
+        String form = "username=" + encode(username) + "&password=" + encode(password)
+                + "&_csrf=" + encode(matcher.group(1));
+        HttpResponse<String> response = send("POST /login-process", HttpRequest.newBuilder(uri("/login-process"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form)), 302);
+        String location = response.headers().firstValue("Location").orElse("");
+        if (!location.endsWith("/dashboard")) {
+            throw new IllegalStateException("ログインに失敗しました: user=" + username + ", location=" + location);
+        }
+    }
+
+    /**
+     * 講義ページを表示します。
+     *
+     * @param lectureId 講義ID
+     */
+    public void openLecture(long lectureId) throws IOException, InterruptedException {
+        send("GET /lecture/{id}", HttpRequest.newBuilder(uri("/lecture/" + lectureId)).GET(), 200);
+    }
+
+    /**
+     * JSON をPOSTします。
+     *
+     * @param operation 記録する操作名
+     * @param path パス
+     * @param json リクエスト本文
+     * @return レスポンス本文
+     */
+    public String postJson(String operation, String path, String json) throws IOException, InterruptedException {
+        return send(operation, HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)), 200).body();
+    }
+
+    /**
+     * ログイン済みのセッションでSTOMPに接続します。
+     */
+    public void connectStomp() throws Exception {
+        stompClient = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        stompClient.setMessageConverter(new StringMessageConverter());
+        WebSocketHttpHeaders headers = new WebSocketHttpHeaders();
+        StringBuilder cookie = new StringBuilder();
+        for (HttpCookie c : cookies.getCookieStore().getCookies()) {
+            if (cookie.length() > 0) {
+                cookie.append("; ");
+            }
+            cookie.append(c.getName()).append('=').append(c.getValue());
+        }
+        headers.add("Cookie", cookie.toString());
+        long start = System.nanoTime();
+        stompSession = stompClient.connectAsync(baseUrl + "/ws", headers, new StompSessionHandlerAdapter() { })
+                .get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        recorder.record("STOMP connect", System.nanoTime() - start);
+    }
+
+    /**
+     * 宛先を購読し、受信したフレーム本文を渡します。
+     *
+     * @param destination 宛先
+     * @param handler フレーム本文の処理
+     */
+    public void subscribe(String destination, Consumer<String> handler) {
+        stompSession.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return String.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                handler.accept((String) payload);
+            }
+        });
+    }
+
+    private HttpResponse<String> send(String operation, HttpRequest.Builder builder, int expectedStatus)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(builder.timeout(TIMEOUT).build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            recorder.recordError(operation);
+            throw e;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (response.statusCode() != expectedStatus) {
+            recorder.recordError(operation);
+            throw new IllegalStateException(operation + " が失敗しました: status=" + response.statusCode());
+        }
+        recorder.record(operation, elapsed);
+        return response;
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() {
+        if (stompSession != null && stompSession.isConnected()) {
+            stompSession.disconnect();
+        }
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+    }
+}
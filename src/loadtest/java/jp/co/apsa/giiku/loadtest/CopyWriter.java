@@ -0,0 +1,98 @@
+package jp.co.apsa.giiku.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * {@code COPY ... FROM STDIN (FORMAT csv)} で行を書き込むライタ。
+ *
+ * <p>行をCSVとしてバッファに溜め、一定量ごとにサーバーへ送ります。
+ * {@code null} は空の値（NULL）、文字列は常に二重引用符で囲みます。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+final class CopyWriter implements AutoCloseable {
+
+    private static final int FLUSH_BYTES = 256 * 1024;
+
+    private final CopyIn copyIn;
+
+    private final StringBuilder buffer = new StringBuilder(FLUSH_BYTES + 1024);
+
+    private long rows;
+
+    /**
+     * COPYを開始します。
+     *
+     * @param connection 接続
+     * @param table テーブル名
+     * @param columns 列名（{@link #row(Object...)} の値の順序）
+     */
+    CopyWriter(Connection connection, String table, String... columns) throws SQLException {
+        this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)");
+    }
+
+    /**
+     * 1行書き込みます。
+     *
+     * @param values 列の値
+     */
+    void row(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            Object value = values[i];
+            if (value instanceof CharSequence) {
+                buffer.append('"');
+                String text = value.toString();
+                for (int c = 0; c < text.length(); c++) {
+                    char ch = text.charAt(c);
+                    if (ch == '"') {
+                        buffer.append('"');
+                    }
+                    buffer.append(ch);
+                }
+                buffer.append('"');
+            } else if (value != null) {
+                buffer.append(value);
+            }
+        }
+        buffer.append('\n');
+        rows++;
+        if (buffer.length() >= FLUSH_BYTES) {
+            flush();
+        }
+    }
+
+    private void flush() throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    /**
+     * 残りを送ってCOPYを終了します。
+     *
+     * @return 書き込んだ行数
+     */
+    long finish() throws SQLException {
+        flush();
+        copyIn.endCopy();
+        return rows;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package jp.co.apsa.giiku.loadtest;
+
+import java.time.LocalDate;
+
+/**
+ * 大量データ生成の設定。
+ *
+ * <p>システムプロパティ {@code datagen.*} から読み込みます。Gradle からは
+ * {@code ./gradlew generateData -Pdatagen.students=50000} のように指定します。
+ * 同じ設定・同じシードであれば、空のDBに対して同じ内容のデータを生成します。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public final class DataGeneratorSettings {
+
+    private final String databaseUrl;
+
+    private final String databaseUsername;
+
+    private final String databasePassword;
+
+    /** 会社数 */
+    private final int companies;
+
+    /** 学生数（会社に均等に割り当てる） */
+    private final int students;
+
+    /** 学生1人あたりのクイズ数 */
+    private final int quizzesPerStudent;
+
+    /** 回答の総数（学生に均等に割り当てる） */
+    private final long answers;
+
+    /** 監査ログを生成する月数（基準日の月から遡る） */
+    private final int auditMonths;
+
+    /** 1か月あたりの監査ログ件数 */
+    private final int auditLogsPerMonth;
+
+    /** 生成データの基準日（日時をこの日以前に分布させる） */
+    private final LocalDate baseDate;
+
+    /** 乱数のシード */
+    private final long seed;
+
+    /** 生成済みのデータを削除してから生成するかどうか */
+    private final boolean reset;
+
+    private DataGeneratorSettings() {
+        databaseUrl = System.getProperty("datagen.db.url", "jdbc:postgresql://localhost:5432/giiku_db");
+        databaseUsername = System.getProperty("datagen.db.username", "postgres");
+        databasePassword = System.getProperty("datagen.db.password", "postgres");
+        companies = Integer.getInteger("datagen.companies", 20);
+        students = Integer.getInteger("datagen.students", 20_000);
+        quizzesPerStudent = Integer.getInteger("datagen.quizzes-per-student", 5);
+        answers = Long.getLong("datagen.answers", 2_000_000L);
+        auditMonths = Integer.getInteger("datagen.audit.months", 24);
+        auditLogsPerMonth = Integer.getInteger("datagen.audit.per-month", 100_000);
+        baseDate = LocalDate.parse(System.getProperty("datagen.base-date", "2025-03-31"));
+        seed = Long.getLong("datagen.seed", 42L);
+        reset = Boolean.getBoolean("datagen.reset");
+        if (companies < 1 || students < companies || quizzesPerStudent < 1) {
+            throw new IllegalArgumentException("会社数は1以上、学生数は会社数以上、クイズ数は1以上を指定してください");
+        }
+        if (answers < 0 || auditMonths < 0 || auditLogsPerMonth < 0) {
+            throw new IllegalArgumentException("回答数・監査ログの件数に負の値は指定できません");
+        }
+    }
+
+    /**
+     * システムプロパティから設定を読み込みます。
+     *
+     * @return 設定
+     */
+    public static DataGeneratorSettings fromSystemProperties() {
+        return new DataGeneratorSettings();
+    }
+
+    public String getDatabaseUrl() {
+        return databaseUrl;
+    }
+
+    public String getDatabaseUsername() {
+        return databaseUsername;
+    }
+
+    public String getDatabasePassword() {
+        return databasePassword;
+    }
+
+    public int getCompanies() {
+        return companies;
+    }
+
+    public int getStudents() {
+        return students;
+    }
+
+    public int getQuizzesPerStudent() {
+        return quizzesPerStudent;
+    }
+
+    public long getAnswers() {
+        return answers;
+    }
+
+    public int getAuditMonths() {
+        return auditMonths;
+    }
+
+    public int getAuditLogsPerMonth() {
+        return auditLogsPerMonth;
+    }
+
+    public LocalDate getBaseDate() {
+        return baseDate;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+}
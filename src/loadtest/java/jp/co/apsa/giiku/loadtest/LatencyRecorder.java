@@ -0,0 +1,103 @@
+package jp.co.apsa.giiku.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 操作ごとの応答時間とエラー数の記録。
+ *
+ * <p>全ての計測値を保持し、集計時に並べ替えて百分位数を求めます。
+ * 負荷試験1回分（数十万件程度）を想定しています。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public class LatencyRecorder {
+
+    private final ConcurrentMap<String, Samples> samples = new ConcurrentHashMap<>();
+
+    /**
+     * 成功した操作の応答時間を記録します。
+     *
+     * @param operation 操作名
+     * @param nanos 応答時間（ナノ秒）
+     */
+    public void record(String operation, long nanos) {
+        samples.computeIfAbsent(operation, key -> new Samples()).add(nanos);
+    }
+
+    /**
+     * 失敗した操作を記録します。
+     *
+     * @param operation 操作名
+     */
+    public void recordError(String operation) {
+        samples.computeIfAbsent(operation, key -> new Samples()).errors.increment();
+    }
+
+    /**
+     * 操作ごとの集計結果を返します。
+     *
+     * @param elapsedNanos 計測期間（スループットの計算に使用）
+     * @return 操作名順の集計結果
+     */
+    public List<Map<String, Object>> summarize(long elapsedNanos) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        samples.keySet().stream().sorted().forEach(operation -> {
+            Samples s = samples.get(operation);
+            long[] sorted = s.snapshot();
+            Arrays.sort(sorted);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("operation", operation);
+            row.put("count", sorted.length);
+            row.put("errors", s.errors.sum());
+            row.put("throughputPerSec", round(sorted.length / (elapsedNanos / 1_000_000_000.0)));
+            row.put("p50Ms", millis(percentile(sorted, 0.50)));
+            row.put("p99Ms", millis(percentile(sorted, 0.99)));
+            row.put("maxMs", millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+            result.add(row);
+        });
+        return result;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    /** 操作ごとの計測値 */
+    private static final class Samples {
+        private long[] values = new long[1024];
+        private int size;
+        private final LongAdder errors = new LongAdder();
+
+        private synchronized void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private synchronized long[] snapshot() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package jp.co.apsa.giiku.loadtest;
+
+/**
+ * 負荷試験の設定。
+ *
+ * <p>システムプロパティ {@code loadtest.*} から読み込みます。Gradle からは
+ * {@code ./gradlew loadTest -Ploadtest.students=100} のように指定します。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public final class LoadTestSettings {
+
+    /** 同時に受講する学生数 */
+    private final int students;
+
+    /** 学生1人あたりの回答数 */
+    private final int answersPerStudent;
+
+    /** 回答の間隔（ミリ秒） */
+    private final long thinkTimeMs;
+
+    /** 対象の講義ID（未指定の場合は問題のある最初の講義） */
+    private final Long lectureId;
+
+    /** 接続先DBのURL（未指定の場合は PostgreSQL コンテナを起動） */
+    private final String databaseUrl;
+
+    private final String databaseUsername;
+
+    private final String databasePassword;
+
+    /** 結果の出力先 */
+    private final String reportFile;
+
+    /** 乱数のシード（回答内容・順序を再現するため） */
+    private final long seed;
+
+    private LoadTestSettings() {
+        students = Integer.getInteger("loadtest.students", 30);
+        answersPerStudent = Integer.getInteger("loadtest.answers", 20);
+        thinkTimeMs = Long.getLong("loadtest.think-time-ms", 200L);
+        lectureId = Long.getLong("loadtest.lecture-id");
+        databaseUrl = System.getProperty("loadtest.db.url");
+        databaseUsername = System.getProperty("loadtest.db.username", "postgres");
+        databasePassword = System.getProperty("loadtest.db.password", "postgres");
+        reportFile = System.getProperty("loadtest.report", "build/reports/loadtest/classroom.json");
+        seed = Long.getLong("loadtest.seed", 42L);
+        if (students < 1 || answersPerStudent < 1) {
+            throw new IllegalArgumentException("学生数・回答数は1以上を指定してください");
+        }
+    }
+
+    /**
+     * システムプロパティから設定を読み込みます。
+     *
+     * @return 設定
+     */
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings();
+    }
+
+    public int getStudents() {
+        return students;
+    }
+
+    public int getAnswersPerStudent() {
+        return answersPerStudent;
+    }
+
+    public long getThinkTimeMs() {
+        return thinkTimeMs;
+    }
+
+    public Long getLectureId() {
+        return lectureId;
+    }
+
+    public String getDatabaseUrl() {
+        return databaseUrl;
+    }
+
+    public String getDatabaseUsername() {
+        return databaseUsername;
+    }
+
+    public String getDatabasePassword() {
+        return databasePassword;
+    }
+
+    public String getReportFile() {
+        return reportFile;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
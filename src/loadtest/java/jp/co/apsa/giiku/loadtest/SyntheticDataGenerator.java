@@ -0,0 +1,472 @@
+package jp.co.apsa.giiku.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import jp.co.apsa.giiku.domain.entity.StudentEnrollment;
+import jp.co.apsa.giiku.domain.entity.StudentProfile;
+
+/**
+ * 性能検証用の大量データ生成。
+ *
+ * <p>Flyway でスキーマとカリキュラムの初期データを適用したうえで、会社・学生・研修・受講登録・
+ * クイズ・回答・監査ログを指定の件数だけ生成します。大量の表は {@code COPY}、件数の少ない表は
+ * バッチINSERTで書き込みます。</p>
+ *
+ * <ul>
+ *   <li>値は全て {@code datagen.seed} から決まる乱数で作るため、空のDBに対しては毎回同じ内容になります。</li>
+ *   <li>生成した行は会社コード {@code GEN*}・ユーザー名 {@code gen_s_*} で識別でき、
+ *       {@code -Pdatagen.reset=true} で削除してから作り直せます。</li>
+ *   <li>日時は {@code datagen.base-date} 以前に分布させます。アプリを起動すると監査ログは保持期間
+ *       （{@code audit.retention.days}）を過ぎたパーティションから削除されるため、古い月を残して検証する
+ *       場合は {@code audit.retention.enabled=false} で起動してください。</li>
+ * </ul>
+ *
+ * <pre>
+ * ./gradlew generateData -Pdatagen.students=50000 -Pdatagen.answers=5000000
+ * </pre>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public final class SyntheticDataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final String COMPANY_CODE_PREFIX = "GEN";
+
+    private static final String USERNAME_PREFIX = "gen_s_";
+
+    /** LIKE で生成したユーザーを探すパターン */
+    private static final String USERNAME_PATTERN = "gen\\_s\\_%";
+
+    /** 生成したユーザー・クイズの作成者（初期データの管理者） */
+    private static final long SYSTEM_USER_ID = 1L;
+
+    private static final double CORRECT_RATIO = 0.7;
+
+    private static final String[] AUDIT_TABLES =
+            {"users", "quiz", "student_answers", "student_enrollments", "student_profiles", "lectures"};
+
+    private static final String[] AUDIT_OPERATIONS = {"INSERT", "UPDATE", "UPDATE", "UPDATE", "DELETE"};
+
+    private final DataGeneratorSettings settings;
+
+    private final Connection connection;
+
+    private final Map<String, Long> counts = new LinkedHashMap<>();
+
+    private long[] companyIds;
+
+    private long[] programIds;
+
+    private long[] studentIds;
+
+    private String[] studentUsernames;
+
+    private SyntheticDataGenerator(DataGeneratorSettings settings, Connection connection) {
+        this.settings = settings;
+        this.connection = connection;
+    }
+
+    /**
+     * データを生成します。
+     *
+     * @param args 未使用
+     */
+    public static void main(String[] args) throws Exception {
+        DataGeneratorSettings settings = DataGeneratorSettings.fromSystemProperties();
+        Flyway.configure()
+                .dataSource(settings.getDatabaseUrl(), settings.getDatabaseUsername(), settings.getDatabasePassword())
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .load()
+                .migrate();
+        try (Connection connection = DriverManager.getConnection(settings.getDatabaseUrl(),
+                settings.getDatabaseUsername(), settings.getDatabasePassword())) {
+            connection.setAutoCommit(false);
+            new SyntheticDataGenerator(settings, connection).generate();
+        }
+    }
+
+    private void generate() throws SQLException {
+        long started = System.nanoTime();
+        if (countGenerated() > 0) {
+            if (!settings.isReset()) {
+                throw new IllegalStateException("生成済みのデータがあります。-Pdatagen.reset=true で削除してから実行してください");
+            }
+            step("reset", this::reset);
+        }
+        step("companies", this::insertCompanies);
+        step("training_programs", this::insertPrograms);
+        step("users", this::copyStudents);
+        step("student_profiles", this::copyProfiles);
+        step("student_enrollments", this::copyEnrollments);
+        step("quiz", this::copyQuizzes);
+        step("student_answers", this::copyAnswers);
+        step("audit_logs", this::copyAuditLogs);
+        step("analyze", () -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE");
+            }
+            return 0;
+        });
+        logger.info("データ生成完了: {} ({}秒)", counts, (System.nanoTime() - started) / 1_000_000_000L);
+    }
+
+    /** 1つの表を1トランザクションで生成する */
+    private void step(String name, Step step) throws SQLException {
+        long started = System.nanoTime();
+        try {
+            long rows = step.run();
+            connection.commit();
+            counts.put(name, rows);
+            logger.info("{}: {}件 ({}ms)", name, rows, (System.nanoTime() - started) / 1_000_000L);
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        }
+    }
+
+    private long countGenerated() throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT COUNT(*) FROM companies WHERE code LIKE ?")) {
+            ps.setString(1, COMPANY_CODE_PREFIX + "%");
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private long reset() throws SQLException {
+        String users = "SELECT id FROM users WHERE username LIKE '" + USERNAME_PATTERN + "'";
+        String companies = "SELECT id FROM companies WHERE code LIKE '" + COMPANY_CODE_PREFIX + "%'";
+        long deleted = 0;
+        try (Statement statement = connection.createStatement()) {
+            deleted += statement.executeUpdate("DELETE FROM audit_logs WHERE changed_by LIKE '" + USERNAME_PATTERN + "'");
+            deleted += statement.executeUpdate("DELETE FROM student_answers WHERE student_id IN (" + users + ")");
+            deleted += statement.executeUpdate("DELETE FROM quiz WHERE student_id IN (" + users + ")");
+            deleted += statement.executeUpdate("DELETE FROM student_enrollments WHERE student_id IN (" + users + ")");
+            deleted += statement.executeUpdate("DELETE FROM student_profiles WHERE student_id IN (" + users + ")");
+            deleted += statement.executeUpdate("DELETE FROM users WHERE username LIKE '" + USERNAME_PATTERN + "'");
+            deleted += statement.executeUpdate("DELETE FROM training_programs WHERE company_id IN (" + companies + ")");
+            deleted += statement.executeUpdate("DELETE FROM companies WHERE code LIKE '" + COMPANY_CODE_PREFIX + "%'");
+        }
+        return deleted;
+    }
+
+    private long insertCompanies() throws SQLException {
+        companyIds = new long[settings.getCompanies()];
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO companies (name, code, created_by, updated_by) VALUES (?, ?, ?, ?)", new String[] {"id"})) {
+            for (int i = 1; i <= companyIds.length; i++) {
+                ps.setString(1, String.format("生成会社%04d", i));
+                ps.setString(2, String.format("%s%04d", COMPANY_CODE_PREFIX, i));
+                ps.setLong(3, SYSTEM_USER_ID);
+                ps.setLong(4, SYSTEM_USER_ID);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            readKeys(ps, companyIds);
+        }
+        return companyIds.length;
+    }
+
+    private long insertPrograms() throws SQLException {
+        programIds = new long[companyIds.length];
+        SplittableRandom random = random("training_programs");
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO training_programs (program_name, company_id, duration_months, total_hours, "
+                + "difficulty_level, max_students, created_by, updated_by) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                new String[] {"id"})) {
+            for (int i = 0; i < companyIds.length; i++) {
+                int months = 3 + random.nextInt(4);
+                ps.setString(1, String.format("生成研修%04d", i + 1));
+                ps.setLong(2, companyIds[i]);
+                ps.setInt(3, months);
+                ps.setInt(4, months * 120);
+                ps.setString(5, random.nextBoolean() ? "BEGINNER" : "INTERMEDIATE");
+                ps.setInt(6, Math.max(1, settings.getStudents() / companyIds.length));
+                ps.setLong(7, SYSTEM_USER_ID);
+                ps.setLong(8, SYSTEM_USER_ID);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            readKeys(ps, programIds);
+        }
+        return programIds.length;
+    }
+
+    private long copyStudents() throws SQLException {
+        SplittableRandom random = random("users");
+        // ログイン時の照合は行われるが、ハッシュ化は1回で足りる
+        String hash = new BCryptPasswordEncoder().encode("password");
+        LocalDate birthdayFrom = settings.getBaseDate().minusYears(40);
+        long rows;
+        try (CopyWriter writer = new CopyWriter(connection, "users", "username", "password", "email", "name",
+                "company_id", "role", "gender", "birthday", "created_by", "updated_by")) {
+            for (int i = 0; i < settings.getStudents(); i++) {
+                String username = username(i);
+                writer.row(username, hash, username + "@datagen.invalid", "生成学生" + (i + 1), companyIds[company(i)],
+                        "TRAINEE", 1 + random.nextInt(3), birthdayFrom.plusDays(random.nextInt(365 * 18)),
+                        SYSTEM_USER_ID, SYSTEM_USER_ID);
+            }
+            rows = writer.finish();
+        }
+        studentIds = new long[settings.getStudents()];
+        studentUsernames = new String[settings.getStudents()];
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT id, username FROM users WHERE username LIKE ? ORDER BY username")) {
+            ps.setString(1, USERNAME_PATTERN);
+            try (ResultSet rs = ps.executeQuery()) {
+                int i = 0;
+                while (rs.next()) {
+                    studentIds[i] = rs.getLong(1);
+                    studentUsernames[i] = rs.getString(2);
+                    i++;
+                }
+            }
+        }
+        return rows;
+    }
+
+    private long copyProfiles() throws SQLException {
+        SplittableRandom random = random("student_profiles");
+        String[] genders = {StudentProfile.Gender.MALE, StudentProfile.Gender.FEMALE, StudentProfile.Gender.OTHER};
+        try (CopyWriter writer = new CopyWriter(connection, "student_profiles", "student_id", "student_number",
+                "company_id", "enrollment_status", "admission_date", "grade_level", "class_name", "gender",
+                "created_by", "updated_by")) {
+            for (int i = 0; i < studentIds.length; i++) {
+                writer.row(studentIds[i], String.format("G%08d", i + 1), companyIds[company(i)],
+                        random.nextInt(10) == 0 ? StudentProfile.EnrollmentStatus.GRADUATED
+                                : StudentProfile.EnrollmentStatus.ENROLLED,
+                        daysBefore(random, 730), 1 + random.nextInt(4), "C" + (1 + random.nextInt(20)),
+                        genders[random.nextInt(genders.length)], SYSTEM_USER_ID, SYSTEM_USER_ID);
+            }
+            return writer.finish();
+        }
+    }
+
+    private long copyEnrollments() throws SQLException {
+        SplittableRandom random = random("student_enrollments");
+        try (CopyWriter writer = new CopyWriter(connection, "student_enrollments", "student_id", "program_id",
+                "company_id", "enrollment_status", "enrollment_date", "start_date", "completion_date",
+                "progress_percentage", "final_score", "passed", "attempt_count", "created_by", "updated_by")) {
+            for (int i = 0; i < studentIds.length; i++) {
+                LocalDate enrolled = daysBefore(random, 730);
+                int roll = random.nextInt(100);
+                boolean completed = roll < 40;
+                String status = completed ? StudentEnrollment.EnrollmentStatus.COMPLETED
+                        : roll < 90 ? StudentEnrollment.EnrollmentStatus.ENROLLED
+                        : roll < 95 ? StudentEnrollment.EnrollmentStatus.SUSPENDED
+                        : StudentEnrollment.EnrollmentStatus.CANCELLED;
+                int score = 40 + random.nextInt(61);
+                writer.row(studentIds[i], programIds[company(i)], companyIds[company(i)], status, enrolled,
+                        enrolled.plusDays(7), completed ? enrolled.plusDays(90 + random.nextInt(90)) : null,
+                        completed ? "100.00" : random.nextInt(100) + ".00", completed ? score + ".00" : null,
+                        completed && score >= 60, 1, SYSTEM_USER_ID, SYSTEM_USER_ID);
+            }
+            return writer.finish();
+        }
+    }
+
+    private long copyQuizzes() throws SQLException {
+        List<Long> chapters = quizChapters();
+        Map<Long, Integer> questionCounts = questionCountsByChapter();
+        SplittableRandom random = random("quiz");
+        try (CopyWriter writer = new CopyWriter(connection, "quiz", "title", "training_program_id", "chapter_id",
+                "student_id", "company_id", "quiz_status", "total_questions", "answered_questions", "total_points",
+                "earned_points", "percentage_score", "is_passed", "time_limit_minutes", "time_spent_minutes",
+                "start_time", "end_time", "graded_time", "created_at", "updated_at")) {
+            for (int i = 0; i < studentIds.length; i++) {
+                for (int q = 0; q < settings.getQuizzesPerStudent(); q++) {
+                    Long chapterId = chapters.get(random.nextInt(chapters.size()));
+                    int total = questionCounts.get(chapterId);
+                    LocalDateTime start = timeBefore(random, 365);
+                    int roll = random.nextInt(10);
+                    String status = roll < 8 ? "GRADED" : roll < 9 ? "COMPLETED" : "IN_PROGRESS";
+                    boolean inProgress = "IN_PROGRESS".equals(status);
+                    int answered = inProgress ? random.nextInt(total + 1) : total;
+                    int earned = inProgress ? 0 : (int) Math.round(answered * (0.3 + random.nextDouble() * 0.7));
+                    Double percentage = "GRADED".equals(status) ? Math.round(earned * 10000.0 / total) / 100.0 : null;
+                    int spent = 1 + random.nextInt(30);
+                    LocalDateTime end = inProgress ? null : start.plusMinutes(spent);
+                    writer.row("生成クイズ" + (q + 1), programIds[company(i)], chapterId, studentIds[i],
+                            companyIds[company(i)], status, total, answered, total * 10, earned * 10, percentage,
+                            percentage != null && percentage >= 70.0, 30, spent, start, end,
+                            "GRADED".equals(status) ? end : null, start, end != null ? end : start);
+                }
+            }
+            return writer.finish();
+        }
+    }
+
+    private long copyAnswers() throws SQLException {
+        Map<Long, Integer> studentIndex = new HashMap<>();
+        for (int i = 0; i < studentIds.length; i++) {
+            studentIndex.put(studentIds[i], i);
+        }
+        // 学生ごとのクイズ（ID・チャプター・開始日時）
+        int perStudent = settings.getQuizzesPerStudent();
+        long[][] quizIds = new long[studentIds.length][perStudent];
+        long[][] quizChapters = new long[studentIds.length][perStudent];
+        LocalDateTime[][] quizStarts = new LocalDateTime[studentIds.length][perStudent];
+        int[] filled = new int[studentIds.length];
+        try (PreparedStatement ps = connection.prepareStatement("SELECT q.id, q.student_id, q.chapter_id, "
+                + "q.start_time FROM quiz q JOIN users u ON u.id = q.student_id WHERE u.username LIKE ? ORDER BY q.id")) {
+            ps.setString(1, USERNAME_PATTERN);
+            ps.setFetchSize(10_000);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    int i = studentIndex.get(rs.getLong(2));
+                    int n = filled[i]++;
+                    quizIds[i][n] = rs.getLong(1);
+                    quizChapters[i][n] = rs.getLong(3);
+                    quizStarts[i][n] = rs.getTimestamp(4).toLocalDateTime();
+                }
+            }
+        }
+        Map<Long, List<String[]>> questions = questionsByChapter();
+
+        long answerSeed = random("student_answers").nextLong();
+        long base = settings.getAnswers() / studentIds.length;
+        long extra = settings.getAnswers() % studentIds.length;
+        try (CopyWriter writer = new CopyWriter(connection, "student_answers", "question_id", "quiz_id",
+                "student_id", "answer_text", "submitted_at")) {
+            for (int i = 0; i < studentIds.length; i++) {
+                // 学生ごとに乱数を分け、回答数を変えても他の学生の回答が変わらないようにする
+                SplittableRandom random = new SplittableRandom(answerSeed + i * 0x9E3779B97F4A7C15L);
+                long answers = base + (i < extra ? 1 : 0);
+                for (long n = 0; n < answers; n++) {
+                    int k = random.nextInt(perStudent);
+                    List<String[]> chapterQuestions = questions.get(quizChapters[i][k]);
+                    String[] question = chapterQuestions.get(random.nextInt(chapterQuestions.size()));
+                    String answer = random.nextDouble() < CORRECT_RATIO ? question[1] : "X";
+                    writer.row(Long.valueOf(question[0]), quizIds[i][k], studentIds[i], answer,
+                            quizStarts[i][k].plusSeconds(n * 20 + random.nextInt(20)));
+                }
+            }
+            return writer.finish();
+        }
+    }
+
+    private long copyAuditLogs() throws SQLException {
+        if (settings.getAuditMonths() == 0) {
+            return 0;
+        }
+        LocalDate firstMonth = settings.getBaseDate().withDayOfMonth(1).minusMonths(settings.getAuditMonths() - 1L);
+        try (PreparedStatement ps = connection.prepareStatement("SELECT public.create_audit_log_partition(?)")) {
+            for (int m = 0; m < settings.getAuditMonths(); m++) {
+                ps.setObject(1, firstMonth.plusMonths(m));
+                ps.execute();
+            }
+        }
+        SplittableRandom random = random("audit_logs");
+        try (CopyWriter writer = new CopyWriter(connection, "audit_logs", "table_name", "operation_type",
+                "record_id", "old_values", "new_values", "changed_by", "change_timestamp", "created_by",
+                "created_at", "updated_by", "updated_at")) {
+            for (int m = 0; m < settings.getAuditMonths(); m++) {
+                LocalDateTime monthStart = firstMonth.plusMonths(m).atStartOfDay();
+                long secondsInMonth = Duration.between(monthStart, monthStart.plusMonths(1)).getSeconds();
+                for (int n = 0; n < settings.getAuditLogsPerMonth(); n++) {
+                    int student = random.nextInt(studentIds.length);
+                    String table = AUDIT_TABLES[random.nextInt(AUDIT_TABLES.length)];
+                    String operation = AUDIT_OPERATIONS[random.nextInt(AUDIT_OPERATIONS.length)];
+                    LocalDateTime at = monthStart.plusSeconds(random.nextLong(secondsInMonth));
+                    String values = "{\"student_id\": " + studentIds[student] + ", \"seq\": " + n + "}";
+                    writer.row(table, operation, 1 + random.nextLong(1_000_000L),
+                            "INSERT".equals(operation) ? null : values, "DELETE".equals(operation) ? null : values,
+                            studentUsernames[student], at, SYSTEM_USER_ID, at, SYSTEM_USER_ID, at);
+                }
+            }
+            return writer.finish();
+        }
+    }
+
+    /** クイズ問題のあるチャプター */
+    private List<Long> quizChapters() throws SQLException {
+        List<Long> chapters = new ArrayList<>(questionCountsByChapter().keySet());
+        if (chapters.isEmpty()) {
+            throw new IllegalStateException("クイズ問題がありません。カリキュラムの初期データを確認してください");
+        }
+        return chapters;
+    }
+
+    private Map<Long, Integer> questionCountsByChapter() throws SQLException {
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+        for (Map.Entry<Long, List<String[]>> entry : questionsByChapter().entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().size());
+        }
+        return counts;
+    }
+
+    /** チャプターごとのクイズ問題（ID・正解） */
+    private Map<Long, List<String[]>> questionsByChapter() throws SQLException {
+        Map<Long, List<String[]>> questions = new LinkedHashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT chapter_id, id, correct_answer FROM quiz_question_bank ORDER BY chapter_id, id")) {
+            while (rs.next()) {
+                questions.computeIfAbsent(rs.getLong(1), k -> new ArrayList<>())
+                        .add(new String[] {rs.getString(2), rs.getString(3)});
+            }
+        }
+        return questions;
+    }
+
+    private static void readKeys(PreparedStatement ps, long[] target) throws SQLException {
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            int i = 0;
+            while (keys.next()) {
+                target[i++] = keys.getLong(1);
+            }
+        }
+    }
+
+    /** 表ごとに独立した乱数（件数を変えても他の表の内容が変わらないようにする） */
+    private SplittableRandom random(String table) {
+        return new SplittableRandom(settings.getSeed() * 31 + table.hashCode());
+    }
+
+    private int company(int studentIndex) {
+        return studentIndex % companyIds.length;
+    }
+
+    private LocalDate daysBefore(SplittableRandom random, int days) {
+        return settings.getBaseDate().minusDays(random.nextInt(days));
+    }
+
+    private LocalDateTime timeBefore(SplittableRandom random, int days) {
+        return settings.getBaseDate().atTime(18, 0).minusSeconds(random.nextLong(days * 86_400L));
+    }
+
+    private static String username(int index) {
+        return String.format("%s%07d", USERNAME_PREFIX, index + 1);
+    }
+
+    /** 1つの表の生成処理 */
+    @FunctionalInterface
+    private interface Step {
+        long run() throws SQLException;
+    }
+}
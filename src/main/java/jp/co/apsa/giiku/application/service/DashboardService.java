@@ -2,11 +2,11 @@ package jp.co.apsa.giiku.application.service;
 
 import org.springframework.stereotype.Service;
 
-import jp.co.apsa.giiku.domain.repository.UserRepository;
+import jp.co.apsa.giiku.dto.DashboardStatistics;
 
 /**
  * ダッシュボード表示用のアプリケーションサービス。
- * 現在はユーザー数の取得のみを提供します。
+ * 統計値は {@link DashboardStatisticsService} がメモリ上に保持している値を返すため、表示ごとのDBアクセスはありません。
  *
  * @author 株式会社アプサ
  * @version 1.0
@@ -15,10 +15,10 @@ import jp.co.apsa.giiku.domain.repository.UserRepository;
 @Service
 public class DashboardService {
 
-    private final UserRepository userRepository;
+    private final DashboardStatisticsService dashboardStatisticsService;
     /** DashboardService メソッド */
-    public DashboardService(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public DashboardService(DashboardStatisticsService dashboardStatisticsService) {
+        this.dashboardStatisticsService = dashboardStatisticsService;
     }
 
     /**
@@ -27,6 +27,25 @@ public class DashboardService {
      * @return ユーザー数
      */
     public long countUsers() {
-        return userRepository.count();
+        return dashboardStatisticsService.getUserCount();
+    }
+
+    /**
+     * 全企業を合算した学習状況の統計を返します。
+     *
+     * @return 統計
+     */
+    public DashboardStatistics getOverallStatistics() {
+        return dashboardStatisticsService.getOverallStatistics();
+    }
+
+    /**
+     * 企業の学習状況の統計を返します。
+     *
+     * @param companyId 企業ID
+     * @return 統計
+     */
+    public DashboardStatistics getCompanyStatistics(Long companyId) {
+        return dashboardStatisticsService.getCompanyStatistics(companyId);
     }
 }
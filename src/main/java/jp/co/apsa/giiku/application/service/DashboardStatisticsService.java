@@ -0,0 +1,454 @@
+package jp.co.apsa.giiku.application.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jp.co.apsa.giiku.domain.entity.Company;
+import jp.co.apsa.giiku.domain.entity.StudentProfile;
+import jp.co.apsa.giiku.domain.event.EnrollmentChangedEvent;
+import jp.co.apsa.giiku.domain.event.QuizChangedEvent;
+import jp.co.apsa.giiku.domain.event.StudentChangedEvent;
+import jp.co.apsa.giiku.domain.event.UserChangedEvent;
+import jp.co.apsa.giiku.domain.repository.CompanyRepository;
+import jp.co.apsa.giiku.domain.repository.QuizRepository;
+import jp.co.apsa.giiku.domain.repository.StudentEnrollmentRepository;
+import jp.co.apsa.giiku.domain.repository.StudentProfileRepository;
+import jp.co.apsa.giiku.domain.repository.UserRepository;
+import jp.co.apsa.giiku.dto.DashboardStatistics;
+
+/**
+ * ダッシュボード統計をメモリ上で保持するアプリケーションサービス。
+ *
+ * <p>学生・受講登録・クイズ・ユーザーの変更イベントをコミット後に受け取り、企業ごとのカウンタを差分で更新します。
+ * 参照時はDBにアクセスしません。イベントを経由しない変更（SQLでの直接更新など）による誤差は、
+ * 定期的な突き合わせ（{@code dashboard.statistics.reconcile-interval-minutes}）でDBの集計値に置き換えて解消します。</p>
+ *
+ * <p>突き合わせの集計は1つの REPEATABLE READ トランザクションで行い、全ての集計クエリが最初のクエリ時点の
+ * スナップショットを参照します。最初のクエリの後に受け取ったイベントだけを記録し、集計後のカウンタにも適用してから
+ * 入れ替えます。イベントはコミット後に通知されるため、スナップショットより前に通知されたイベントは集計値に含まれており、
+ * 二重に数えません。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+public class DashboardStatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardStatisticsService.class);
+
+    /** 企業IDが設定されていないデータの集計キー */
+    static final long NO_COMPANY = 0L;
+
+    private static final Set<String> ACTIVE_ENROLLMENT = Set.of("ENROLLED", "IN_PROGRESS");
+
+    private static final String COMPLETED_ENROLLMENT = "COMPLETED";
+
+    private static final String QUIZ_IN_PROGRESS = "IN_PROGRESS";
+
+    private static final Set<String> QUIZ_COMPLETED = Set.of("COMPLETED", "SUBMITTED", "GRADED");
+
+    private final UserRepository userRepository;
+    private final StudentProfileRepository studentProfileRepository;
+    private final StudentEnrollmentRepository studentEnrollmentRepository;
+    private final QuizRepository quizRepository;
+    private final CompanyRepository companyRepository;
+    private final TransactionTemplate snapshotTransaction;
+
+    /** カウンタ・突き合わせ中のイベント記録を保護するロック */
+    private final Object lock = new Object();
+
+    /** 現在のカウンタ（lock で保護） */
+    private State state;
+
+    /** 突き合わせの集計スナップショット取得後に適用したイベント（lock で保護、それ以外はnull） */
+    private List<Consumer<State>> journal;
+
+    @Value("${dashboard.statistics.reconcile-interval-minutes:10}")
+    private long reconcileIntervalMinutes = 10;
+
+    @Value("${dashboard.statistics.scheduler-enabled:true}")
+    private boolean schedulerEnabled = true;
+
+    private ScheduledExecutorService scheduler;
+
+    /** DashboardStatisticsService メソッド */
+    public DashboardStatisticsService(UserRepository userRepository,
+                                      StudentProfileRepository studentProfileRepository,
+                                      StudentEnrollmentRepository studentEnrollmentRepository,
+                                      QuizRepository quizRepository,
+                                      CompanyRepository companyRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.studentProfileRepository = studentProfileRepository;
+        this.studentEnrollmentRepository = studentEnrollmentRepository;
+        this.quizRepository = quizRepository;
+        this.companyRepository = companyRepository;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTransaction.setReadOnly(true);
+    }
+
+    /** 定期的な突き合わせを開始（初回は起動直後） */
+    @PostConstruct
+    void start() {
+        if (!schedulerEnabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "dashboard-statistics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::reconcileQuietly, 0, reconcileIntervalMinutes, TimeUnit.MINUTES);
+    }
+
+    /** 定期実行を停止 */
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            logger.error("ダッシュボード統計の突き合わせに失敗しました（次回再試行）", e);
+        }
+    }
+
+    // ===== 参照 =====
+
+    /**
+     * 登録されているユーザー数を返します。
+     *
+     * @return ユーザー数
+     */
+    public long getUserCount() {
+        synchronized (lock) {
+            return loadedState().users;
+        }
+    }
+
+    /**
+     * 企業の統計を返します。
+     *
+     * @param companyId 企業ID
+     * @return 統計
+     */
+    public DashboardStatistics getCompanyStatistics(Long companyId) {
+        if (companyId == null) {
+            throw new IllegalArgumentException("企業IDは必須です");
+        }
+        synchronized (lock) {
+            State current = loadedState();
+            Counters counters = current.companies.get(companyId);
+            return (counters != null ? counters : new Counters()).toStatistics(companyId, current.reconciledAt);
+        }
+    }
+
+    /**
+     * 全企業を合算した統計を返します。
+     *
+     * @return 統計
+     */
+    public DashboardStatistics getOverallStatistics() {
+        synchronized (lock) {
+            State current = loadedState();
+            Counters total = new Counters();
+            current.companies.values().forEach(total::add);
+            return total.toStatistics(null, current.reconciledAt);
+        }
+    }
+
+    /**
+     * 企業名ごとの在籍中の学生数を返します（企業未設定の学生は含みません）。
+     *
+     * @return 企業名と在籍中の学生数
+     */
+    public Map<String, Long> getActiveStudentsByCompany() {
+        synchronized (lock) {
+            State current = loadedState();
+            Map<String, Long> result = new LinkedHashMap<>();
+            current.companies.forEach((companyId, counters) -> {
+                if (companyId != NO_COMPANY) {
+                    result.merge(current.companyNames.getOrDefault(companyId, String.valueOf(companyId)),
+                            counters.activeStudents, Long::sum);
+                }
+            });
+            return result;
+        }
+    }
+
+    /** 未集計の場合はその場で突き合わせる（lock 保持中に呼び出す） */
+    private State loadedState() {
+        if (state == null) {
+            state = load(() -> { });
+        }
+        return state;
+    }
+
+    // ===== イベント =====
+
+    /** ユーザー登録・削除をユーザー数に反映 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getDelta() != 0) {
+            apply(s -> s.users += event.getDelta());
+        }
+    }
+
+    /** 学生プロフィールの変更を反映 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        apply(s -> {
+            if (event.getBefore() != null) {
+                s.company(event.getBefore().getCompanyId())
+                        .addStudent(event.getBefore().getEnrollmentStatus(), -1);
+            }
+            if (event.getAfter() != null) {
+                s.company(event.getAfter().getCompanyId())
+                        .addStudent(event.getAfter().getEnrollmentStatus(), 1);
+            }
+        });
+    }
+
+    /** 受講登録の変更を反映 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        apply(s -> {
+            if (event.getBefore() != null) {
+                s.company(event.getBefore().getCompanyId())
+                        .addEnrollment(event.getBefore().getEnrollmentStatus(), -1);
+            }
+            if (event.getAfter() != null) {
+                s.company(event.getAfter().getCompanyId())
+                        .addEnrollment(event.getAfter().getEnrollmentStatus(), 1);
+            }
+        });
+    }
+
+    /** クイズの変更を反映 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizChanged(QuizChangedEvent event) {
+        apply(s -> {
+            QuizChangedEvent.Snapshot before = event.getBefore();
+            QuizChangedEvent.Snapshot after = event.getAfter();
+            if (before != null) {
+                s.company(before.getCompanyId()).addQuiz(before.getStatus(), before.getScore(), before.isPassed(), -1);
+            }
+            if (after != null) {
+                s.company(after.getCompanyId()).addQuiz(after.getStatus(), after.getScore(), after.isPassed(), 1);
+            }
+        });
+    }
+
+    /** 未集計の場合は次回の参照時にDBから集計するため何もしない */
+    private void apply(Consumer<State> change) {
+        synchronized (lock) {
+            if (state != null) {
+                change.accept(state);
+            }
+            if (journal != null) {
+                journal.add(change);
+            }
+        }
+    }
+
+    // ===== 突き合わせ =====
+
+    /**
+     * DBの集計値でカウンタを置き換えます。
+     */
+    public void reconcile() {
+        synchronized (this) {
+            State fresh;
+            try {
+                // スナップショット取得後に通知されたイベントだけを記録する
+                fresh = load(() -> {
+                    synchronized (lock) {
+                        journal = new ArrayList<>();
+                    }
+                });
+            } catch (RuntimeException e) {
+                synchronized (lock) {
+                    journal = null;
+                }
+                throw e;
+            }
+            synchronized (lock) {
+                journal.forEach(change -> change.accept(fresh));
+                journal = null;
+                if (state != null) {
+                    logDrift(state, fresh);
+                }
+                state = fresh;
+            }
+        }
+    }
+
+    /**
+     * DBから集計します。
+     *
+     * @param snapshotTaken 最初のクエリでスナップショットを取得した直後に呼び出す処理
+     */
+    private State load(Runnable snapshotTaken) {
+        return snapshotTransaction.execute(status -> loadInSnapshot(snapshotTaken));
+    }
+
+    private State loadInSnapshot(Runnable snapshotTaken) {
+        State fresh = new State();
+        fresh.users = userRepository.count();
+        snapshotTaken.run();
+        for (Company company : companyRepository.findAll()) {
+            fresh.companyNames.put(company.getId(), company.getName());
+        }
+        for (Object[] row : studentProfileRepository.countGroupByCompanyIdAndEnrollmentStatus()) {
+            fresh.company((Long) row[0]).addStudent((String) row[1], toLong(row[2]));
+        }
+        for (Object[] row : studentEnrollmentRepository.countGroupByCompanyIdAndEnrollmentStatus()) {
+            fresh.company((Long) row[0]).addEnrollment((String) row[1], toLong(row[2]));
+        }
+        for (Object[] row : quizRepository.summarizeGroupByCompanyIdAndStatus()) {
+            Counters counters = fresh.company((Long) row[0]);
+            String status = (String) row[1];
+            if (QUIZ_IN_PROGRESS.equals(status)) {
+                counters.quizzesInProgress += toLong(row[2]);
+            } else if (QUIZ_COMPLETED.contains(status)) {
+                counters.quizzesCompleted += toLong(row[2]);
+                counters.scoredQuizzes += toLong(row[3]);
+                counters.scoreSum += row[4] != null ? ((Number) row[4]).doubleValue() : 0.0;
+                counters.passedQuizzes += toLong(row[5]);
+            }
+        }
+        fresh.reconciledAt = LocalDateTime.now();
+        return fresh;
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    private static void logDrift(State current, State fresh) {
+        Counters before = new Counters();
+        Counters after = new Counters();
+        current.companies.values().forEach(before::add);
+        fresh.companies.values().forEach(after::add);
+        if (current.users != fresh.users || before.totalStudents != after.totalStudents
+                || before.totalEnrollments != after.totalEnrollments
+                || before.quizzesInProgress != after.quizzesInProgress
+                || before.quizzesCompleted != after.quizzesCompleted) {
+            logger.info("ダッシュボード統計をDBの集計値で補正しました: users {}->{}, students {}->{}, "
+                    + "enrollments {}->{}, quizzesInProgress {}->{}, quizzesCompleted {}->{}",
+                    current.users, fresh.users, before.totalStudents, after.totalStudents,
+                    before.totalEnrollments, after.totalEnrollments, before.quizzesInProgress,
+                    after.quizzesInProgress, before.quizzesCompleted, after.quizzesCompleted);
+        }
+    }
+
+    /** 全カウンタ */
+    private static final class State {
+        private final Map<Long, Counters> companies = new HashMap<>();
+        private final Map<Long, String> companyNames = new HashMap<>();
+        private long users;
+        private LocalDateTime reconciledAt;
+
+        Counters company(Long companyId) {
+            return companies.computeIfAbsent(companyId != null ? companyId : NO_COMPANY, id -> new Counters());
+        }
+    }
+
+    /** 企業ごとのカウンタ */
+    private static final class Counters {
+        private long totalStudents;
+        private long activeStudents;
+        private long totalEnrollments;
+        private long activeEnrollments;
+        private long completedEnrollments;
+        private long quizzesInProgress;
+        private long quizzesCompleted;
+        private long scoredQuizzes;
+        private double scoreSum;
+        private long passedQuizzes;
+
+        void addStudent(String status, long delta) {
+            totalStudents += delta;
+            if (StudentProfile.EnrollmentStatus.ENROLLED.equals(status)) {
+                activeStudents += delta;
+            }
+        }
+
+        void addEnrollment(String status, long delta) {
+            totalEnrollments += delta;
+            if (ACTIVE_ENROLLMENT.contains(status)) {
+                activeEnrollments += delta;
+            } else if (COMPLETED_ENROLLMENT.equals(status)) {
+                completedEnrollments += delta;
+            }
+        }
+
+        void addQuiz(String status, Double score, boolean passed, long delta) {
+            if (QUIZ_IN_PROGRESS.equals(status)) {
+                quizzesInProgress += delta;
+            } else if (QUIZ_COMPLETED.contains(status)) {
+                quizzesCompleted += delta;
+                if (score != null) {
+                    scoredQuizzes += delta;
+                    scoreSum += score * delta;
+                }
+                if (passed) {
+                    passedQuizzes += delta;
+                }
+            }
+        }
+
+        void add(Counters other) {
+            totalStudents += other.totalStudents;
+            activeStudents += other.activeStudents;
+            totalEnrollments += other.totalEnrollments;
+            activeEnrollments += other.activeEnrollments;
+            completedEnrollments += other.completedEnrollments;
+            quizzesInProgress += other.quizzesInProgress;
+            quizzesCompleted += other.quizzesCompleted;
+            scoredQuizzes += other.scoredQuizzes;
+            scoreSum += other.scoreSum;
+            passedQuizzes += other.passedQuizzes;
+        }
+
+        DashboardStatistics toStatistics(Long companyId, LocalDateTime reconciledAt) {
+            BigDecimal averageScore = scoredQuizzes > 0
+                    ? BigDecimal.valueOf(scoreSum / scoredQuizzes).setScale(2, RoundingMode.HALF_UP)
+                    : BigDecimal.ZERO;
+            BigDecimal passRate = quizzesCompleted > 0
+                    ? BigDecimal.valueOf(passedQuizzes * 100.0 / quizzesCompleted).setScale(2, RoundingMode.HALF_UP)
+                    : BigDecimal.ZERO;
+            return new DashboardStatistics(companyId, totalStudents, activeStudents, totalEnrollments,
+                    activeEnrollments, completedEnrollments, quizzesInProgress, quizzesCompleted,
+                    averageScore, passRate, reconciledAt);
+        }
+    }
+}
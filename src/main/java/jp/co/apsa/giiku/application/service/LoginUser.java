@@ -0,0 +1,44 @@
+package jp.co.apsa.giiku.application.service;
+
+import java.util.Collection;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * ログイン中のユーザーを表す認証プリンシパル。
+ *
+ * <p>認証時にユーザーID・会社IDを保持しておき、監査項目の設定などで
+ * {@code SecurityContext} から直接参照できるようにします。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public class LoginUser extends User {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long userId;
+
+    private final Long companyId;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param userId ユーザーID
+     * @param companyId 会社ID
+     * @param username ユーザー名
+     * @param password パスワード（ハッシュ）
+     * @param authorities 権限
+     */
+    public LoginUser(Long userId, Long companyId, String username, String password,
+                     Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.userId = userId;
+        this.companyId = companyId;
+    }
+
+    public Long getUserId() { return userId; }
+    public Long getCompanyId() { return companyId; }
+}
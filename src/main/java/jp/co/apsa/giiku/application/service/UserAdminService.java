@@ -5,11 +5,13 @@ import java.util.List;
 import jakarta.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import jp.co.apsa.giiku.domain.entity.User;
+import jp.co.apsa.giiku.domain.event.UserChangedEvent;
 import jp.co.apsa.giiku.domain.repository.UserRepository;
 
 /**
@@ -27,18 +29,22 @@ public class UserAdminService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * コンストラクタ。
      *
      * @param userRepository ユーザーリポジトリ
      * @param passwordEncoder パスワードエンコーダー
+     * @param eventPublisher イベント発行
      */
     @Autowired
     public UserAdminService(UserRepository userRepository,
-                            PasswordEncoder passwordEncoder) {
+                            PasswordEncoder passwordEncoder,
+                            ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -70,7 +76,9 @@ public class UserAdminService {
      */
     public User create(@Valid User user) {
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.created(saved.getId(), saved.getUsername()));
+        return saved;
     }
 
     /**
@@ -83,7 +91,9 @@ public class UserAdminService {
         if (!user.getPassword().startsWith("$2")) {
             user.setPassword(passwordEncoder.encode(user.getPassword()));
         }
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(saved.getId(), saved.getUsername()));
+        return saved;
     }
 
     /**
@@ -92,6 +102,9 @@ public class UserAdminService {
      * @param id ユーザーID
      */
     public void delete(Long id) {
-        userRepository.deleteById(id);
+        userRepository.findById(id).ifPresent(user -> {
+            userRepository.delete(user);
+            eventPublisher.publishEvent(UserChangedEvent.deleted(user.getId(), user.getUsername()));
+        });
     }
 }
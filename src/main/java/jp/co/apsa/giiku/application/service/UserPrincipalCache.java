@@ -0,0 +1,187 @@
+package jp.co.apsa.giiku.application.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jp.co.apsa.giiku.domain.entity.User;
+import jp.co.apsa.giiku.domain.event.UserChangedEvent;
+
+/**
+ * ユーザー名ごとの認証情報キャッシュ。
+ *
+ * <p>ログインや監査ユーザーの解決のたびに {@code users} を検索しないよう、ユーザーID・パスワードハッシュ・
+ * ロールを保持します。件数の上限を超えると最も古く参照されたエントリから破棄し、{@code ttl-seconds}
+ * を過ぎたエントリは次の参照時に再読込します。</p>
+ *
+ * <p>{@link UserAdminService} による登録・更新・削除は {@link UserChangedEvent} でコミット後に破棄します。
+ * ユーザー名の変更にも対応するため、ユーザーIDが一致するエントリも破棄します。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class UserPrincipalCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserPrincipalCache.class);
+
+    /** メトリクス名 */
+    private static final String METRIC_NAME = "giiku.security.principal-cache";
+
+    private final Map<String, Entry> entries;
+
+    private final long ttlNanos;
+
+    /** 破棄のたびに進め、読込中に破棄されたユーザーを古い内容で保存しないようにする */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /** UserPrincipalCache メソッド */
+    public UserPrincipalCache(MeterRegistry meterRegistry,
+                              @Value("${giiku.security.principal-cache.max-entries:10000}") int maxEntries,
+                              @Value("${giiku.security.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        FunctionCounter.builder(METRIC_NAME + ".requests", hits, LongAdder::doubleValue)
+                .tag("result", "hit")
+                .description("認証情報キャッシュのヒット数")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_NAME + ".requests", misses, LongAdder::doubleValue)
+                .tag("result", "miss")
+                .description("認証情報キャッシュのミス数")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", this, UserPrincipalCache::size)
+                .description("認証情報キャッシュのエントリ数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * ユーザー名に対応する認証情報を取得します。未キャッシュ・期限切れの場合は読み込みます。
+     *
+     * @param username ユーザー名
+     * @param loader ユーザーの読込（存在しない場合はnull）
+     * @return 認証情報（ユーザーが存在しない場合はnull）
+     */
+    public Entry get(String username, Function<String, User> loader) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry cached = entries.get(username);
+            if (cached != null && now - cached.loadedAt < ttlNanos) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+        long loadingGeneration = generation.get();
+        User user = loader.apply(username);
+        if (user == null) {
+            return null;
+        }
+        Entry loaded = new Entry(user, System.nanoTime());
+        synchronized (entries) {
+            if (generation.get() == loadingGeneration) {
+                entries.put(username, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /** ユーザーの登録・更新・削除をコミット後に反映 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.getUserId(), event.getUsername());
+    }
+
+    /**
+     * ユーザーの認証情報を破棄します。
+     *
+     * @param userId ユーザーID
+     * @param username ユーザー名
+     */
+    public void evict(Long userId, String username) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            if (username != null) {
+                entries.remove(username);
+            }
+            if (userId != null) {
+                entries.values().removeIf(entry -> userId.equals(entry.userId));
+            }
+        }
+        logger.debug("認証情報キャッシュを破棄しました: userId={}, username={}", userId, username);
+    }
+
+    /** 全ての認証情報を破棄します。 */
+    public void evictAll() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    /**
+     * エントリ数を取得します。
+     *
+     * @return エントリ数
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /** キャッシュするユーザーの認証情報 */
+    public static final class Entry {
+        private final Long userId;
+        private final Long companyId;
+        private final String username;
+        private final String password;
+        private final String role;
+        private final long loadedAt;
+
+        private Entry(User user, long loadedAt) {
+            this.userId = user.getId();
+            this.companyId = user.getCompanyId();
+            this.username = user.getUsername();
+            this.password = user.getPassword();
+            this.role = user.getRole();
+            this.loadedAt = loadedAt;
+        }
+
+        public Long getUserId() { return userId; }
+
+        /**
+         * 認証プリンシパルを生成します。
+         * 認証後にパスワードが消去されるため、呼び出しごとに新しいインスタンスを返します。
+         *
+         * @return 認証プリンシパル
+         */
+        public LoginUser toPrincipal() {
+            return new LoginUser(userId, companyId, username, password,
+                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
+        }
+    }
+}
@@ -1,20 +1,25 @@
 package jp.co.apsa.giiku.application.service;
 
-import java.util.Collections;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import jp.co.apsa.giiku.domain.entity.User;
 import jp.co.apsa.giiku.domain.repository.UserRepository;
 
 /**
  * ユーザー認証情報を提供するサービス。
  *
+ * <p>認証情報は {@link UserPrincipalCache} にキャッシュし、未キャッシュの場合のみ
+ * 独立した読み取り専用トランザクションで読み込みます。</p>
+ *
  * @author 株式会社アプサ
  * @version 1.0
  * @since 2025
@@ -24,20 +29,44 @@ public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    private final UserPrincipalCache userPrincipalCache;
+
+    private final TransactionTemplate readTransaction;
+
     /** UserService メソッド */
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, UserPrincipalCache userPrincipalCache,
+                       PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
+        // 監査項目の設定（flush 中）から呼ばれても現在のセッションに影響しないよう分離する
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
     }
 
     /** loadUserByUsername メソッド */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        jp.co.apsa.giiku.domain.entity.User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("ユーザーが見つかりません: " + username));
-        return new User(
-                user.getUsername(),
-                user.getPassword(),
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole())));
+        UserPrincipalCache.Entry entry = userPrincipalCache.get(username, this::findUser);
+        if (entry == null) {
+            throw new UsernameNotFoundException("ユーザーが見つかりません: " + username);
+        }
+        return entry.toPrincipal();
+    }
+
+    /**
+     * ユーザー名からユーザーIDを取得します。
+     *
+     * @param username ユーザー名
+     * @return ユーザーID（存在しない場合は空）
+     */
+    public Optional<Long> findUserId(String username) {
+        return Optional.ofNullable(userPrincipalCache.get(username, this::findUser))
+                .map(UserPrincipalCache.Entry::getUserId);
+    }
+
+    private User findUser(String username) {
+        return readTransaction.execute(status -> userRepository.findByUsername(username).orElse(null));
     }
 }
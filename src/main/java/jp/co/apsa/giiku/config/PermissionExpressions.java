@@ -0,0 +1,74 @@
+package jp.co.apsa.giiku.config;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import jp.co.apsa.giiku.application.service.LoginUser;
+import jp.co.apsa.giiku.service.PermissionIndex;
+
+/**
+ * {@code @PreAuthorize} の式から権限インデックスを参照するためのBean。
+ *
+ * <p>ログイン中のユーザー（{@link LoginUser}）のユーザーID・会社IDで判定します。
+ * 会社を指定しない場合はユーザーの所属会社で判定します。</p>
+ *
+ * <pre>
+ * &#64;PreAuthorize("&#64;permissions.has('quiz:grade')")
+ * &#64;PreAuthorize("&#64;permissions.hasIn(#companyId, 'report:export')")
+ * &#64;PreAuthorize("&#64;permissions.hasRole('COMPANY_ADMIN')")
+ * </pre>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Component("permissions")
+public class PermissionExpressions {
+
+    private final PermissionIndex permissionIndex;
+
+    /** PermissionExpressions メソッド */
+    public PermissionExpressions(PermissionIndex permissionIndex) {
+        this.permissionIndex = permissionIndex;
+    }
+
+    /**
+     * 所属会社で特別権限を持つかどうかを判定します。
+     *
+     * @param permission 権限名
+     * @return 権限を持つ場合はtrue
+     */
+    public boolean has(String permission) {
+        LoginUser user = currentUser();
+        return user != null && permissionIndex.hasPermission(user.getUserId(), user.getCompanyId(), permission);
+    }
+
+    /**
+     * 指定会社で特別権限を持つかどうかを判定します。
+     *
+     * @param companyId 会社ID
+     * @param permission 権限名
+     * @return 権限を持つ場合はtrue
+     */
+    public boolean hasIn(Long companyId, String permission) {
+        LoginUser user = currentUser();
+        return user != null && permissionIndex.hasPermission(user.getUserId(), companyId, permission);
+    }
+
+    /**
+     * 所属会社でロールを持つかどうかを判定します。
+     *
+     * @param roleName ロール名
+     * @return ロールを持つ場合はtrue
+     */
+    public boolean hasRole(String roleName) {
+        LoginUser user = currentUser();
+        return user != null && permissionIndex.hasRole(user.getUserId(), user.getCompanyId(), roleName);
+    }
+
+    private static LoginUser currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof LoginUser user ? user : null;
+    }
+}
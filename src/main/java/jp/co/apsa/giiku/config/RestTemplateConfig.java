@@ -1,7 +1,18 @@
 package jp.co.apsa.giiku.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -20,7 +31,40 @@ public class RestTemplateConfig {
      * @return RestTemplateインスタンス
      */
     @Bean
+    @Primary
     public RestTemplate restTemplate() {
         return new RestTemplate();
     }
+
+    /**
+     * Slack Webhook 送信用のRestTemplateを生成します。
+     * 接続をプールして再利用し、接続・応答待ちのタイムアウトを設定します。
+     *
+     * @param connectTimeoutMs 接続タイムアウト（ミリ秒）
+     * @param readTimeoutMs 応答待ちタイムアウト（ミリ秒）
+     * @param maxConnections 最大接続数
+     * @return RestTemplateインスタンス
+     */
+    @Bean
+    public RestTemplate slackRestTemplate(
+            @Value("${giiku.slack.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${giiku.slack.http.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${giiku.slack.http.max-connections:10}") int maxConnections) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .build();
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
 }
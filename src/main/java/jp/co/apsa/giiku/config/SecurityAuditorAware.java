@@ -3,19 +3,22 @@ package jp.co.apsa.giiku.config;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.data.domain.AuditorAware;
 
-import jp.co.apsa.giiku.domain.entity.User;
-import jp.co.apsa.giiku.domain.repository.UserRepository;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import jp.co.apsa.giiku.application.service.LoginUser;
+import jp.co.apsa.giiku.application.service.UserService;
 
 /**
  * 認証情報から監査ユーザーIDを取得する実装クラス。
  *
+ * <p>ログイン時のプリンシパル（{@link LoginUser}）が保持するユーザーIDを使うため、
+ * 保存のたびにDBを検索しません。それ以外の認証（テストや外部連携）ではユーザー名から
+ * キャッシュ経由で解決します。</p>
+ *
  * @author 株式会社アプサ
  * @version 1.0
  * @since 2025
@@ -23,24 +26,25 @@ import org.springframework.transaction.annotation.Transactional;
 @Component
 public class SecurityAuditorAware implements AuditorAware<Long> {
 
-    private final UserRepository userRepository;
+    private final UserService userService;
 
     /** SecurityAuditorAware メソッド */
     @Autowired
-    public SecurityAuditorAware(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public SecurityAuditorAware(UserService userService) {
+        this.userService = userService;
     }
 
     /** getCurrentAuditor メソッド */
     @Override
-    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
     public Optional<Long> getCurrentAuditor() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
             return Optional.empty();
         }
-        String username = authentication.getName();
-        Optional<User> userOpt = userRepository.findByUsername(username);
-        return userOpt.map(User::getId);
+        if (authentication.getPrincipal() instanceof LoginUser loginUser) {
+            return Optional.ofNullable(loginUser.getUserId());
+        }
+        return userService.findUserId(authentication.getName());
     }
 }
@@ -1,13 +1,19 @@
 package jp.co.apsa.giiku.controller;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 
+import jp.co.apsa.giiku.dto.AnswerDeltaFrame;
+import jp.co.apsa.giiku.service.AnswerStreamAggregator;
+
 /**
  * 回答ストリームコントローラー。
  *
  * 講師向けに回答ストリームの購読エンドポイントを提供します。
+ * {@code /app/answers/{quizId}} 等を購読すると、現在までの回答を集計したスナップショットを
+ * 1フレームで返します。以降の更新は {@code /topic/...} の差分フレームで受信します。
  *
  * @author 株式会社アプサ
  * @version 1.0
@@ -16,23 +22,28 @@ import org.springframework.stereotype.Controller;
 @Controller
 public class AnswerStreamController {
 
+    @Autowired
+    private AnswerStreamAggregator answerStreamAggregator;
+
     /**
      * クイズ回答の購読エンドポイント。
      *
      * @param quizId クイズID
+     * @return 現在の回答スナップショット
      */
     @SubscribeMapping("/answers/{quizId}")
-    public void subscribeQuizAnswers(@DestinationVariable Long quizId) {
-        // 初期データ送信は行わず、購読のみを許可。
+    public AnswerDeltaFrame subscribeQuizAnswers(@DestinationVariable Long quizId) {
+        return answerStreamAggregator.quizSnapshot(quizId);
     }
 
     /**
      * 演習回答の購読エンドポイント。
      *
      * @param questionId 問題ID
+     * @return 現在の回答スナップショット
      */
     @SubscribeMapping("/exercise-answers/{questionId}")
-    public void subscribeExerciseAnswers(@DestinationVariable Long questionId) {
-        // 初期データ送信は行わず、購読のみを許可。
+    public AnswerDeltaFrame subscribeExerciseAnswers(@DestinationVariable Long questionId) {
+        return answerStreamAggregator.exerciseSnapshot(questionId);
     }
 }
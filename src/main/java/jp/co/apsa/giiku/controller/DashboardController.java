@@ -8,7 +8,7 @@ import jp.co.apsa.giiku.application.service.DashboardService;
 
 /**
  * ダッシュボード画面を提供するコントローラー。
- * ユーザー数を表示するシンプルな実装です。
+ * ユーザー数と学習状況の統計を表示します。
  *
  * @author 株式会社アプサ
  * @version 1.0
@@ -32,6 +32,7 @@ public class DashboardController extends AbstractController {
     @GetMapping(path = {"/dashboard","/index.html"})
     public String dashboard(Model model) {
         model.addAttribute("userCount", dashboardService.countUsers());
+        model.addAttribute("statistics", dashboardService.getOverallStatistics());
         setTitle(model, "ダッシュボード");
         return "dashboard";
     }
@@ -14,29 +14,14 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.HashMap;
 import java.util.Map;
 
 import jp.co.apsa.giiku.domain.entity.Day;
 import jp.co.apsa.giiku.domain.entity.Lecture;
 import jp.co.apsa.giiku.domain.entity.Month;
 import jp.co.apsa.giiku.domain.entity.Week;
-import jp.co.apsa.giiku.service.DayService;
-import jp.co.apsa.giiku.service.LectureChapterService;
-import jp.co.apsa.giiku.service.LectureGoalService;
-import jp.co.apsa.giiku.service.LectureContentBlockService;
-import jp.co.apsa.giiku.domain.entity.Chapter;
-import jp.co.apsa.giiku.domain.entity.LectureGoal;
-import jp.co.apsa.giiku.domain.entity.LectureContentBlock;
-import jp.co.apsa.giiku.domain.entity.QuizQuestionBank;
-import jp.co.apsa.giiku.service.LectureService;
-import jp.co.apsa.giiku.service.MonthService;
-import jp.co.apsa.giiku.service.WeekService;
-import jp.co.apsa.giiku.service.QuizQuestionBankService;
-import jp.co.apsa.giiku.service.QuestionBankService;
-import jp.co.apsa.giiku.domain.entity.QuestionBank;
-import org.jsoup.Jsoup;
-import org.jsoup.safety.Safelist;
+import jp.co.apsa.giiku.dto.LecturePageView;
+import jp.co.apsa.giiku.service.LecturePageService;
 
 /**
  * 講義詳細ページを表示するコントローラー。
@@ -53,25 +38,7 @@ public class LectureViewController extends AbstractController {
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Autowired
-    private LectureService lectureService;
-    @Autowired
-    private DayService dayService;
-    @Autowired
-    private WeekService weekService;
-    @Autowired
-    private MonthService monthService;
-
-    @Autowired
-    private LectureChapterService lectureChapterService;
-    @Autowired
-    private LectureGoalService lectureGoalService;
-    @Autowired
-    private LectureContentBlockService lectureContentBlockService;
-    @Autowired
-    private QuizQuestionBankService quizQuestionBankService;
-    @Autowired
-    private QuestionBankService questionBankService;
-
+    private LecturePageService lecturePageService;
 
     /**
      * 静的講義スライドを表示します。
@@ -92,69 +59,31 @@ public class LectureViewController extends AbstractController {
      */
     @GetMapping("/{id}")
     public String lecture(@PathVariable Long id, Model model) {
-        Lecture lecture = lectureService.findById(id)
+        LecturePageView page = lecturePageService.findPage(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
-        
-        Day day = lecture.getDayId() != null ? dayService.findById(lecture.getDayId()).orElse(null) : null;
-        Week week = day != null ? weekService.findById(day.getWeekId()).orElse(null) : null;
-        Month month = week != null ? monthService.findById(week.getMonthId()).orElse(null) : null;
+        Lecture lecture = page.getLecture();
+        Day day = page.getDay();
+        Week week = page.getWeek();
+        Month month = page.getMonth();
 
         setTitle(model, lecture.getTitle());
         model.addAttribute("pageTitle", lecture.getTitle());
         model.addAttribute("lecture", lecture);
-        // 以前は回答モニタ用のquestionIdをモデルに追加していたが現在は不要
-
-        // 正規化されたテーブルからデータを取得
-        logger.debug("=== Lecture Debug Info ===");
-        logger.debug("Lecture ID: {}", lecture.getId());
-        
-        // 正規化テーブルからデータ取得
-        List<LectureGoal> goals = lectureGoalService.findByLectureIdOrderBySortOrder(lecture.getId());
-        List<Chapter> chapters = lectureChapterService.findByLectureIdOrderBySortOrder(lecture.getId());
-        
-        logger.debug("Found {} goals", goals.size());
-        logger.debug("Found {} chapters", chapters.size());
-        
-        model.addAttribute("goals", goals);
-        model.addAttribute("contentChapters", chapters);
-
-        // 各チャプターのコンテンツブロックを取得
-        Map<Long, List<LectureContentBlock>> chapterContentBlocks = new HashMap<>();
-        for (Chapter chapter : chapters) {
-            List<LectureContentBlock> blocks = lectureContentBlockService.findByChapterIdOrderBySortOrder(chapter.getId());
-            for (LectureContentBlock block : blocks) {
-                if (block.getContent() != null) {
-                    block.setContent(Jsoup.clean(block.getContent(), Safelist.basic()));
-                }
-            }
-            chapterContentBlocks.put(chapter.getId(), blocks);
-        }
-        model.addAttribute("chapterContentBlocks", chapterContentBlocks);
+        model.addAttribute("goals", page.getGoals());
+        model.addAttribute("contentChapters", page.getChapters());
+        model.addAttribute("chapterContentBlocks", page.getContentBlocksByChapter());
+        model.addAttribute("quizQuestionsByChapter", page.getQuizQuestionsByChapter());
+        model.addAttribute("exercisesByChapter", page.getExercisesByChapter());
+        model.addAttribute("additionalResources", parseJsonField(getAdditionalResourcesJson(lecture), List.class));
 
-        // 理解度テストと演習問題を講義IDから取得しチャプターごとに格納
-        List<QuizQuestionBank> quizQuestions = quizQuestionBankService.findByLectureId(lecture.getId());
-        logger.debug("Fetched {} quiz questions for lectureId={}", quizQuestions.size(), lecture.getId());
-        Map<Long, List<QuizQuestionBank>> quizQuestionsByChapter = new HashMap<>();
-        for (QuizQuestionBank quiz : quizQuestions) {
-            Long chapterId = quiz.getChapter().getId();
-            quizQuestionsByChapter.computeIfAbsent(chapterId, k -> new ArrayList<>()).add(quiz);
+        // 前後の講義
+        if (page.getPreviousLecture() != null) {
+            model.addAttribute("previousLecture", page.getPreviousLecture());
         }
-        model.addAttribute("quizQuestionsByChapter", quizQuestionsByChapter);
-
-        List<QuestionBank> exercises = questionBankService.findByLectureId(lecture.getId());
-        logger.debug("Fetched {} exercise questions for lectureId={}", exercises.size(), lecture.getId());
-        Map<Long, List<QuestionBank>> exercisesByChapter = new HashMap<>();
-        for (QuestionBank exercise : exercises) {
-            Long chapterId = exercise.getChapter().getId();
-            exercisesByChapter.computeIfAbsent(chapterId, k -> new ArrayList<>()).add(exercise);
+        if (page.getNextLecture() != null) {
+            model.addAttribute("nextLecture", page.getNextLecture());
         }
-        model.addAttribute("exercisesByChapter", exercisesByChapter);
 
-        model.addAttribute("additionalResources", parseJsonField(getAdditionalResourcesJson(lecture), List.class));
-        
-        // 前後の講義を取得
-        setPreviousNextLectures(model, lecture);
-        
         List<Map<String, Object>> breadcrumbs = new ArrayList<>();
         breadcrumbs.add(Map.of("label", "ホーム", "url", "/", "last", false));
         if (month != null) {
@@ -210,26 +139,4 @@ public class LectureViewController extends AbstractController {
             ]
             """;
     }
-
-    /**
-     * 前後の講義を設定
-     */
-    private void setPreviousNextLectures(Model model, Lecture currentLecture) {
-        try {
-            // 同じ日の前後の講義を取得
-            if (currentLecture.getDayId() != null) {
-                List<Lecture> dayLectures = lectureService.findByDayIdOrderByLectureNumber(currentLecture.getDayId());
-                
-                for (int i = 0; i < dayLectures.size(); i++) {
-                    if (dayLectures.get(i).getId().equals(currentLecture.getId())) {
-                        if (i > 0) model.addAttribute("previousLecture", dayLectures.get(i - 1));
-                        if (i < dayLectures.size() - 1) model.addAttribute("nextLecture", dayLectures.get(i + 1));
-                        break;
-                    }
-                }
-            }
-        } catch (Exception e) {
-            logger.warn("Failed to set previous/next lectures", e);
-        }
-    }
 }
@@ -5,10 +5,11 @@ import jp.co.apsa.giiku.dto.ExerciseAnswer;
 import jp.co.apsa.giiku.service.QuestionBankService;
 import jp.co.apsa.giiku.service.StudentAnswerService;
 import jp.co.apsa.giiku.service.LectureGradeService;
+import jp.co.apsa.giiku.service.AnswerStreamAggregator;
+import jp.co.apsa.giiku.dto.AnswerDeltaFrame;
 import jp.co.apsa.giiku.domain.entity.StudentAnswer;
 import jp.co.apsa.giiku.domain.entity.User;
 import jp.co.apsa.giiku.domain.repository.UserRepository;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -50,7 +51,7 @@ public class QuestionBankController extends AbstractController {
     private LectureGradeService lectureGradeService;
 
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private AnswerStreamAggregator answerStreamAggregator;
 
     @Autowired
     private UserRepository userRepository;
@@ -99,13 +100,20 @@ public class QuestionBankController extends AbstractController {
         return ResponseEntity.noContent().build();
     }
 
-    /** 問題文の部分一致検索 */
+    /** 問題文・選択肢・解説の全文検索（関連度順の全件） */
     @GetMapping("/search")
     public ResponseEntity<List<QuestionBank>> searchQuestions(@RequestParam String query) {
         List<QuestionBank> questions = questionBankService.searchByQuestionText(query);
         return ResponseEntity.ok(questions);
     }
 
+    /** 問題文・選択肢・解説の全文検索（関連度順のページング） */
+    @GetMapping("/search/page")
+    public ResponseEntity<Page<QuestionBank>> searchQuestionsPage(@RequestParam String query, Pageable pageable) {
+        Page<QuestionBank> questions = questionBankService.search(query, pageable);
+        return ResponseEntity.ok(questions);
+    }
+
     /** チャプターIDで問題を取得 */
     @GetMapping("/chapter/{chapterId}")
     public ResponseEntity<List<QuestionBank>> getByChapter(@PathVariable Long chapterId) {
@@ -135,9 +143,12 @@ public class QuestionBankController extends AbstractController {
         logger.debug("Saving exercise answer: questionId={} studentId={}", id, exerciseAnswer.getStudentId());
         studentAnswerService.saveExerciseAnswer(id, exerciseAnswer.getStudentId(), exerciseAnswer.getAnswerText());
         if (exerciseAnswer.getLectureId() != null && exerciseAnswer.getCorrect() != null) {
-            lectureGradeService.updateExerciseStats(exerciseAnswer.getLectureId(), exerciseAnswer.getCorrect());
+            lectureGradeService.updateExerciseStats(exerciseAnswer.getStudentId(), exerciseAnswer.getLectureId(),
+                    exerciseAnswer.getCorrect());
         }
-        messagingTemplate.convertAndSend("/topic/exercise-answers/" + id, exerciseAnswer);
+        answerStreamAggregator.recordExerciseAnswer(id, new AnswerDeltaFrame.Entry(
+                id, exerciseAnswer.getStudentId(), exerciseAnswer.getAnswerText(), exerciseAnswer.getCorrect()));
+        answerStreamAggregator.sendLegacy(AnswerStreamAggregator.EXERCISE_TOPIC_PREFIX + id, exerciseAnswer);
         return ResponseEntity.ok().build();
     }
 
@@ -150,11 +161,15 @@ public class QuestionBankController extends AbstractController {
     @GetMapping("/{id}/answers")
     public ResponseEntity<List<Map<String, String>>> getExerciseAnswers(@PathVariable Long id) {
         List<StudentAnswer> answers = studentAnswerService.getAnswersByQuestionId(id);
+        List<Long> studentIds = answers.stream()
+                .map(StudentAnswer::getStudentId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, String> studentNames = userRepository.findAllById(studentIds).stream()
+                .collect(Collectors.toMap(User::getId, User::getName, (a, b) -> a));
         List<Map<String, String>> result = answers.stream()
                 .map(a -> {
-                    String name = userRepository.findById(a.getStudentId())
-                            .map(User::getName)
-                            .orElse("不明");
+                    String name = studentNames.getOrDefault(a.getStudentId(), "不明");
                     Map<String, String> map = new HashMap<>();
                     map.put("studentName", name);
                     map.put("answerText", a.getAnswerText());
@@ -3,12 +3,12 @@ package jp.co.apsa.giiku.controller;
 import jp.co.apsa.giiku.domain.entity.Quiz;
 import jp.co.apsa.giiku.service.QuizService;
 import jp.co.apsa.giiku.service.StudentAnswerService;
-import jp.co.apsa.giiku.domain.entity.QuizQuestionBank;
-import jp.co.apsa.giiku.domain.repository.QuizQuestionBankRepository;
+import jp.co.apsa.giiku.service.QuizAnswerKeyCache;
+import jp.co.apsa.giiku.service.AnswerStreamAggregator;
+import jp.co.apsa.giiku.domain.valueobject.AnswerKey;
 import jp.co.apsa.giiku.domain.entity.StudentAnswer;
 import jp.co.apsa.giiku.domain.entity.User;
 import jp.co.apsa.giiku.domain.repository.UserRepository;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,15 +21,13 @@ import org.springframework.validation.BindingResult;
 
 import jakarta.validation.Valid;
 import jp.co.apsa.giiku.dto.QuizAnswerRequest;
+import jp.co.apsa.giiku.dto.AnswerDeltaFrame;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.HashMap;
-import java.util.Arrays;
-import java.util.Set;
-import java.util.TreeSet;
 
 /**
  * クイズコントローラー
@@ -54,10 +52,10 @@ public class QuizController extends AbstractController {
     private StudentAnswerService studentAnswerService;
 
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private AnswerStreamAggregator answerStreamAggregator;
 
     @Autowired
-    private QuizQuestionBankRepository quizQuestionBankRepository;
+    private QuizAnswerKeyCache quizAnswerKeyCache;
 
     @Autowired
     private UserRepository userRepository;
@@ -182,14 +180,26 @@ public class QuizController extends AbstractController {
             if (answers != null) {
                 for (Map.Entry<String, Object> entry : answers.entrySet()) {
                     Long questionId = Long.parseLong(entry.getKey());
-                    String answerText = entry.getValue() != null ? entry.getValue().toString() : null;
-                    studentAnswerService.saveAnswer(id, questionId, studentId, answerText);
+                    if (entry.getValue() == null) {
+                        // 未回答の設問は保存しない
+                        continue;
+                    }
+                    String answerText = entry.getValue().toString();
+                    studentAnswerService.submitAnswer(id, questionId, studentId, answerText);
+                    Boolean correct = quizAnswerKeyCache.get(questionId)
+                            .map(key -> key.matches(answerText))
+                            .orElse(null);
+                    answerStreamAggregator.recordQuizAnswer(id,
+                            new AnswerDeltaFrame.Entry(questionId, studentId, answerText, correct));
                 }
             }
 
-            messagingTemplate.convertAndSend("/topic/answers/" + id, answers);
+            answerStreamAggregator.sendLegacy(AnswerStreamAggregator.QUIZ_TOPIC_PREFIX + id, answers);
 
             return ResponseEntity.ok(quiz);
+        } catch (IllegalArgumentException e) {
+            logger.warn("クイズ回答保存バリデーションエラー: id={}, エラー: {}", id, e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.error("クイズ回答保存エラー: id={}", id, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -216,34 +226,24 @@ public class QuizController extends AbstractController {
             Long studentId = request.getStudentId();
             String answer = request.getAnswer();
 
-            QuizQuestionBank question = quizQuestionBankRepository.findById(questionId)
-                    .orElse(null);
-            if (question == null) {
+            AnswerKey answerKey = quizAnswerKeyCache.get(questionId).orElse(null);
+            if (answerKey == null) {
                 return ResponseEntity.notFound().build();
             }
 
-            Set<String> correctSet = question.getCorrectAnswer() == null ? new TreeSet<>()
-                    : Arrays.stream(question.getCorrectAnswer().split(","))
-                    .map(String::trim)
-                    .map(String::toLowerCase)
-                    .filter(s -> !s.isEmpty())
-                    .collect(Collectors.toCollection(TreeSet::new));
+            boolean correct = answerKey.matches(answer);
 
-            Set<String> answerSet = answer == null ? new TreeSet<>()
-                    : Arrays.stream(answer.split(","))
-                    .map(String::trim)
-                    .map(String::toLowerCase)
-                    .filter(s -> !s.isEmpty())
-                    .collect(Collectors.toCollection(TreeSet::new));
-
-            boolean correct = !correctSet.isEmpty() && correctSet.equals(answerSet);
-
-            studentAnswerService.saveAnswer(quizId, questionId, studentId, answer);
+            studentAnswerService.submitAnswer(quizId, questionId, studentId, answer);
+            answerStreamAggregator.recordQuizAnswer(quizId,
+                    new AnswerDeltaFrame.Entry(questionId, studentId, answer, correct));
 
             Map<String, Object> response = new HashMap<>();
             response.put("correct", correct);
-            response.put("explanation", question.getExplanation());
+            response.put("explanation", answerKey.getExplanation());
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            logger.warn("クイズ回答バリデーションエラー: questionId={}, エラー: {}", questionId, e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.error("クイズ回答処理エラー: questionId={}", questionId, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -389,35 +389,18 @@ public class QuizController extends AbstractController {
         try {
             logger.debug("回答一覧取得リクエスト: questionId={}", questionId);
             List<StudentAnswer> answers = studentAnswerService.getAnswersByQuestionId(questionId);
-            String correctAnswer = quizQuestionBankRepository.findById(questionId)
-                    .map(QuizQuestionBank::getCorrectAnswer)
-                    .orElse("");
+            AnswerKey answerKey = quizAnswerKeyCache.get(questionId)
+                    .orElse(AnswerKey.of(null, null));
 
-            Set<String> correctSet = correctAnswer == null ? new TreeSet<>()
-                    : Arrays.stream(correctAnswer.split(","))
-                    .map(String::trim)
-                    .map(String::toLowerCase)
-                    .filter(s -> !s.isEmpty())
-                    .collect(Collectors.toCollection(TreeSet::new));
+            Map<Long, String> studentNames = findStudentNames(answers);
 
             List<Map<String, Object>> result = answers.stream()
                     .map(a -> {
-                        String name = userRepository.findById(a.getStudentId())
-                                .map(User::getName)
-                                .orElse("不明");
+                        String name = studentNames.getOrDefault(a.getStudentId(), "不明");
                         Map<String, Object> map = new HashMap<>();
                         map.put("studentName", name);
                         map.put("answerText", a.getAnswerText());
-
-                        Set<String> answerSet = a.getAnswerText() == null ? new TreeSet<>()
-                                : Arrays.stream(a.getAnswerText().split(","))
-                                .map(String::trim)
-                                .map(String::toLowerCase)
-                                .filter(s -> !s.isEmpty())
-                                .collect(Collectors.toCollection(TreeSet::new));
-
-                        boolean correct = !correctSet.isEmpty() && correctSet.equals(answerSet);
-                        map.put("correct", correct);
+                        map.put("correct", answerKey.matches(a.getAnswerText()));
                         return map;
                     })
                     .collect(Collectors.toList());
@@ -428,6 +411,16 @@ public class QuizController extends AbstractController {
         }
     }
 
+    /** 回答者の学生名を一括取得 */
+    private Map<Long, String> findStudentNames(List<StudentAnswer> answers) {
+        List<Long> studentIds = answers.stream()
+                .map(StudentAnswer::getStudentId)
+                .distinct()
+                .collect(Collectors.toList());
+        return userRepository.findAllById(studentIds).stream()
+                .collect(Collectors.toMap(User::getId, User::getName, (a, b) -> a));
+    }
+
     // ===== 統計・分析機能 =====
 
     /**
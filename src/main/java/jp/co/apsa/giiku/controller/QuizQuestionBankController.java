@@ -5,6 +5,9 @@ import jp.co.apsa.giiku.service.QuizQuestionBankService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,7 +16,7 @@ import java.util.List;
 /**
  * クイズ問題バンクコントローラー
  *
- * クイズ問題の取得APIを提供します。
+ * クイズ問題の取得・検索・更新APIを提供します。
  *
  * @author 株式会社アプサ
  * @version 1.0
@@ -43,4 +46,36 @@ public class QuizQuestionBankController extends AbstractController {
         logger.debug("Returning {} quiz questions for lectureId={}", questions.size(), lectureId);
         return ResponseEntity.ok(questions);
     }
+
+    /** 問題文・選択肢・解説の全文検索（関連度順のページング） */
+    @GetMapping("/search")
+    public ResponseEntity<Page<QuizQuestionBank>> search(@RequestParam String query, Pageable pageable) {
+        Page<QuizQuestionBank> questions = quizQuestionBankService.search(query, pageable);
+        return ResponseEntity.ok(questions);
+    }
+
+    /** 新しいクイズ問題を作成 */
+    @PostMapping
+    public ResponseEntity<QuizQuestionBank> create(@RequestBody QuizQuestionBank question) {
+        question.setId(null);
+        QuizQuestionBank saved = quizQuestionBankService.save(question);
+        return ResponseEntity.status(HttpStatus.CREATED).body(saved);
+    }
+
+    /** クイズ問題を更新 */
+    @PutMapping("/{id}")
+    public ResponseEntity<QuizQuestionBank> update(@PathVariable Long id, @RequestBody QuizQuestionBank question) {
+        if (quizQuestionBankService.findById(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        question.setId(id);
+        return ResponseEntity.ok(quizQuestionBankService.save(question));
+    }
+
+    /** クイズ問題を削除 */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        quizQuestionBankService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
 }
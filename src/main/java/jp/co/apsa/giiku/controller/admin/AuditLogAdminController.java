@@ -0,0 +1,120 @@
+package jp.co.apsa.giiku.controller.admin;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import jp.co.apsa.giiku.dto.AuditLogPageDto;
+import jp.co.apsa.giiku.dto.AuditLogSearchDto;
+import jp.co.apsa.giiku.infrastructure.audit.AuditLogQueryService;
+import jp.co.apsa.giiku.infrastructure.audit.AuditLogRetentionService;
+
+/**
+ * 管理者向け監査ログ運用APIを提供するコントローラー。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@RestController
+@RequestMapping("/api/admin/audit-logs")
+public class AuditLogAdminController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogAdminController.class);
+
+    private final AuditLogRetentionService auditLogRetentionService;
+
+    private final AuditLogQueryService auditLogQueryService;
+    /** AuditLogAdminController メソッド */
+    public AuditLogAdminController(AuditLogRetentionService auditLogRetentionService,
+                                   AuditLogQueryService auditLogQueryService) {
+        this.auditLogRetentionService = auditLogRetentionService;
+        this.auditLogQueryService = auditLogQueryService;
+    }
+
+    /**
+     * 監査ログを新しい順に取得します（キーセットページング）。
+     *
+     * @param criteria 検索条件（指定した項目のみ適用）
+     * @param cursor   前ページの nextCursor（先頭ページは省略）
+     * @param size     ページサイズ
+     * @return 監査ログのページ
+     */
+    @GetMapping
+    public ResponseEntity<AuditLogPageDto> search(@ModelAttribute AuditLogSearchDto criteria,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(defaultValue = "50") int size) {
+        try {
+            return ResponseEntity.ok(auditLogQueryService.findPage(criteria, cursor, size));
+        } catch (IllegalArgumentException e) {
+            logger.warn("監査ログ検索パラメータエラー: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("監査ログ検索エラー", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 条件に一致する監査ログを NDJSON または CSV でストリーミング出力します。
+     *
+     * @param criteria 検索条件（指定した項目のみ適用）
+     * @param format   出力形式（ndjson / csv）
+     * @return ストリーミングレスポンス
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@ModelAttribute AuditLogSearchDto criteria,
+                                                        @RequestParam(defaultValue = "ndjson") String format) {
+        AuditLogQueryService.ExportFormat exportFormat;
+        try {
+            exportFormat = AuditLogQueryService.ExportFormat.of(format);
+        } catch (IllegalArgumentException e) {
+            logger.warn("監査ログエクスポート形式エラー: {}", format);
+            return ResponseEntity.badRequest().build();
+        }
+        boolean csv = exportFormat == AuditLogQueryService.ExportFormat.CSV;
+        logger.info("監査ログのエクスポートリクエスト: format={}", exportFormat);
+        StreamingResponseBody body = out -> auditLogQueryService.export(criteria, exportFormat, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"audit-logs." + (csv ? "csv" : "ndjson") + "\"")
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    /**
+     * 保持期間を過ぎた監査ログを削除します。
+     *
+     * @return 境界日時・削除したパーティション・チャンク削除した行数
+     */
+    @PostMapping("/purge")
+    public ResponseEntity<Map<String, Object>> purge() {
+        try {
+            logger.info("監査ログの保持期間削除リクエスト");
+            AuditLogRetentionService.PurgeResult result = auditLogRetentionService.purge();
+            Map<String, Object> response = new HashMap<>();
+            response.put("cutoff", result.getCutoff());
+            response.put("removedPartitions", result.getRemovedPartitions());
+            response.put("deletedRows", result.getDeletedRows());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            logger.error("監査ログの保持期間削除エラー", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package jp.co.apsa.giiku.controller.admin;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jp.co.apsa.giiku.service.ContentBlockSanitizeBackfill;
+
+/**
+ * 管理者向けコンテンツブロック運用APIを提供するコントローラー。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@RestController
+@RequestMapping("/api/admin/content-blocks")
+public class ContentBlockAdminController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentBlockAdminController.class);
+
+    private final ContentBlockSanitizeBackfill contentBlockSanitizeBackfill;
+    /** ContentBlockAdminController メソッド */
+    public ContentBlockAdminController(ContentBlockSanitizeBackfill contentBlockSanitizeBackfill) {
+        this.contentBlockSanitizeBackfill = contentBlockSanitizeBackfill;
+    }
+
+    /**
+     * サニタイズ済み内容が未生成のコンテンツブロックをバッチで生成します。
+     *
+     * @return 更新件数
+     */
+    @PostMapping("/sanitize")
+    public ResponseEntity<Map<String, Object>> backfillSanitizedContent() {
+        try {
+            logger.info("コンテンツブロックのサニタイズバックフィルリクエスト");
+            int updated = contentBlockSanitizeBackfill.run();
+            Map<String, Object> response = new HashMap<>();
+            response.put("updatedCount", updated);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            logger.error("コンテンツブロックのサニタイズバックフィルエラー", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
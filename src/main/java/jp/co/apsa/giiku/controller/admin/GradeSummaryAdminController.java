@@ -0,0 +1,54 @@
+package jp.co.apsa.giiku.controller.admin;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jp.co.apsa.giiku.service.StudentGradeSummaryService;
+
+/**
+ * 管理者向け成績サマリー運用APIを提供するコントローラー。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@RestController
+@RequestMapping("/api/admin/grade-summaries")
+public class GradeSummaryAdminController {
+
+    private static final Logger logger = LoggerFactory.getLogger(GradeSummaryAdminController.class);
+
+    private final StudentGradeSummaryService studentGradeSummaryService;
+
+    /** GradeSummaryAdminController メソッド */
+    public GradeSummaryAdminController(StudentGradeSummaryService studentGradeSummaryService) {
+        this.studentGradeSummaryService = studentGradeSummaryService;
+    }
+
+    /**
+     * 全学生の成績サマリーを再構築します。
+     *
+     * @return 更新件数
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild() {
+        try {
+            logger.info("成績サマリー再構築リクエスト");
+            int updated = studentGradeSummaryService.rebuildAll();
+            Map<String, Object> response = new HashMap<>();
+            response.put("updatedCount", updated);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            logger.error("成績サマリー再構築エラー", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
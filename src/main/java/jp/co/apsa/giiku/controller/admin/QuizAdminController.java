@@ -0,0 +1,58 @@
+package jp.co.apsa.giiku.controller.admin;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jp.co.apsa.giiku.service.QuizService;
+
+/**
+ * 管理者向けクイズ運用APIを提供するコントローラー。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@RestController
+@RequestMapping("/api/admin/quizzes")
+public class QuizAdminController {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuizAdminController.class);
+
+    private final QuizService quizService;
+    /** QuizAdminController メソッド */
+    public QuizAdminController(QuizService quizService) {
+        this.quizService = quizService;
+    }
+
+    /**
+     * 指定チャプターの提出済みクイズを一括で再採点します。
+     *
+     * @param chapterId チャプターID
+     * @return 再採点件数
+     */
+    @PostMapping("/chapters/{chapterId}/regrade")
+    public ResponseEntity<Map<String, Object>> regradeChapter(@PathVariable Long chapterId) {
+        try {
+            logger.info("チャプター再採点リクエスト: chapterId={}", chapterId);
+            int regraded = quizService.regradeByChapter(chapterId);
+            Map<String, Object> response = new HashMap<>();
+            response.put("chapterId", chapterId);
+            response.put("regradedCount", regraded);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("チャプター再採点エラー: chapterId={}", chapterId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
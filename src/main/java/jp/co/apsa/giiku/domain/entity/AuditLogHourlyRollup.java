@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 株式会社アプサ
+ * All rights reserved.
+ */
+package jp.co.apsa.giiku.domain.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 監査ログ時間別集計エンティティクラス
+ *
+ * 監査ログを1時間単位・操作種別・作成者・テーブル名ごとに集計した件数を保持する。
+ * AuditLogRollupService が確定した時間帯を順に集計し、レポート用の件数取得で生データの代わりに参照する。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Entity
+@Table(name = "audit_log_hourly_rollups",
+       uniqueConstraints = @UniqueConstraint(name = "uk_audit_log_hourly_rollups",
+               columnNames = {"bucket_start", "operation_type", "created_by", "table_name"}))
+@Data
+@NoArgsConstructor
+public class AuditLogHourlyRollup {
+
+    /** 集計ID（主キー） */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    /** 集計対象時間帯の開始日時（正時） */
+    @NotNull
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    /** 操作種別 */
+    @NotBlank
+    @Size(max = 20)
+    @Column(name = "operation_type", nullable = false, length = 20)
+    private String operationType;
+
+    /** 作成者ID */
+    @NotNull
+    @Column(name = "created_by", nullable = false)
+    private Long createdBy;
+
+    /** 対象テーブル名 */
+    @NotBlank
+    @Size(max = 100)
+    @Column(name = "table_name", nullable = false, length = 100)
+    private String tableName;
+
+    /** 件数 */
+    @NotNull
+    @Column(name = "event_count", nullable = false)
+    private Long eventCount;
+}
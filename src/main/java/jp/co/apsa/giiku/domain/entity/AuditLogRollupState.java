@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2025 株式会社アプサ
+ * All rights reserved.
+ */
+package jp.co.apsa.giiku.domain.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 監査ログ時間別集計の進捗エンティティクラス
+ *
+ * AuditLogRollupService が集計済みの終端と監査ログIDの走査位置を1行で保持する。
+ * 件数レポートは集計済みの終端より前の時間帯を時間別集計から取得する。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Entity
+@Table(name = "audit_log_rollup_state")
+@Data
+@NoArgsConstructor
+public class AuditLogRollupState {
+
+    /** 識別ID（常に1） */
+    @Id
+    @Column(name = "id")
+    private Short id;
+
+    /** 集計済みの終端 */
+    @Column(name = "rolled_up_until")
+    private LocalDateTime rolledUpUntil;
+
+    /** 次回の走査開始位置 */
+    @NotNull
+    @Column(name = "scan_from_log_id", nullable = false)
+    private Long scanFromLogId;
+
+    /** 前回の実行時点の最大ログID */
+    @NotNull
+    @Column(name = "last_seen_log_id", nullable = false)
+    private Long lastSeenLogId;
+
+    /** 更新日時 */
+    @NotNull
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
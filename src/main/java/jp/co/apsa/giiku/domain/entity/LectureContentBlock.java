@@ -40,6 +40,10 @@ public class LectureContentBlock extends AuditableEntity {
     @Column(name = "content", columnDefinition = "TEXT")
     private String content;
 
+    /** サニタイズ済みブロック内容（書き込み時に content から生成） */
+    @Column(name = "sanitized_content", columnDefinition = "TEXT")
+    private String sanitizedContent;
+
     /** 表示順 */
     @Column(name = "sort_order")
     private Integer sortOrder;
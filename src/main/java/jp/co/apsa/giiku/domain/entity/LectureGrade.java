@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
  * @since 2025
  */
 @Entity
-@Table(name = "lecture_grades")
+@Table(name = "lecture_grades", uniqueConstraints = {
+    @UniqueConstraint(name = "unique_lecture_assignment_grade", columnNames = {"training_assignment_id", "lecture_id"})
+})
 public class LectureGrade {
 
     @Id
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 株式会社アプサ
+ * All rights reserved.
+ */
+package jp.co.apsa.giiku.domain.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 通知アウトボックスエンティティクラス
+ *
+ * 業務データと同じトランザクションで書き込んだ送信待ちの通知を保持する。
+ * NotificationOutbox が送信待ちの行を取得して送信し、状態を更新する。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Entity
+@Table(name = "notification_outbox")
+@Data
+@NoArgsConstructor
+public class NotificationOutboxMessage {
+
+    /** 状態: 送信待ち */
+    public static final String STATUS_PENDING = "PENDING";
+
+    /** 状態: 送信済み */
+    public static final String STATUS_SENT = "SENT";
+
+    /** 状態: 送信失敗（再試行の上限に達した） */
+    public static final String STATUS_FAILED = "FAILED";
+
+    /** 通知ID（主キー） */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    /** 通知先（Slack ユーザーID） */
+    @NotBlank
+    @Size(max = 100)
+    @Column(name = "recipient", nullable = false, length = 100)
+    private String recipient;
+
+    /** 通知本文 */
+    @NotBlank
+    @Column(name = "message", nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    /** 緊急通知フラグ */
+    @NotNull
+    @Column(name = "urgent", nullable = false)
+    private Boolean urgent = false;
+
+    /** 状態 */
+    @NotBlank
+    @Size(max = 20)
+    @Column(name = "status", nullable = false, length = 20)
+    private String status = STATUS_PENDING;
+
+    /** 送信試行回数 */
+    @NotNull
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    /** 次に送信できる日時（取得中はリース期限） */
+    @NotNull
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /** 最後の送信エラー */
+    @Size(max = 500)
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /** 作成日時 */
+    @NotNull
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /** 送信日時 */
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
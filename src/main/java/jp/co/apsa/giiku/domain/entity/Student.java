@@ -0,0 +1,49 @@
+package jp.co.apsa.giiku.domain.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.Data;
+
+/**
+ * 受講者エンティティ
+ * studentsテーブルと対応し、ユーザー（users.id）と受講者（students.id）を対応付けます。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Entity
+@Table(name = "students")
+@Data
+public class Student {
+
+    /** 識別ID */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    /** ユーザーID（users.id） */
+    @Column(name = "user_id", nullable = false, unique = true)
+    private Long userId;
+
+    /** 受講者コード */
+    @Column(name = "student_code", length = 50, unique = true)
+    private String studentCode;
+
+    /** 所属会社ID */
+    @Column(name = "company_id")
+    private Long companyId;
+
+    /** 有効フラグ */
+    @Column(name = "is_active")
+    private Boolean isActive = true;
+
+    /** 作成日時 */
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    /** 更新日時 */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,53 @@
+package jp.co.apsa.giiku.domain.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.Data;
+
+/**
+ * 学生回答デッドレターエンティティ
+ * 制約違反で student_answers に書き込めなかった回答を保持します。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Entity
+@Table(name = "student_answer_dead_letters")
+@Data
+public class StudentAnswerDeadLetter {
+
+    /** 識別ID */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    /** クイズID */
+    @Column(name = "quiz_id", nullable = false)
+    private Long quizId;
+
+    /** 質問ID */
+    @Column(name = "question_id", nullable = false)
+    private Long questionId;
+
+    /** 学生ID */
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    /** 回答内容 */
+    @Column(name = "answer_text", columnDefinition = "TEXT")
+    private String answerText;
+
+    /** 回答日時 */
+    @Column(name = "submitted_at")
+    private LocalDateTime submittedAt;
+
+    /** 書き込みエラー */
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    /** 作成日時 */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -13,7 +13,9 @@ import java.math.BigDecimal;
  * @since 2025
  */
 @Entity
-@Table(name = "student_grade_summaries")
+@Table(name = "student_grade_summaries", uniqueConstraints = {
+    @UniqueConstraint(name = "unique_student_summary", columnNames = {"student_id", "lecture_id"})
+})
 public class StudentGradeSummary {
 
     @Id
@@ -0,0 +1,54 @@
+package jp.co.apsa.giiku.domain.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.Data;
+
+/**
+ * 研修配属エンティティ
+ * training_assignmentsテーブルと対応し、受講者の研修スケジュールへの配属を表します。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Entity
+@Table(name = "training_assignments")
+@Data
+public class TrainingAssignment {
+
+    /** 識別ID */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    /** 研修スケジュールID */
+    @Column(name = "training_schedule_id", nullable = false)
+    private Long trainingScheduleId;
+
+    /** 受講者ID（students.id） */
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    /** 配属日 */
+    @Column(name = "assignment_date")
+    private LocalDate assignmentDate;
+
+    /** ステータス（assigned, active, completed, dropped, transferred） */
+    @Column(name = "status", length = 20)
+    private String status;
+
+    /** 完了日 */
+    @Column(name = "completion_date")
+    private LocalDate completionDate;
+
+    /** 作成日時 */
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    /** 更新日時 */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
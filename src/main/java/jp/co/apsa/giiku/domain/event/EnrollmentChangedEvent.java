@@ -0,0 +1,55 @@
+package jp.co.apsa.giiku.domain.event;
+
+import jp.co.apsa.giiku.domain.entity.StudentEnrollment;
+
+/**
+ * 受講登録の状態変更を通知するドメインイベント。
+ * 新規作成の場合は変更前、削除の場合は変更後がnullです。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public final class EnrollmentChangedEvent {
+
+    private final Snapshot before;
+    private final Snapshot after;
+
+    /** EnrollmentChangedEvent メソッド */
+    public EnrollmentChangedEvent(Snapshot before, Snapshot after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    /** 変更前（新規作成の場合null） */
+    public Snapshot getBefore() { return before; }
+
+    /** 変更後（削除の場合null） */
+    public Snapshot getAfter() { return after; }
+
+    /** 受講登録の集計対象値 */
+    public static final class Snapshot {
+        private final Long companyId;
+        private final String enrollmentStatus;
+
+        /** Snapshot メソッド */
+        public Snapshot(Long companyId, String enrollmentStatus) {
+            this.companyId = companyId;
+            this.enrollmentStatus = enrollmentStatus;
+        }
+
+        /**
+         * 受講登録の現在の状態を取得します。
+         *
+         * @param enrollment 受講登録（null許可）
+         * @return スナップショット（受講登録がnullの場合null）
+         */
+        public static Snapshot of(StudentEnrollment enrollment) {
+            return enrollment != null
+                    ? new Snapshot(enrollment.getCompanyId(), enrollment.getEnrollmentStatus()) : null;
+        }
+
+        public Long getCompanyId() { return companyId; }
+        public String getEnrollmentStatus() { return enrollmentStatus; }
+    }
+}
@@ -0,0 +1,23 @@
+package jp.co.apsa.giiku.domain.event;
+
+/**
+ * 演習問題への回答を通知するドメインイベント。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public final class ExerciseAnsweredEvent {
+
+    private final Long questionId;
+    private final Long studentId;
+
+    /** ExerciseAnsweredEvent メソッド */
+    public ExerciseAnsweredEvent(Long questionId, Long studentId) {
+        this.questionId = questionId;
+        this.studentId = studentId;
+    }
+
+    public Long getQuestionId() { return questionId; }
+    public Long getStudentId() { return studentId; }
+}
@@ -0,0 +1,23 @@
+package jp.co.apsa.giiku.domain.event;
+
+/**
+ * 模擬試験結果の記録を通知するドメインイベント。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public final class MockTestResultRecordedEvent {
+
+    private final Long testId;
+    private final Long studentId;
+
+    /** MockTestResultRecordedEvent メソッド */
+    public MockTestResultRecordedEvent(Long testId, Long studentId) {
+        this.testId = testId;
+        this.studentId = studentId;
+    }
+
+    public Long getTestId() { return testId; }
+    public Long getStudentId() { return studentId; }
+}
@@ -0,0 +1,73 @@
+package jp.co.apsa.giiku.domain.event;
+
+import jp.co.apsa.giiku.domain.entity.Quiz;
+
+/**
+ * クイズの状態変更を通知するドメインイベント。
+ *
+ * <p>変更前・変更後の集計に必要な値だけを保持します。新規作成の場合は変更前、削除の場合は変更後がnullです。
+ * ダッシュボード統計は変更前の分を差し引き、変更後の分を加算します。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public final class QuizChangedEvent {
+
+    private final Snapshot before;
+    private final Snapshot after;
+
+    /** QuizChangedEvent メソッド */
+    public QuizChangedEvent(Snapshot before, Snapshot after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    /** 変更前（新規作成の場合null） */
+    public Snapshot getBefore() { return before; }
+
+    /** 変更後（削除の場合null） */
+    public Snapshot getAfter() { return after; }
+
+    /** クイズの集計対象値 */
+    public static final class Snapshot {
+        private final Long companyId;
+        private final Long studentId;
+        private final Long chapterId;
+        private final String status;
+        private final Double score;
+        private final boolean passed;
+
+        /** Snapshot メソッド */
+        public Snapshot(Long companyId, Long studentId, Long chapterId, String status, Double score,
+                        boolean passed) {
+            this.companyId = companyId;
+            this.studentId = studentId;
+            this.chapterId = chapterId;
+            this.status = status;
+            this.score = score;
+            this.passed = passed;
+        }
+
+        /**
+         * クイズの現在の状態を取得します。
+         *
+         * @param quiz クイズ（null許可）
+         * @return スナップショット（クイズがnullの場合null）
+         */
+        public static Snapshot of(Quiz quiz) {
+            if (quiz == null) {
+                return null;
+            }
+            return new Snapshot(quiz.getCompanyId(), quiz.getStudentId(), quiz.getChapterId(), quiz.getStatus(),
+                    quiz.getScore(), Boolean.TRUE.equals(quiz.getIsPassed()));
+        }
+
+        public Long getCompanyId() { return companyId; }
+        public Long getStudentId() { return studentId; }
+        public Long getChapterId() { return chapterId; }
+        public String getStatus() { return status; }
+        public Double getScore() { return score; }
+        public boolean isPassed() { return passed; }
+    }
+}
@@ -0,0 +1,54 @@
+package jp.co.apsa.giiku.domain.event;
+
+import jp.co.apsa.giiku.domain.entity.StudentProfile;
+
+/**
+ * 学生プロフィールの状態変更を通知するドメインイベント。
+ * 新規作成の場合は変更前、削除の場合は変更後がnullです。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public final class StudentChangedEvent {
+
+    private final Snapshot before;
+    private final Snapshot after;
+
+    /** StudentChangedEvent メソッド */
+    public StudentChangedEvent(Snapshot before, Snapshot after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    /** 変更前（新規作成の場合null） */
+    public Snapshot getBefore() { return before; }
+
+    /** 変更後（削除の場合null） */
+    public Snapshot getAfter() { return after; }
+
+    /** 学生プロフィールの集計対象値 */
+    public static final class Snapshot {
+        private final Long companyId;
+        private final String enrollmentStatus;
+
+        /** Snapshot メソッド */
+        public Snapshot(Long companyId, String enrollmentStatus) {
+            this.companyId = companyId;
+            this.enrollmentStatus = enrollmentStatus;
+        }
+
+        /**
+         * 学生プロフィールの現在の状態を取得します。
+         *
+         * @param profile 学生プロフィール（null許可）
+         * @return スナップショット（学生プロフィールがnullの場合null）
+         */
+        public static Snapshot of(StudentProfile profile) {
+            return profile != null ? new Snapshot(profile.getCompanyId(), profile.getEnrollmentStatus()) : null;
+        }
+
+        public Long getCompanyId() { return companyId; }
+        public String getEnrollmentStatus() { return enrollmentStatus; }
+    }
+}
@@ -0,0 +1,59 @@
+package jp.co.apsa.giiku.domain.event;
+
+/**
+ * ユーザーの登録・削除を通知するドメインイベント。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public final class UserChangedEvent {
+
+    private final Long userId;
+    private final String username;
+    private final int delta;
+
+    private UserChangedEvent(Long userId, String username, int delta) {
+        this.userId = userId;
+        this.username = username;
+        this.delta = delta;
+    }
+
+    /**
+     * ユーザー登録イベントを生成します。
+     *
+     * @param userId   ユーザーID
+     * @param username ユーザー名
+     * @return イベント
+     */
+    public static UserChangedEvent created(Long userId, String username) {
+        return new UserChangedEvent(userId, username, 1);
+    }
+
+    /**
+     * ユーザー更新イベントを生成します（ユーザー数は変わりません）。
+     *
+     * @param userId   ユーザーID
+     * @param username ユーザー名
+     * @return イベント
+     */
+    public static UserChangedEvent updated(Long userId, String username) {
+        return new UserChangedEvent(userId, username, 0);
+    }
+
+    /**
+     * ユーザー削除イベントを生成します。
+     *
+     * @param userId   ユーザーID
+     * @param username ユーザー名
+     * @return イベント
+     */
+    public static UserChangedEvent deleted(Long userId, String username) {
+        return new UserChangedEvent(userId, username, -1);
+    }
+
+    public Long getUserId() { return userId; }
+    public String getUsername() { return username; }
+    /** ユーザー数の増減（登録 +1、更新 0、削除 -1） */
+    public int getDelta() { return delta; }
+}
@@ -1,9 +1,11 @@
 package jp.co.apsa.giiku.domain.port;
 
+import jp.co.apsa.giiku.domain.valueobject.AuditEvent;
 import jp.co.apsa.giiku.domain.valueobject.LogLevel;
 
 /**
  * Port for application logging.
+ * Implementations must not block the caller on audit I/O.
  * @author 株式会社アプサ
  * @version 1.0
  * @since 2025
@@ -17,4 +19,11 @@ public interface AuditPort {
      * @param message message body
      */
     void log(LogLevel level, String message);
+
+    /**
+     * Record a structured audit event (table operation).
+     *
+     * @param event audit event
+     */
+    void record(AuditEvent event);
 }
@@ -4,9 +4,11 @@ import jp.co.apsa.giiku.domain.entity.AuditLog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -20,13 +22,15 @@ import java.util.List;
  * - ページネーション機能の実装
  * - 日時範囲検索の実装
  * - セキュリティ監査機能の重要性
+ *
+ * 期間別の件数レポートは {@link AuditLogRepositoryCustom} で時間別集計テーブルから取得する。
  * 
  * @author 株式会社アプサ
  * @since 2025
  * @version 1.0
  */
 @Repository
-public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
+public interface AuditLogRepository extends JpaRepository<AuditLog, Long>, AuditLogRepositoryCustom {
 
     /**
      * 作成者IDで監査ログを検索（ページネーション対応）
@@ -78,76 +82,6 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
     Page<AuditLog> findByCreatedAtBetweenOrderByCreatedAtDesc(
         LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
 
-    /**
-     * 複合条件での監査ログ検索
-     *
-     * @param createdBy 作成者ID（null許可）
-     * @param tableName テーブル名（null許可）
-     * @param operationType 操作種別（null許可）
-     * @param startDate 開始日時（null許可）
-     * @param endDate 終了日時（null許可）
-     * @param pageable ページネーション情報
-     * @return 監査ログのページ
-     */
-    @Query("SELECT al FROM AuditLog al " +
-           "WHERE (:createdBy IS NULL OR al.createdBy = :createdBy) " +
-           "AND (:tableName IS NULL OR al.tableName = :tableName) " +
-           "AND (:operationType IS NULL OR al.operationType = :operationType) " +
-           "AND (:startDate IS NULL OR al.createdAt >= :startDate) " +
-           "AND (:endDate IS NULL OR al.createdAt <= :endDate) " +
-           "ORDER BY al.createdAt DESC")
-    Page<AuditLog> findByComplexConditions(
-        @Param("createdBy") Long createdBy,
-        @Param("tableName") String tableName,
-        @Param("operationType") String operationType,
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate,
-        Pageable pageable);
-
-    /**
-     * 特定期間の監査ログ件数を取得
-     * 統計・レポート用
-     * 
-     * @param startDate 開始日時
-     * @param endDate 終了日時
-     * @return ログ件数
-     */
-    @Query("SELECT COUNT(al) FROM AuditLog al " +
-           "WHERE al.createdAt BETWEEN :startDate AND :endDate")
-    long countByCreatedAtBetween(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate);
-
-    /**
-     * 操作種別別の集計データを取得
-     *
-     * @param startDate 開始日時
-     * @param endDate 終了日時
-     * @return 操作種別別件数
-     */
-    @Query("SELECT al.operationType, COUNT(al) AS cnt FROM AuditLog al " +
-           "WHERE al.createdAt BETWEEN :startDate AND :endDate " +
-           "GROUP BY al.operationType " +
-           "ORDER BY cnt DESC")
-    List<Object[]> countByOperationTypeAndCreatedAtBetween(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate);
-
-    /**
-     * 作成者別の活動集計データを取得
-     *
-     * @param startDate 開始日時
-     * @param endDate 終了日時
-     * @return 作成者別活動件数
-     */
-    @Query("SELECT al.createdBy, COUNT(al) AS cnt FROM AuditLog al " +
-           "WHERE al.createdAt BETWEEN :startDate AND :endDate " +
-           "GROUP BY al.createdBy " +
-           "ORDER BY cnt DESC")
-    List<Object[]> countByCreatedByAndCreatedAtBetween(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate);
-
     /**
      * 古い監査ログを削除（データ保持ポリシー用）
      * 
@@ -156,9 +90,14 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
      * - 大量データの効率的な削除
      * - パフォーマンスを考慮したバッチ処理
      * 
+     * 1文で全件を削除するため、本番規模のデータには
+     * パーティション単位・チャンク単位で削除する AuditLogRetentionService を使用すること。
+     *
      * @param cutoffDate 削除対象の境界日時
      * @return 削除された件数
      */
+    @Modifying
+    @Transactional
     @Query("DELETE FROM AuditLog al WHERE al.createdAt < :cutoffDate")
     int deleteByCreatedAtBefore(@Param("cutoffDate") LocalDateTime cutoffDate);
 
@@ -0,0 +1,45 @@
+package jp.co.apsa.giiku.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 監査ログの件数レポート用リポジトリフラグメント
+ *
+ * 集計済みの時間帯は audit_log_hourly_rollups から、それ以外（範囲の端数・未集計の直近分）だけを
+ * audit_logs から数えて合算する。
+ *
+ * @author 株式会社アプサ
+ * @since 2025
+ * @version 1.0
+ */
+public interface AuditLogRepositoryCustom {
+
+    /**
+     * 特定期間の監査ログ件数を取得
+     * 統計・レポート用
+     *
+     * @param startDate 開始日時
+     * @param endDate 終了日時（この日時を含む）
+     * @return ログ件数
+     */
+    long countByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * 操作種別別の集計データを取得
+     *
+     * @param startDate 開始日時
+     * @param endDate 終了日時（この日時を含む）
+     * @return 操作種別別件数（[操作種別, 件数] の件数降順）
+     */
+    List<Object[]> countByOperationTypeAndCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * 作成者別の活動集計データを取得
+     *
+     * @param startDate 開始日時
+     * @param endDate 終了日時（この日時を含む）
+     * @return 作成者別活動件数（[作成者ID, 件数] の件数降順）
+     */
+    List<Object[]> countByCreatedByAndCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
+}
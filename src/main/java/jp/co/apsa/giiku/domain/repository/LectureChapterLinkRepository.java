@@ -79,4 +79,13 @@ public interface LectureChapterLinkRepository extends JpaRepository<LectureChapt
      * @param chapterId チャプターID
      */
     void deleteByChapterId(Long chapterId);
+
+    /**
+     * チャプターが属する講義IDを取得
+     *
+     * @param chapterId チャプターID
+     * @return 講義ID一覧
+     */
+    @Query("SELECT l.lectureId FROM LectureChapterLink l WHERE l.chapter.id = :chapterId")
+    List<Long> findLectureIdsByChapterId(@Param("chapterId") Long chapterId);
 }
@@ -3,6 +3,7 @@ package jp.co.apsa.giiku.domain.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import jp.co.apsa.giiku.domain.entity.LectureContentBlock;
@@ -18,4 +19,12 @@ import jp.co.apsa.giiku.domain.entity.LectureContentBlock;
 public interface LectureContentBlockRepository extends JpaRepository<LectureContentBlock, Long> {
     
     List<LectureContentBlock> findByChapterIdOrderBySortOrder(Long chapterId);
+
+    /**
+     * 複数チャプターのコンテンツブロックを1回のクエリで取得します。
+     *
+     * @param chapterIds チャプターID一覧
+     * @return チャプターID順・ソート順のコンテンツブロック一覧
+     */
+    List<LectureContentBlock> findByChapterIdInOrderByChapterIdAscSortOrderAsc(Collection<Long> chapterIds);
 }
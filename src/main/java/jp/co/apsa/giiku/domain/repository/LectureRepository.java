@@ -29,6 +29,21 @@ public interface LectureRepository extends JpaRepository<Lecture, Long>, JpaSpec
     @Query("SELECT l FROM Lecture l WHERE l.dayId = :dayId ORDER BY l.lectureNumber ASC")
     List<Lecture> findByDayIdOrderByLectureNumber(@Param("dayId") Long dayId);
 
+    /**
+     * 講義と所属する日・週・月を1回のクエリで取得
+     * 各行は [Lecture, Day, Week, Month] で、未設定の階層はnull
+     */
+    @Query("SELECT l, d, w, m FROM Lecture l LEFT JOIN Day d ON d.id = l.dayId "
+            + "LEFT JOIN Week w ON w.id = d.weekId LEFT JOIN Month m ON m.id = w.monthId WHERE l.id = :id")
+    List<Object[]> findWithHierarchyById(@Param("id") Long id);
+
+    /**
+     * カリキュラムツリー用の講義概要を取得（本文などの大きな列は読み込まない）
+     * 各行は [id, dayId, lectureNumber, title]
+     */
+    @Query("SELECT l.id, l.dayId, l.lectureNumber, l.title FROM Lecture l")
+    List<Object[]> findOutlines();
+
     default List<Lecture> findByTrainingProgramIdAndIsActiveTrue(Long trainingProgramId) {
         return findAll();
     }
@@ -0,0 +1,60 @@
+package jp.co.apsa.giiku.domain.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jp.co.apsa.giiku.domain.entity.MockTestResult;
+
+/**
+ * MockTestResultのリポジトリインターフェース
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Repository
+public interface MockTestResultRepository extends JpaRepository<MockTestResult, Long> {
+
+    /**
+     * 学生IDで結果を新しい順に取得
+     *
+     * @param studentId 学生ID
+     * @param pageable ページ情報
+     * @return 結果ページ
+     */
+    Page<MockTestResult> findByStudentIdOrderByCreatedAtDesc(Long studentId, Pageable pageable);
+
+    /**
+     * 模擬試験IDで結果を新しい順に取得
+     *
+     * @param testId 模擬試験ID
+     * @param pageable ページ情報
+     * @return 結果ページ
+     */
+    Page<MockTestResult> findByTestIdOrderByCreatedAtDesc(Long testId, Pageable pageable);
+
+    /**
+     * 学生の模擬試験ごとの最高得点を取得
+     *
+     * @param studentId 学生ID
+     * @return 模擬試験ごとの最高得点
+     */
+    @Query("SELECT MAX(r.score) FROM MockTestResult r WHERE r.studentId = :studentId AND r.score IS NOT NULL "
+            + "GROUP BY r.testId")
+    List<BigDecimal> findBestScoresByStudentId(@Param("studentId") Long studentId);
+
+    /**
+     * 結果のある学生IDを取得
+     *
+     * @return 学生ID一覧
+     */
+    @Query("SELECT DISTINCT r.studentId FROM MockTestResult r")
+    List<Long> findDistinctStudentIds();
+}
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import jp.co.apsa.giiku.domain.entity.QuestionBank;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -66,9 +67,27 @@ public interface QuestionBankRepository extends JpaRepository<QuestionBank, Long
      * @param lectureId 講義ID
      * @return 該当する有効な問題一覧
      */
-    @Query("SELECT q FROM QuestionBank q JOIN q.chapter c JOIN LectureChapterLink l ON c = l.chapter WHERE l.lectureId = :lectureId AND q.isActive = true ORDER BY l.sortOrder, q.questionNumber")
+    @Query("SELECT q FROM QuestionBank q JOIN FETCH q.chapter c JOIN LectureChapterLink l ON c = l.chapter WHERE l.lectureId = :lectureId AND q.isActive = true ORDER BY l.sortOrder, q.questionNumber")
     List<QuestionBank> findByLectureIdOrderByChapterAndQuestionNumber(@Param("lectureId") Long lectureId);
 
+    /**
+     * 指定IDの問題の解答キー（ID・正解・配点）をまとめて取得します。
+     *
+     * @param ids 問題IDの集合
+     * @return ID、正解、配点の配列リスト
+     */
+    @Query("SELECT q.id, q.correctAnswer, q.points FROM QuestionBank q WHERE q.id IN :ids")
+    List<Object[]> findAnswerKeysByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 指定IDの問題が属する講義IDをまとめて取得します。
+     *
+     * @param ids 問題IDの集合
+     * @return 問題ID、講義IDの配列リスト
+     */
+    @Query("SELECT q.id, l.lectureId FROM QuestionBank q JOIN LectureChapterLink l ON l.chapter = q.chapter WHERE q.id IN :ids")
+    List<Object[]> findLectureIdsByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * 難易度別の問題数を取得します。
      *
@@ -32,6 +32,6 @@ public interface QuizQuestionBankRepository extends JpaRepository<QuizQuestionBa
      * @param lectureId 講義ID
      * @return クイズ問題一覧
      */
-    @Query("SELECT q FROM QuizQuestionBank q JOIN q.chapter c JOIN LectureChapterLink l ON c = l.chapter WHERE l.lectureId = :lectureId AND q.isActive = true ORDER BY l.sortOrder, q.questionNumber")
+    @Query("SELECT q FROM QuizQuestionBank q JOIN FETCH q.chapter c JOIN LectureChapterLink l ON c = l.chapter WHERE l.lectureId = :lectureId AND q.isActive = true ORDER BY l.sortOrder, q.questionNumber")
     List<QuizQuestionBank> findByLectureIdOrderByChapterAndQuestionNumber(@Param("lectureId") Long lectureId);
 }
@@ -3,9 +3,11 @@ package jp.co.apsa.giiku.domain.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import jp.co.apsa.giiku.domain.entity.Quiz;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -68,6 +70,17 @@ public interface QuizRepository extends JpaRepository<Quiz, Long>, JpaSpecificat
      */
     List<Quiz> findByStudentIdAndQuizStatusOrderByEndTimeDesc(Long studentId, String quizStatus);
 
+    /**
+     * チャプターIDとクイズステータスでクイズを取得
+     *
+     * @param chapterId チャプターID
+     * @param quizStatuses クイズステータスの集合
+     * @return クイズリスト
+     */
+    @Query("SELECT q FROM Quiz q WHERE q.chapter.id = :chapterId AND q.quizStatus IN :quizStatuses")
+    List<Quiz> findByChapterIdAndQuizStatusIn(@Param("chapterId") Long chapterId,
+                                              @Param("quizStatuses") Collection<String> quizStatuses);
+
     /**
      * プログラム別平均スコアを取得
      *
@@ -102,4 +115,36 @@ public interface QuizRepository extends JpaRepository<Quiz, Long>, JpaSpecificat
      * @return 件数
      */
     long countByStudentId(Long studentId);
+
+    /**
+     * 企業・ステータスごとのクイズ数・採点済み件数・得点合計・合格数を集計します。
+     * ダッシュボード統計の突き合わせに使用します。
+     *
+     * @return [企業ID, ステータス, 件数, 得点のある件数, 得点合計, 合格数] の配列リスト
+     */
+    @Query("SELECT q.companyId, q.quizStatus, COUNT(q), COUNT(q.percentageScore), SUM(q.percentageScore), "
+            + "SUM(CASE WHEN q.isPassed = true THEN 1 ELSE 0 END) FROM Quiz q "
+            + "GROUP BY q.companyId, q.quizStatus")
+    List<Object[]> summarizeGroupByCompanyIdAndStatus();
+
+    /**
+     * 学生のクイズ平均得点率を講義ごとに集計します（チャプターが講義に紐づくクイズのみ）。
+     *
+     * @param studentId 学生ID
+     * @param quizStatuses 集計対象のステータス
+     * @return [講義ID, 平均得点率] の配列リスト
+     */
+    @Query("SELECT l.lectureId, AVG(q.percentageScore) FROM Quiz q JOIN LectureChapterLink l ON l.chapter = q.chapter "
+            + "WHERE q.studentId = :studentId AND q.quizStatus IN :quizStatuses AND q.percentageScore IS NOT NULL "
+            + "GROUP BY l.lectureId")
+    List<Object[]> averageScoreGroupByLectureId(@Param("studentId") Long studentId,
+                                                @Param("quizStatuses") Collection<String> quizStatuses);
+
+    /**
+     * クイズのある学生IDを取得
+     *
+     * @return 学生ID一覧
+     */
+    @Query("SELECT DISTINCT q.studentId FROM Quiz q")
+    List<Long> findDistinctStudentIds();
 }
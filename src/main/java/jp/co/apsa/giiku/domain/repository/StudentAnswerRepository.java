@@ -3,6 +3,8 @@ package jp.co.apsa.giiku.domain.repository;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import jp.co.apsa.giiku.domain.entity.StudentAnswer;
 
@@ -35,6 +37,23 @@ public interface StudentAnswerRepository extends JpaRepository<StudentAnswer, Lo
      */
     List<StudentAnswer> findByQuizIdAndStudentId(Long quizId, Long studentId);
 
+    /**
+     * クイズIDで回答を取得
+     *
+     * @param quizId クイズID
+     * @return 回答一覧
+     */
+    List<StudentAnswer> findByQuizId(Long quizId);
+
+    /**
+     * クイズIDと質問IDで回答を取得
+     *
+     * @param quizId クイズID
+     * @param questionId 質問ID
+     * @return 回答一覧
+     */
+    List<StudentAnswer> findByQuizIdAndQuestionId(Long quizId, Long questionId);
+
     /**
      * 質問IDで回答を取得
      *
@@ -42,4 +61,13 @@ public interface StudentAnswerRepository extends JpaRepository<StudentAnswer, Lo
      * @return 回答一覧
      */
     List<StudentAnswer> findAllByQuestionId(Long questionId);
+
+    /**
+     * クイズIDの回答がある学生IDを取得（演習回答はクイズID 0）
+     *
+     * @param quizId クイズID
+     * @return 学生ID一覧
+     */
+    @Query("SELECT DISTINCT a.studentId FROM StudentAnswer a WHERE a.quizId = :quizId")
+    List<Long> findDistinctStudentIdsByQuizId(@Param("quizId") Long quizId);
 }
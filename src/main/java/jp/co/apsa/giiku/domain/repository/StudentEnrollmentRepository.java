@@ -41,4 +41,14 @@ public interface StudentEnrollmentRepository
     boolean existsByStudentIdAndProgramId(Long studentId, Long programId);
 
     long countByEnrollmentStatus(String status);
+
+    /**
+     * 企業・受講状況ごとの受講登録数を集計します。
+     * ダッシュボード統計の突き合わせに使用します。
+     *
+     * @return [企業ID, 受講状況, 件数] の配列リスト
+     */
+    @Query("SELECT se.companyId, se.enrollmentStatus, COUNT(se) FROM StudentEnrollment se "
+            + "GROUP BY se.companyId, se.enrollmentStatus")
+    List<Object[]> countGroupByCompanyIdAndEnrollmentStatus();
 }
@@ -1,6 +1,11 @@
 package jp.co.apsa.giiku.domain.repository;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import jp.co.apsa.giiku.domain.entity.StudentGradeSummary;
 
@@ -13,6 +18,38 @@ import jp.co.apsa.giiku.domain.entity.StudentGradeSummary;
  */
 @Repository
 public interface StudentGradeSummaryRepository extends JpaRepository<StudentGradeSummary, Long> {
-    // カスタムクエリメソッドをここに追加
-}
 
+    /**
+     * 学生・講義の成績サマリーを取得
+     *
+     * @param studentId 受講者ID（students.id）
+     * @param lectureId 講義ID
+     * @return 成績サマリー
+     */
+    Optional<StudentGradeSummary> findByStudentIdAndLectureId(Long studentId, Long lectureId);
+
+    /**
+     * 学生の成績サマリーを講義順に取得
+     *
+     * @param studentId 学生ID
+     * @return 成績サマリー一覧
+     */
+    List<StudentGradeSummary> findByStudentIdOrderByLectureId(Long studentId);
+
+    /**
+     * 学生の成績サマリーがある講義IDを取得
+     *
+     * @param studentId 受講者ID（students.id）
+     * @return 講義ID一覧
+     */
+    @Query("SELECT s.lectureId FROM StudentGradeSummary s WHERE s.studentId = :studentId")
+    List<Long> findLectureIdsByStudentId(@Param("studentId") Long studentId);
+
+    /**
+     * 成績サマリーのある受講者のユーザーIDを取得
+     *
+     * @return ユーザーID（users.id）一覧
+     */
+    @Query("SELECT DISTINCT st.userId FROM Student st WHERE st.id IN (SELECT s.studentId FROM StudentGradeSummary s)")
+    List<Long> findDistinctStudentUserIds();
+}
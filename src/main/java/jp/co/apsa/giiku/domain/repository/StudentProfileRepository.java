@@ -86,4 +86,14 @@ public interface StudentProfileRepository extends JpaRepository<StudentProfile,
      */
     @Query("SELECT sp.gradeLevel, COUNT(sp) FROM StudentProfile sp WHERE sp.companyId = :companyId GROUP BY sp.gradeLevel")
     List<Object[]> countByGradeLevelAndCompanyId(Long companyId);
+
+    /**
+     * 企業・在籍状況ごとの学生数を集計します。
+     * ダッシュボード統計の突き合わせに使用します。
+     *
+     * @return [企業ID, 在籍状況, 学生数] の配列リスト
+     */
+    @Query("SELECT sp.companyId, sp.enrollmentStatus, COUNT(sp) FROM StudentProfile sp "
+            + "GROUP BY sp.companyId, sp.enrollmentStatus")
+    List<Object[]> countGroupByCompanyIdAndEnrollmentStatus();
 }
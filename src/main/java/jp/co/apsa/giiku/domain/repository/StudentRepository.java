@@ -0,0 +1,29 @@
+package jp.co.apsa.giiku.domain.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import jp.co.apsa.giiku.domain.entity.Student;
+
+/**
+ * Studentのリポジトリインターフェース
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Repository
+public interface StudentRepository extends JpaRepository<Student, Long> {
+
+    /**
+     * ユーザーIDに対応する受講者IDを取得
+     *
+     * @param userId ユーザーID（users.id）
+     * @return 受講者ID（students.id）
+     */
+    @Query("SELECT s.id FROM Student s WHERE s.userId = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") Long userId);
+}
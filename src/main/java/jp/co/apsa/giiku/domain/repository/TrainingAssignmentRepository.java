@@ -0,0 +1,35 @@
+package jp.co.apsa.giiku.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import jp.co.apsa.giiku.domain.entity.TrainingAssignment;
+
+/**
+ * TrainingAssignmentのリポジトリインターフェース
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Repository
+public interface TrainingAssignmentRepository extends JpaRepository<TrainingAssignment, Long> {
+
+    /**
+     * ユーザーの指定ステータスの配属IDを配属日の新しい順に取得
+     *
+     * @param userId ユーザーID（users.id）
+     * @param statuses 対象ステータス
+     * @param pageable 取得件数
+     * @return 配属ID一覧
+     */
+    @Query("SELECT ta.id FROM TrainingAssignment ta, Student s WHERE s.id = ta.studentId AND s.userId = :userId "
+            + "AND ta.status IN :statuses ORDER BY ta.assignmentDate DESC, ta.id DESC")
+    List<Long> findIdsByUserIdAndStatusIn(@Param("userId") Long userId,
+                                          @Param("statuses") Collection<String> statuses, Pageable pageable);
+}
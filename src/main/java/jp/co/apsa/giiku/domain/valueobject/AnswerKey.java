@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2024 株式会社アプサ
+ * All rights reserved.
+ */
+package jp.co.apsa.giiku.domain.valueobject;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * クイズ問題の解答キーを表すValue Objectクラス。
+ *
+ * <p>カンマ区切りの正解文字列を、前後空白の除去・小文字化・空要素の除外を行った
+ * 集合として保持します。回答も同じ規則で正規化し、集合が一致する場合に正解と判定します。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public final class AnswerKey {
+
+    /** 正規化済みの正解集合 */
+    private final Set<String> correctAnswers;
+
+    /** 解説 */
+    private final String explanation;
+
+    private AnswerKey(Set<String> correctAnswers, String explanation) {
+        this.correctAnswers = correctAnswers;
+        this.explanation = explanation;
+    }
+
+    /**
+     * 正解文字列と解説から解答キーを作成します。
+     *
+     * @param correctAnswer カンマ区切りの正解文字列
+     * @param explanation 解説
+     * @return 解答キー
+     */
+    public static AnswerKey of(String correctAnswer, String explanation) {
+        return new AnswerKey(Collections.unmodifiableSet(normalize(correctAnswer)), explanation);
+    }
+
+    /**
+     * カンマ区切りの回答文字列を正規化した集合に変換します。
+     *
+     * @param answer カンマ区切りの回答文字列
+     * @return 正規化された回答集合（nullの場合は空集合）
+     */
+    public static Set<String> normalize(String answer) {
+        Set<String> result = new TreeSet<>();
+        if (answer == null) {
+            return result;
+        }
+        for (String part : answer.split(",")) {
+            String value = part.trim().toLowerCase();
+            if (!value.isEmpty()) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 回答が正解かどうかを判定します。
+     *
+     * @param answer カンマ区切りの回答文字列
+     * @return 正解の場合true（正解が未設定の場合は常にfalse）
+     */
+    public boolean matches(String answer) {
+        return !correctAnswers.isEmpty() && correctAnswers.equals(normalize(answer));
+    }
+
+    /**
+     * 正規化済みの正解集合を取得します。
+     *
+     * @return 変更不可の正解集合
+     */
+    public Set<String> getCorrectAnswers() {
+        return correctAnswers;
+    }
+
+    /**
+     * 解説を取得します。
+     *
+     * @return 解説
+     */
+    public String getExplanation() {
+        return explanation;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        AnswerKey other = (AnswerKey) obj;
+        return correctAnswers.equals(other.correctAnswers) && Objects.equals(explanation, other.explanation);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(correctAnswers, explanation);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("AnswerKey{correctAnswers=%s}", correctAnswers);
+    }
+}
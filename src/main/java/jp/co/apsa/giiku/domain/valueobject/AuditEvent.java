@@ -0,0 +1,119 @@
+package jp.co.apsa.giiku.domain.valueobject;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 監査ログ1件分のイベントを表すValue Objectクラス。
+ *
+ * <p>リクエストスレッドで生成され、監査ログの書き込みスレッドで {@code audit_logs} に保存されます。
+ * 生成時にDBへアクセスしないよう、ユーザーIDが不明な場合は {@link #SYSTEM_USER_ID} を使用します。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public final class AuditEvent {
+
+    /** ユーザーが特定できない操作（バッチ処理など）の作成者ID */
+    public static final long SYSTEM_USER_ID = 0L;
+
+    /** アプリケーションログを記録する際のテーブル名 */
+    public static final String APPLICATION_TABLE = "application";
+
+    private final String tableName;
+    private final String operationType;
+    private final Long recordId;
+    private final String oldValues;
+    private final String newValues;
+    private final String changedBy;
+    private final long userId;
+    private final LocalDateTime occurredAt;
+
+    private AuditEvent(String tableName, String operationType, Long recordId, String oldValues, String newValues,
+                       String changedBy, Long userId, LocalDateTime occurredAt) {
+        if (tableName == null || tableName.isBlank()) {
+            throw new IllegalArgumentException("テーブル名は必須です");
+        }
+        if (operationType == null || operationType.isBlank()) {
+            throw new IllegalArgumentException("操作種別は必須です");
+        }
+        this.tableName = tableName;
+        this.operationType = operationType;
+        this.recordId = recordId;
+        this.oldValues = oldValues;
+        this.newValues = newValues;
+        this.changedBy = changedBy;
+        this.userId = userId != null ? userId : SYSTEM_USER_ID;
+        this.occurredAt = occurredAt != null ? occurredAt : LocalDateTime.now();
+    }
+
+    /**
+     * テーブル操作の監査イベントを生成します。
+     *
+     * @param tableName     対象テーブル名
+     * @param operationType 操作種別（INSERT、UPDATE、DELETE）
+     * @param recordId      対象レコードID
+     * @param oldValues     変更前データ（JSON形式、null許可）
+     * @param newValues     変更後データ（JSON形式、null許可）
+     * @param changedBy     変更者（ユーザー名）
+     * @param userId        変更者のユーザーID（null許可）
+     * @return 監査イベント
+     */
+    public static AuditEvent of(String tableName, String operationType, Long recordId, String oldValues,
+                                String newValues, String changedBy, Long userId) {
+        return new AuditEvent(tableName, operationType, recordId, oldValues, newValues, changedBy, userId, null);
+    }
+
+    /**
+     * アプリケーションログの監査イベントを生成します。
+     * 操作種別にはログレベル、変更後データにはメッセージをJSON形式で保持します。
+     *
+     * @param level     ログレベル
+     * @param message   メッセージ
+     * @param changedBy 操作者（ユーザー名、null許可）
+     * @return 監査イベント
+     */
+    public static AuditEvent message(LogLevel level, String message, String changedBy) {
+        Objects.requireNonNull(level, "ログレベルは必須です");
+        String json = "{\"message\":\"" + escapeJson(message != null ? message : "") + "\"}";
+        return new AuditEvent(APPLICATION_TABLE, level.getLevel(), null, null, json, changedBy, null, null);
+    }
+
+    private static String escapeJson(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 16);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    public String getTableName() { return tableName; }
+    public String getOperationType() { return operationType; }
+    public Long getRecordId() { return recordId; }
+    public String getOldValues() { return oldValues; }
+    public String getNewValues() { return newValues; }
+    public String getChangedBy() { return changedBy; }
+    public long getUserId() { return userId; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+
+    @Override
+    public String toString() {
+        return "AuditEvent{" + tableName + ", " + operationType + ", recordId=" + recordId
+                + ", changedBy=" + changedBy + ", occurredAt=" + occurredAt + "}";
+    }
+}
@@ -0,0 +1,130 @@
+package jp.co.apsa.giiku.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 回答ストリームの差分フレームDTO。
+ *
+ * 集約ウィンドウ内に届いた回答をまとめ、選択肢別件数・新規回答・正答率を保持します。
+ * 購読開始時のスナップショットも同じ形式で、開始時点からの累積を保持します。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public class AnswerDeltaFrame {
+
+    /** ウィンドウ開始時刻（エポックミリ秒） */
+    private long windowStart;
+
+    /** ウィンドウ終了時刻（エポックミリ秒） */
+    private long windowEnd;
+
+    /** ウィンドウ内の回答数（同一学生・同一問題は最新の1件） */
+    private int answerCount;
+
+    /** ウィンドウ内の正答数 */
+    private int correctCount;
+
+    /** ウィンドウ内の正答率（正誤判定済みの回答がない場合はnull） */
+    private Double correctRatio;
+
+    /** 問題ID別・選択肢別の回答件数 */
+    private Map<Long, Map<String, Integer>> optionCounts;
+
+    /** ウィンドウ内の新規回答 */
+    private List<Entry> newAnswers;
+
+    /** デフォルトコンストラクタ */
+    public AnswerDeltaFrame() {
+    }
+
+    public long getWindowStart() { return windowStart; }
+
+    public void setWindowStart(long windowStart) { this.windowStart = windowStart; }
+
+    public long getWindowEnd() { return windowEnd; }
+
+    public void setWindowEnd(long windowEnd) { this.windowEnd = windowEnd; }
+
+    public int getAnswerCount() { return answerCount; }
+
+    public void setAnswerCount(int answerCount) { this.answerCount = answerCount; }
+
+    public int getCorrectCount() { return correctCount; }
+
+    public void setCorrectCount(int correctCount) { this.correctCount = correctCount; }
+
+    public Double getCorrectRatio() { return correctRatio; }
+
+    public void setCorrectRatio(Double correctRatio) { this.correctRatio = correctRatio; }
+
+    public Map<Long, Map<String, Integer>> getOptionCounts() { return optionCounts; }
+
+    public void setOptionCounts(Map<Long, Map<String, Integer>> optionCounts) { this.optionCounts = optionCounts; }
+
+    public List<Entry> getNewAnswers() { return newAnswers; }
+
+    public void setNewAnswers(List<Entry> newAnswers) { this.newAnswers = newAnswers; }
+
+    /**
+     * 差分フレームに含まれる1件の回答。
+     */
+    public static class Entry {
+
+        /** 問題ID */
+        private Long questionId;
+
+        /** 学生ID */
+        private Long studentId;
+
+        /** 回答内容 */
+        private String answerText;
+
+        /** 正解かどうか（判定できない場合はnull） */
+        private Boolean correct;
+
+        /** 学生名 */
+        private String studentName;
+
+        /** 回答受付時刻（エポックミリ秒） */
+        private long answeredAt;
+
+        /** デフォルトコンストラクタ */
+        public Entry() {
+        }
+
+        /** Entry メソッド */
+        public Entry(Long questionId, Long studentId, String answerText, Boolean correct) {
+            this.questionId = questionId;
+            this.studentId = studentId;
+            this.answerText = answerText;
+            this.correct = correct;
+        }
+
+        public Long getQuestionId() { return questionId; }
+
+        public void setQuestionId(Long questionId) { this.questionId = questionId; }
+
+        public Long getStudentId() { return studentId; }
+
+        public void setStudentId(Long studentId) { this.studentId = studentId; }
+
+        public String getAnswerText() { return answerText; }
+
+        public void setAnswerText(String answerText) { this.answerText = answerText; }
+
+        public Boolean getCorrect() { return correct; }
+
+        public void setCorrect(Boolean correct) { this.correct = correct; }
+
+        public String getStudentName() { return studentName; }
+
+        public void setStudentName(String studentName) { this.studentName = studentName; }
+
+        public long getAnsweredAt() { return answeredAt; }
+
+        public void setAnsweredAt(long answeredAt) { this.answeredAt = answeredAt; }
+    }
+}
@@ -0,0 +1,28 @@
+package jp.co.apsa.giiku.dto;
+
+import java.util.List;
+
+import jp.co.apsa.giiku.domain.entity.AuditLog;
+/**
+ * The AuditLogPageDto class.
+ * キーセットページングの1ページ分。次ページは {@code nextCursor} を指定して取得します。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public class AuditLogPageDto {
+    private final List<AuditLog> items;
+    private final String nextCursor;
+    /** AuditLogPageDto メソッド */
+    public AuditLogPageDto(List<AuditLog> items, String nextCursor) {
+        this.items = List.copyOf(items);
+        this.nextCursor = nextCursor;
+    }
+    /** getItems メソッド */
+    public List<AuditLog> getItems() { return items; }
+    /** getNextCursor メソッド（最終ページの場合null） */
+    public String getNextCursor() { return nextCursor; }
+    /** isHasNext メソッド */
+    public boolean isHasNext() { return nextCursor != null; }
+}
@@ -0,0 +1,49 @@
+package jp.co.apsa.giiku.dto;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+/**
+ * The AuditLogSearchDto class.
+ * 未指定（null・空文字）の条件はSQLに含めません。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public class AuditLogSearchDto {
+    private Long createdBy;
+    private String tableName;
+    private String operationType;
+    private Long recordId;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+    /** AuditLogSearchDto メソッド */
+    public AuditLogSearchDto() {}
+    /** getCreatedBy メソッド */
+    public Long getCreatedBy() { return createdBy; }
+    /** setCreatedBy メソッド */
+    public void setCreatedBy(Long createdBy) { this.createdBy = createdBy; }
+    /** getTableName メソッド */
+    public String getTableName() { return tableName; }
+    /** setTableName メソッド */
+    public void setTableName(String tableName) { this.tableName = tableName; }
+    /** getOperationType メソッド */
+    public String getOperationType() { return operationType; }
+    /** setOperationType メソッド */
+    public void setOperationType(String operationType) { this.operationType = operationType; }
+    /** getRecordId メソッド */
+    public Long getRecordId() { return recordId; }
+    /** setRecordId メソッド */
+    public void setRecordId(Long recordId) { this.recordId = recordId; }
+    /** getFrom メソッド（この日時以降） */
+    public LocalDateTime getFrom() { return from; }
+    /** setFrom メソッド */
+    public void setFrom(LocalDateTime from) { this.from = from; }
+    /** getTo メソッド（この日時より前） */
+    public LocalDateTime getTo() { return to; }
+    /** setTo メソッド */
+    public void setTo(LocalDateTime to) { this.to = to; }
+}
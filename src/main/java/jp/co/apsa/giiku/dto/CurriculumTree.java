@@ -0,0 +1,134 @@
+package jp.co.apsa.giiku.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * カリキュラム全体（月 → 週 → 日 → 講義）の不変ツリー。
+ *
+ * <p>共通メニュー用のリンク一覧（{@code navMonths} / {@code navWeeks} / {@code navDays}）も
+ * 構築時に生成して保持するため、描画のたびに変換する必要はありません。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public final class CurriculumTree {
+
+    private final List<MonthNode> months;
+    private final List<Map<String, String>> navMonths;
+    private final List<Map<String, String>> navWeeks;
+    private final List<Map<String, String>> navDays;
+
+    /** CurriculumTree メソッド */
+    public CurriculumTree(List<MonthNode> months, List<WeekNode> weeks, List<DayNode> days) {
+        this.months = List.copyOf(months);
+        this.navMonths = toLinks(months.stream()
+                .map(m -> link("/month/month" + m.getMonthNumber(), m.getTitle())).toList());
+        this.navWeeks = toLinks(weeks.stream()
+                .map(w -> link("/week/week" + w.getWeekNumber(), w.getWeekName())).toList());
+        this.navDays = toLinks(days.stream()
+                .map(d -> link("/day/day" + d.getDayNumber(), d.getDayName())).toList());
+    }
+
+    public List<MonthNode> getMonths() { return months; }
+    public List<Map<String, String>> getNavMonths() { return navMonths; }
+    public List<Map<String, String>> getNavWeeks() { return navWeeks; }
+    public List<Map<String, String>> getNavDays() { return navDays; }
+
+    /** テンプレートから参照されるリンク（href / label） */
+    private static Map<String, String> link(String href, String label) {
+        Map<String, String> link = new LinkedHashMap<>();
+        link.put("href", href);
+        link.put("label", label);
+        return Collections.unmodifiableMap(link);
+    }
+
+    private static List<Map<String, String>> toLinks(List<Map<String, String>> links) {
+        return Collections.unmodifiableList(new ArrayList<>(links));
+    }
+
+    /** 月ノード */
+    public static final class MonthNode {
+        private final Long id;
+        private final Integer monthNumber;
+        private final String title;
+        private final List<WeekNode> weeks;
+
+        /** MonthNode メソッド */
+        public MonthNode(Long id, Integer monthNumber, String title, List<WeekNode> weeks) {
+            this.id = id;
+            this.monthNumber = monthNumber;
+            this.title = title;
+            this.weeks = List.copyOf(weeks);
+        }
+
+        public Long getId() { return id; }
+        public Integer getMonthNumber() { return monthNumber; }
+        public String getTitle() { return title; }
+        public List<WeekNode> getWeeks() { return weeks; }
+    }
+
+    /** 週ノード */
+    public static final class WeekNode {
+        private final Long id;
+        private final Integer weekNumber;
+        private final String weekName;
+        private final List<DayNode> days;
+
+        /** WeekNode メソッド */
+        public WeekNode(Long id, Integer weekNumber, String weekName, List<DayNode> days) {
+            this.id = id;
+            this.weekNumber = weekNumber;
+            this.weekName = weekName;
+            this.days = List.copyOf(days);
+        }
+
+        public Long getId() { return id; }
+        public Integer getWeekNumber() { return weekNumber; }
+        public String getWeekName() { return weekName; }
+        public List<DayNode> getDays() { return days; }
+    }
+
+    /** 日ノード */
+    public static final class DayNode {
+        private final Long id;
+        private final Integer dayNumber;
+        private final String dayName;
+        private final List<LectureNode> lectures;
+
+        /** DayNode メソッド */
+        public DayNode(Long id, Integer dayNumber, String dayName, List<LectureNode> lectures) {
+            this.id = id;
+            this.dayNumber = dayNumber;
+            this.dayName = dayName;
+            this.lectures = List.copyOf(lectures);
+        }
+
+        public Long getId() { return id; }
+        public Integer getDayNumber() { return dayNumber; }
+        public String getDayName() { return dayName; }
+        public List<LectureNode> getLectures() { return lectures; }
+    }
+
+    /** 講義ノード */
+    public static final class LectureNode {
+        private final Long id;
+        private final Integer lectureNumber;
+        private final String title;
+
+        /** LectureNode メソッド */
+        public LectureNode(Long id, Integer lectureNumber, String title) {
+            this.id = id;
+            this.lectureNumber = lectureNumber;
+            this.title = title;
+        }
+
+        public Long getId() { return id; }
+        public Integer getLectureNumber() { return lectureNumber; }
+        public String getTitle() { return title; }
+    }
+}
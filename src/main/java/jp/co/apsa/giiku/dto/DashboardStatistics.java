@@ -0,0 +1,64 @@
+package jp.co.apsa.giiku.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+/**
+ * The DashboardStatistics class.
+ * ダッシュボードに表示する企業別（companyId が null の場合は全体）の統計値。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public class DashboardStatistics {
+    private final Long companyId;
+    private final long totalStudents;
+    private final long activeStudents;
+    private final long totalEnrollments;
+    private final long activeEnrollments;
+    private final long completedEnrollments;
+    private final long quizzesInProgress;
+    private final long quizzesCompleted;
+    private final BigDecimal averageScore;
+    private final BigDecimal passRate;
+    private final LocalDateTime reconciledAt;
+    /** DashboardStatistics メソッド */
+    public DashboardStatistics(Long companyId, long totalStudents, long activeStudents, long totalEnrollments,
+                               long activeEnrollments, long completedEnrollments, long quizzesInProgress,
+                               long quizzesCompleted, BigDecimal averageScore, BigDecimal passRate,
+                               LocalDateTime reconciledAt) {
+        this.companyId = companyId;
+        this.totalStudents = totalStudents;
+        this.activeStudents = activeStudents;
+        this.totalEnrollments = totalEnrollments;
+        this.activeEnrollments = activeEnrollments;
+        this.completedEnrollments = completedEnrollments;
+        this.quizzesInProgress = quizzesInProgress;
+        this.quizzesCompleted = quizzesCompleted;
+        this.averageScore = averageScore;
+        this.passRate = passRate;
+        this.reconciledAt = reconciledAt;
+    }
+    /** getCompanyId メソッド（全体の場合null） */
+    public Long getCompanyId() { return companyId; }
+    /** getTotalStudents メソッド */
+    public long getTotalStudents() { return totalStudents; }
+    /** getActiveStudents メソッド（在籍中の学生数） */
+    public long getActiveStudents() { return activeStudents; }
+    /** getTotalEnrollments メソッド */
+    public long getTotalEnrollments() { return totalEnrollments; }
+    /** getActiveEnrollments メソッド（受講中の登録数） */
+    public long getActiveEnrollments() { return activeEnrollments; }
+    /** getCompletedEnrollments メソッド */
+    public long getCompletedEnrollments() { return completedEnrollments; }
+    /** getQuizzesInProgress メソッド */
+    public long getQuizzesInProgress() { return quizzesInProgress; }
+    /** getQuizzesCompleted メソッド（提出・採点済みを含む） */
+    public long getQuizzesCompleted() { return quizzesCompleted; }
+    /** getAverageScore メソッド（完了クイズの平均得点率） */
+    public BigDecimal getAverageScore() { return averageScore; }
+    /** getPassRate メソッド（完了クイズの合格率、%） */
+    public BigDecimal getPassRate() { return passRate; }
+    /** getReconciledAt メソッド（最後にDBと突き合わせた日時） */
+    public LocalDateTime getReconciledAt() { return reconciledAt; }
+}
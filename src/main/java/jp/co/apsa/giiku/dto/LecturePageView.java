@@ -0,0 +1,155 @@
+package jp.co.apsa.giiku.dto;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jp.co.apsa.giiku.domain.entity.Chapter;
+import jp.co.apsa.giiku.domain.entity.Day;
+import jp.co.apsa.giiku.domain.entity.Lecture;
+import jp.co.apsa.giiku.domain.entity.LectureGoal;
+import jp.co.apsa.giiku.domain.entity.Month;
+import jp.co.apsa.giiku.domain.entity.QuestionBank;
+import jp.co.apsa.giiku.domain.entity.QuizQuestionBank;
+import jp.co.apsa.giiku.domain.entity.Week;
+
+/**
+ * 講義詳細ページの読み取りモデル。
+ *
+ * 講義ページの描画に必要なデータをまとめて保持する不変オブジェクトです。
+ * コレクションは全て変更不可で、コンテンツブロックはサニタイズ済みの内容を保持します。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public final class LecturePageView {
+
+    /** 講義 */
+    private final Lecture lecture;
+
+    /** 所属する日（未設定の場合はnull） */
+    private final Day day;
+
+    /** 所属する週（未設定の場合はnull） */
+    private final Week week;
+
+    /** 所属する月（未設定の場合はnull） */
+    private final Month month;
+
+    /** 学習目標 */
+    private final List<LectureGoal> goals;
+
+    /** チャプター（ソート順） */
+    private final List<Chapter> chapters;
+
+    /** チャプターID別のコンテンツブロック */
+    private final Map<Long, List<ContentBlock>> contentBlocksByChapter;
+
+    /** チャプターID別の理解度テスト */
+    private final Map<Long, List<QuizQuestionBank>> quizQuestionsByChapter;
+
+    /** チャプターID別の演習問題 */
+    private final Map<Long, List<QuestionBank>> exercisesByChapter;
+
+    /** 同じ日の前の講義（存在しない場合はnull） */
+    private final Lecture previousLecture;
+
+    /** 同じ日の次の講義（存在しない場合はnull） */
+    private final Lecture nextLecture;
+
+    /** LecturePageView メソッド */
+    public LecturePageView(Lecture lecture, Day day, Week week, Month month,
+                           List<LectureGoal> goals, List<Chapter> chapters,
+                           Map<Long, List<ContentBlock>> contentBlocksByChapter,
+                           Map<Long, List<QuizQuestionBank>> quizQuestionsByChapter,
+                           Map<Long, List<QuestionBank>> exercisesByChapter,
+                           Lecture previousLecture, Lecture nextLecture) {
+        this.lecture = lecture;
+        this.day = day;
+        this.week = week;
+        this.month = month;
+        this.goals = List.copyOf(goals);
+        this.chapters = List.copyOf(chapters);
+        this.contentBlocksByChapter = unmodifiable(contentBlocksByChapter);
+        this.quizQuestionsByChapter = unmodifiable(quizQuestionsByChapter);
+        this.exercisesByChapter = unmodifiable(exercisesByChapter);
+        this.previousLecture = previousLecture;
+        this.nextLecture = nextLecture;
+    }
+
+    private static <T> Map<Long, List<T>> unmodifiable(Map<Long, List<T>> source) {
+        Map<Long, List<T>> copy = new LinkedHashMap<>();
+        source.forEach((key, value) -> copy.put(key, List.copyOf(value)));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    public Lecture getLecture() { return lecture; }
+
+    public Day getDay() { return day; }
+
+    public Week getWeek() { return week; }
+
+    public Month getMonth() { return month; }
+
+    public List<LectureGoal> getGoals() { return goals; }
+
+    public List<Chapter> getChapters() { return chapters; }
+
+    public Map<Long, List<ContentBlock>> getContentBlocksByChapter() { return contentBlocksByChapter; }
+
+    public Map<Long, List<QuizQuestionBank>> getQuizQuestionsByChapter() { return quizQuestionsByChapter; }
+
+    public Map<Long, List<QuestionBank>> getExercisesByChapter() { return exercisesByChapter; }
+
+    public Lecture getPreviousLecture() { return previousLecture; }
+
+    public Lecture getNextLecture() { return nextLecture; }
+
+    /**
+     * 表示用のコンテンツブロック（サニタイズ済み）。
+     */
+    public static final class ContentBlock {
+
+        /** ブロックID */
+        private final Long id;
+
+        /** チャプターID */
+        private final Long chapterId;
+
+        /** ブロック種別 */
+        private final String blockType;
+
+        /** タイトル */
+        private final String title;
+
+        /** サニタイズ済みの内容 */
+        private final String content;
+
+        /** ソート順 */
+        private final Integer sortOrder;
+
+        /** ContentBlock メソッド */
+        public ContentBlock(Long id, Long chapterId, String blockType, String title, String content, Integer sortOrder) {
+            this.id = id;
+            this.chapterId = chapterId;
+            this.blockType = blockType;
+            this.title = title;
+            this.content = content;
+            this.sortOrder = sortOrder;
+        }
+
+        public Long getId() { return id; }
+
+        public Long getChapterId() { return chapterId; }
+
+        public String getBlockType() { return blockType; }
+
+        public String getTitle() { return title; }
+
+        public String getContent() { return content; }
+
+        public Integer getSortOrder() { return sortOrder; }
+    }
+}
@@ -0,0 +1,371 @@
+package jp.co.apsa.giiku.infrastructure.audit;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jp.co.apsa.giiku.domain.entity.AuditLog;
+import jp.co.apsa.giiku.dto.AuditLogPageDto;
+import jp.co.apsa.giiku.dto.AuditLogSearchDto;
+
+/**
+ * 監査ログの閲覧・エクスポートサービス。
+ *
+ * <ul>
+ *   <li>閲覧は {@code (created_at, id)} のキーセットページングで、ページの深さに関係なく
+ *       インデックスを先頭から辿るだけで次ページを取得します。</li>
+ *   <li>検索条件は指定されたものだけをSQLに含めるため、{@code (:param IS NULL OR ...)} による
+ *       インデックスの無効化が起きません。</li>
+ *   <li>エクスポートはサーバーサイドカーソル（fetch size 指定）で1行ずつ出力し、件数に関係なく一定のメモリで動作します。</li>
+ * </ul>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+public class AuditLogQueryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogQueryService.class);
+
+    /** 1ページの既定件数 */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /** 1ページの最大件数 */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final String COLUMNS =
+            "id, table_name, operation_type, record_id, old_values, new_values, changed_by, "
+            + "change_timestamp, created_by, created_at, updated_by, updated_at";
+
+    private static final String[] CSV_HEADER = {
+        "id", "table_name", "operation_type", "record_id", "old_values", "new_values", "changed_by",
+        "change_timestamp", "created_by", "created_at", "updated_by", "updated_at"
+    };
+
+    /** エクスポート形式 */
+    public enum ExportFormat {
+        /** 1行1JSON（application/x-ndjson） */
+        NDJSON,
+        /** CSV（text/csv） */
+        CSV;
+
+        /**
+         * 文字列からエクスポート形式を取得します。
+         *
+         * @param value 形式（ndjson / csv、大文字小文字を区別しない）
+         * @return エクスポート形式
+         */
+        public static ExportFormat of(String value) {
+            if (value != null) {
+                for (ExportFormat format : values()) {
+                    if (format.name().equalsIgnoreCase(value.trim())) {
+                        return format;
+                    }
+                }
+            }
+            throw new IllegalArgumentException("無効なエクスポート形式です: " + value);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${audit.export.fetch-size:1000}")
+    private int fetchSize = 1000;
+
+    /** AuditLogQueryService メソッド */
+    public AuditLogQueryService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 監査ログを新しい順に1ページ取得します。
+     *
+     * @param criteria 検索条件（null許可）
+     * @param cursor   前ページの {@code nextCursor}（先頭ページの場合null）
+     * @param size     ページサイズ（1〜{@value #MAX_PAGE_SIZE}）
+     * @return ページ
+     */
+    @Transactional(readOnly = true)
+    public AuditLogPageDto findPage(AuditLogSearchDto criteria, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("ページサイズは1から" + MAX_PAGE_SIZE + "の範囲で指定してください: " + size);
+        }
+        SqlBuilder sql = where(criteria);
+        if (StringUtils.hasText(cursor)) {
+            Cursor position = Cursor.decode(cursor);
+            sql.and("(created_at, id) < (?, ?)", Timestamp.valueOf(position.createdAt), position.id);
+        }
+        sql.append(" ORDER BY created_at DESC, id DESC LIMIT ?");
+        sql.args.add(size + 1);
+
+        List<AuditLog> rows = jdbcTemplate.query(sql.toString(), (rs, rowNum) -> toEntity(rs), sql.args.toArray());
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = new ArrayList<>(rows.subList(0, size));
+            AuditLog last = rows.get(size - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new AuditLogPageDto(rows, nextCursor);
+    }
+
+    /**
+     * 条件に一致する監査ログを古い順に出力します。
+     * トランザクション内で fetch size を指定して読み込むため、PostgreSQL ではサーバーサイドカーソルが使われます。
+     *
+     * @param criteria 検索条件（null許可）
+     * @param format   出力形式
+     * @param out      出力先（呼び出し元でクローズ）
+     * @return 出力件数
+     */
+    @Transactional(readOnly = true)
+    public long export(AuditLogSearchDto criteria, ExportFormat format, OutputStream out) {
+        SqlBuilder sql = where(criteria);
+        sql.append(" ORDER BY created_at ASC, id ASC");
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long[] count = {0};
+        try {
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(writer, CSV_HEADER);
+            }
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql.toString(),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                for (int i = 0; i < sql.args.size(); i++) {
+                    ps.setObject(i + 1, sql.args.get(i));
+                }
+                return ps;
+            }, rs -> {
+                try {
+                    if (format == ExportFormat.CSV) {
+                        writeCsvRow(writer, csvValues(rs));
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(jsonValues(rs)));
+                        writer.write('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (++count[0] % fetchSize == 0) {
+                    flush(writer);
+                }
+            });
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        logger.info("監査ログをエクスポートしました: format={}, rows={}", format, count[0]);
+        return count[0];
+    }
+
+    private static void flush(Writer writer) {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** 指定された条件だけを WHERE 句に含める */
+    private static SqlBuilder where(AuditLogSearchDto criteria) {
+        SqlBuilder sql = new SqlBuilder("SELECT " + COLUMNS + " FROM audit_logs");
+        if (criteria == null) {
+            return sql;
+        }
+        if (criteria.getCreatedBy() != null) {
+            sql.and("created_by = ?", criteria.getCreatedBy());
+        }
+        if (StringUtils.hasText(criteria.getTableName())) {
+            sql.and("table_name = ?", criteria.getTableName());
+        }
+        if (StringUtils.hasText(criteria.getOperationType())) {
+            sql.and("operation_type = ?", criteria.getOperationType());
+        }
+        if (criteria.getRecordId() != null) {
+            sql.and("record_id = ?", criteria.getRecordId());
+        }
+        if (criteria.getFrom() != null) {
+            sql.and("created_at >= ?", Timestamp.valueOf(criteria.getFrom()));
+        }
+        if (criteria.getTo() != null) {
+            sql.and("created_at < ?", Timestamp.valueOf(criteria.getTo()));
+        }
+        return sql;
+    }
+
+    private static AuditLog toEntity(ResultSet rs) throws SQLException {
+        AuditLog log = new AuditLog();
+        log.setId(rs.getLong("id"));
+        log.setTableName(rs.getString("table_name"));
+        log.setOperationType(rs.getString("operation_type"));
+        log.setRecordId(getLong(rs, "record_id"));
+        log.setOldValues(rs.getString("old_values"));
+        log.setNewValues(rs.getString("new_values"));
+        log.setChangedBy(rs.getString("changed_by"));
+        log.setChangeTimestamp(getDateTime(rs, "change_timestamp"));
+        log.setCreatedBy(getLong(rs, "created_by"));
+        log.setCreatedAt(getDateTime(rs, "created_at"));
+        log.setUpdatedBy(getLong(rs, "updated_by"));
+        log.setUpdatedAt(getDateTime(rs, "updated_at"));
+        return log;
+    }
+
+    private static Map<String, Object> jsonValues(ResultSet rs) throws SQLException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", rs.getLong("id"));
+        row.put("tableName", rs.getString("table_name"));
+        row.put("operationType", rs.getString("operation_type"));
+        row.put("recordId", getLong(rs, "record_id"));
+        row.put("oldValues", rs.getString("old_values"));
+        row.put("newValues", rs.getString("new_values"));
+        row.put("changedBy", rs.getString("changed_by"));
+        row.put("changeTimestamp", toText(getDateTime(rs, "change_timestamp")));
+        row.put("createdBy", getLong(rs, "created_by"));
+        row.put("createdAt", toText(getDateTime(rs, "created_at")));
+        row.put("updatedBy", getLong(rs, "updated_by"));
+        row.put("updatedAt", toText(getDateTime(rs, "updated_at")));
+        return row;
+    }
+
+    private static String[] csvValues(ResultSet rs) throws SQLException {
+        return new String[] {
+            String.valueOf(rs.getLong("id")),
+            rs.getString("table_name"),
+            rs.getString("operation_type"),
+            toText(getLong(rs, "record_id")),
+            rs.getString("old_values"),
+            rs.getString("new_values"),
+            rs.getString("changed_by"),
+            toText(getDateTime(rs, "change_timestamp")),
+            toText(getLong(rs, "created_by")),
+            toText(getDateTime(rs, "created_at")),
+            toText(getLong(rs, "updated_by")),
+            toText(getDateTime(rs, "updated_at"))
+        };
+    }
+
+    private static void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /** 区切り文字・引用符・改行を含む値を引用符で囲む */
+    static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private static Long getLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static LocalDateTime getDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column);
+        return value != null ? value.toLocalDateTime() : null;
+    }
+
+    private static String toText(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    /** 動的なWHERE句とバインド値 */
+    private static final class SqlBuilder {
+        private final StringBuilder sql;
+        private final List<Object> args = new ArrayList<>();
+        private boolean hasWhere;
+
+        SqlBuilder(String select) {
+            this.sql = new StringBuilder(select);
+        }
+
+        void and(String condition, Object... values) {
+            sql.append(hasWhere ? " AND " : " WHERE ").append(condition);
+            hasWhere = true;
+            args.addAll(List.of(values));
+        }
+
+        void append(String fragment) {
+            sql.append(fragment);
+        }
+
+        @Override
+        public String toString() {
+            return sql.toString();
+        }
+    }
+
+    /** キーセットページングの位置（最後に返した行の created_at と id） */
+    static final class Cursor {
+        private final LocalDateTime createdAt;
+        private final long id;
+
+        Cursor(LocalDateTime createdAt, long id) {
+            this.createdAt = createdAt;
+            this.id = id;
+        }
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            String raw;
+            try {
+                raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("カーソルが不正です: " + cursor, e);
+            }
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("カーソルが不正です: " + cursor);
+            }
+            try {
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("カーソルが不正です: " + cursor, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package jp.co.apsa.giiku.infrastructure.audit;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 監査ログの保持期間管理サービス。
+ *
+ * <p>PostgreSQL で {@code audit_logs} が月単位パーティションの場合、保持期間を過ぎた月の
+ * パーティションを切り離して削除（{@code mode=DETACH} の場合は切り離しのみ）します。
+ * 境界月・DEFAULT パーティションの残りや、パーティションが利用できない環境（H2 など）では
+ * 件数を制限したチャンク削除を繰り返します。各チャンクは個別にコミットされます。</p>
+ *
+ * <p>あわせて境界日時より前の時間別集計（{@code audit_log_hourly_rollups}）を削除し、
+ * 削除の完了後に数か月先までのパーティションを事前に作成します。パーティションの作成は月ごとに
+ * 独立して行い、DEFAULT パーティションに該当月の行が残っている場合など作成できない月があっても
+ * 削除処理や他の月の作成は中断しません。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+public class AuditLogRetentionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogRetentionService.class);
+
+    /** メトリクス名 */
+    private static final String METRIC_NAME = "giiku.audit.retention";
+
+    private static final String PARTITION_PREFIX = "audit_logs_p";
+
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String PARTITIONS_SQL =
+            "SELECT c.relname FROM pg_inherits i "
+            + "JOIN pg_class c ON c.oid = i.inhrelid "
+            + "JOIN pg_class p ON p.oid = i.inhparent "
+            + "WHERE p.relname = 'audit_logs' ORDER BY c.relname";
+
+    private static final String CHUNK_DELETE_SQL =
+            "DELETE FROM audit_logs WHERE id IN "
+            + "(SELECT id FROM audit_logs WHERE created_at < ? ORDER BY id LIMIT ?)";
+
+    private static final String ROLLUP_DELETE_SQL =
+            "DELETE FROM audit_log_hourly_rollups WHERE bucket_start < ?";
+
+    /** 保持期間の削除モード */
+    public enum Mode {
+        /** パーティションを切り離して削除 */
+        DROP,
+        /** パーティションを切り離すのみ（アーカイブ用に残す） */
+        DETACH
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Timer durationTimer;
+
+    private final LongAdder deletedRows = new LongAdder();
+
+    private final LongAdder removedPartitions = new LongAdder();
+
+    /** 実行中の削除処理で削除済みの行数 */
+    private final AtomicLong currentRunDeleted = new AtomicLong();
+
+    @Value("${audit.retention.days:365}")
+    private int retentionDays = 365;
+
+    @Value("${audit.retention.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${audit.retention.mode:DROP}")
+    private Mode mode = Mode.DROP;
+
+    @Value("${audit.retention.batch-size:5000}")
+    private int batchSize = 5000;
+
+    @Value("${audit.retention.chunk-pause-ms:50}")
+    private long chunkPauseMs = 50;
+
+    @Value("${audit.retention.premake-months:3}")
+    private int premakeMonths = 3;
+
+    @Value("${audit.retention.interval-hours:24}")
+    private long intervalHours = 24;
+
+    private ScheduledExecutorService scheduler;
+
+    /** AuditLogRetentionService メソッド */
+    public AuditLogRetentionService(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.durationTimer = Timer.builder(METRIC_NAME + ".duration")
+                .description("保持期間削除処理の所要時間")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_NAME + ".deleted.rows", deletedRows, LongAdder::doubleValue)
+                .description("チャンク削除した監査ログ行数")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_NAME + ".partitions.removed", removedPartitions, LongAdder::doubleValue)
+                .description("切り離し・削除したパーティション数")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".progress.rows", currentRunDeleted, AtomicLong::get)
+                .description("実行中の削除処理で削除済みの行数")
+                .register(meterRegistry);
+    }
+
+    /** 定期実行を開始 */
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "audit-log-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::purgeQuietly, 1, intervalHours * 60, TimeUnit.MINUTES);
+        logger.info("監査ログ保持期間管理開始: retentionDays={}, mode={}, interval={}h", retentionDays, mode, intervalHours);
+    }
+
+    /** 定期実行を停止 */
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void purgeQuietly() {
+        try {
+            purge();
+        } catch (RuntimeException e) {
+            logger.error("監査ログの保持期間削除に失敗しました（次回再試行）", e);
+        }
+    }
+
+    /**
+     * 保持期間を過ぎた監査ログを削除します。
+     *
+     * @return 処理結果
+     */
+    public synchronized PurgeResult purge() {
+        LocalDateTime cutoff = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+        return purgeBefore(cutoff);
+    }
+
+    /**
+     * 指定日時より前の監査ログを削除します。
+     *
+     * @param cutoff 境界日時（これより前を削除）
+     * @return 処理結果
+     */
+    public synchronized PurgeResult purgeBefore(LocalDateTime cutoff) {
+        if (cutoff == null) {
+            throw new IllegalArgumentException("境界日時は必須です");
+        }
+        currentRunDeleted.set(0);
+        long start = System.nanoTime();
+        List<String> partitions = List.of();
+        try {
+            boolean partitioned = isPartitioned();
+            if (partitioned) {
+                partitions = removeExpiredPartitions(cutoff);
+            }
+            long deleted = deleteInChunks(cutoff);
+            // 削除した期間の時間別集計も合わせて削除する
+            jdbcTemplate.update(ROLLUP_DELETE_SQL, Timestamp.valueOf(cutoff));
+            if (partitioned) {
+                createPartitions();
+            }
+            logger.info("監査ログ保持期間削除完了: cutoff={}, partitions={}, deletedRows={}, elapsed={}ms",
+                    cutoff, partitions, deleted, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return new PurgeResult(cutoff, partitions, deleted);
+        } finally {
+            durationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 当月から {@code premake-months} か月先までのパーティションを作成します。
+     * パーティション化されていない環境では何もしません。
+     *
+     * @return 作成できなかった月の一覧
+     */
+    public List<YearMonth> ensurePartitions() {
+        if (!isPartitioned()) {
+            return List.of();
+        }
+        return createPartitions();
+    }
+
+    /** 月ごとにパーティションを作成する（失敗した月はログに残して次の月へ進む） */
+    private List<YearMonth> createPartitions() {
+        List<YearMonth> failed = new ArrayList<>();
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= premakeMonths; i++) {
+            YearMonth month = current.plusMonths(i);
+            try {
+                jdbcTemplate.queryForObject("SELECT public.create_audit_log_partition(?)", String.class,
+                        java.sql.Date.valueOf(month.atDay(1)));
+            } catch (RuntimeException e) {
+                failed.add(month);
+                logger.warn("監査ログパーティションを作成できませんでした（次回再試行）: month={}", month, e);
+            }
+        }
+        return failed;
+    }
+
+    /** 月の終わりが境界日時以前のパーティションを切り離す */
+    private List<String> removeExpiredPartitions(LocalDateTime cutoff) {
+        List<String> removed = new ArrayList<>();
+        for (String partition : jdbcTemplate.queryForList(PARTITIONS_SQL, String.class)) {
+            YearMonth month = partitionMonth(partition);
+            if (month == null || month.plusMonths(1).atDay(1).atStartOfDay().isAfter(cutoff)) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE audit_logs DETACH PARTITION " + partition);
+            if (mode == Mode.DROP) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+            }
+            removedPartitions.increment();
+            removed.add(partition);
+            logger.info("監査ログパーティションを{}しました: {}", mode == Mode.DROP ? "削除" : "切り離し", partition);
+        }
+        return removed;
+    }
+
+    /** 境界日時より前の行を batch-size 件ずつ削除する */
+    private long deleteInChunks(LocalDateTime cutoff) {
+        Timestamp cutoffTs = Timestamp.valueOf(cutoff);
+        long total = 0;
+        int chunks = 0;
+        while (true) {
+            int deleted = jdbcTemplate.update(CHUNK_DELETE_SQL, cutoffTs, batchSize);
+            total += deleted;
+            deletedRows.add(deleted);
+            currentRunDeleted.addAndGet(deleted);
+            if (deleted < batchSize) {
+                return total;
+            }
+            if (++chunks % 20 == 0) {
+                logger.info("監査ログのチャンク削除中: cutoff={}, deletedRows={}", cutoff, total);
+            }
+            if (chunkPauseMs > 0) {
+                try {
+                    Thread.sleep(chunkPauseMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    logger.warn("監査ログのチャンク削除を中断しました: deletedRows={}", total);
+                    return total;
+                }
+            }
+        }
+    }
+
+    /** audit_logs_pYYYYMM から対象月を取得（それ以外の名前はnull） */
+    static YearMonth partitionMonth(String partition) {
+        if (partition == null || !partition.startsWith(PARTITION_PREFIX)
+                || partition.length() != PARTITION_PREFIX.length() + 6) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_MONTH);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private boolean isPartitioned() {
+        try {
+            String product = jdbcTemplate.execute((Connection con) ->
+                    JdbcUtils.commonDatabaseName(con.getMetaData().getDatabaseProductName()));
+            if (!"PostgreSQL".equalsIgnoreCase(product)) {
+                return false;
+            }
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid "
+                    + "WHERE c.relname = 'audit_logs'", Integer.class);
+            return count != null && count > 0;
+        } catch (RuntimeException e) {
+            logger.warn("パーティションの判定に失敗したためチャンク削除のみ行います", e);
+            return false;
+        }
+    }
+
+    /** 保持期間削除の結果 */
+    public static final class PurgeResult {
+        private final LocalDateTime cutoff;
+        private final List<String> removedPartitions;
+        private final long deletedRows;
+
+        /** PurgeResult メソッド */
+        public PurgeResult(LocalDateTime cutoff, List<String> removedPartitions, long deletedRows) {
+            this.cutoff = cutoff;
+            this.removedPartitions = List.copyOf(removedPartitions);
+            this.deletedRows = deletedRows;
+        }
+
+        public LocalDateTime getCutoff() { return cutoff; }
+        public List<String> getRemovedPartitions() { return removedPartitions; }
+        public long getDeletedRows() { return deletedRows; }
+    }
+}
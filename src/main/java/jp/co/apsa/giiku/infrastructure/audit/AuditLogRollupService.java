@@ -0,0 +1,288 @@
+package jp.co.apsa.giiku.infrastructure.audit;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 監査ログの時間別集計サービス。
+ *
+ * <p>確定した（現在時刻から {@code grace-minutes} を引いた正時より前の）時間帯を古い順に集計し、
+ * {@code audit_log_hourly_rollups} に操作種別・作成者・テーブル名ごとの件数を書き込みます。
+ * 時間帯ごとに既存の集計を削除してから再集計するため、同じ時間帯を再実行しても件数は重複しません。
+ * 件数レポートは {@code AuditLogRepositoryCustom} が集計済みの時間帯をこのテーブルから取得します。</p>
+ *
+ * <p>集計済みの終端と監査ログIDの走査位置は {@code audit_log_rollup_state} に保存します。
+ * 書き込みの遅延や一括投入などで集計済みの時間帯に後から行が追加された場合に備え、各回の実行では
+ * 前回走査した位置より後のIDの行を調べ、集計済みの時間帯に含まれる行があればその時間帯の集計件数と
+ * 生データの件数を比較し、一致しない時間帯を再集計します。ID順とコミット順のずれに備えて、
+ * 走査範囲は前回の実行分と重ねています。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+public class AuditLogRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogRollupService.class);
+
+    private static final String DELETE_SQL = "DELETE FROM audit_log_hourly_rollups WHERE bucket_start = ?";
+
+    private static final String STATE_SQL =
+            "SELECT rolled_up_until, scan_from_log_id, last_seen_log_id FROM audit_log_rollup_state WHERE id = 1";
+
+    private static final String UPDATE_STATE_SQL =
+            "UPDATE audit_log_rollup_state SET rolled_up_until = ?, scan_from_log_id = ?, last_seen_log_id = ?, "
+            + "updated_at = ? WHERE id = 1";
+
+    private static final String INSERT_STATE_SQL =
+            "INSERT INTO audit_log_rollup_state (id, rolled_up_until, scan_from_log_id, last_seen_log_id, updated_at) "
+            + "VALUES (1, ?, ?, ?, ?)";
+
+    /** 走査範囲のIDで、集計済みの時間帯に含まれる行の時間帯 */
+    private static final String LATE_HOURS_SQL =
+            "SELECT DISTINCT DATE_TRUNC('HOUR', created_at) FROM audit_logs "
+            + "WHERE id > ? AND id <= ? AND created_at < ? ORDER BY 1";
+
+    private static final String ROLLED_COUNT_SQL =
+            "SELECT COALESCE(SUM(event_count), 0) FROM audit_log_hourly_rollups WHERE bucket_start = ?";
+
+    private static final String RAW_COUNT_SQL =
+            "SELECT COUNT(*) FROM audit_logs WHERE created_at >= ? AND created_at < ?";
+
+    private static final String ROLLUP_SQL =
+            "INSERT INTO audit_log_hourly_rollups (bucket_start, operation_type, created_by, table_name, event_count) "
+            + "SELECT CAST(? AS TIMESTAMP), operation_type, created_by, table_name, COUNT(*) FROM audit_logs "
+            + "WHERE created_at >= ? AND created_at < ? "
+            + "GROUP BY operation_type, created_by, table_name";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Timer durationTimer;
+
+    @Value("${audit.rollup.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${audit.rollup.interval-minutes:5}")
+    private long intervalMinutes = 5;
+
+    @Value("${audit.rollup.grace-minutes:5}")
+    private long graceMinutes = 5;
+
+    @Value("${audit.rollup.chunk-hours:24}")
+    private int chunkHours = 24;
+
+    private ScheduledExecutorService scheduler;
+
+    /** AuditLogRollupService メソッド */
+    public AuditLogRollupService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.durationTimer = Timer.builder("giiku.audit.rollup.duration")
+                .description("監査ログ時間別集計の所要時間")
+                .register(meterRegistry);
+    }
+
+    /** 定期実行を開始 */
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "audit-log-rollup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::rollUpQuietly, 1, intervalMinutes, TimeUnit.MINUTES);
+        logger.info("監査ログ時間別集計開始: interval={}min, grace={}min", intervalMinutes, graceMinutes);
+    }
+
+    /** 定期実行を停止 */
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void rollUpQuietly() {
+        try {
+            rollUp();
+        } catch (RuntimeException e) {
+            logger.error("監査ログの時間別集計に失敗しました（次回再試行）", e);
+        }
+    }
+
+    /**
+     * 確定した時間帯までを集計します。
+     *
+     * @return 集計した時間帯の数
+     */
+    public int rollUp() {
+        return rollUpUntil(LocalDateTime.now().minusMinutes(graceMinutes));
+    }
+
+    /**
+     * 集計済みの時間帯に後から追加された行を再集計したうえで、
+     * 指定日時の正時より前の未集計の時間帯を集計します。
+     *
+     * @param until 集計の終端（正時に切り捨て、この時間帯は含まない）
+     * @return 集計・再集計した時間帯の数
+     */
+    public synchronized int rollUpUntil(LocalDateTime until) {
+        if (until == null) {
+            throw new IllegalArgumentException("集計の終端は必須です");
+        }
+        LocalDateTime end = until.truncatedTo(ChronoUnit.HOURS);
+        long start = System.nanoTime();
+        try {
+            State state = loadState();
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM audit_logs", Long.class);
+            long lastSeen = maxId != null ? maxId : state.lastSeenLogId;
+            int hours = rollUpLateHours(state, lastSeen);
+
+            LocalDateTime rolledUpUntil = state.rolledUpUntil;
+            LocalDateTime from = nextBucket(rolledUpUntil);
+            if (from == null) {
+                // 終端まで監査ログがないため集計済みとして扱う
+                if (rolledUpUntil != null && rolledUpUntil.isBefore(end)) {
+                    rolledUpUntil = end;
+                }
+                from = end;
+            }
+            while (from.isBefore(end)) {
+                LocalDateTime chunkStart = from;
+                LocalDateTime chunkEnd = from.plusHours(chunkHours).isBefore(end) ? from.plusHours(chunkHours) : end;
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (LocalDateTime hour = chunkStart; hour.isBefore(chunkEnd); hour = hour.plusHours(1)) {
+                        rollUpHour(hour);
+                    }
+                    saveState(chunkEnd, state.scanFromLogId, state.lastSeenLogId);
+                });
+                hours += (int) ChronoUnit.HOURS.between(chunkStart, chunkEnd);
+                rolledUpUntil = chunkEnd;
+                from = chunkEnd;
+            }
+            // 次回は今回の走査開始位置ではなく前回の終端から走査し、コミットが遅れた行も拾う
+            saveState(rolledUpUntil, state.lastSeenLogId, lastSeen);
+            logger.debug("監査ログ時間別集計完了: until={}, hours={}", end, hours);
+            return hours;
+        } finally {
+            durationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** 前回の走査位置より後のIDの行を含む集計済みの時間帯のうち、件数が一致しない時間帯を再集計する */
+    private int rollUpLateHours(State state, long lastSeen) {
+        if (state.rolledUpUntil == null || lastSeen <= state.scanFromLogId) {
+            return 0;
+        }
+        List<LocalDateTime> candidates = jdbcTemplate.queryForList(LATE_HOURS_SQL, Timestamp.class,
+                        state.scanFromLogId, lastSeen, Timestamp.valueOf(state.rolledUpUntil))
+                .stream()
+                .map(Timestamp::toLocalDateTime)
+                .toList();
+        List<LocalDateTime> stale = new ArrayList<>();
+        for (LocalDateTime hour : candidates) {
+            Timestamp bucket = Timestamp.valueOf(hour);
+            Long rolled = jdbcTemplate.queryForObject(ROLLED_COUNT_SQL, Long.class, bucket);
+            Long raw = jdbcTemplate.queryForObject(RAW_COUNT_SQL, Long.class, bucket, Timestamp.valueOf(hour.plusHours(1)));
+            if (!raw.equals(rolled)) {
+                stale.add(hour);
+            }
+        }
+        for (int i = 0; i < stale.size(); i += chunkHours) {
+            List<LocalDateTime> chunk = stale.subList(i, Math.min(i + chunkHours, stale.size()));
+            transactionTemplate.executeWithoutResult(status -> chunk.forEach(this::rollUpHour));
+        }
+        if (!stale.isEmpty()) {
+            logger.info("集計済みの時間帯に追加された監査ログを再集計しました: hours={}", stale);
+        }
+        return stale.size();
+    }
+
+    private void rollUpHour(LocalDateTime hour) {
+        Timestamp bucket = Timestamp.valueOf(hour);
+        jdbcTemplate.update(DELETE_SQL, bucket);
+        jdbcTemplate.update(ROLLUP_SQL, bucket, bucket, Timestamp.valueOf(hour.plusHours(1)));
+    }
+
+    /**
+     * 次に集計する時間帯。集計済みの終端以降で最初に監査ログが存在する時間帯とし、
+     * 監査ログのない時間帯は読み飛ばします。集計対象がない場合はnull。
+     */
+    private LocalDateTime nextBucket(LocalDateTime from) {
+        Timestamp firstRow = from == null
+                ? jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM audit_logs", Timestamp.class)
+                : jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM audit_logs WHERE created_at >= ?",
+                        Timestamp.class, Timestamp.valueOf(from));
+        return firstRow != null ? firstRow.toLocalDateTime().truncatedTo(ChronoUnit.HOURS) : null;
+    }
+
+    private State loadState() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(STATE_SQL);
+        if (rows.isEmpty()) {
+            return new State(null, 0L, 0L);
+        }
+        Map<String, Object> row = rows.get(0);
+        Timestamp rolledUpUntil = (Timestamp) row.get("rolled_up_until");
+        return new State(rolledUpUntil != null ? rolledUpUntil.toLocalDateTime() : null,
+                ((Number) row.get("scan_from_log_id")).longValue(),
+                ((Number) row.get("last_seen_log_id")).longValue());
+    }
+
+    private void saveState(LocalDateTime rolledUpUntil, long scanFromLogId, long lastSeenLogId) {
+        Timestamp until = rolledUpUntil != null ? Timestamp.valueOf(rolledUpUntil) : null;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (jdbcTemplate.update(UPDATE_STATE_SQL, until, scanFromLogId, lastSeenLogId, now) == 0) {
+            jdbcTemplate.update(INSERT_STATE_SQL, until, scanFromLogId, lastSeenLogId, now);
+        }
+    }
+
+    /**
+     * 集計の進捗を初期化します（集計テーブルと状態を削除し、次回の実行で全期間を集計し直します）。
+     */
+    public synchronized void reset() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM audit_log_hourly_rollups");
+            jdbcTemplate.update("DELETE FROM audit_log_rollup_state");
+        });
+    }
+
+    /** 集計の進捗 */
+    private static final class State {
+        private final LocalDateTime rolledUpUntil;
+        private final long scanFromLogId;
+        private final long lastSeenLogId;
+
+        private State(LocalDateTime rolledUpUntil, long scanFromLogId, long lastSeenLogId) {
+            this.rolledUpUntil = rolledUpUntil;
+            this.scanFromLogId = scanFromLogId;
+            this.lastSeenLogId = lastSeenLogId;
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package jp.co.apsa.giiku.infrastructure.audit;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jp.co.apsa.giiku.domain.valueobject.AuditEvent;
+import jp.co.apsa.giiku.domain.valueobject.LogLevel;
+
+/**
+ * 監査ログの非同期バッチ書き込み処理。
+ *
+ * <p>{@link #enqueue(AuditEvent)} はロックフリーのリングバッファに追加するだけで、
+ * DBへの書き込みは専用スレッドが {@code audit_logs} へJDBCバッチで行います。</p>
+ *
+ * <ul>
+ *   <li>バックプレッシャー: バッファが高水位（{@code high-watermark}）を超えると書き込みスレッドを即時起床させ、
+ *       DEBUG/TRACE のアプリケーションログは受け付けずに破棄します（テーブル操作の記録は優先）。</li>
+ *   <li>オーバーフロー: バッファが満杯の場合は {@link OverflowPolicy} に従い、呼び出し元を待たせずに破棄します。</li>
+ *   <li>書き込み失敗: 同じバッチを次回に再試行し、上限回数を超えた分は監査用ロガーに出力します。</li>
+ *   <li>停止時: 書き込みスレッドを止めた後、バッファに残った全件を書き込みます。</li>
+ * </ul>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class AuditLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    /** DBに書き込めなかった監査イベントの出力先 */
+    private static final Logger fallbackLogger = LoggerFactory.getLogger("AUDIT");
+
+    /** メトリクス名 */
+    private static final String METRIC_NAME = "giiku.audit";
+
+    /** 書き込み失敗時の最大試行回数 */
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final String INSERT_COLUMNS =
+            "INSERT INTO audit_logs (table_name, operation_type, record_id, old_values, new_values, changed_by, "
+            + "change_timestamp, created_by, created_at, updated_by, updated_at) ";
+
+    /** PostgreSQL 用（jsonb 列へのキャスト） */
+    private static final String POSTGRES_INSERT_SQL = INSERT_COLUMNS
+            + "VALUES (?, ?, ?, CAST(? AS jsonb), CAST(? AS jsonb), ?, ?, ?, ?, ?, ?)";
+
+    /** H2 など */
+    private static final String GENERIC_INSERT_SQL = INSERT_COLUMNS
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /** バッファ満杯時の動作 */
+    public enum OverflowPolicy {
+        /** 新しいイベントを破棄 */
+        DROP_NEWEST,
+        /** 最も古いイベントを破棄して新しいイベントを追加 */
+        DROP_OLDEST,
+        /** 新しいイベントを監査用ロガーに出力して破棄 */
+        LOG_AND_DROP
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AuditRingBuffer<AuditEvent> buffer;
+
+    private final int highWatermark;
+
+    private final LongAdder accepted = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder shed = new LongAdder();
+
+    private final LongAdder written = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    @Value("${audit.database.enabled:true}")
+    private boolean databaseEnabled = true;
+
+    @Value("${audit.async.enabled:true}")
+    private boolean asyncEnabled = true;
+
+    @Value("${audit.async.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${audit.async.flush-interval-ms:500}")
+    private long flushIntervalMs = 500;
+
+    @Value("${audit.async.overflow-policy:DROP_NEWEST}")
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_NEWEST;
+
+    @Value("${audit.async.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs = 10000;
+
+    private volatile boolean running;
+
+    private volatile Thread writerThread;
+
+    private volatile String insertSql;
+
+    /** AuditLogWriter メソッド */
+    public AuditLogWriter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                          @Value("${audit.async.buffer-size:16384}") int bufferSize,
+                          @Value("${audit.async.high-watermark:0.75}") double highWatermarkRatio) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new AuditRingBuffer<>(bufferSize);
+        this.highWatermark = (int) Math.max(1, buffer.capacity() * highWatermarkRatio);
+        Gauge.builder(METRIC_NAME + ".buffer.depth", buffer, AuditRingBuffer::size)
+                .description("書き込み待ちの監査イベント数")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".buffer.capacity", buffer, AuditRingBuffer::capacity)
+                .description("監査イベントバッファの容量")
+                .register(meterRegistry);
+        registerCounter(meterRegistry, accepted, "accepted", "バッファに受け付けた監査イベント数");
+        registerCounter(meterRegistry, dropped, "dropped", "バッファ満杯により破棄した監査イベント数");
+        registerCounter(meterRegistry, shed, "shed", "高水位時に受け付けなかった低優先度イベント数");
+        registerCounter(meterRegistry, written, "written", "DBに書き込んだ監査イベント数");
+        registerCounter(meterRegistry, failed, "failed", "書き込みに失敗し監査用ロガーへ出力したイベント数");
+    }
+
+    private static void registerCounter(MeterRegistry registry, LongAdder counter, String result, String description) {
+        FunctionCounter.builder(METRIC_NAME + ".events", counter, LongAdder::doubleValue)
+                .tag("result", result)
+                .description(description)
+                .register(registry);
+    }
+
+    /** 書き込みスレッドを開始 */
+    @PostConstruct
+    void start() {
+        if (!databaseEnabled || !asyncEnabled) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::runLoop, "audit-log-writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        thread.start();
+        logger.info("監査ログ書き込みスレッド開始: capacity={}, batchSize={}, interval={}ms, overflow={}",
+                buffer.capacity(), batchSize, flushIntervalMs, overflowPolicy);
+    }
+
+    /** 停止時にバッファに残った監査イベントを全て書き込む */
+    @PreDestroy
+    void stop() {
+        running = false;
+        Thread thread = writerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(shutdownTimeoutMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        int remaining = flush();
+        logger.info("監査ログ書き込みスレッド停止: 停止時書き込み={}, 書き込み済み={}, 破棄={}",
+                remaining, written.sum(), dropped.sum() + shed.sum());
+    }
+
+    /**
+     * 監査イベントを受け付けます。呼び出しスレッドでDBアクセスは行いません
+     * （非同期無効時、書き込みスレッドの開始前・停止後を除く）。
+     *
+     * @param event 監査イベント
+     * @return 受け付けた場合true（破棄した場合false）
+     */
+    public boolean enqueue(AuditEvent event) {
+        if (event == null || !databaseEnabled) {
+            return false;
+        }
+        if (!asyncEnabled || !running) {
+            // 非同期無効時・書き込みスレッド停止後は呼び出しスレッドで書き込む
+            writeWithFallback(List.of(event));
+            return true;
+        }
+        int depth = buffer.size();
+        if (depth >= highWatermark) {
+            wakeWriter();
+            if (isLowPriority(event)) {
+                shed.increment();
+                return false;
+            }
+        }
+        if (buffer.offer(event) || handleOverflow(event)) {
+            accepted.increment();
+            if (depth + 1 >= batchSize) {
+                wakeWriter();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * バッファ内の監査イベントを呼び出しスレッドで全て書き込みます。
+     *
+     * @return 書き込んだ件数
+     */
+    public int flush() {
+        int total = 0;
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            total += writeWithFallback(batch);
+            batch.clear();
+        }
+        return total;
+    }
+
+    /** 現在のバッファ内件数 */
+    public int depth() {
+        return buffer.size();
+    }
+
+    private boolean handleOverflow(AuditEvent event) {
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                if (buffer.poll() != null) {
+                    dropped.increment();
+                }
+                if (buffer.offer(event)) {
+                    return true;
+                }
+                dropped.increment();
+                return false;
+            case LOG_AND_DROP:
+                fallbackLogger.warn("監査バッファ満杯のため未保存: {}", event);
+                dropped.increment();
+                return false;
+            case DROP_NEWEST:
+            default:
+                dropped.increment();
+                return false;
+        }
+    }
+
+    /** 高水位時に受け付けないイベント（DEBUG/TRACE のアプリケーションログ） */
+    private static boolean isLowPriority(AuditEvent event) {
+        return AuditEvent.APPLICATION_TABLE.equals(event.getTableName())
+                && (LogLevel.DEBUG.getLevel().equals(event.getOperationType())
+                    || LogLevel.TRACE.getLevel().equals(event.getOperationType()));
+    }
+
+    private void wakeWriter() {
+        Thread thread = writerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void runLoop() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        int attempts = 0;
+        while (running) {
+            if (batch.isEmpty()) {
+                if (buffer.size() < batchSize) {
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(flushIntervalMs));
+                }
+                buffer.drainTo(batch, batchSize);
+                attempts = 0;
+                if (batch.isEmpty()) {
+                    continue;
+                }
+            }
+            try {
+                write(batch);
+                batch.clear();
+            } catch (RuntimeException e) {
+                attempts++;
+                if (attempts >= MAX_ATTEMPTS) {
+                    logger.error("監査ログの書き込みに{}回失敗したため監査用ロガーへ出力します: size={}",
+                            attempts, batch.size(), e);
+                    spill(batch);
+                    batch.clear();
+                } else {
+                    logger.warn("監査ログの書き込みに失敗しました（再試行 {}/{}）: size={}",
+                            attempts, MAX_ATTEMPTS, batch.size(), e);
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(flushIntervalMs));
+                }
+            }
+        }
+        // 停止直前に取り出していた分
+        if (!batch.isEmpty()) {
+            writeWithFallback(batch);
+        }
+    }
+
+    private int writeWithFallback(List<AuditEvent> batch) {
+        try {
+            write(batch);
+            return batch.size();
+        } catch (RuntimeException e) {
+            logger.error("監査ログの書き込みに失敗したため監査用ロガーへ出力します: size={}", batch.size(), e);
+            spill(batch);
+            return 0;
+        }
+    }
+
+    private void spill(List<AuditEvent> batch) {
+        for (AuditEvent event : batch) {
+            fallbackLogger.warn("未保存の監査イベント: {} newValues={}", event, event.getNewValues());
+        }
+        failed.add(batch.size());
+    }
+
+    private void write(List<AuditEvent> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(insertSql(), batch, batch.size(), (ps, event) -> {
+            ps.setString(1, truncate(event.getTableName(), 100));
+            ps.setString(2, truncate(event.getOperationType(), 20));
+            if (event.getRecordId() != null) {
+                ps.setLong(3, event.getRecordId());
+            } else {
+                ps.setNull(3, Types.BIGINT);
+            }
+            ps.setString(4, event.getOldValues());
+            ps.setString(5, event.getNewValues());
+            ps.setString(6, truncate(event.getChangedBy(), 100));
+            ps.setTimestamp(7, Timestamp.valueOf(event.getOccurredAt()));
+            ps.setLong(8, event.getUserId());
+            ps.setTimestamp(9, Timestamp.valueOf(event.getOccurredAt()));
+            ps.setLong(10, event.getUserId());
+            ps.setTimestamp(11, now);
+        });
+        written.add(batch.size());
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private String insertSql() {
+        String sql = insertSql;
+        if (sql == null) {
+            sql = resolveInsertSql();
+            insertSql = sql;
+        }
+        return sql;
+    }
+
+    private String resolveInsertSql() {
+        try {
+            String product = jdbcTemplate.execute((Connection con) ->
+                    JdbcUtils.commonDatabaseName(con.getMetaData().getDatabaseProductName()));
+            return "PostgreSQL".equalsIgnoreCase(product) ? POSTGRES_INSERT_SQL : GENERIC_INSERT_SQL;
+        } catch (RuntimeException e) {
+            logger.warn("DB種別の判定に失敗したため PostgreSQL 用 INSERT を使用します", e);
+            return POSTGRES_INSERT_SQL;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package jp.co.apsa.giiku.infrastructure.audit;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * ロックを使用しない固定長のリングバッファ（複数生産者・複数消費者）。
+ *
+ * <p>各スロットにシーケンス番号を持たせ、生産者・消費者はそれぞれの位置を CAS で進めます。
+ * 満杯の場合 {@link #offer(Object)} は待たずに {@code false} を返すため、
+ * リクエストスレッドがブロックされることはありません。</p>
+ *
+ * @param <E> 要素の型
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+final class AuditRingBuffer<E> {
+
+    private final int capacity;
+
+    private final int mask;
+
+    private final AtomicReferenceArray<E> elements;
+
+    /** スロットごとのシーケンス番号（書き込み可能な位置 or 読み込み可能な位置+1） */
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong tail = new AtomicLong();
+
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * リングバッファを生成します。容量は指定値以上の2のべき乗に切り上げます。
+     *
+     * @param requestedCapacity 容量
+     */
+    AuditRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("バッファ容量が不正です: " + requestedCapacity);
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 要素を追加します。
+     *
+     * @param element 要素
+     * @return 追加できた場合true（満杯の場合false）
+     */
+    boolean offer(E element) {
+        long pos = tail.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    elements.set(index, element);
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 先頭の要素を取り出します。
+     *
+     * @return 要素（空の場合null）
+     */
+    E poll() {
+        long pos = head.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    E element = elements.get(index);
+                    elements.set(index, null);
+                    sequences.set(index, pos + capacity);
+                    return element;
+                }
+                pos = head.get();
+            } else if (diff < 0) {
+                return null;
+            } else {
+                pos = head.get();
+            }
+        }
+    }
+
+    /**
+     * 最大 {@code maxElements} 件を取り出して追加します。
+     *
+     * @param target      追加先
+     * @param maxElements 最大件数
+     * @return 取り出した件数
+     */
+    int drainTo(Collection<? super E> target, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements) {
+            E element = poll();
+            if (element == null) {
+                break;
+            }
+            target.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /** 現在の要素数（概算） */
+    int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -1,15 +1,20 @@
 package jp.co.apsa.giiku.infrastructure.audit;
 
 import jp.co.apsa.giiku.domain.port.AuditPort;
+import jp.co.apsa.giiku.domain.valueobject.AuditEvent;
 import jp.co.apsa.giiku.domain.valueobject.LogLevel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 
 
 /**
- * Simple implementation of {@link AuditPort} that delegates to SLF4J.
+ * Implementation of {@link AuditPort} that writes to SLF4J and hands the
+ * entry to {@link AuditLogWriter} for asynchronous persistence.
  * @author 株式会社アプサ
  * @version 1.0
  * @since 2025
@@ -19,24 +24,50 @@ public class LoggingService implements AuditPort {
 
     private static final Logger logger = LoggerFactory.getLogger(LoggingService.class);
 
+    private final AuditLogWriter auditLogWriter;
+
+    @Value("${audit.logging.enabled:true}")
+    private boolean loggingEnabled = true;
+
+    public LoggingService(AuditLogWriter auditLogWriter) {
+        this.auditLogWriter = auditLogWriter;
+    }
+
     @Override
     public void log(LogLevel level, String message) {
-        switch (level.getLevel()) {
-            case "ERROR":
-                logger.error(message);
-                break;
-            case "WARN":
-                logger.warn(message);
-                break;
-            case "INFO":
-                logger.info(message);
-                break;
-            case "DEBUG":
-                logger.debug(message);
-                break;
-            default:
-                logger.trace(message);
-                break;
+        if (loggingEnabled) {
+            switch (level.getLevel()) {
+                case "ERROR":
+                    logger.error(message);
+                    break;
+                case "WARN":
+                    logger.warn(message);
+                    break;
+                case "INFO":
+                    logger.info(message);
+                    break;
+                case "DEBUG":
+                    logger.debug(message);
+                    break;
+                default:
+                    logger.trace(message);
+                    break;
+            }
+        }
+        auditLogWriter.enqueue(AuditEvent.message(level, message, currentUsername()));
+    }
+
+    @Override
+    public void record(AuditEvent event) {
+        if (loggingEnabled) {
+            logger.debug("監査イベント: {}", event);
         }
+        auditLogWriter.enqueue(event);
+    }
+
+    /** 認証済みユーザー名（DBアクセスなし） */
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
     }
 }
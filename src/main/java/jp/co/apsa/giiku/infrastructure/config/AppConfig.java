@@ -2,6 +2,7 @@ package jp.co.apsa.giiku.infrastructure.config;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
@@ -14,6 +15,20 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class AppConfig implements WebMvcConfigurer {
 
+    private final NavigationModelInterceptor navigationModelInterceptor;
+
+    /** AppConfig メソッド */
+    public AppConfig(NavigationModelInterceptor navigationModelInterceptor) {
+        this.navigationModelInterceptor = navigationModelInterceptor;
+    }
+
+    /** addInterceptors メソッド */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(navigationModelInterceptor)
+                .excludePathPatterns("/api/**", "/css/**", "/js/**", "/images/**");
+    }
+
     /** addCorsMappings メソッド */
     @Override
     public void addCorsMappings(CorsRegistry registry) {
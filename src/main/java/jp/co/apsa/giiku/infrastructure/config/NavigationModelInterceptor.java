@@ -0,0 +1,53 @@
+package jp.co.apsa.giiku.infrastructure.config;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.view.RedirectView;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jp.co.apsa.giiku.dto.CurriculumTree;
+import jp.co.apsa.giiku.service.CurriculumTreeCache;
+
+/**
+ * HTML画面の描画時に共通メニュー（月別・週別・日別リンク）をモデルへ追加するインターセプター。
+ *
+ * <p>{@code @ResponseBody} を返すAPIやリダイレクトでは {@link ModelAndView} が無いか
+ * 描画されないため、カリキュラムツリーを参照しません。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class NavigationModelInterceptor implements HandlerInterceptor {
+
+    private final CurriculumTreeCache curriculumTreeCache;
+
+    /** NavigationModelInterceptor メソッド */
+    public NavigationModelInterceptor(CurriculumTreeCache curriculumTreeCache) {
+        this.curriculumTreeCache = curriculumTreeCache;
+    }
+
+    /** postHandle メソッド */
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView == null || isRedirect(modelAndView)) {
+            return;
+        }
+        CurriculumTree tree = curriculumTreeCache.get();
+        modelAndView.addObject("navMonths", tree.getNavMonths());
+        modelAndView.addObject("navWeeks", tree.getNavWeeks());
+        modelAndView.addObject("navDays", tree.getNavDays());
+    }
+
+    private boolean isRedirect(ModelAndView modelAndView) {
+        if (modelAndView.getView() instanceof RedirectView) {
+            return true;
+        }
+        String viewName = modelAndView.getViewName();
+        return viewName != null && viewName.startsWith("redirect:");
+    }
+}
@@ -0,0 +1,183 @@
+package jp.co.apsa.giiku.infrastructure.config;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import jp.co.apsa.giiku.service.RenderedPageCache;
+
+/**
+ * 月・週・日・講義ページの描画済みHTMLを返すフィルター。
+ *
+ * <ul>
+ *   <li>ETag はコンテンツバージョン・ページ・ロール・セッションから算出するため、
+ *       {@code If-None-Match} が一致する場合はDBもテンプレートも使わずに 304 を返します。</li>
+ *   <li>キャッシュ済みの場合はコントローラーを呼ばずに保存済みHTMLを返します。</li>
+ *   <li>HTML内のCSRFトークンは保存時にプレースホルダーへ置き換え、応答時に現在のリクエストのトークンを埋め込みます。</li>
+ * </ul>
+ *
+ * <p>セキュリティフィルターの後に実行されるため、未認証のリクエストはここに到達しません。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class RenderedPageCacheFilter extends OncePerRequestFilter {
+
+    /** キャッシュ対象のページ */
+    private static final List<String> CACHEABLE_PATHS = List.of("/month/**", "/week/**", "/day/**", "/lecture/**");
+
+    private static final String CSRF_PLACEHOLDER = "__GIIKU_CSRF_TOKEN__";
+
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final RenderedPageCache renderedPageCache;
+
+    @Value("${giiku.page-cache.enabled:true}")
+    private boolean enabled = true;
+
+    /** RenderedPageCacheFilter メソッド */
+    public RenderedPageCacheFilter(RenderedPageCache renderedPageCache) {
+        this.renderedPageCache = renderedPageCache;
+    }
+
+    /** shouldNotFilter メソッド */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return CACHEABLE_PATHS.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    /** doFilterInternal メソッド */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = pageKey(request, authentication);
+        long version = renderedPageCache.currentVersion();
+        String etag = etag(version, key, request);
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            renderedPageCache.recordNotModified();
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            return;
+        }
+
+        RenderedPageCache.Page cached = renderedPageCache.get(key);
+        if (cached != null) {
+            write(response, cached, csrfToken(request), etag);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        String contentType = wrapper.getContentType();
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK && contentType != null
+                && contentType.startsWith(MediaType.TEXT_HTML_VALUE)) {
+            String body = new String(wrapper.getContentAsByteArray(), charsetOf(contentType));
+            String token = csrfToken(request);
+            String template = token != null && !token.isEmpty() ? body.replace(token, CSRF_PLACEHOLDER) : body;
+            renderedPageCache.put(key, new RenderedPageCache.Page(version, contentType, template));
+            wrapper.setHeader(HttpHeaders.ETAG, etag);
+            wrapper.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void write(HttpServletResponse response, RenderedPageCache.Page page, String token, String etag)
+            throws IOException {
+        String body = page.getBody().replace(CSRF_PLACEHOLDER, token != null ? token : "");
+        byte[] bytes = body.getBytes(charsetOf(page.getContentType()));
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(page.getContentType());
+        response.setContentLength(bytes.length);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.getOutputStream().write(bytes);
+    }
+
+    /** ページ（URI）とロールの組み合わせ */
+    private static String pageKey(HttpServletRequest request, Authentication authentication) {
+        String roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .collect(Collectors.joining(","));
+        String query = request.getQueryString();
+        return request.getRequestURI() + (query != null ? "?" + query : "") + "|" + roles;
+    }
+
+    /**
+     * 強いETagを算出します。
+     * 埋め込まれるCSRFトークンはセッション単位で有効なため、セッションIDも含めます。
+     */
+    private static String etag(long version, String key, HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        String source = version + "|" + key + "|" + (session != null ? session.getId() : "");
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 が利用できません", e);
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            if (candidate.trim().equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String csrfToken(HttpServletRequest request) {
+        Object token = request.getAttribute(CsrfToken.class.getName());
+        return token instanceof CsrfToken csrfToken ? csrfToken.getToken() : null;
+    }
+
+    private static Charset charsetOf(String contentType) {
+        Charset charset = MediaType.parseMediaType(contentType).getCharset();
+        return charset != null ? charset : StandardCharsets.UTF_8;
+    }
+}
@@ -0,0 +1,358 @@
+package jp.co.apsa.giiku.infrastructure.notification;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jp.co.apsa.giiku.domain.entity.NotificationOutboxMessage;
+import jp.co.apsa.giiku.domain.port.NotificationPort;
+
+/**
+ * 通知のトランザクショナルアウトボックス。
+ *
+ * <p>{@link #enqueue(String, String, boolean)} は呼び出し元のトランザクションで {@code notification_outbox}
+ * に1行書き込むだけで、Webhook は呼び出しません。業務データと一緒にコミットされた通知だけが送信され、
+ * ロールバックされた通知は送信されません。</p>
+ *
+ * <p>送信スレッドは送信待ちの行を {@code FOR UPDATE SKIP LOCKED} で {@code batch-size} 件ずつ取得し、
+ * 同じトランザクションで {@code next_attempt_at} をリース期限（{@code lease-seconds} 後）に進めてから
+ * コミットし、{@link NotificationPort} で送信します。他のインスタンスはロック中・リース中の行を
+ * 読み飛ばすため、複数インスタンスで動かしても同じ通知を同時に送信しません。送信前に停止した場合は
+ * リース期限後に再送するため、配信は少なくとも1回（重複の可能性あり）となります。</p>
+ *
+ * <p>送信できなかった通知は指数バックオフで再試行し、{@code max-attempts} 回失敗すると
+ * {@code FAILED} にします。送信済みの行は {@code retention-hours} 経過後に削除します。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class NotificationOutbox {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationOutbox.class);
+
+    /** メトリクス名 */
+    private static final String METRIC_NAME = "giiku.notification-outbox";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notification_outbox (recipient, message, urgent, status, attempts, next_attempt_at, created_at) "
+            + "VALUES (?, ?, ?, '" + NotificationOutboxMessage.STATUS_PENDING + "', 0, ?, ?)";
+
+    private static final String CLAIM_SQL =
+            "SELECT id, recipient, message, urgent, attempts FROM notification_outbox "
+            + "WHERE status = '" + NotificationOutboxMessage.STATUS_PENDING + "' AND next_attempt_at <= ? "
+            + "ORDER BY next_attempt_at, id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String LEASE_SQL =
+            "UPDATE notification_outbox SET attempts = attempts + 1, next_attempt_at = ? WHERE id = ?";
+
+    private static final String SENT_SQL =
+            "UPDATE notification_outbox SET status = '" + NotificationOutboxMessage.STATUS_SENT + "', "
+            + "sent_at = ?, last_error = NULL WHERE id = ?";
+
+    private static final String RETRY_SQL =
+            "UPDATE notification_outbox SET status = ?, next_attempt_at = ?, last_error = ? WHERE id = ?";
+
+    private static final String PURGE_SQL =
+            "DELETE FROM notification_outbox WHERE status = '" + NotificationOutboxMessage.STATUS_SENT + "' "
+            + "AND sent_at < ?";
+
+    /** last_error 列の長さ */
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final NotificationPort notificationPort;
+
+    private final LongAdder sent = new LongAdder();
+
+    private final LongAdder retried = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    /** コミット通知による即時送信の要求（連続したコミットを1回の送信にまとめる） */
+    private final AtomicBoolean wakeUpRequested = new AtomicBoolean();
+
+    @Value("${giiku.notification-outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${giiku.notification-outbox.poll-interval-ms:2000}")
+    private long pollIntervalMs;
+
+    @Value("${giiku.notification-outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${giiku.notification-outbox.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Value("${giiku.notification-outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${giiku.notification-outbox.initial-backoff-seconds:30}")
+    private long initialBackoffSeconds;
+
+    @Value("${giiku.notification-outbox.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    @Value("${giiku.notification-outbox.retention-hours:168}")
+    private long retentionHours;
+
+    private ScheduledExecutorService scheduler;
+
+    /** NotificationOutbox メソッド */
+    public NotificationOutbox(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              NotificationPort notificationPort, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.notificationPort = notificationPort;
+        FunctionCounter.builder(METRIC_NAME + ".deliveries", sent, LongAdder::doubleValue)
+                .tag("result", "sent")
+                .description("送信した通知数")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_NAME + ".deliveries", retried, LongAdder::doubleValue)
+                .tag("result", "retried")
+                .description("送信に失敗し再試行を予定した通知数")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_NAME + ".deliveries", failed, LongAdder::doubleValue)
+                .tag("result", "failed")
+                .description("再試行の上限に達した通知数")
+                .register(meterRegistry);
+    }
+
+    /** 送信スレッドを開始 */
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "notification-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::deliverQuietly, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::purgeQuietly, 1, 60, TimeUnit.MINUTES);
+        logger.info("通知アウトボックス開始: interval={}ms, batch={}", pollIntervalMs, batchSize);
+    }
+
+    /** 送信スレッドを停止（送信中の通知はリース期限後に再送される） */
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 通知を送信待ちとして書き込みます。
+     * 呼び出し元のトランザクションに参加し、コミット後に送信スレッドを起こします。
+     *
+     * @param recipient 通知先（Slack ユーザーID）
+     * @param message 通知本文
+     * @param urgent 緊急通知の場合はtrue
+     */
+    public void enqueue(String recipient, String message, boolean urgent) {
+        if (recipient == null || recipient.isBlank() || message == null || message.isBlank()) {
+            throw new IllegalArgumentException("通知先と通知本文は必須です");
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(INSERT_SQL, recipient, message, urgent, now, now);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+        } else {
+            wakeUp();
+        }
+    }
+
+    private void wakeUp() {
+        if (scheduler != null && wakeUpRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::deliverQuietly);
+            } catch (RuntimeException e) {
+                // 停止中は次回起動時のポーリングで送信する
+                wakeUpRequested.set(false);
+            }
+        }
+    }
+
+    private void deliverQuietly() {
+        wakeUpRequested.set(false);
+        try {
+            while (deliverPending() == batchSize) {
+                // 1回で取得しきれなかった場合は続けて送信する
+            }
+        } catch (RuntimeException e) {
+            logger.error("通知アウトボックスの送信エラー（次回再試行）", e);
+        }
+    }
+
+    private void purgeQuietly() {
+        try {
+            purgeSent();
+        } catch (RuntimeException e) {
+            logger.error("送信済み通知の削除に失敗しました（次回再試行）", e);
+        }
+    }
+
+    /**
+     * 送信待ちの通知を1バッチ取得して送信します。
+     *
+     * @return 取得した通知数
+     */
+    public int deliverPending() {
+        List<Claimed> claimed = claim();
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        List<CompletableFuture<Boolean>> results = new ArrayList<>(claimed.size());
+        for (Claimed message : claimed) {
+            results.add(send(message));
+        }
+        // リース期限までに結果が出なかった通知は失敗として再試行する
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(leaseSeconds) / 2;
+        List<Object[]> sentRows = new ArrayList<>();
+        List<Object[]> retryRows = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < claimed.size(); i++) {
+            Claimed message = claimed.get(i);
+            String error = await(results.get(i), deadline);
+            LocalDateTime completedAt = LocalDateTime.now();
+            if (error == null) {
+                sentRows.add(new Object[] {Timestamp.valueOf(completedAt), message.id});
+                continue;
+            }
+            int attempts = message.attempts + 1;
+            boolean exhausted = attempts >= maxAttempts;
+            retryRows.add(new Object[] {
+                exhausted ? NotificationOutboxMessage.STATUS_FAILED : NotificationOutboxMessage.STATUS_PENDING,
+                Timestamp.valueOf(exhausted ? completedAt : now.plusSeconds(backoffSeconds(attempts))),
+                error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error,
+                message.id});
+            (exhausted ? failed : retried).increment();
+            if (exhausted) {
+                logger.error("通知の送信が上限回数に達しました: id={}, attempts={}, error={}", message.id, attempts, error);
+            }
+        }
+        if (!sentRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(SENT_SQL, sentRows);
+            sent.add(sentRows.size());
+        }
+        if (!retryRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(RETRY_SQL, retryRows);
+        }
+        logger.debug("通知アウトボックス送信: claimed={}, sent={}, retry={}",
+                claimed.size(), sentRows.size(), retryRows.size());
+        return claimed.size();
+    }
+
+    /**
+     * 送信済みで保持期間を過ぎた通知を削除します。
+     *
+     * @return 削除した件数
+     */
+    public int purgeSent() {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(LocalDateTime.now().minusHours(retentionHours)));
+    }
+
+    /** 送信待ちの行をロックして取得し、リース期限まで他の取得対象から外す */
+    private List<Claimed> claim() {
+        List<Claimed> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Claimed> rows = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new Claimed(
+                    rs.getLong("id"), rs.getString("recipient"), rs.getString("message"),
+                    rs.getBoolean("urgent"), rs.getInt("attempts")), Timestamp.valueOf(now), batchSize);
+            if (!rows.isEmpty()) {
+                Timestamp leaseUntil = Timestamp.valueOf(now.plusSeconds(leaseSeconds));
+                List<Object[]> args = new ArrayList<>(rows.size());
+                for (Claimed row : rows) {
+                    args.add(new Object[] {leaseUntil, row.id});
+                }
+                jdbcTemplate.batchUpdate(LEASE_SQL, args);
+            }
+            return rows;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    private CompletableFuture<Boolean> send(Claimed message) {
+        try {
+            return notificationPort.sendNotificationAsync(message.recipient, message.message, message.urgent);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /** 送信結果を待ち、失敗した場合はエラー内容を返す */
+    private static String await(CompletableFuture<Boolean> result, long deadline) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return Boolean.TRUE.equals(result.get(remaining, TimeUnit.NANOSECONDS)) ? null : "送信に失敗しました";
+        } catch (TimeoutException e) {
+            return "送信がタイムアウトしました";
+        } catch (ExecutionException e) {
+            return String.valueOf(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "送信待ちが中断されました";
+        }
+    }
+
+    private long backoffSeconds(int attempts) {
+        long backoff = initialBackoffSeconds << Math.min(attempts - 1, 30);
+        return Math.min(backoff, maxBackoffSeconds);
+    }
+
+    /** 取得した通知 */
+    private static final class Claimed {
+        private final long id;
+        private final String recipient;
+        private final String message;
+        private final boolean urgent;
+        private final int attempts;
+
+        private Claimed(long id, String recipient, String message, boolean urgent, int attempts) {
+            this.id = id;
+            this.recipient = recipient;
+            this.message = message;
+            this.urgent = urgent;
+            this.attempts = attempts;
+        }
+    }
+}
@@ -0,0 +1,397 @@
+package jp.co.apsa.giiku.infrastructure.notification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.retry.backoff.BackOffInterruptedException;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jp.co.apsa.giiku.infrastructure.notification.SlackNotificationService.SlackMessage;
+
+/**
+ * Slack 通知の非同期送信キュー。
+ *
+ * <p>通知は上限付きのキューで受け付け、専用スレッドが送信します。最初の通知から
+ * {@code coalesce-window-ms} の間に届いた同じチャンネル宛ての通知は改行で連結し、1回の Webhook
+ * 呼び出しにまとめます。送信はトークンバケットで {@code rate-per-second} 以下に抑え、429 と 5xx・
+ * 通信エラーは指数バックオフで再試行します（429 の {@code Retry-After} も待機します）。</p>
+ *
+ * <p>キューが満杯の場合は通知を破棄し、結果を {@code false} で完了します。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class SlackNotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlackNotificationDispatcher.class);
+
+    /** メトリクス名 */
+    private static final String METRIC_NAME = "giiku.slack-dispatcher";
+
+    /** 停止を確認する間隔（ミリ秒） */
+    private static final long POLL_INTERVAL_MS = 500;
+
+    private final RestTemplate restTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final LongAdder sent = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder payloads = new LongAdder();
+
+    @Value("${giiku.slack.dispatcher.enabled:true}")
+    private boolean enabled;
+
+    @Value("${giiku.slack.dispatcher.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${giiku.slack.dispatcher.coalesce-window-ms:1000}")
+    private long coalesceWindowMs;
+
+    @Value("${giiku.slack.dispatcher.max-messages-per-payload:20}")
+    private int maxMessagesPerPayload;
+
+    @Value("${giiku.slack.dispatcher.rate-per-second:1}")
+    private double ratePerSecond;
+
+    @Value("${giiku.slack.dispatcher.burst:3}")
+    private int burst;
+
+    @Value("${giiku.slack.dispatcher.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${giiku.slack.dispatcher.initial-backoff-ms:1000}")
+    private long initialBackoffMs;
+
+    @Value("${giiku.slack.dispatcher.max-backoff-ms:30000}")
+    private long maxBackoffMs;
+
+    private volatile BlockingQueue<Pending> queue;
+
+    private volatile boolean running;
+
+    private TokenBucket bucket;
+
+    private RetryTemplate retryTemplate;
+
+    private Thread worker;
+
+    /** SlackNotificationDispatcher メソッド */
+    public SlackNotificationDispatcher(@Qualifier("slackRestTemplate") RestTemplate restTemplate,
+                                       ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        FunctionCounter.builder(METRIC_NAME + ".messages", sent, LongAdder::doubleValue)
+                .tag("result", "sent")
+                .description("送信したSlack通知数")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_NAME + ".messages", failed, LongAdder::doubleValue)
+                .tag("result", "failed")
+                .description("再試行後も送信できなかったSlack通知数")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_NAME + ".messages", dropped, LongAdder::doubleValue)
+                .tag("result", "dropped")
+                .description("キューが満杯のため破棄したSlack通知数")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_NAME + ".payloads", payloads, LongAdder::doubleValue)
+                .description("Webhookの呼び出し回数")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".queue", this, dispatcher -> dispatcher.queue == null ? 0 : dispatcher.queue.size())
+                .description("送信待ちのSlack通知数")
+                .register(meterRegistry);
+    }
+
+    /** 送信スレッドを開始 */
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        if (ratePerSecond <= 0 || burst < 1 || maxMessagesPerPayload < 1) {
+            throw new IllegalStateException("Slack通知の送信設定が不正です: rate-per-second=" + ratePerSecond
+                    + ", burst=" + burst + ", max-messages-per-payload=" + maxMessagesPerPayload);
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        bucket = new TokenBucket(burst, ratePerSecond);
+        retryTemplate = RetryTemplate.builder()
+                .maxAttempts(maxAttempts)
+                .exponentialBackoff(initialBackoffMs, 2.0, maxBackoffMs)
+                .retryOn(HttpClientErrorException.TooManyRequests.class)
+                .retryOn(HttpServerErrorException.class)
+                .retryOn(ResourceAccessException.class)
+                .build();
+        running = true;
+        worker = new Thread(this::run, "slack-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+        logger.info("Slack通知ディスパッチャー開始: window={}ms, rate={}/s", coalesceWindowMs, ratePerSecond);
+    }
+
+    /** 停止時は受け付け済みの通知を送信してから終了する */
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        worker.interrupt();
+    }
+
+    /**
+     * 送信スレッドが動作しているかどうかを返します。
+     *
+     * @return 動作中の場合はtrue
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 通知を送信キューに追加します。
+     *
+     * @param webhookUrl Webhook URL
+     * @param message 通知メッセージ
+     * @return 送信結果（キューが満杯・停止中の場合は {@code false}）
+     */
+    public CompletableFuture<Boolean> submit(String webhookUrl, SlackMessage message) {
+        if (webhookUrl == null || message == null) {
+            throw new IllegalArgumentException("Webhook URLとメッセージは必須です");
+        }
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        BlockingQueue<Pending> target = queue;
+        Pending pending = new Pending(webhookUrl, message, result);
+        if (!running || target == null || !target.offer(pending)) {
+            dropped.increment();
+            logger.warn("Slack通知を破棄しました（キュー満杯または停止中）: channel={}", message.getChannel());
+            result.complete(false);
+            return result;
+        }
+        if (!running && target.remove(pending)) {
+            // 停止処理と競合した場合は送信スレッドに取り出されずに残る可能性がある
+            dropped.increment();
+            result.complete(false);
+        }
+        return result;
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            List<Pending> batch = new ArrayList<>();
+            try {
+                Pending first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                complete(batch, false);
+                break;
+            } catch (RuntimeException e) {
+                logger.error("Slack通知の送信エラー: messages={}", batch.size(), e);
+                complete(batch, false);
+            }
+        }
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        complete(remaining, false);
+        logger.info("Slack通知ディスパッチャー停止: 未送信={}", remaining.size());
+    }
+
+    /** 最初の通知から一定時間の間に届いた通知を集める（停止中は待たない） */
+    private void collect(List<Pending> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(coalesceWindowMs);
+        while (running) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        queue.drainTo(batch, Math.max(0, queueCapacity - batch.size()));
+    }
+
+    /** Webhook URL・チャンネルごとにまとめて送信する */
+    private void dispatch(List<Pending> batch) throws InterruptedException {
+        Map<String, List<Pending>> byChannel = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            // Webhook URL は空白を含まないため区切りに使う
+            byChannel.computeIfAbsent(pending.webhookUrl + " " + pending.message.getChannel(),
+                    key -> new ArrayList<>()).add(pending);
+        }
+        for (List<Pending> messages : byChannel.values()) {
+            for (int from = 0; from < messages.size(); from += maxMessagesPerPayload) {
+                List<Pending> chunk = messages.subList(from, Math.min(from + maxMessagesPerPayload, messages.size()));
+                boolean delivered = deliver(chunk);
+                (delivered ? sent : failed).add(chunk.size());
+                complete(chunk, delivered);
+            }
+        }
+    }
+
+    /** まとめた通知を1回の Webhook 呼び出しで送信する */
+    private boolean deliver(List<Pending> chunk) throws InterruptedException {
+        Pending first = chunk.get(0);
+        String text = chunk.stream().map(pending -> pending.message.getText()).collect(Collectors.joining("\n"));
+        SlackMessage payload = new SlackMessage(first.message.getChannel(), first.message.getUsername(),
+                first.message.getIcon_emoji(), text);
+        HttpEntity<String> request;
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            request = new HttpEntity<>(objectMapper.writeValueAsString(payload), headers);
+        } catch (JsonProcessingException e) {
+            logger.error("Slack通知の変換エラー: channel={}", payload.getChannel(), e);
+            return false;
+        }
+        try {
+            return retryTemplate.<Boolean, InterruptedException>execute(context -> {
+                bucket.acquire();
+                payloads.increment();
+                try {
+                    ResponseEntity<String> response =
+                            restTemplate.postForEntity(first.webhookUrl, request, String.class);
+                    return response.getStatusCode().is2xxSuccessful();
+                } catch (HttpClientErrorException.TooManyRequests e) {
+                    bucket.pause(retryAfterMillis(e));
+                    logger.warn("Slackのレート制限により待機します: channel={}, attempt={}",
+                            payload.getChannel(), context.getRetryCount() + 1);
+                    throw e;
+                }
+            });
+        } catch (BackOffInterruptedException e) {
+            throw new InterruptedException("Slack通知の再試行待ちが中断されました");
+        } catch (RestClientException e) {
+            logger.error("Slack通知の送信に失敗しました: channel={}, messages={}",
+                    payload.getChannel(), chunk.size(), e);
+            return false;
+        }
+    }
+
+    private static long retryAfterMillis(HttpClientErrorException e) {
+        String retryAfter = e.getResponseHeaders() != null ? e.getResponseHeaders().getFirst("Retry-After") : null;
+        if (retryAfter == null) {
+            return 0;
+        }
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+
+    private static void complete(List<Pending> pendings, boolean result) {
+        for (Pending pending : pendings) {
+            pending.result.complete(result);
+        }
+    }
+
+    /** 送信待ちの通知 */
+    private static final class Pending {
+        private final String webhookUrl;
+        private final SlackMessage message;
+        private final CompletableFuture<Boolean> result;
+
+        private Pending(String webhookUrl, SlackMessage message, CompletableFuture<Boolean> result) {
+            this.webhookUrl = webhookUrl;
+            this.message = message;
+            this.result = result;
+        }
+    }
+
+    /**
+     * 送信間隔を制御するトークンバケット。送信スレッドからのみ使用します。
+     */
+    static final class TokenBucket {
+
+        private final double capacity;
+
+        private final double tokensPerNano;
+
+        private double tokens;
+
+        private long refilledAt;
+
+        private long pausedUntil;
+
+        TokenBucket(int capacity, double tokensPerSecond) {
+            this.capacity = capacity;
+            this.tokensPerNano = tokensPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.tokens = capacity;
+            this.refilledAt = System.nanoTime();
+            this.pausedUntil = refilledAt;
+        }
+
+        /** トークンを1つ取得できるまで待機する */
+        void acquire() throws InterruptedException {
+            while (true) {
+                long now = System.nanoTime();
+                tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+                refilledAt = now;
+                long paused = pausedUntil - now;
+                if (paused <= 0 && tokens >= 1) {
+                    tokens -= 1;
+                    return;
+                }
+                long refill = (long) Math.ceil((1 - tokens) / tokensPerNano);
+                TimeUnit.NANOSECONDS.sleep(Math.max(1, Math.max(paused, refill)));
+            }
+        }
+
+        /** レート制限を受けた場合に指定時間送信を止める */
+        void pause(long millis) {
+            long now = System.nanoTime();
+            pausedUntil = Math.max(pausedUntil, now + TimeUnit.MILLISECONDS.toNanos(millis));
+            tokens = 0;
+            refilledAt = now;
+        }
+    }
+}
@@ -1,9 +1,18 @@
 package jp.co.apsa.giiku.infrastructure.notification;
 
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -20,6 +29,11 @@ import jp.co.apsa.giiku.domain.port.NotificationPort;
 
 /**
  * Slack Webhook を利用した通知サービスの簡易実装。
+ *
+ * <p>非同期送信は {@link SlackNotificationDispatcher} のキューに追加し、同じチャンネル宛ての通知を
+ * まとめて送信します。ディスパッチャーが無効・停止している場合は、このサービス専用の上限付きスレッドプールで
+ * 1件ずつ送信します（共通プールは使用しません）。プールの待ち行列が溢れた通知は失敗（false）として完了し、
+ * 通知アウトボックス経由の通知は再送されます。</p>
  * @author 株式会社アプサ
  * @version 1.0
  * @since 2025
@@ -31,6 +45,7 @@ public class SlackNotificationService implements NotificationPort {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final SlackNotificationDispatcher dispatcher;
 
     @Value("${slack.webhook-url:}")
     private String webhookUrl;
@@ -50,9 +65,27 @@ public class SlackNotificationService implements NotificationPort {
     @Value("${slack.enabled:true}")
     private boolean notificationEnabled;
 
+    @Value("${giiku.slack.dispatcher.fallback-threads:2}")
+    private int fallbackThreads = 2;
+
+    @Value("${giiku.slack.dispatcher.fallback-queue-capacity:100}")
+    private int fallbackQueueCapacity = 100;
+
+    /** ディスパッチャーが無効・停止している場合の送信用（初回使用時に作成） */
+    private ThreadPoolExecutor fallbackExecutor;
+
+    private boolean stopped;
+
     public SlackNotificationService(RestTemplate restTemplate, ObjectMapper objectMapper) {
+        this(restTemplate, objectMapper, null);
+    }
+
+    @Autowired
+    public SlackNotificationService(@Qualifier("slackRestTemplate") RestTemplate restTemplate,
+                                    ObjectMapper objectMapper, SlackNotificationDispatcher dispatcher) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
+        this.dispatcher = dispatcher;
     }
 
     @Override
@@ -62,14 +95,11 @@ public class SlackNotificationService implements NotificationPort {
 
     @Override
     public boolean sendNotification(String userId, String message, boolean isUrgent) {
-        if (!notificationEnabled || webhookUrl == null || webhookUrl.isEmpty()) {
-            logger.warn("Slack notification disabled or webhook URL missing");
+        if (!isConfigured()) {
             return false;
         }
         try {
-            String channel = isUrgent ? urgentChannel : defaultChannel;
-            SlackMessage payload = new SlackMessage(channel, botUsername, botIcon,
-                    (isUrgent ? "\uD83D\uDEA8 **緊急通知**\n" : "") + "<@" + userId + "> " + message);
+            SlackMessage payload = buildMessage(userId, message, isUrgent);
             String body = objectMapper.writeValueAsString(payload);
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
@@ -84,7 +114,58 @@ public class SlackNotificationService implements NotificationPort {
 
     @Override
     public CompletableFuture<Boolean> sendNotificationAsync(String userId, String message, boolean isUrgent) {
-        return CompletableFuture.supplyAsync(() -> sendNotification(userId, message, isUrgent));
+        if (!isConfigured()) {
+            return CompletableFuture.completedFuture(false);
+        }
+        if (dispatcher != null && dispatcher.isRunning()) {
+            return dispatcher.submit(webhookUrl, buildMessage(userId, message, isUrgent));
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> sendNotification(userId, message, isUrgent), fallbackExecutor());
+        } catch (RejectedExecutionException e) {
+            logger.warn("Slack notification fallback queue is full or stopped; notification not sent");
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+
+    /** 送信用スレッドプールを停止 */
+    @PreDestroy
+    synchronized void stop() {
+        stopped = true;
+        if (fallbackExecutor != null) {
+            fallbackExecutor.shutdown();
+        }
+    }
+
+    private synchronized ThreadPoolExecutor fallbackExecutor() {
+        if (stopped) {
+            throw new RejectedExecutionException("Slack notification service is stopped");
+        }
+        if (fallbackExecutor == null) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            fallbackExecutor = new ThreadPoolExecutor(fallbackThreads, fallbackThreads, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(fallbackQueueCapacity), r -> {
+                        Thread thread = new Thread(r, "slack-notification-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }, new ThreadPoolExecutor.AbortPolicy());
+            fallbackExecutor.allowCoreThreadTimeOut(true);
+        }
+        return fallbackExecutor;
+    }
+
+    private boolean isConfigured() {
+        if (!notificationEnabled || webhookUrl == null || webhookUrl.isEmpty()) {
+            logger.warn("Slack notification disabled or webhook URL missing");
+            return false;
+        }
+        return true;
+    }
+
+    private SlackMessage buildMessage(String userId, String message, boolean isUrgent) {
+        String channel = isUrgent ? urgentChannel : defaultChannel;
+        return new SlackMessage(channel, botUsername, botIcon,
+                (isUrgent ? "\uD83D\uDEA8 **緊急通知**\n" : "") + "<@" + userId + "> " + message);
     }
 
     /**
@@ -0,0 +1,56 @@
+package jp.co.apsa.giiku.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+
+import jp.co.apsa.giiku.domain.entity.Chapter;
+import jp.co.apsa.giiku.dto.LectureChapterCreateDto;
+import jp.co.apsa.giiku.dto.LectureChapterResponseDto;
+import jp.co.apsa.giiku.dto.LectureChapterUpdateDto;
+
+/**
+ * チャプターの変換マッパー。
+ *
+ * <p>{@link Chapter} を参照するクイズ・問題のマッパーとは分けています。同じマッパーに
+ * {@code Chapter} の複製メソッドがあると、参照先のチャプターまで複製されるためです。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Mapper(config = EntityMapperConfig.class)
+public interface ChapterMapper {
+
+    /**
+     * 作成DTOからチャプターを生成します。
+     *
+     * @param dto 作成DTO
+     * @return チャプター
+     */
+    Chapter toEntity(LectureChapterCreateDto dto);
+
+    /**
+     * 更新DTOの内容をチャプターに反映します。
+     *
+     * @param dto 更新DTO
+     * @param chapter 更新対象
+     */
+    void update(LectureChapterUpdateDto dto, @MappingTarget Chapter chapter);
+
+    /**
+     * ID・バージョン・監査項目を除いて複製します。
+     *
+     * @param source 複製元
+     * @return 複製したチャプター
+     */
+    @IgnoreEntityMetadata
+    Chapter copy(Chapter source);
+
+    /**
+     * レスポンスDTOに変換します。
+     *
+     * @param chapter チャプター
+     * @return レスポンスDTO
+     */
+    LectureChapterResponseDto toResponseDto(Chapter chapter);
+}
@@ -0,0 +1,20 @@
+package jp.co.apsa.giiku.mapper;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * エンティティ・DTO変換マッパーの共通設定。
+ *
+ * <p>実装クラスはコンパイル時に生成され、Spring Bean として登録されます。
+ * 同名のプロパティのみを対象とし、対応するプロパティがない項目は変換しません。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@MapperConfig(componentModel = MappingConstants.ComponentModel.SPRING,
+        unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface EntityMapperConfig {
+}
@@ -0,0 +1,27 @@
+package jp.co.apsa.giiku.mapper;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.mapstruct.Mapping;
+
+/**
+ * {@link jp.co.apsa.giiku.domain.entity.AuditableEntity} 同士のコピーで
+ * ID・バージョン・監査項目を除外するマッピング定義。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+@Mapping(target = "id", ignore = true)
+@Mapping(target = "version", ignore = true)
+@Mapping(target = "createdBy", ignore = true)
+@Mapping(target = "createdAt", ignore = true)
+@Mapping(target = "updatedBy", ignore = true)
+@Mapping(target = "updatedAt", ignore = true)
+public @interface IgnoreEntityMetadata {
+}
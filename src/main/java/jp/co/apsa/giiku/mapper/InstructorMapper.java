@@ -0,0 +1,29 @@
+package jp.co.apsa.giiku.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+import jp.co.apsa.giiku.domain.entity.Instructor;
+
+/**
+ * 講師の変換マッパー。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Mapper(config = EntityMapperConfig.class)
+public interface InstructorMapper {
+
+    /**
+     * ID・バージョン・監査項目を除いて講師の内容を反映します。
+     * {@code instructorId} は ID の別名のため除外します。
+     *
+     * @param source 更新内容
+     * @param target 更新対象
+     */
+    @IgnoreEntityMetadata
+    @Mapping(target = "instructorId", ignore = true)
+    void update(Instructor source, @MappingTarget Instructor target);
+}
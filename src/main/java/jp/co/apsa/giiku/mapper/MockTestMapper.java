@@ -0,0 +1,34 @@
+package jp.co.apsa.giiku.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+import jp.co.apsa.giiku.domain.entity.MockTest;
+
+/**
+ * 模擬試験の変換マッパー。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Mapper(config = EntityMapperConfig.class)
+public interface MockTestMapper {
+
+    /**
+     * テストID・監査項目を除いて模擬試験の内容を反映します。
+     * {@code id}・{@code duration} は別名のため除外します。
+     *
+     * @param source 更新内容
+     * @param target 更新対象
+     */
+    @Mapping(target = "testId", ignore = true)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "duration", ignore = true)
+    @Mapping(target = "createdBy", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedBy", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    void update(MockTest source, @MappingTarget MockTest target);
+}
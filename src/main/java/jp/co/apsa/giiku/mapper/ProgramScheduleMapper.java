@@ -0,0 +1,56 @@
+package jp.co.apsa.giiku.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+import jp.co.apsa.giiku.domain.entity.ProgramSchedule;
+import jp.co.apsa.giiku.dto.ProgramScheduleCreateDto;
+import jp.co.apsa.giiku.dto.ProgramScheduleResponseDto;
+import jp.co.apsa.giiku.dto.ProgramScheduleUpdateDto;
+
+/**
+ * プログラムスケジュールの変換マッパー。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Mapper(config = EntityMapperConfig.class)
+public interface ProgramScheduleMapper {
+
+    /**
+     * 作成DTOからエンティティを生成します。開始日・終了日は呼び出し側で設定します。
+     *
+     * @param dto 作成DTO
+     * @return プログラムスケジュール
+     */
+    @Mapping(target = "startDate", ignore = true)
+    @Mapping(target = "endDate", ignore = true)
+    ProgramSchedule toEntity(ProgramScheduleCreateDto dto);
+
+    /**
+     * 更新DTOの内容をエンティティに反映します。
+     *
+     * @param dto 更新DTO
+     * @param entity 更新対象
+     */
+    void update(ProgramScheduleUpdateDto dto, @MappingTarget ProgramSchedule entity);
+
+    /**
+     * ID・バージョン・監査項目を除いて複製します。
+     *
+     * @param source 複製元
+     * @return 複製したプログラムスケジュール
+     */
+    @IgnoreEntityMetadata
+    ProgramSchedule copy(ProgramSchedule source);
+
+    /**
+     * レスポンスDTOに変換します。
+     *
+     * @param entity プログラムスケジュール
+     * @return レスポンスDTO
+     */
+    ProgramScheduleResponseDto toResponseDto(ProgramSchedule entity);
+}
@@ -0,0 +1,33 @@
+package jp.co.apsa.giiku.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+import jp.co.apsa.giiku.domain.entity.QuestionBank;
+
+/**
+ * 演習問題の変換マッパー。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Mapper(config = EntityMapperConfig.class)
+public interface QuestionBankMapper {
+
+    /**
+     * ID・監査項目を除いて問題の内容を反映します。
+     * {@code chapterId} は参照先のチャプターのIDを書き換えるため除外します。
+     *
+     * @param source 更新内容
+     * @param target 更新対象
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdBy", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedBy", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "chapterId", ignore = true)
+    void update(QuestionBank source, @MappingTarget QuestionBank target);
+}
@@ -0,0 +1,37 @@
+package jp.co.apsa.giiku.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+import jp.co.apsa.giiku.domain.entity.Quiz;
+
+/**
+ * クイズの変換マッパー。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Mapper(config = EntityMapperConfig.class)
+public interface QuizMapper {
+
+    /**
+     * ID・作成日時・更新日時を除いてクイズの内容を反映します。
+     * 別名のプロパティは元のプロパティで反映されるため除外します（{@code chapterId} は
+     * 参照先のチャプターのIDを書き換えるため特に除外が必要です）。
+     *
+     * @param source 更新内容
+     * @param target 更新対象
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "quizTitle", ignore = true)
+    @Mapping(target = "chapterId", ignore = true)
+    @Mapping(target = "programId", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "score", ignore = true)
+    @Mapping(target = "timeSpent", ignore = true)
+    void update(Quiz source, @MappingTarget Quiz target);
+}
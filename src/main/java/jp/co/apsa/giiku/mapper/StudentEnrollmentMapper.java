@@ -0,0 +1,26 @@
+package jp.co.apsa.giiku.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+
+import jp.co.apsa.giiku.domain.entity.StudentEnrollment;
+
+/**
+ * 受講登録の変換マッパー。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Mapper(config = EntityMapperConfig.class)
+public interface StudentEnrollmentMapper {
+
+    /**
+     * ID・バージョン・監査項目を除いて受講登録の内容を反映します。
+     *
+     * @param source 更新内容
+     * @param target 更新対象
+     */
+    @IgnoreEntityMetadata
+    void update(StudentEnrollment source, @MappingTarget StudentEnrollment target);
+}
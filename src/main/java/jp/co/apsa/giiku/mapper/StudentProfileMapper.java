@@ -0,0 +1,55 @@
+package jp.co.apsa.giiku.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+import jp.co.apsa.giiku.domain.entity.StudentProfile;
+import jp.co.apsa.giiku.dto.StudentRequest;
+import jp.co.apsa.giiku.dto.StudentResponse;
+
+/**
+ * 学生プロフィールの変換マッパー。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Mapper(config = EntityMapperConfig.class)
+public interface StudentProfileMapper {
+
+    /**
+     * リクエストから学生プロフィールを生成します。
+     *
+     * @param request 学生リクエスト
+     * @return 学生プロフィール
+     */
+    StudentProfile toEntity(StudentRequest request);
+
+    /**
+     * リクエストの内容を学生プロフィールに反映します。
+     *
+     * @param request 学生リクエスト
+     * @param profile 更新対象
+     */
+    void update(StudentRequest request, @MappingTarget StudentProfile profile);
+
+    /**
+     * ID・バージョン・監査項目を除いて学生プロフィールの内容を反映します。
+     * {@code studentProfileId} は ID の別名のため除外します。
+     *
+     * @param source 更新内容
+     * @param target 更新対象
+     */
+    @IgnoreEntityMetadata
+    @Mapping(target = "studentProfileId", ignore = true)
+    void update(StudentProfile source, @MappingTarget StudentProfile target);
+
+    /**
+     * レスポンスに変換します。
+     *
+     * @param profile 学生プロフィール
+     * @return 学生レスポンス
+     */
+    StudentResponse toResponse(StudentProfile profile);
+}
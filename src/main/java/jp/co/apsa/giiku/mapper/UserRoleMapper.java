@@ -0,0 +1,53 @@
+package jp.co.apsa.giiku.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+
+import jp.co.apsa.giiku.domain.entity.UserRole;
+import jp.co.apsa.giiku.dto.UserRoleCreateDto;
+import jp.co.apsa.giiku.dto.UserRoleResponseDto;
+import jp.co.apsa.giiku.dto.UserRoleUpdateDto;
+
+/**
+ * ユーザー役割の変換マッパー。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Mapper(config = EntityMapperConfig.class)
+public interface UserRoleMapper {
+
+    /**
+     * 作成DTOからエンティティを生成します。
+     *
+     * @param dto 作成DTO
+     * @return ユーザー役割
+     */
+    UserRole toEntity(UserRoleCreateDto dto);
+
+    /**
+     * 更新DTOの内容をエンティティに反映します。
+     *
+     * @param dto 更新DTO
+     * @param entity 更新対象
+     */
+    void update(UserRoleUpdateDto dto, @MappingTarget UserRole entity);
+
+    /**
+     * ID・バージョン・監査項目を除いてエンティティの内容を反映します。
+     *
+     * @param source 更新内容
+     * @param target 更新対象
+     */
+    @IgnoreEntityMetadata
+    void update(UserRole source, @MappingTarget UserRole target);
+
+    /**
+     * レスポンスDTOに変換します。
+     *
+     * @param entity ユーザー役割
+     * @return レスポンスDTO
+     */
+    UserRoleResponseDto toResponseDto(UserRole entity);
+}
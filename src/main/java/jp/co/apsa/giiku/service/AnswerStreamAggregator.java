@@ -0,0 +1,470 @@
+package jp.co.apsa.giiku.service;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import jp.co.apsa.giiku.domain.entity.StudentAnswer;
+import jp.co.apsa.giiku.domain.entity.User;
+import jp.co.apsa.giiku.domain.repository.UserRepository;
+import jp.co.apsa.giiku.domain.valueobject.AnswerKey;
+import jp.co.apsa.giiku.dto.AnswerDeltaFrame;
+
+/**
+ * 講師向け回答ストリームの集約配信コンポーネント。
+ *
+ * <p>回答イベントを配信先トピックごとに一定時間（既定 250ms）集約し、
+ * ウィンドウごとに1件の差分フレーム（選択肢別件数・新規回答・正答率）を
+ * {@code <トピック>/delta} へ配信します。差分フレームの購読は任意で、
+ * 従来のトピックへの配信はそのまま維持されます。</p>
+ *
+ * <p>あわせてトピックごとに最新回答の累積集計を保持し、購読開始時のスナップショットを
+ * DBにアクセスせずに返します。一定時間更新のない集計は破棄されます。
+ * 再起動後や破棄後など集計がない場合は、最初のスナップショット取得または回答記録の前に
+ * 保存済みの回答（student_answers と書き込み待ちの回答）から一度だけ集計を作り直します。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class AnswerStreamAggregator {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnswerStreamAggregator.class);
+
+    /** クイズ回答トピックのプレフィックス */
+    public static final String QUIZ_TOPIC_PREFIX = "/topic/answers/";
+
+    /** 演習回答トピックのプレフィックス */
+    public static final String EXERCISE_TOPIC_PREFIX = "/topic/exercise-answers/";
+
+    /** 差分フレーム配信先のサフィックス */
+    public static final String DELTA_SUFFIX = "/delta";
+
+    /** 学生名が取得できない場合の表示名 */
+    private static final String UNKNOWN_STUDENT_NAME = "不明";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final UserRepository userRepository;
+
+    private final StudentAnswerService studentAnswerService;
+
+    private final QuizAnswerKeyCache quizAnswerKeyCache;
+
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Aggregate> aggregates = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Long, String> studentNames = new ConcurrentHashMap<>();
+
+    @Value("${giiku.answer-stream.window-ms:250}")
+    private long windowMs;
+
+    @Value("${giiku.answer-stream.legacy-frames:true}")
+    private boolean legacyFrames;
+
+    @Value("${giiku.answer-stream.snapshot-idle-minutes:240}")
+    private long snapshotIdleMinutes;
+
+    private ScheduledExecutorService publisher;
+
+    /** AnswerStreamAggregator メソッド */
+    public AnswerStreamAggregator(SimpMessagingTemplate messagingTemplate, UserRepository userRepository,
+                                  StudentAnswerService studentAnswerService, QuizAnswerKeyCache quizAnswerKeyCache) {
+        this.messagingTemplate = messagingTemplate;
+        this.userRepository = userRepository;
+        this.studentAnswerService = studentAnswerService;
+        this.quizAnswerKeyCache = quizAnswerKeyCache;
+    }
+
+    /** 配信スレッドを開始 */
+    @PostConstruct
+    void start() {
+        publisher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "answer-stream-aggregator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        publisher.scheduleAtFixedRate(this::publishQuietly, windowMs, windowMs, TimeUnit.MILLISECONDS);
+    }
+
+    /** 配信スレッドを停止し、残りのウィンドウを配信 */
+    @PreDestroy
+    void stop() {
+        publisher.shutdown();
+        publishQuietly();
+    }
+
+    /**
+     * クイズ回答を集約対象として記録します。
+     *
+     * @param quizId クイズID
+     * @param entry 回答
+     */
+    public void recordQuizAnswer(Long quizId, AnswerDeltaFrame.Entry entry) {
+        record(QUIZ_TOPIC_PREFIX + quizId, entry, true, () -> loadQuizAnswers(quizId));
+    }
+
+    /**
+     * 演習回答を集約対象として記録します。
+     * 演習は自由記述のため選択肢別件数は集計しません。
+     *
+     * @param questionId 問題ID
+     * @param entry 回答
+     */
+    public void recordExerciseAnswer(Long questionId, AnswerDeltaFrame.Entry entry) {
+        record(EXERCISE_TOPIC_PREFIX + questionId, entry, false, () -> loadExerciseAnswers(questionId));
+    }
+
+    /**
+     * クイズ回答トピックの現在のスナップショットを取得します。
+     *
+     * @param quizId クイズID
+     * @return 購読開始時点までの累積（回答がない場合は空のフレーム）
+     */
+    public AnswerDeltaFrame quizSnapshot(Long quizId) {
+        return snapshot(QUIZ_TOPIC_PREFIX + quizId, true, () -> loadQuizAnswers(quizId));
+    }
+
+    /**
+     * 演習回答トピックの現在のスナップショットを取得します。
+     *
+     * @param questionId 問題ID
+     * @return 購読開始時点までの累積（回答がない場合は空のフレーム）
+     */
+    public AnswerDeltaFrame exerciseSnapshot(Long questionId) {
+        return snapshot(EXERCISE_TOPIC_PREFIX + questionId, false, () -> loadExerciseAnswers(questionId));
+    }
+
+    /**
+     * 従来形式（1回答1フレーム）のトピックへ配信します。
+     * {@code giiku.answer-stream.legacy-frames=false} の場合は配信しません。
+     *
+     * @param destination 配信先トピック
+     * @param payload 配信内容
+     */
+    public void sendLegacy(String destination, Object payload) {
+        if (legacyFrames) {
+            messagingTemplate.convertAndSend(destination, payload);
+        }
+    }
+
+    private void record(String destination, AnswerDeltaFrame.Entry entry, boolean countOptions,
+                        Supplier<List<AnswerDeltaFrame.Entry>> loader) {
+        long now = System.currentTimeMillis();
+        if (entry.getAnsweredAt() == 0L) {
+            entry.setAnsweredAt(now);
+        }
+        if (entry.getStudentName() == null) {
+            entry.setStudentName(resolveStudentName(entry.getStudentId()));
+        }
+        while (!seededAggregate(destination, countOptions, loader, now).apply(entry, now)) {
+            // 破棄済みの集計の場合は新しい集計で再試行
+        }
+        while (true) {
+            Window window = windows.computeIfAbsent(destination, d -> new Window(countOptions));
+            if (window.add(entry)) {
+                return;
+            }
+            // 配信スレッドが閉じたウィンドウの場合は新しいウィンドウで再試行
+        }
+    }
+
+    private AnswerDeltaFrame snapshot(String destination, boolean countOptions,
+                                      Supplier<List<AnswerDeltaFrame.Entry>> loader) {
+        long now = System.currentTimeMillis();
+        return seededAggregate(destination, countOptions, loader, now).snapshot(now);
+    }
+
+    /** 集計を取得（未作成・未反映の場合は保存済みの回答を反映してから返す） */
+    private Aggregate seededAggregate(String destination, boolean countOptions,
+                                      Supplier<List<AnswerDeltaFrame.Entry>> loader, long now) {
+        Aggregate aggregate = aggregates.computeIfAbsent(destination, d -> new Aggregate(countOptions, now));
+        aggregate.seedOnce(loader);
+        return aggregate;
+    }
+
+    /** クイズの保存済み回答を集計用に読み込む */
+    private List<AnswerDeltaFrame.Entry> loadQuizAnswers(Long quizId) {
+        return toEntries(studentAnswerService.getAnswersByQuizId(quizId), true);
+    }
+
+    /** 演習の保存済み回答を集計用に読み込む（正誤は保存されていないため未判定） */
+    private List<AnswerDeltaFrame.Entry> loadExerciseAnswers(Long questionId) {
+        return toEntries(studentAnswerService.getExerciseAnswers(questionId), false);
+    }
+
+    private List<AnswerDeltaFrame.Entry> toEntries(List<StudentAnswer> answers, boolean grade) {
+        cacheStudentNames(answers.stream().map(StudentAnswer::getStudentId).collect(Collectors.toSet()));
+        List<AnswerDeltaFrame.Entry> entries = new ArrayList<>(answers.size());
+        for (StudentAnswer answer : answers) {
+            Boolean correct = grade
+                    ? quizAnswerKeyCache.get(answer.getQuestionId())
+                            .map(key -> key.matches(answer.getAnswerText()))
+                            .orElse(null)
+                    : null;
+            AnswerDeltaFrame.Entry entry = new AnswerDeltaFrame.Entry(
+                    answer.getQuestionId(), answer.getStudentId(), answer.getAnswerText(), correct);
+            entry.setStudentName(resolveStudentName(answer.getStudentId()));
+            if (answer.getSubmittedAt() != null) {
+                entry.setAnsweredAt(answer.getSubmittedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            }
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /** 未取得の学生名をまとめて取得 */
+    private void cacheStudentNames(Set<Long> studentIds) {
+        Set<Long> missing = new HashSet<>(studentIds);
+        missing.remove(null);
+        missing.removeAll(studentNames.keySet());
+        if (!missing.isEmpty()) {
+            for (User user : userRepository.findAllById(missing)) {
+                studentNames.putIfAbsent(user.getId(), user.getName() != null ? user.getName() : UNKNOWN_STUDENT_NAME);
+            }
+        }
+    }
+
+    /** 学生名を取得（初回のみDBから取得し、以降はメモリから返す） */
+    private String resolveStudentName(Long studentId) {
+        if (studentId == null) {
+            return UNKNOWN_STUDENT_NAME;
+        }
+        String name = studentNames.get(studentId);
+        if (name == null) {
+            name = userRepository.findById(studentId).map(User::getName).orElse(UNKNOWN_STUDENT_NAME);
+            studentNames.putIfAbsent(studentId, name);
+        }
+        return name;
+    }
+
+    private void publishQuietly() {
+        try {
+            publish();
+        } catch (RuntimeException e) {
+            logger.error("回答ストリーム配信エラー", e);
+        }
+    }
+
+    /** 全トピックのウィンドウを締めて差分フレームを配信 */
+    void publish() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Window> e : windows.entrySet()) {
+            Window window = e.getValue();
+            Window.Drained drained = window.drainOrClose(now);
+            if (drained == null) {
+                windows.remove(e.getKey(), window);
+                continue;
+            }
+            messagingTemplate.convertAndSend(e.getKey() + DELTA_SUFFIX,
+                    toFrame(drained.answers, window.countOptions, drained.startedAt, now));
+        }
+        long idleThreshold = now - TimeUnit.MINUTES.toMillis(snapshotIdleMinutes);
+        aggregates.values().removeIf(aggregate -> aggregate.evictIfIdle(idleThreshold));
+    }
+
+    private static AnswerDeltaFrame toFrame(Collection<AnswerDeltaFrame.Entry> answers, boolean countOptions,
+                                     long windowStart, long windowEnd) {
+        int correctCount = 0;
+        int gradedCount = 0;
+        Map<Long, Map<String, Integer>> optionCounts = new LinkedHashMap<>();
+        for (AnswerDeltaFrame.Entry answer : answers) {
+            if (answer.getCorrect() != null) {
+                gradedCount++;
+                if (answer.getCorrect()) {
+                    correctCount++;
+                }
+            }
+            if (countOptions) {
+                Map<String, Integer> counts = optionCounts.computeIfAbsent(answer.getQuestionId(), k -> new LinkedHashMap<>());
+                for (String option : AnswerKey.normalize(answer.getAnswerText())) {
+                    counts.merge(option, 1, Integer::sum);
+                }
+            }
+        }
+
+        AnswerDeltaFrame frame = new AnswerDeltaFrame();
+        frame.setWindowStart(windowStart);
+        frame.setWindowEnd(windowEnd);
+        frame.setAnswerCount(answers.size());
+        frame.setCorrectCount(correctCount);
+        frame.setCorrectRatio(gradedCount > 0 ? (double) correctCount / gradedCount : null);
+        frame.setOptionCounts(optionCounts);
+        frame.setNewAnswers(new ArrayList<>(answers));
+        return frame;
+    }
+
+    /** トピック単位の累積集計（同一問題・同一学生は最新の回答のみ保持） */
+    private static final class Aggregate {
+        private final boolean countOptions;
+        private final long createdAt;
+        private final Map<String, AnswerDeltaFrame.Entry> latest = new LinkedHashMap<>();
+        private final Map<Long, Map<String, Integer>> optionCounts = new LinkedHashMap<>();
+        private int correctCount;
+        private int gradedCount;
+        private long lastUpdatedAt;
+        private boolean evicted;
+        private final Object seedLock = new Object();
+        private volatile boolean seeded;
+
+        private Aggregate(boolean countOptions, long now) {
+            this.countOptions = countOptions;
+            this.createdAt = now;
+            this.lastUpdatedAt = now;
+        }
+
+        /**
+         * 保存済みの回答を一度だけ反映する。既に記録された回答の方が新しいため、同一キーは上書きしない。
+         * 読み込みに失敗した場合は反映済みにせず、次回のスナップショット取得・回答記録で再試行する。
+         */
+        private void seedOnce(Supplier<List<AnswerDeltaFrame.Entry>> loader) {
+            if (seeded) {
+                return;
+            }
+            synchronized (seedLock) {
+                if (seeded) {
+                    return;
+                }
+                List<AnswerDeltaFrame.Entry> entries;
+                try {
+                    entries = loader.get();
+                } catch (RuntimeException e) {
+                    logger.error("回答集計の読み込みエラー（次回再試行）", e);
+                    return;
+                }
+                synchronized (this) {
+                    for (AnswerDeltaFrame.Entry entry : entries) {
+                        String key = entry.getQuestionId() + ":" + entry.getStudentId();
+                        if (!latest.containsKey(key)) {
+                            latest.put(key, entry);
+                            count(entry, 1);
+                        }
+                    }
+                }
+                seeded = true;
+            }
+        }
+
+        /** 回答を反映。破棄済みの場合はfalse */
+        private synchronized boolean apply(AnswerDeltaFrame.Entry entry, long now) {
+            if (evicted) {
+                return false;
+            }
+            String key = entry.getQuestionId() + ":" + entry.getStudentId();
+            AnswerDeltaFrame.Entry previous = latest.remove(key);
+            if (previous != null) {
+                count(previous, -1);
+            }
+            latest.put(key, entry);
+            count(entry, 1);
+            lastUpdatedAt = now;
+            return true;
+        }
+
+        private void count(AnswerDeltaFrame.Entry entry, int delta) {
+            if (entry.getCorrect() != null) {
+                gradedCount += delta;
+                if (entry.getCorrect()) {
+                    correctCount += delta;
+                }
+            }
+            if (countOptions) {
+                Map<String, Integer> counts = optionCounts.computeIfAbsent(entry.getQuestionId(), k -> new LinkedHashMap<>());
+                for (String option : AnswerKey.normalize(entry.getAnswerText())) {
+                    counts.merge(option, delta, (a, b) -> a + b == 0 ? null : a + b);
+                }
+            }
+        }
+
+        private synchronized AnswerDeltaFrame snapshot(long now) {
+            Map<Long, Map<String, Integer>> counts = new LinkedHashMap<>();
+            optionCounts.forEach((questionId, c) -> counts.put(questionId, new LinkedHashMap<>(c)));
+
+            AnswerDeltaFrame frame = new AnswerDeltaFrame();
+            frame.setWindowStart(createdAt);
+            frame.setWindowEnd(now);
+            frame.setAnswerCount(latest.size());
+            frame.setCorrectCount(correctCount);
+            frame.setCorrectRatio(gradedCount > 0 ? (double) correctCount / gradedCount : null);
+            frame.setOptionCounts(counts);
+            frame.setNewAnswers(new ArrayList<>(latest.values()));
+            return frame;
+        }
+
+        /** 指定時刻以降に更新がなければ破棄済みにする */
+        private synchronized boolean evictIfIdle(long threshold) {
+            if (lastUpdatedAt < threshold) {
+                evicted = true;
+            }
+            return evicted;
+        }
+    }
+
+    /** トピック単位の集約ウィンドウ */
+    private static final class Window {
+        private final boolean countOptions;
+        private Map<String, AnswerDeltaFrame.Entry> answers = new LinkedHashMap<>();
+        private long startedAt = System.currentTimeMillis();
+        private boolean closed;
+
+        private Window(boolean countOptions) {
+            this.countOptions = countOptions;
+        }
+
+        /** 回答を追加（同一問題・同一学生は最新で置き換え）。閉じている場合はfalse */
+        private synchronized boolean add(AnswerDeltaFrame.Entry entry) {
+            if (closed) {
+                return false;
+            }
+            String key = entry.getQuestionId() + ":" + entry.getStudentId();
+            answers.remove(key);
+            answers.put(key, entry);
+            return true;
+        }
+
+        /** 溜まった回答を取り出す。空の場合はウィンドウを閉じてnullを返す */
+        private synchronized Drained drainOrClose(long now) {
+            if (answers.isEmpty()) {
+                closed = true;
+                return null;
+            }
+            Drained drained = new Drained(new ArrayList<>(answers.values()), startedAt);
+            answers = new LinkedHashMap<>();
+            startedAt = now;
+            return drained;
+        }
+
+        private static final class Drained {
+            private final List<AnswerDeltaFrame.Entry> answers;
+            private final long startedAt;
+
+            private Drained(List<AnswerDeltaFrame.Entry> answers, long startedAt) {
+                this.answers = answers;
+                this.startedAt = startedAt;
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package jp.co.apsa.giiku.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * コンテンツブロックのサニタイズ済み内容のバックフィル処理。
+ *
+ * <p>{@code sanitized_content} が未生成の {@code chapter_content_blocks} 行を
+ * ID順にバッチで読み込み、サニタイズ結果をJDBCバッチで書き込みます。
+ * 各バッチは個別にコミットされるため、途中で停止しても再実行で続きから処理できます。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class ContentBlockSanitizeBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentBlockSanitizeBackfill.class);
+
+    private static final String SELECT_SQL =
+            "SELECT id, content FROM chapter_content_blocks "
+            + "WHERE sanitized_content IS NULL AND content IS NOT NULL AND id > ? ORDER BY id LIMIT ?";
+
+    private static final String UPDATE_SQL =
+            "UPDATE chapter_content_blocks SET sanitized_content = ? WHERE id = ? AND sanitized_content IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ContentSanitizer contentSanitizer;
+
+    @Value("${giiku.content-sanitizer.backfill-batch-size:200}")
+    private int batchSize = 200;
+
+    @Value("${giiku.content-sanitizer.backfill-on-startup:false}")
+    private boolean backfillOnStartup;
+
+    /** ContentBlockSanitizeBackfill メソッド */
+    public ContentBlockSanitizeBackfill(JdbcTemplate jdbcTemplate, ContentSanitizer contentSanitizer) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.contentSanitizer = contentSanitizer;
+    }
+
+    /** 起動完了後にバックグラウンドでバックフィルを実行 */
+    @EventListener(ApplicationReadyEvent.class)
+    void runOnStartup() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                run();
+            } catch (RuntimeException e) {
+                logger.error("コンテンツブロックのサニタイズバックフィルに失敗しました", e);
+            }
+        }, "content-sanitize-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 未生成の行を全てサニタイズします。
+     *
+     * @return 更新した行数
+     */
+    public int run() {
+        long lastId = 0L;
+        int updated = 0;
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(SELECT_SQL,
+                    (rs, rowNum) -> new Object[] {rs.getLong("id"), rs.getString("content")},
+                    lastId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            List<Object[]> args = rows.stream()
+                    .map(row -> new Object[] {contentSanitizer.sanitize((String) row[1]), row[0]})
+                    .toList();
+            for (int count : jdbcTemplate.batchUpdate(UPDATE_SQL, args)) {
+                updated += Math.max(count, 0);
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+            logger.debug("サニタイズバックフィル: lastId={}, updated={}", lastId, updated);
+        }
+        logger.info("コンテンツブロックのサニタイズバックフィル完了: updated={}", updated);
+        return updated;
+    }
+}
@@ -0,0 +1,114 @@
+package jp.co.apsa.giiku.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jsoup.Jsoup;
+import org.jsoup.safety.Safelist;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 講義コンテンツのHTMLサニタイザー。
+ *
+ * <p>コンテンツブロックのHTMLを {@link Safelist#basic()} で無害化します。
+ * サニタイズ済みの内容は書き込み時にDBへ保存するのが基本で、未生成の行に対しては
+ * 内容のハッシュ値をキーとするLRUキャッシュで同じ内容の再解析を避けます。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class ContentSanitizer {
+
+    /** メトリクス名 */
+    private static final String METRIC_NAME = "giiku.content-sanitizer.cache";
+
+    private final Map<String, String> cache;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    @Value("${giiku.content-sanitizer.cache-size:2000}")
+    private int cacheSize = 2000;
+
+    /** ContentSanitizer メソッド */
+    public ContentSanitizer(MeterRegistry meterRegistry) {
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        FunctionCounter.builder(METRIC_NAME + ".requests", hits, LongAdder::doubleValue)
+                .tag("result", "hit")
+                .description("サニタイズキャッシュのヒット数")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_NAME + ".requests", misses, LongAdder::doubleValue)
+                .tag("result", "miss")
+                .description("サニタイズキャッシュのミス数")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", cache, Map::size)
+                .description("サニタイズキャッシュのエントリ数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * HTMLをサニタイズします（キャッシュを使用しません）。
+     *
+     * @param html HTML
+     * @return サニタイズ済みHTML（nullの場合はnull）
+     */
+    public String sanitize(String html) {
+        return html != null ? Jsoup.clean(html, Safelist.basic()) : null;
+    }
+
+    /**
+     * 内容のハッシュ値をキーにキャッシュを参照してHTMLをサニタイズします。
+     *
+     * @param html HTML
+     * @return サニタイズ済みHTML（nullの場合はnull）
+     */
+    public String sanitizeCached(String html) {
+        if (html == null) {
+            return null;
+        }
+        String key = hash(html);
+        String cached = cache.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        String sanitized = sanitize(html);
+        cache.put(key, sanitized);
+        return sanitized;
+    }
+
+    /** キャッシュを全て破棄します。 */
+    public void clear() {
+        cache.clear();
+    }
+
+    /** 内容のSHA-256ハッシュ値 */
+    private static String hash(String html) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(html.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 が利用できません", e);
+        }
+    }
+}
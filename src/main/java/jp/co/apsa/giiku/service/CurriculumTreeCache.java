@@ -0,0 +1,160 @@
+package jp.co.apsa.giiku.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jp.co.apsa.giiku.domain.entity.Day;
+import jp.co.apsa.giiku.domain.entity.Month;
+import jp.co.apsa.giiku.domain.entity.Week;
+import jp.co.apsa.giiku.domain.repository.DayRepository;
+import jp.co.apsa.giiku.domain.repository.LectureRepository;
+import jp.co.apsa.giiku.domain.repository.MonthRepository;
+import jp.co.apsa.giiku.domain.repository.WeekRepository;
+import jp.co.apsa.giiku.dto.CurriculumTree;
+
+/**
+ * カリキュラムツリー（月 → 週 → 日 → 講義）のキャッシュ。
+ *
+ * <p>初回参照時に4回のクエリでツリーを構築し、以降は同じ不変インスタンスを返します。
+ * 月・週・日・講義の更新時に {@link #invalidate()} で破棄され、次回参照時に再構築されます。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class CurriculumTreeCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CurriculumTreeCache.class);
+
+    private final MonthRepository monthRepository;
+
+    private final WeekRepository weekRepository;
+
+    private final DayRepository dayRepository;
+
+    private final LectureRepository lectureRepository;
+
+    private volatile CurriculumTree tree;
+
+    /** 破棄のたびに進める世代番号（構築中に破棄された古いツリーを保持しないため） */
+    private final AtomicLong generation = new AtomicLong();
+
+    /** CurriculumTreeCache メソッド */
+    public CurriculumTreeCache(MonthRepository monthRepository, WeekRepository weekRepository,
+                               DayRepository dayRepository, LectureRepository lectureRepository) {
+        this.monthRepository = monthRepository;
+        this.weekRepository = weekRepository;
+        this.dayRepository = dayRepository;
+        this.lectureRepository = lectureRepository;
+    }
+
+    /**
+     * カリキュラムツリーを取得します。未構築の場合はDBから構築します。
+     *
+     * @return カリキュラムツリー
+     */
+    public CurriculumTree get() {
+        CurriculumTree current = tree;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (tree != null) {
+                return tree;
+            }
+            long startGeneration = generation.get();
+            CurriculumTree built = build();
+            if (generation.get() == startGeneration) {
+                tree = built;
+            }
+            return built;
+        }
+    }
+
+    /**
+     * キャッシュ済みのツリーを破棄します。
+     * トランザクション内で呼ばれた場合はコミット後にも再度破棄し、
+     * コミット前の内容で再構築されたツリーが残らないようにします。
+     */
+    public void invalidate() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        }
+        logger.debug("カリキュラムツリーのキャッシュを破棄しました");
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        tree = null;
+    }
+
+    private CurriculumTree build() {
+        Map<Long, List<CurriculumTree.LectureNode>> lecturesByDay = new HashMap<>();
+        List<Object[]> outlines = new ArrayList<>(lectureRepository.findOutlines());
+        outlines.sort(Comparator.comparing((Object[] row) -> (Integer) row[2], Comparator.nullsLast(Comparator.naturalOrder())));
+        for (Object[] row : outlines) {
+            if (row[1] != null) {
+                lecturesByDay.computeIfAbsent((Long) row[1], k -> new ArrayList<>())
+                        .add(new CurriculumTree.LectureNode((Long) row[0], (Integer) row[2], (String) row[3]));
+            }
+        }
+
+        List<Day> days = sorted(dayRepository.findAll(), Day::getDayNumber);
+        List<CurriculumTree.DayNode> dayNodes = new ArrayList<>();
+        Map<Long, List<CurriculumTree.DayNode>> daysByWeek = new HashMap<>();
+        for (Day day : days) {
+            CurriculumTree.DayNode node = new CurriculumTree.DayNode(day.getId(), day.getDayNumber(), day.getDayName(),
+                    lecturesByDay.getOrDefault(day.getId(), List.of()));
+            dayNodes.add(node);
+            if (day.getWeekId() != null) {
+                daysByWeek.computeIfAbsent(day.getWeekId(), k -> new ArrayList<>()).add(node);
+            }
+        }
+
+        List<Week> weeks = sorted(weekRepository.findAll(), Week::getWeekNumber);
+        List<CurriculumTree.WeekNode> weekNodes = new ArrayList<>();
+        Map<Long, List<CurriculumTree.WeekNode>> weeksByMonth = new HashMap<>();
+        for (Week week : weeks) {
+            CurriculumTree.WeekNode node = new CurriculumTree.WeekNode(week.getId(), week.getWeekNumber(),
+                    week.getWeekName(), daysByWeek.getOrDefault(week.getId(), List.of()));
+            weekNodes.add(node);
+            if (week.getMonthId() != null) {
+                weeksByMonth.computeIfAbsent(week.getMonthId(), k -> new ArrayList<>()).add(node);
+            }
+        }
+
+        List<CurriculumTree.MonthNode> monthNodes = new ArrayList<>();
+        for (Month month : sorted(monthRepository.findAll(), Month::getMonthNumber)) {
+            monthNodes.add(new CurriculumTree.MonthNode(month.getId(), month.getMonthNumber(), month.getTitle(),
+                    weeksByMonth.getOrDefault(month.getId(), List.of())));
+        }
+
+        logger.info("カリキュラムツリーを構築しました: months={}, weeks={}, days={}, lectures={}",
+                monthNodes.size(), weekNodes.size(), dayNodes.size(), outlines.size());
+        return new CurriculumTree(monthNodes, weekNodes, dayNodes);
+    }
+
+    private static <T> List<T> sorted(List<T> entities, Function<T, Integer> number) {
+        List<T> list = new ArrayList<>(entities);
+        list.sort(Comparator.comparing(number, Comparator.nullsLast(Comparator.naturalOrder())));
+        return list;
+    }
+}
@@ -12,7 +12,7 @@ import jp.co.apsa.giiku.domain.repository.DayRepository;
 
 /**
  * 日サービス
- * 日情報の取得を提供する。
+ * 日情報の取得と更新を提供する。
  *
  * @author 株式会社アプサ
  * @version 1.0
@@ -25,6 +25,12 @@ public class DayService {
     @Autowired
     private DayRepository dayRepository;
 
+    @Autowired
+    private CurriculumTreeCache curriculumTreeCache;
+
+    @Autowired
+    private RenderedPageCache renderedPageCache;
+
     /** 全件取得 */
     @Transactional(readOnly = true)
     public List<Day> findAll() {
@@ -48,4 +54,19 @@ public class DayService {
     public Optional<Day> findById(Long id) {
         return dayRepository.findById(id);
     }
+
+    /** 日を保存（カリキュラムツリーのキャッシュを破棄） */
+    public Day save(Day day) {
+        Day saved = dayRepository.save(day);
+        curriculumTreeCache.invalidate();
+        renderedPageCache.invalidate();
+        return saved;
+    }
+
+    /** 日を削除（カリキュラムツリーのキャッシュを破棄） */
+    public void delete(Long id) {
+        dayRepository.deleteById(id);
+        curriculumTreeCache.invalidate();
+        renderedPageCache.invalidate();
+    }
 }
@@ -0,0 +1,304 @@
+package jp.co.apsa.giiku.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 研修配属・講義ごとの演習回答数・正解数の書き込みバッファ。
+ *
+ * <p>回答ごとに {@code lecture_grades} の同じ行を読み込んで更新すると、同時に回答された場合に
+ * 更新が失われ、行ロックも集中します。このバッファは（研修配属, 講義）ごとの {@link LongAdder} で
+ * 回答数・正解数を受け付け、一定間隔で増分を {@code UPDATE ... SET exercise_score = exercise_score + ?} として
+ * まとめて書き込みます。加算はDB側で行うため、複数インスタンスから書き込んでも失われません。</p>
+ *
+ * <p>{@code lecture_grades} は（講義, 研修配属）で一意のため、行がない増分は INSERT で作成し、
+ * 同時に作成されて一意制約に違反した場合は加算をやり直します。配属や講義が削除されているなど
+ * 制約違反で書き込めない増分は、再試行しても適用できないため記録して破棄します。</p>
+ *
+ * <p>書き込みまでの間（{@code flush-interval-ms}）は {@code lecture_grades} の値に反映されません。
+ * バッファ無効時は回答ごとに同じ書き込みを呼び出しスレッドで実行します。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class ExerciseStatsWriteBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExerciseStatsWriteBuffer.class);
+
+    private static final String INCREMENT_SQL =
+            "UPDATE lecture_grades SET exercise_max_score = COALESCE(exercise_max_score, 0) + ?, "
+            + "exercise_score = COALESCE(exercise_score, 0) + ?, updated_at = ? "
+            + "WHERE training_assignment_id = ? AND lecture_id = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO lecture_grades (training_assignment_id, lecture_id, exercise_max_score, exercise_score, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentMap<Key, Counters> counters = new ConcurrentHashMap<>();
+
+    private final LongAdder flushedCount = new LongAdder();
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    private final Object flushLock = new Object();
+
+    @Value("${giiku.exercise-stats.enabled:true}")
+    private boolean enabled;
+
+    @Value("${giiku.exercise-stats.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    private ScheduledExecutorService flusher;
+
+    /** ExerciseStatsWriteBuffer メソッド */
+    public ExerciseStatsWriteBuffer(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        FunctionCounter.builder("giiku.exercise-stats.flushed", flushedCount, LongAdder::doubleValue)
+                .description("講義成績に書き込んだ演習回答数")
+                .register(meterRegistry);
+        FunctionCounter.builder("giiku.exercise-stats.dropped", droppedCount, LongAdder::doubleValue)
+                .description("制約違反で講義成績に書き込めず破棄した演習回答数")
+                .register(meterRegistry);
+    }
+
+    /** フラッシュスレッドを開始 */
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "exercise-stats-buffer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        logger.info("演習回答数バッファ開始: interval={}ms", flushIntervalMs);
+    }
+
+    /** 停止時に残りの増分を全て書き込む */
+    @PreDestroy
+    void stop() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    /**
+     * 演習回答を1件加算します。
+     *
+     * @param trainingAssignmentId 研修配属ID
+     * @param lectureId 講義ID
+     * @param correct 正解かどうか
+     */
+    public void record(Long trainingAssignmentId, Long lectureId, boolean correct) {
+        if (trainingAssignmentId == null) {
+            throw new IllegalArgumentException("研修配属IDは必須です");
+        }
+        if (lectureId == null) {
+            throw new IllegalArgumentException("講義IDは必須です");
+        }
+        Key key = new Key(trainingAssignmentId, lectureId);
+        if (!enabled) {
+            Delta delta = new Delta(key, 1, correct ? 1 : 0);
+            try {
+                upsert(delta, Timestamp.valueOf(LocalDateTime.now()));
+                flushedCount.increment();
+            } catch (DataIntegrityViolationException e) {
+                drop(delta, e);
+            }
+            return;
+        }
+        Counters target = counters.computeIfAbsent(key, k -> new Counters());
+        target.attempts.increment();
+        if (correct) {
+            target.correct.increment();
+        }
+    }
+
+    /**
+     * 受け付けた増分を全て書き込みます。制約違反で書き込めない増分は破棄し、
+     * それ以外の失敗では未書き込みの増分を戻して例外を送出します。
+     *
+     * @return 書き込んだ（研修配属, 講義）の数
+     */
+    public int flush() {
+        synchronized (flushLock) {
+            List<Delta> deltas = new ArrayList<>();
+            for (Map.Entry<Key, Counters> entry : counters.entrySet()) {
+                // 取り出し中の加算は各セルの getAndSet で次回分に残るため失われない
+                long attempts = entry.getValue().attempts.sumThenReset();
+                long correct = entry.getValue().correct.sumThenReset();
+                if (attempts != 0 || correct != 0) {
+                    deltas.add(new Delta(entry.getKey(), attempts, correct));
+                }
+            }
+            if (deltas.isEmpty()) {
+                return 0;
+            }
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            int[][] counts;
+            try {
+                counts = jdbcTemplate.batchUpdate(INCREMENT_SQL, deltas, deltas.size(), (ps, delta) -> {
+                    ps.setLong(1, delta.attempts);
+                    ps.setLong(2, delta.correct);
+                    ps.setTimestamp(3, now);
+                    ps.setLong(4, delta.key.trainingAssignmentId);
+                    ps.setLong(5, delta.key.lectureId);
+                });
+            } catch (RuntimeException e) {
+                requeue(deltas);
+                throw e;
+            }
+            List<Delta> missing = new ArrayList<>();
+            for (int i = 0; i < deltas.size(); i++) {
+                if (counts[0][i] == 0) {
+                    missing.add(deltas.get(i));
+                }
+            }
+            int written = deltas.size();
+            long droppedAttempts = 0;
+            for (int i = 0; i < missing.size(); i++) {
+                Delta delta = missing.get(i);
+                try {
+                    upsert(delta, now);
+                } catch (DataIntegrityViolationException e) {
+                    drop(delta, e);
+                    written--;
+                    droppedAttempts += delta.attempts;
+                } catch (RuntimeException e) {
+                    requeue(missing.subList(i, missing.size()));
+                    throw e;
+                }
+            }
+            flushedCount.add(deltas.stream().mapToLong(delta -> delta.attempts).sum() - droppedAttempts);
+            return written;
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.error("演習回答数の書き込みエラー（次回再試行）: keys={}", counters.size(), e);
+        }
+    }
+
+    /** 書き込めなかった増分を戻す */
+    private void requeue(List<Delta> deltas) {
+        for (Delta delta : deltas) {
+            Counters target = counters.computeIfAbsent(delta.key, k -> new Counters());
+            target.attempts.add(delta.attempts);
+            target.correct.add(delta.correct);
+        }
+    }
+
+    /** 制約違反で適用できない増分を記録して破棄する */
+    private void drop(Delta delta, DataIntegrityViolationException e) {
+        droppedCount.add(delta.attempts);
+        logger.warn("演習回答数を講義成績に書き込めないため破棄しました: trainingAssignmentId={}, lectureId={}, "
+                + "attempts={}, correct={}, cause={}", delta.key.trainingAssignmentId, delta.key.lectureId,
+                delta.attempts, delta.correct, e.getMostSpecificCause().getMessage());
+    }
+
+    /** 成績行へ加算し、行がない場合は作成する（同時に作成された場合は加算をやり直す） */
+    private void upsert(Delta delta, Timestamp now) {
+        if (increment(delta, now) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, delta.key.trainingAssignmentId, delta.key.lectureId,
+                    delta.attempts, delta.correct, now, now);
+        } catch (DuplicateKeyException e) {
+            if (increment(delta, now) == 0) {
+                throw e;
+            }
+        }
+    }
+
+    private int increment(Delta delta, Timestamp now) {
+        return jdbcTemplate.update(INCREMENT_SQL, delta.attempts, delta.correct, now,
+                delta.key.trainingAssignmentId, delta.key.lectureId);
+    }
+
+    /** 書き込み先の（研修配属, 講義） */
+    private static final class Key {
+        private final Long trainingAssignmentId;
+        private final Long lectureId;
+
+        private Key(Long trainingAssignmentId, Long lectureId) {
+            this.trainingAssignmentId = trainingAssignmentId;
+            this.lectureId = lectureId;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return trainingAssignmentId.equals(other.trainingAssignmentId) && lectureId.equals(other.lectureId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(trainingAssignmentId, lectureId);
+        }
+    }
+
+    /** （研修配属, 講義）ごとの加算カウンタ */
+    private static final class Counters {
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder correct = new LongAdder();
+    }
+
+    /** 書き込む増分 */
+    private static final class Delta {
+        private final Key key;
+        private final long attempts;
+        private final long correct;
+
+        private Delta(Key key, long attempts, long correct) {
+            this.key = key;
+            this.attempts = attempts;
+            this.correct = correct;
+        }
+    }
+}
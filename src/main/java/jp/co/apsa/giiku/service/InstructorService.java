@@ -2,6 +2,7 @@ package jp.co.apsa.giiku.service;
 
 import jp.co.apsa.giiku.domain.entity.Instructor;
 import jp.co.apsa.giiku.domain.repository.InstructorRepository;
+import jp.co.apsa.giiku.mapper.InstructorMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,7 +20,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Map;
 import java.util.HashMap;
-import com.github.dozermapper.core.Mapper;
 
 /**
  * Service class for managing Instructor entities.
@@ -39,7 +39,7 @@ public class InstructorService {
     private InstructorRepository instructorRepository;
 
     @Autowired
-    private Mapper mapper;
+    private InstructorMapper instructorMapper;
 
     /**
      * Retrieve all Instructor entities.
@@ -402,7 +402,7 @@ public class InstructorService {
         Instructor existingInstructor = existingInstructorOpt.get();
 
         // Update fields while preserving ID and creation timestamp
-        mapper.map(updatedInstructor, existingInstructor);
+        instructorMapper.update(updatedInstructor, existingInstructor);
         existingInstructor.setProfileUpdatedAt(LocalDateTime.now());
 
         // Validate updated instructor
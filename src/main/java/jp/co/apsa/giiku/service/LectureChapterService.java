@@ -5,6 +5,7 @@ import jp.co.apsa.giiku.domain.entity.LectureChapterLink;
 import jp.co.apsa.giiku.domain.repository.ChapterRepository;
 import jp.co.apsa.giiku.domain.repository.LectureChapterLinkRepository;
 import jp.co.apsa.giiku.dto.*;
+import jp.co.apsa.giiku.mapper.ChapterMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -13,7 +14,6 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.github.dozermapper.core.Mapper;
 
 import java.util.List;
 import java.util.Optional;
@@ -38,7 +38,10 @@ public class LectureChapterService {
     private LectureChapterLinkRepository lectureChapterLinkRepository;
 
     @Autowired
-    private Mapper mapper;
+    private ChapterMapper chapterMapper;
+
+    @Autowired
+    private RenderedPageCache renderedPageCache;
 
     /**
      * チャプター一覧を取得する（ページング・ソート対応）
@@ -95,7 +98,7 @@ public class LectureChapterService {
      * @return 作成されたチャプター
      */
     public LectureChapterResponseDto createChapter(LectureChapterCreateDto dto) {
-        Chapter chapter = mapper.map(dto, Chapter.class);
+        Chapter chapter = chapterMapper.toEntity(dto);
         chapter.setIsActive(dto.getIsActive() != null ? dto.getIsActive() : true);
         Chapter savedChapter = chapterRepository.save(chapter);
 
@@ -104,6 +107,7 @@ public class LectureChapterService {
         link.setChapter(savedChapter);
         link.setSortOrder(dto.getSortOrder() != null ? dto.getSortOrder() : getNextSortOrder(dto.getLectureId()));
         LectureChapterLink savedLink = lectureChapterLinkRepository.save(link);
+        renderedPageCache.invalidate();
         return convertToResponseDto(savedChapter, savedLink);
     }
 
@@ -117,7 +121,7 @@ public class LectureChapterService {
     public Optional<LectureChapterResponseDto> updateChapter(Long id, LectureChapterUpdateDto dto) {
         return chapterRepository.findById(id)
                 .map(chapter -> {
-                    mapper.map(dto, chapter);
+                    chapterMapper.update(dto, chapter);
                     Chapter savedChapter = chapterRepository.save(chapter);
                     if (dto.getSortOrder() != null) {
                         lectureChapterLinkRepository.findByChapterId(id)
@@ -127,6 +131,7 @@ public class LectureChapterService {
                                 });
                     }
                     LectureChapterLink link = lectureChapterLinkRepository.findByChapterId(id).orElse(null);
+                    renderedPageCache.invalidate();
                     return convertToResponseDto(savedChapter, link);
                 });
     }
@@ -139,6 +144,7 @@ public class LectureChapterService {
     public void deleteChapter(Long id) {
         lectureChapterLinkRepository.deleteByChapterId(id);
         chapterRepository.deleteById(id);
+        renderedPageCache.invalidate();
     }
 
     /**
@@ -158,6 +164,7 @@ public class LectureChapterService {
                         lectureChapterLinkRepository.save(link);
                     });
         }
+        renderedPageCache.invalidate();
         List<LectureChapterLink> updatedLinks = lectureChapterLinkRepository.findByLectureIdOrderBySortOrder(lectureId);
         return updatedLinks.stream()
                 .map(link -> convertToResponseDto(link.getChapter(), link))
@@ -178,7 +185,7 @@ public class LectureChapterService {
                 .map(LectureChapterLink::getLectureId)
                 .orElseThrow(() -> new RuntimeException("リンクが見つかりません: " + id));
 
-        Chapter duplicatedChapter = mapper.map(originalChapter, Chapter.class);
+        Chapter duplicatedChapter = chapterMapper.copy(originalChapter);
         duplicatedChapter.setTitle(originalChapter.getTitle() + " (コピー)");
         duplicatedChapter.setChapterNumber(getNextChapterNumber(lectureId));
         Chapter savedChapter = chapterRepository.save(duplicatedChapter);
@@ -188,6 +195,7 @@ public class LectureChapterService {
         link.setChapter(savedChapter);
         link.setSortOrder(getNextSortOrder(lectureId));
         LectureChapterLink savedLink = lectureChapterLinkRepository.save(link);
+        renderedPageCache.invalidate();
         return convertToResponseDto(savedChapter, savedLink);
     }
 
@@ -212,7 +220,7 @@ public class LectureChapterService {
      * @return レスポンスDTO
      */
     private LectureChapterResponseDto convertToResponseDto(Chapter chapter, LectureChapterLink link) {
-        LectureChapterResponseDto dto = mapper.map(chapter, LectureChapterResponseDto.class);
+        LectureChapterResponseDto dto = chapterMapper.toResponseDto(chapter);
         if (link != null) {
             dto.setLectureId(link.getLectureId());
             dto.setSortOrder(link.getSortOrder());
@@ -23,7 +23,30 @@ public class LectureContentBlockService {
     @Autowired
     private LectureContentBlockRepository lectureContentBlockRepository;
 
+    @Autowired
+    private ContentSanitizer contentSanitizer;
+
+    @Autowired
+    private RenderedPageCache renderedPageCache;
+
     public List<LectureContentBlock> findByChapterIdOrderBySortOrder(Long chapterId) {
         return lectureContentBlockRepository.findByChapterIdOrderBySortOrder(chapterId);
     }
+
+    /**
+     * コンテンツブロックを保存します。
+     * 表示用のサニタイズ済み内容は保存時に生成します。
+     *
+     * @param block コンテンツブロック
+     * @return 保存したコンテンツブロック
+     */
+    public LectureContentBlock save(LectureContentBlock block) {
+        if (block == null) {
+            throw new IllegalArgumentException("コンテンツブロックは必須です");
+        }
+        block.setSanitizedContent(contentSanitizer.sanitize(block.getContent()));
+        LectureContentBlock saved = lectureContentBlockRepository.save(block);
+        renderedPageCache.invalidate();
+        return saved;
+    }
 }
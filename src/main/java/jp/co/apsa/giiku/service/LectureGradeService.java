@@ -2,8 +2,12 @@ package jp.co.apsa.giiku.service;
 
 import jp.co.apsa.giiku.domain.entity.LectureGrade;
 import jp.co.apsa.giiku.domain.repository.LectureGradeRepository;
+import jp.co.apsa.giiku.domain.repository.TrainingAssignmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -20,9 +24,20 @@ import java.util.Optional;
 @Service
 public class LectureGradeService {
 
+    private static final Logger logger = LoggerFactory.getLogger(LectureGradeService.class);
+
+    /** 演習回答数を記録する研修配属のステータス */
+    private static final List<String> ACTIVE_ASSIGNMENT_STATUSES = List.of("active", "assigned");
+
     @Autowired
     private LectureGradeRepository lectureGradeRepository;
 
+    @Autowired
+    private TrainingAssignmentRepository trainingAssignmentRepository;
+
+    @Autowired
+    private ExerciseStatsWriteBuffer exerciseStatsWriteBuffer;
+
     /**
      * すべての講義成績を取得します。
      *
@@ -72,27 +87,22 @@ public class LectureGradeService {
     }
 
     /**
-     * 演習回答結果を更新
+     * 演習回答結果を更新します。
+     * 成績行は学生の現在の研修配属（配属日が最も新しい有効な配属）と講義の組に記録し、配属のない学生の回答は記録しません。
+     * 回答数・正解数は {@link ExerciseStatsWriteBuffer} で集約し、一定間隔で加算の UPDATE として書き込みます。
      *
+     * @param studentId 学生のユーザーID（users.id）
      * @param lectureId 講義ID
      * @param correct 正解かどうか
      */
-    public void updateExerciseStats(Long lectureId, boolean correct) {
-        LectureGrade grade = lectureGradeRepository.findByLectureId(lectureId)
-                .orElseGet(() -> {
-                    LectureGrade g = new LectureGrade();
-                    g.setLectureId(lectureId);
-                    g.setExerciseScore(0);
-                    g.setExerciseMaxScore(0);
-                    return g;
-                });
-        Integer maxScore = grade.getExerciseMaxScore() == null ? 0 : grade.getExerciseMaxScore();
-        grade.setExerciseMaxScore(maxScore + 1);
-        if (correct) {
-            Integer score = grade.getExerciseScore() == null ? 0 : grade.getExerciseScore();
-            grade.setExerciseScore(score + 1);
+    public void updateExerciseStats(Long studentId, Long lectureId, boolean correct) {
+        List<Long> assignmentIds = studentId == null ? List.of()
+                : trainingAssignmentRepository.findIdsByUserIdAndStatusIn(
+                        studentId, ACTIVE_ASSIGNMENT_STATUSES, PageRequest.of(0, 1));
+        if (assignmentIds.isEmpty()) {
+            logger.debug("研修配属がないため演習回答数を記録しません: studentId={}, lectureId={}", studentId, lectureId);
+            return;
         }
-        lectureGradeRepository.save(grade);
+        exerciseStatsWriteBuffer.record(assignmentIds.get(0), lectureId, correct);
     }
 }
-
@@ -0,0 +1,155 @@
+package jp.co.apsa.giiku.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import jp.co.apsa.giiku.domain.entity.Chapter;
+import jp.co.apsa.giiku.domain.entity.Day;
+import jp.co.apsa.giiku.domain.entity.Lecture;
+import jp.co.apsa.giiku.domain.entity.LectureChapterLink;
+import jp.co.apsa.giiku.domain.entity.LectureContentBlock;
+import jp.co.apsa.giiku.domain.entity.LectureGoal;
+import jp.co.apsa.giiku.domain.entity.Month;
+import jp.co.apsa.giiku.domain.entity.QuestionBank;
+import jp.co.apsa.giiku.domain.entity.QuizQuestionBank;
+import jp.co.apsa.giiku.domain.entity.Week;
+import jp.co.apsa.giiku.domain.repository.LectureChapterLinkRepository;
+import jp.co.apsa.giiku.domain.repository.LectureContentBlockRepository;
+import jp.co.apsa.giiku.domain.repository.LectureGoalRepository;
+import jp.co.apsa.giiku.domain.repository.LectureRepository;
+import jp.co.apsa.giiku.domain.repository.QuestionBankRepository;
+import jp.co.apsa.giiku.domain.repository.QuizQuestionBankRepository;
+import jp.co.apsa.giiku.dto.LecturePageView;
+
+/**
+ * 講義詳細ページの読み取りモデルを組み立てるサービス。
+ *
+ * <p>チャプター数に関係なく、次の固定回数のクエリでページ全体を取得します。</p>
+ * <ol>
+ *   <li>講義・日・週・月</li>
+ *   <li>学習目標</li>
+ *   <li>チャプター（リンク経由の fetch join）</li>
+ *   <li>全チャプターのコンテンツブロック（IN 句）</li>
+ *   <li>理解度テスト（チャプターの fetch join）</li>
+ *   <li>演習問題（チャプターの fetch join）</li>
+ *   <li>同じ日の講義一覧（前後の講義）</li>
+ * </ol>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+@Transactional(readOnly = true)
+public class LecturePageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LecturePageService.class);
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private LectureGoalRepository lectureGoalRepository;
+
+    @Autowired
+    private LectureChapterLinkRepository lectureChapterLinkRepository;
+
+    @Autowired
+    private LectureContentBlockRepository lectureContentBlockRepository;
+
+    @Autowired
+    private QuizQuestionBankRepository quizQuestionBankRepository;
+
+    @Autowired
+    private QuestionBankRepository questionBankRepository;
+
+    @Autowired
+    private ContentSanitizer contentSanitizer;
+
+    /**
+     * 講義詳細ページの読み取りモデルを取得します。
+     *
+     * @param lectureId 講義ID
+     * @return 読み取りモデル（講義が存在しない場合は空）
+     */
+    public Optional<LecturePageView> findPage(Long lectureId) {
+        if (lectureId == null) {
+            throw new IllegalArgumentException("講義IDは必須です");
+        }
+
+        List<Object[]> hierarchy = lectureRepository.findWithHierarchyById(lectureId);
+        if (hierarchy.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = hierarchy.get(0);
+        Lecture lecture = (Lecture) row[0];
+        Day day = (Day) row[1];
+        Week week = (Week) row[2];
+        Month month = (Month) row[3];
+
+        List<LectureGoal> goals = lectureGoalRepository.findByLectureIdOrderBySortOrder(lectureId);
+        List<Chapter> chapters = lectureChapterLinkRepository.findByLectureIdOrderBySortOrder(lectureId)
+                .stream()
+                .map(LectureChapterLink::getChapter)
+                .collect(Collectors.toList());
+
+        Map<Long, List<LecturePageView.ContentBlock>> contentBlocks = new LinkedHashMap<>();
+        if (!chapters.isEmpty()) {
+            List<Long> chapterIds = chapters.stream().map(Chapter::getId).collect(Collectors.toList());
+            for (LectureContentBlock block : lectureContentBlockRepository.findByChapterIdInOrderByChapterIdAscSortOrderAsc(chapterIds)) {
+                contentBlocks.computeIfAbsent(block.getChapterId(), k -> new ArrayList<>()).add(toView(block));
+            }
+            // コンテンツのないチャプターも空リストとして保持
+            for (Long chapterId : chapterIds) {
+                contentBlocks.putIfAbsent(chapterId, List.of());
+            }
+        }
+
+        Map<Long, List<QuizQuestionBank>> quizQuestions = new LinkedHashMap<>();
+        for (QuizQuestionBank quiz : quizQuestionBankRepository.findByLectureIdOrderByChapterAndQuestionNumber(lectureId)) {
+            quizQuestions.computeIfAbsent(quiz.getChapter().getId(), k -> new ArrayList<>()).add(quiz);
+        }
+
+        Map<Long, List<QuestionBank>> exercises = new LinkedHashMap<>();
+        for (QuestionBank exercise : questionBankRepository.findByLectureIdOrderByChapterAndQuestionNumber(lectureId)) {
+            exercises.computeIfAbsent(exercise.getChapter().getId(), k -> new ArrayList<>()).add(exercise);
+        }
+
+        Lecture previous = null;
+        Lecture next = null;
+        if (lecture.getDayId() != null) {
+            List<Lecture> dayLectures = lectureRepository.findByDayIdOrderByLectureNumber(lecture.getDayId());
+            for (int i = 0; i < dayLectures.size(); i++) {
+                if (dayLectures.get(i).getId().equals(lecture.getId())) {
+                    previous = i > 0 ? dayLectures.get(i - 1) : null;
+                    next = i < dayLectures.size() - 1 ? dayLectures.get(i + 1) : null;
+                    break;
+                }
+            }
+        }
+
+        logger.debug("講義ページ取得: lectureId={}, chapters={}, quizzes={}, exercises={}",
+                lectureId, chapters.size(), quizQuestions.size(), exercises.size());
+        return Optional.of(new LecturePageView(lecture, day, week, month, goals, chapters,
+                contentBlocks, quizQuestions, exercises, previous, next));
+    }
+
+    /** 表示用のブロックに変換（保存済みのサニタイズ結果を優先し、エンティティは変更しない） */
+    private LecturePageView.ContentBlock toView(LectureContentBlock block) {
+        String content = block.getSanitizedContent() != null
+                ? block.getSanitizedContent()
+                : contentSanitizer.sanitizeCached(block.getContent());
+        return new LecturePageView.ContentBlock(block.getId(), block.getChapterId(), block.getBlockType(),
+                block.getTitle(), content, block.getSortOrder());
+    }
+}
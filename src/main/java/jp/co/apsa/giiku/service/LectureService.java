@@ -25,6 +25,12 @@ public class LectureService {
     @Autowired
     private LectureRepository lectureRepository;
 
+    @Autowired
+    private CurriculumTreeCache curriculumTreeCache;
+
+    @Autowired
+    private RenderedPageCache renderedPageCache;
+
     /** 指定された日IDの講義を講義番号順で取得 */
     public List<Lecture> findByDayIdOrderByLectureNumber(Long dayId) {
         return lectureRepository.findByDayIdOrderByLectureNumber(dayId);
@@ -50,7 +56,10 @@ public class LectureService {
 
     /** 講義を保存 */
     public Lecture save(Lecture lecture) {
-        return lectureRepository.save(lecture);
+        Lecture saved = lectureRepository.save(lecture);
+        curriculumTreeCache.invalidate();
+        renderedPageCache.invalidate();
+        return saved;
     }
 
     /** 講義を更新 */
@@ -59,11 +68,16 @@ public class LectureService {
             throw new IllegalArgumentException("指定された講義が存在しません: " + id);
         }
         lecture.setId(id);
-        return lectureRepository.save(lecture);
+        Lecture saved = lectureRepository.save(lecture);
+        curriculumTreeCache.invalidate();
+        renderedPageCache.invalidate();
+        return saved;
     }
 
     /** 講義を削除 */
     public void delete(Long id) {
         lectureRepository.deleteById(id);
+        curriculumTreeCache.invalidate();
+        renderedPageCache.invalidate();
     }
 }
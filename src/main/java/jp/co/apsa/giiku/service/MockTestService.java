@@ -3,11 +3,16 @@ package jp.co.apsa.giiku.service;
 import jp.co.apsa.giiku.domain.entity.MockTest;
 import jp.co.apsa.giiku.domain.entity.TrainingProgram;
 import jp.co.apsa.giiku.domain.entity.Company;
+import jp.co.apsa.giiku.domain.entity.MockTestResult;
+import jp.co.apsa.giiku.domain.event.MockTestResultRecordedEvent;
 import jp.co.apsa.giiku.domain.repository.MockTestRepository;
+import jp.co.apsa.giiku.domain.repository.MockTestResultRepository;
 import jp.co.apsa.giiku.domain.repository.TrainingProgramRepository;
 import jp.co.apsa.giiku.domain.repository.CompanyRepository;
+import jp.co.apsa.giiku.mapper.MockTestMapper;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -23,7 +28,6 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import com.github.dozermapper.core.Mapper;
 
 /**
  * MockTestサービスクラス
@@ -47,7 +51,13 @@ public class MockTestService {
     private CompanyRepository companyRepository;
 
     @Autowired
-    private Mapper mapper;
+    private MockTestMapper mockTestMapper;
+
+    @Autowired
+    private MockTestResultRepository mockTestResultRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     /** 全てのモックテストを取得 */
     @Transactional(readOnly = true)
@@ -107,7 +117,7 @@ public class MockTestService {
         validateMockTest(mockTest);
 
         // 基本情報の更新
-        mapper.map(mockTest, existingTest);
+        mockTestMapper.update(mockTest, existingTest);
         existingTest.setUpdatedAt(LocalDateTime.now());
 
         return mockTestRepository.save(existingTest);
@@ -200,33 +210,45 @@ public class MockTestService {
      * @param answers 解答データ
      * @return 模擬試験結果
      */
-    public jp.co.apsa.giiku.domain.entity.MockTestResult takeMockTest(
+    public MockTestResult takeMockTest(
             Long mockTestId, Long studentId, java.util.Map<String, Object> answers) {
-        return new jp.co.apsa.giiku.domain.entity.MockTestResult();
+        return new MockTestResult();
+    }
+
+    /**
+     * 模擬試験結果を記録し、成績サマリーの再計算対象として通知します。
+     * @param result 模擬試験結果
+     * @return 保存された結果
+     */
+    public MockTestResult recordResult(MockTestResult result) {
+        if (result == null || result.getTestId() == null || result.getStudentId() == null) {
+            throw new IllegalArgumentException("模擬試験IDと学生IDは必須です");
+        }
+        MockTestResult saved = mockTestResultRepository.save(result);
+        eventPublisher.publishEvent(new MockTestResultRecordedEvent(saved.getTestId(), saved.getStudentId()));
+        return saved;
     }
 
     /**
-     * 学生別模擬試験結果取得（スタブ）
+     * 学生別模擬試験結果取得
      * @param studentId 学生ID
      * @param pageable ページング情報
      * @return 結果ページ
      */
     @Transactional(readOnly = true)
-    public Page<jp.co.apsa.giiku.domain.entity.MockTestResult> findResultsByStudentId(
-            Long studentId, Pageable pageable) {
-        return Page.empty(pageable);
+    public Page<MockTestResult> findResultsByStudentId(Long studentId, Pageable pageable) {
+        return mockTestResultRepository.findByStudentIdOrderByCreatedAtDesc(studentId, pageable);
     }
 
     /**
-     * 模擬試験別結果取得（スタブ）
+     * 模擬試験別結果取得
      * @param mockTestId モックテストID
      * @param pageable ページング情報
      * @return 結果ページ
      */
     @Transactional(readOnly = true)
-    public Page<jp.co.apsa.giiku.domain.entity.MockTestResult> findResultsByMockTestId(
-            Long mockTestId, Pageable pageable) {
-        return Page.empty(pageable);
+    public Page<MockTestResult> findResultsByMockTestId(Long mockTestId, Pageable pageable) {
+        return mockTestResultRepository.findByTestIdOrderByCreatedAtDesc(mockTestId, pageable);
     }
 
     /**
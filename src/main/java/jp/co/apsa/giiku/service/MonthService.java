@@ -12,7 +12,7 @@ import jp.co.apsa.giiku.domain.repository.MonthRepository;
 
 /**
  * 月サービス
- * 月情報の取得を提供する。
+ * 月情報の取得と更新を提供する。
  *
  * @author 株式会社アプサ
  * @version 1.0
@@ -25,6 +25,12 @@ public class MonthService {
     @Autowired
     private MonthRepository monthRepository;
 
+    @Autowired
+    private CurriculumTreeCache curriculumTreeCache;
+
+    @Autowired
+    private RenderedPageCache renderedPageCache;
+
     /** 全件取得 */
     @Transactional(readOnly = true)
     public List<Month> findAll() {
@@ -42,4 +48,19 @@ public class MonthService {
     public Optional<Month> findById(Long id) {
         return monthRepository.findById(id);
     }
+
+    /** 月を保存（カリキュラムツリーのキャッシュを破棄） */
+    public Month save(Month month) {
+        Month saved = monthRepository.save(month);
+        curriculumTreeCache.invalidate();
+        renderedPageCache.invalidate();
+        return saved;
+    }
+
+    /** 月を削除（カリキュラムツリーのキャッシュを破棄） */
+    public void delete(Long id) {
+        monthRepository.deleteById(id);
+        curriculumTreeCache.invalidate();
+        renderedPageCache.invalidate();
+    }
 }
@@ -0,0 +1,367 @@
+package jp.co.apsa.giiku.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jp.co.apsa.giiku.domain.entity.UserRole;
+import jp.co.apsa.giiku.domain.repository.UserRoleRepository;
+
+/**
+ * ユーザー・会社ごとの権限インデックス。
+ *
+ * <p>(ユーザー, 会社) ごとに、現在有効なロールと特別権限をビット集合にまとめた不変の {@link Grants} を
+ * 保持します。ロール名・権限名は初出時にビット番号を割り当て、判定はマップ参照とビット演算だけで
+ * 行います（オブジェクトを生成しません）。</p>
+ *
+ * <p>特別権限はカンマ・空白・JSON の記号などで区切られたトークンとして解釈し、完全一致で判定します。
+ * ロールの有効期間の境界（未来の開始日時・終了日時のうち最も早いもの）を過ぎたエントリは次の参照時に
+ * 再構築し、ロールの書き込み時は {@link #evictUser(Long)} で破棄します。トランザクション内で破棄したユーザーは、
+ * そのトランザクションの終了（コミット・ロールバック）まで権限を保存せず、終了後にもう一度破棄します。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class PermissionIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PermissionIndex.class);
+
+    /** メトリクス名 */
+    private static final String METRIC_NAME = "giiku.permission-index";
+
+    /** 特別権限の区切り（権限名に使える文字以外） */
+    private static final String PERMISSION_DELIMITER = "[^A-Za-z0-9_.:*\\-]+";
+
+    private final UserRoleRepository userRoleRepository;
+
+    private final LongSupplier clock;
+
+    private final int maxEntries;
+
+    /** ユーザーID → 会社ID → 権限 */
+    private final ConcurrentMap<Long, ConcurrentMap<Long, Grants>> grants = new ConcurrentHashMap<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final ConcurrentMap<String, Integer> roleBits = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Integer> permissionBits = new ConcurrentHashMap<>();
+
+    /**
+     * 破棄のたびに進め、構築中に破棄されたユーザーを古い内容で保存しないようにする。
+     * 世代の確認と保存、世代の更新と破棄はそれぞれ {@link #grants} のロックの下で行う
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /** PermissionIndex メソッド */
+    @Autowired
+    public PermissionIndex(UserRoleRepository userRoleRepository, MeterRegistry meterRegistry,
+                           @Value("${giiku.permission-index.max-entries:10000}") int maxEntries) {
+        this(userRoleRepository, meterRegistry, maxEntries, System::currentTimeMillis);
+    }
+
+    PermissionIndex(UserRoleRepository userRoleRepository, MeterRegistry meterRegistry, int maxEntries,
+                    LongSupplier clock) {
+        this.userRoleRepository = userRoleRepository;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        FunctionCounter.builder(METRIC_NAME + ".requests", hits, LongAdder::doubleValue)
+                .tag("result", "hit")
+                .description("権限インデックスのヒット数")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_NAME + ".requests", misses, LongAdder::doubleValue)
+                .tag("result", "miss")
+                .description("権限インデックスのミス数（構築・期限切れ）")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", size, AtomicInteger::get)
+                .description("権限インデックスのエントリ数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * ユーザーが会社内で特別権限を持つかどうかを判定します。
+     *
+     * @param userId ユーザーID
+     * @param companyId 会社ID
+     * @param permission 権限名
+     * @return 有効なロールのいずれかが権限を持つ場合はtrue
+     */
+    public boolean hasPermission(Long userId, Long companyId, String permission) {
+        if (userId == null || companyId == null || permission == null) {
+            return false;
+        }
+        // ビット番号は構築時に割り当てるため、先に権限を取得する
+        Grants current = grants(userId, companyId);
+        Integer bit = permissionBits.get(permission);
+        return bit != null && current.hasPermission(bit);
+    }
+
+    /**
+     * ユーザーが会社内でロールを持つかどうかを判定します。
+     *
+     * @param userId ユーザーID
+     * @param companyId 会社ID
+     * @param roleName ロール名
+     * @return 有効なロールに含まれる場合はtrue
+     */
+    public boolean hasRole(Long userId, Long companyId, String roleName) {
+        if (userId == null || companyId == null || roleName == null) {
+            return false;
+        }
+        Grants current = grants(userId, companyId);
+        Integer bit = roleBits.get(roleName);
+        return bit != null && current.hasRole(bit);
+    }
+
+    /**
+     * ユーザーの全会社の権限を破棄します。
+     * トランザクション内で呼ばれた場合は、トランザクションが終了するまでそのユーザーの権限を保存せず、
+     * コミット・ロールバックのどちらの場合も終了後に再度破棄します。未コミットのロールで構築された権限は
+     * ロールバック後に残りません。
+     *
+     * @param userId ユーザーID（nullの場合は全ユーザー）
+     */
+    public void evictUser(Long userId) {
+        remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingEvictions evictions = (PendingEvictions) TransactionSynchronizationManager.getResource(this);
+            if (evictions == null) {
+                PendingEvictions created = new PendingEvictions();
+                TransactionSynchronizationManager.bindResource(this, created);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        TransactionSynchronizationManager.unbindResourceIfPossible(PermissionIndex.this);
+                        created.evict(PermissionIndex.this);
+                    }
+                });
+                evictions = created;
+            }
+            evictions.add(userId);
+        }
+        logger.debug("権限インデックスを破棄しました: userId={}", userId);
+    }
+
+    /** 現在のトランザクションでユーザーを破棄済みで、トランザクションが終了していない場合はtrue */
+    private boolean isEvictionPending(Long userId) {
+        PendingEvictions evictions = (PendingEvictions) TransactionSynchronizationManager.getResource(this);
+        return evictions != null && evictions.contains(userId);
+    }
+
+    private void remove(Long userId) {
+        synchronized (grants) {
+            removeLocked(userId);
+        }
+    }
+
+    private void removeLocked(Long userId) {
+        generation.incrementAndGet();
+        if (userId == null) {
+            grants.clear();
+            size.set(0);
+            return;
+        }
+        ConcurrentMap<Long, Grants> removed = grants.remove(userId);
+        if (removed != null) {
+            size.addAndGet(-removed.size());
+        }
+    }
+
+    private Grants grants(Long userId, Long companyId) {
+        // 破棄したトランザクションの中では未コミットのロールを読むため、キャッシュを使わず保存もしない
+        boolean evictionPending = isEvictionPending(userId);
+        ConcurrentMap<Long, Grants> byCompany = evictionPending ? null : grants.get(userId);
+        Grants cached = byCompany != null ? byCompany.get(companyId) : null;
+        if (cached != null && clock.getAsLong() < cached.nextBoundary) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        long loadingGeneration = generation.get();
+        Grants built = build(userRoleRepository.findByUserIdAndCompanyIdAndActiveTrueOrderByCreatedAtDesc(
+                userId, companyId));
+        if (evictionPending) {
+            return built;
+        }
+        synchronized (grants) {
+            if (generation.get() == loadingGeneration) {
+                if (size.get() >= maxEntries && cached == null) {
+                    // 上限に達した場合は全て破棄して作り直す（ロールの書き込みより参照が圧倒的に多いため）
+                    removeLocked(null);
+                    logger.debug("権限インデックスが上限に達したため破棄しました: maxEntries={}", maxEntries);
+                }
+                if (grants.computeIfAbsent(userId, k -> new ConcurrentHashMap<>()).put(companyId, built) == null) {
+                    size.incrementAndGet();
+                }
+            }
+        }
+        return built;
+    }
+
+    /** 現在有効なロールから権限を構築する */
+    Grants build(List<UserRole> roles) {
+        long now = clock.getAsLong();
+        long nextBoundary = Long.MAX_VALUE;
+        Grants.Builder builder = new Grants.Builder();
+        for (UserRole role : roles) {
+            if (!Boolean.TRUE.equals(role.getActive())) {
+                continue;
+            }
+            long from = toMillis(role.getValidFrom(), Long.MIN_VALUE);
+            // 終了日時ちょうどまでは有効
+            long until = toMillis(role.getValidUntil(), Long.MAX_VALUE - 1) + 1;
+            if (now < from) {
+                nextBoundary = Math.min(nextBoundary, from);
+                continue;
+            }
+            if (now >= until) {
+                continue;
+            }
+            nextBoundary = Math.min(nextBoundary, until);
+            if (role.getRoleName() != null) {
+                builder.role(bit(roleBits, role.getRoleName()));
+            }
+            if (role.getSpecialPermissions() != null) {
+                for (String permission : role.getSpecialPermissions().split(PERMISSION_DELIMITER)) {
+                    if (!permission.isEmpty()) {
+                        builder.permission(bit(permissionBits, permission));
+                    }
+                }
+            }
+        }
+        return builder.build(nextBoundary);
+    }
+
+    private static int bit(ConcurrentMap<String, Integer> bits, String name) {
+        Integer bit = bits.get(name);
+        if (bit != null) {
+            return bit;
+        }
+        synchronized (bits) {
+            return bits.computeIfAbsent(name, k -> bits.size());
+        }
+    }
+
+    private static long toMillis(LocalDateTime time, long defaultValue) {
+        return time == null ? defaultValue : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * トランザクション内で破棄したユーザー（トランザクションのリソースとして保持する）。
+     */
+    private static final class PendingEvictions {
+
+        private final Set<Long> userIds = new HashSet<>();
+
+        private boolean all;
+
+        private void add(Long userId) {
+            if (userId == null) {
+                all = true;
+            } else {
+                userIds.add(userId);
+            }
+        }
+
+        private boolean contains(Long userId) {
+            return all || userIds.contains(userId);
+        }
+
+        private void evict(PermissionIndex index) {
+            if (all) {
+                index.remove(null);
+                return;
+            }
+            userIds.forEach(index::remove);
+        }
+    }
+
+    /**
+     * 1ユーザー・1会社の有効なロールと特別権限。
+     */
+    static final class Grants {
+
+        private static final long[] EMPTY = new long[0];
+
+        private final long[] roles;
+
+        private final long[] permissions;
+
+        /** この時刻（エポックミリ秒）以降は再構築が必要 */
+        private final long nextBoundary;
+
+        private Grants(long[] roles, long[] permissions, long nextBoundary) {
+            this.roles = roles;
+            this.permissions = permissions;
+            this.nextBoundary = nextBoundary;
+        }
+
+        boolean hasRole(int bit) {
+            return test(roles, bit);
+        }
+
+        boolean hasPermission(int bit) {
+            return test(permissions, bit);
+        }
+
+        long getNextBoundary() {
+            return nextBoundary;
+        }
+
+        private static boolean test(long[] words, int bit) {
+            int word = bit >>> 6;
+            return word < words.length && (words[word] & (1L << bit)) != 0;
+        }
+
+        /** 構築用 */
+        private static final class Builder {
+            private long[] roles = EMPTY;
+            private long[] permissions = EMPTY;
+
+            private void role(int bit) {
+                roles = set(roles, bit);
+            }
+
+            private void permission(int bit) {
+                permissions = set(permissions, bit);
+            }
+
+            private static long[] set(long[] words, int bit) {
+                int word = bit >>> 6;
+                long[] target = word < words.length ? words : Arrays.copyOf(words, word + 1);
+                target[word] |= 1L << bit;
+                return target;
+            }
+
+            private Grants build(long nextBoundary) {
+                return new Grants(roles, permissions, nextBoundary);
+            }
+        }
+    }
+}
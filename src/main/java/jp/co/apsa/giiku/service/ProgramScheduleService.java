@@ -25,7 +25,7 @@ import jp.co.apsa.giiku.dto.ProgramScheduleResponseDto;
 import jp.co.apsa.giiku.dto.ProgramScheduleSearchDto;
 import jp.co.apsa.giiku.dto.ProgramScheduleStatsDto;
 import jp.co.apsa.giiku.dto.ProgramScheduleUpdateDto;
-import com.github.dozermapper.core.Mapper;
+import jp.co.apsa.giiku.mapper.ProgramScheduleMapper;
 
 /**
  * ProgramSchedule（プログラムスケジュール）に関するビジネスロジックを提供するサービスクラス。
@@ -45,7 +45,7 @@ public class ProgramScheduleService {
     private TrainingProgramRepository trainingProgramRepository;
 
     @Autowired
-    private Mapper mapper;
+    private ProgramScheduleMapper programScheduleMapper;
 
     /**
      * 全てのプログラムスケジュールを取得
@@ -277,7 +277,7 @@ public class ProgramScheduleService {
     }
 
     public ProgramScheduleResponseDto createProgramSchedule(ProgramScheduleCreateDto dto) {
-        ProgramSchedule entity = mapper.map(dto, ProgramSchedule.class);
+        ProgramSchedule entity = programScheduleMapper.toEntity(dto);
         entity.setStartDate(dto.getStartDateTime().toLocalDate());
         entity.setEndDate(dto.getEndDateTime().toLocalDate());
         if (dto.getCapacity() != null) {
@@ -294,7 +294,7 @@ public class ProgramScheduleService {
             return Optional.empty();
         }
         ProgramSchedule entity = opt.get();
-        mapper.map(dto, entity);
+        programScheduleMapper.update(dto, entity);
         if (dto.getStartDateTime() != null) entity.setStartDate(dto.getStartDateTime().toLocalDate());
         if (dto.getEndDateTime() != null) entity.setEndDate(dto.getEndDateTime().toLocalDate());
         if (dto.getCapacity() != null) entity.setMaxStudents(dto.getCapacity());
@@ -342,7 +342,7 @@ public class ProgramScheduleService {
 
     public ProgramScheduleResponseDto duplicateSchedule(Long id, String newStartDate, String newEndDate) {
         ProgramSchedule original = programScheduleRepository.findById(id).orElseThrow();
-        ProgramSchedule copy = mapper.map(original, ProgramSchedule.class);
+        ProgramSchedule copy = programScheduleMapper.copy(original);
         copy.setStartDate(newStartDate != null ? LocalDate.parse(newStartDate) : original.getStartDate());
         copy.setEndDate(newEndDate != null ? LocalDate.parse(newEndDate) : original.getEndDate());
         ProgramSchedule saved = programScheduleRepository.save(copy);
@@ -350,7 +350,7 @@ public class ProgramScheduleService {
     }
 
     private ProgramScheduleResponseDto toDto(ProgramSchedule schedule) {
-        ProgramScheduleResponseDto dto = mapper.map(schedule, ProgramScheduleResponseDto.class);
+        ProgramScheduleResponseDto dto = programScheduleMapper.toResponseDto(schedule);
         dto.setStartDateTime(schedule.getStartDate() != null ? schedule.getStartDate().atStartOfDay() : null);
         dto.setEndDateTime(schedule.getEndDate() != null ? schedule.getEndDate().atStartOfDay() : null);
         dto.setCapacity(schedule.getMaxStudents());
@@ -2,10 +2,12 @@ package jp.co.apsa.giiku.service;
 
 import jp.co.apsa.giiku.domain.entity.QuestionBank;
 import jp.co.apsa.giiku.domain.repository.QuestionBankRepository;
+import jp.co.apsa.giiku.mapper.QuestionBankMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,8 +15,11 @@ import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import com.github.dozermapper.core.Mapper;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * QuestionBankサービスクラス
@@ -34,7 +39,13 @@ public class QuestionBankService {
     private QuestionBankRepository questionBankRepository;
 
     @Autowired
-    private Mapper mapper;
+    private QuestionBankMapper questionBankMapper;
+
+    @Autowired
+    private RenderedPageCache renderedPageCache;
+
+    @Autowired
+    private QuestionSearchIndex questionSearchIndex;
 
     @Transactional(readOnly = true)
     public List<QuestionBank> findAll() {
@@ -60,7 +71,10 @@ public class QuestionBankService {
             question.setCreatedAt(LocalDateTime.now());
         }
         question.setUpdatedAt(LocalDateTime.now());
-        return questionBankRepository.save(question);
+        QuestionBank saved = questionBankRepository.save(question);
+        renderedPageCache.invalidate();
+        questionSearchIndex.indexExerciseQuestion(saved);
+        return saved;
     }
 
     public QuestionBank update(Long id, QuestionBank question) {
@@ -73,10 +87,13 @@ public class QuestionBankService {
 
         validateQuestion(question);
 
-        mapper.map(question, existing);
+        questionBankMapper.update(question, existing);
         existing.setUpdatedAt(LocalDateTime.now());
 
-        return questionBankRepository.save(existing);
+        QuestionBank saved = questionBankRepository.save(existing);
+        renderedPageCache.invalidate();
+        questionSearchIndex.indexExerciseQuestion(saved);
+        return saved;
     }
 
     public void deactivate(Long id) {
@@ -88,6 +105,8 @@ public class QuestionBankService {
         question.setIsActive(false);
         question.setUpdatedAt(LocalDateTime.now());
         questionBankRepository.save(question);
+        renderedPageCache.invalidate();
+        questionSearchIndex.removeExerciseQuestion(id);
     }
 
     public void delete(Long id) {
@@ -98,14 +117,44 @@ public class QuestionBankService {
             throw new RuntimeException("問題が見つかりません: " + id);
         }
         questionBankRepository.deleteById(id);
+        renderedPageCache.invalidate();
+        questionSearchIndex.removeExerciseQuestion(id);
     }
 
+    /**
+     * 問題文・選択肢・解説を全文検索し、関連度の高い順に全件を返します。
+     *
+     * @param text 検索語
+     * @return 該当する有効な問題一覧
+     */
     @Transactional(readOnly = true)
     public List<QuestionBank> searchByQuestionText(String text) {
         if (!StringUtils.hasText(text)) {
             return List.of();
         }
-        return questionBankRepository.findByQuestionTextContainingIgnoreCaseAndIsActiveTrue(text);
+        return search(text, Pageable.unpaged()).getContent();
+    }
+
+    /**
+     * 問題文・選択肢・解説を全文検索し、関連度の高い順にページ単位で返します。
+     *
+     * @param query 検索語（空白区切りの語を全て含む問題を返す）
+     * @param pageable ページング情報
+     * @return 該当する有効な問題
+     */
+    @Transactional(readOnly = true)
+    public Page<QuestionBank> search(String query, Pageable pageable) {
+        if (!StringUtils.hasText(query)) {
+            return Page.empty(pageable);
+        }
+        Page<Long> ids = questionSearchIndex.searchExerciseQuestions(query, pageable);
+        Map<Long, QuestionBank> questions = questionBankRepository.findAllById(ids.getContent()).stream()
+                .collect(Collectors.toMap(QuestionBank::getId, Function.identity()));
+        List<QuestionBank> ranked = ids.getContent().stream()
+                .map(questions::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(ranked, pageable, ids.getTotalElements());
     }
 
     @Transactional(readOnly = true)
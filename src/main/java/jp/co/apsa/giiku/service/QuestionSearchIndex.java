@@ -0,0 +1,678 @@
+package jp.co.apsa.giiku.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jp.co.apsa.giiku.domain.entity.QuestionBank;
+import jp.co.apsa.giiku.domain.entity.QuizQuestionBank;
+
+/**
+ * 演習問題・クイズ問題の全文検索インデックス。
+ *
+ * <p>有効な問題の問題文・選択肢・解説を転置インデックスに保持し、検索語を全て含む問題を
+ * BM25 のスコア順に返します。文字列は NFKC 正規化・小文字化したうえで、漢字・ひらがな・カタカナの
+ * 連続は2文字ずつ（1文字の場合は1文字）、英数字は単語単位に分割します。英数字の検索語は前方一致で
+ * 照合します。問題文に一致した問題ほど上位になるよう、項目ごとに重みを付けています。</p>
+ *
+ * <p>インデックスは最初の検索時にDBから構築し、問題の保存・無効化・削除はコミット後に1件ずつ反映します。
+ * 他のインスタンスでの変更は {@code rebuild-interval-minutes} ごとの再構築で反映します。再構築はロックの外で
+ * 新しいインデックスを作り、読み込み中の変更を適用してから差し替えるため、再構築中も検索は待たされません。
+ * {@code is_active} が未設定（NULL）の問題は、保存時と同じく有効として扱います。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class QuestionSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuestionSearchIndex.class);
+
+    /** メトリクス名 */
+    private static final String METRIC_NAME = "giiku.question-search";
+
+    /** 項目の重み: 問題文 */
+    private static final float QUESTION_TEXT_WEIGHT = 3.0f;
+
+    /** 項目の重み: 選択肢 */
+    private static final float OPTION_WEIGHT = 1.5f;
+
+    /** 項目の重み: 解説 */
+    private static final float EXPLANATION_WEIGHT = 1.0f;
+
+    /** 英数字の語のトークンの印（前方一致で照合するため日本語のトークンと区別する） */
+    static final String WORD_PREFIX = "#";
+
+    /** BM25 のパラメータ */
+    private static final double K1 = 1.2;
+
+    private static final double B = 0.75;
+
+    private static final String EXERCISE_SQL =
+            "SELECT id, question_text, question_options, explanation FROM exercise_question_bank "
+            + "WHERE is_active IS NULL OR is_active = TRUE";
+
+    private static final String QUIZ_SQL =
+            "SELECT id, question_text, option_a, option_b, option_c, option_d, option_e, option_f, explanation "
+            + "FROM quiz_question_bank WHERE is_active IS NULL OR is_active = TRUE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Timer searchTimer;
+
+    private final InvertedIndex exerciseIndex;
+
+    private final InvertedIndex quizIndex;
+
+    @Value("${giiku.question-search.rebuild-enabled:true}")
+    private boolean rebuildEnabled;
+
+    @Value("${giiku.question-search.rebuild-interval-minutes:30}")
+    private long rebuildIntervalMinutes;
+
+    private ScheduledExecutorService scheduler;
+
+    /** QuestionSearchIndex メソッド */
+    public QuestionSearchIndex(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.exerciseIndex = new InvertedIndex("exercise", this::loadExerciseDocuments);
+        this.quizIndex = new InvertedIndex("quiz", this::loadQuizDocuments);
+        this.searchTimer = Timer.builder(METRIC_NAME + ".duration")
+                .description("問題検索の所要時間")
+                .register(meterRegistry);
+        for (InvertedIndex index : List.of(exerciseIndex, quizIndex)) {
+            Gauge.builder(METRIC_NAME + ".documents", index, InvertedIndex::size)
+                    .tag("type", index.name)
+                    .description("検索インデックスの問題数")
+                    .register(meterRegistry);
+        }
+    }
+
+    /** 定期再構築を開始 */
+    @PostConstruct
+    void start() {
+        if (!rebuildEnabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "question-search-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::rebuildQuietly, rebuildIntervalMinutes, rebuildIntervalMinutes,
+                TimeUnit.MINUTES);
+        logger.info("問題検索インデックスの定期再構築開始: interval={}min", rebuildIntervalMinutes);
+    }
+
+    /** 定期再構築を停止 */
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            logger.error("問題検索インデックスの再構築に失敗しました（次回再試行）", e);
+        }
+    }
+
+    /**
+     * 構築済みのインデックスをDBの内容で作り直します。未構築のインデックスは次の検索時に構築します。
+     */
+    public void rebuild() {
+        exerciseIndex.rebuildIfBuilt();
+        quizIndex.rebuildIfBuilt();
+    }
+
+    /**
+     * 演習問題を検索します。
+     *
+     * @param query 検索語（空白区切りの語を全て含む問題を返す）
+     * @param pageable ページング情報
+     * @return スコア順の問題ID
+     */
+    public Page<Long> searchExerciseQuestions(String query, Pageable pageable) {
+        return search(exerciseIndex, query, pageable);
+    }
+
+    /**
+     * クイズ問題を検索します。
+     *
+     * @param query 検索語（空白区切りの語を全て含む問題を返す）
+     * @param pageable ページング情報
+     * @return スコア順の問題ID
+     */
+    public Page<Long> searchQuizQuestions(String query, Pageable pageable) {
+        return search(quizIndex, query, pageable);
+    }
+
+    /**
+     * 演習問題をインデックスに反映します（無効な問題は除外します）。
+     *
+     * @param question 保存した演習問題
+     */
+    public void indexExerciseQuestion(QuestionBank question) {
+        if (question == null || question.getId() == null) {
+            throw new IllegalArgumentException("問題IDは必須です");
+        }
+        Long id = question.getId();
+        if (Boolean.FALSE.equals(question.getIsActive())) {
+            afterCommit(() -> exerciseIndex.remove(id));
+            return;
+        }
+        Map<String, Float> terms = exerciseTerms(question.getQuestionText(), question.getQuestionOptions(),
+                question.getExplanation());
+        afterCommit(() -> exerciseIndex.put(id, terms));
+    }
+
+    /**
+     * 演習問題をインデックスから除外します。
+     *
+     * @param id 問題ID
+     */
+    public void removeExerciseQuestion(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("問題IDは必須です");
+        }
+        afterCommit(() -> exerciseIndex.remove(id));
+    }
+
+    /**
+     * クイズ問題をインデックスに反映します（無効な問題は除外します）。
+     *
+     * @param question 保存したクイズ問題
+     */
+    public void indexQuizQuestion(QuizQuestionBank question) {
+        if (question == null || question.getId() == null) {
+            throw new IllegalArgumentException("問題IDは必須です");
+        }
+        Long id = question.getId();
+        if (Boolean.FALSE.equals(question.getIsActive())) {
+            afterCommit(() -> quizIndex.remove(id));
+            return;
+        }
+        Map<String, Float> terms = quizTerms(question.getQuestionText(),
+                List.of(nullToEmpty(question.getOptionA()), nullToEmpty(question.getOptionB()),
+                        nullToEmpty(question.getOptionC()), nullToEmpty(question.getOptionD()),
+                        nullToEmpty(question.getOptionE()), nullToEmpty(question.getOptionF())),
+                question.getExplanation());
+        afterCommit(() -> quizIndex.put(id, terms));
+    }
+
+    /**
+     * クイズ問題をインデックスから除外します。
+     *
+     * @param id 問題ID
+     */
+    public void removeQuizQuestion(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("問題IDは必須です");
+        }
+        afterCommit(() -> quizIndex.remove(id));
+    }
+
+    private Page<Long> search(InvertedIndex index, String query, Pageable pageable) {
+        List<String> tokens = tokenizeQuery(query);
+        if (tokens.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        long start = System.nanoTime();
+        try {
+            List<Long> ranked = index.search(tokens);
+            if (pageable.isUnpaged()) {
+                return new PageImpl<>(ranked, pageable, ranked.size());
+            }
+            int from = (int) Math.min(pageable.getOffset(), ranked.size());
+            int to = Math.min(from + pageable.getPageSize(), ranked.size());
+            return new PageImpl<>(new ArrayList<>(ranked.subList(from, to)), pageable, ranked.size());
+        } finally {
+            searchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** トランザクション内で呼ばれた場合はコミット後に反映する（ロールバックした変更は反映しない） */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private Map<Long, Map<String, Float>> loadExerciseDocuments() {
+        return transactionTemplate.execute(status -> {
+            Map<Long, Map<String, Float>> documents = new HashMap<>();
+            jdbcTemplate.query(EXERCISE_SQL, rs -> {
+                documents.put(rs.getLong("id"), exerciseTerms(rs.getString("question_text"),
+                        rs.getString("question_options"), rs.getString("explanation")));
+            });
+            return documents;
+        });
+    }
+
+    private Map<Long, Map<String, Float>> loadQuizDocuments() {
+        return transactionTemplate.execute(status -> {
+            Map<Long, Map<String, Float>> documents = new HashMap<>();
+            jdbcTemplate.query(QUIZ_SQL, rs -> {
+                List<String> options = new ArrayList<>(6);
+                for (String column : List.of("option_a", "option_b", "option_c", "option_d", "option_e", "option_f")) {
+                    options.add(nullToEmpty(rs.getString(column)));
+                }
+                documents.put(rs.getLong("id"), quizTerms(rs.getString("question_text"), options,
+                        rs.getString("explanation")));
+            });
+            return documents;
+        });
+    }
+
+    private static Map<String, Float> exerciseTerms(String questionText, String options, String explanation) {
+        Map<String, Float> terms = new HashMap<>();
+        addTerms(terms, questionText, QUESTION_TEXT_WEIGHT);
+        addTerms(terms, options, OPTION_WEIGHT);
+        addTerms(terms, explanation, EXPLANATION_WEIGHT);
+        return terms;
+    }
+
+    private static Map<String, Float> quizTerms(String questionText, List<String> options, String explanation) {
+        Map<String, Float> terms = new HashMap<>();
+        addTerms(terms, questionText, QUESTION_TEXT_WEIGHT);
+        for (String option : options) {
+            addTerms(terms, option, OPTION_WEIGHT);
+        }
+        addTerms(terms, explanation, EXPLANATION_WEIGHT);
+        return terms;
+    }
+
+    private static void addTerms(Map<String, Float> terms, String text, float weight) {
+        for (String token : tokenize(text, true)) {
+            terms.merge(token, weight, Float::sum);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    /**
+     * 検索語をトークンに分割します（重複は除きます）。
+     * 2文字以上の日本語の連続は2文字ずつに分割し、1文字の場合は1文字のまま照合します。
+     *
+     * @param query 検索語
+     * @return トークン
+     */
+    static List<String> tokenizeQuery(String query) {
+        return new ArrayList<>(new LinkedHashSet<>(tokenize(query, false)));
+    }
+
+    /**
+     * 文字列をトークンに分割します。
+     *
+     * @param text 文字列
+     * @param indexing インデックス用の場合はtrue（日本語の1文字のトークンも含める）
+     * @return トークン
+     */
+    static List<String> tokenize(String text, boolean indexing) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        List<String> cjk = new ArrayList<>();
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (isCjk(codePoint)) {
+                flushWord(word, tokens);
+                cjk.add(new String(Character.toChars(codePoint)));
+            } else if (Character.isLetterOrDigit(codePoint) || codePoint == '_') {
+                flushCjk(cjk, tokens, indexing);
+                word.appendCodePoint(codePoint);
+            } else {
+                flushWord(word, tokens);
+                flushCjk(cjk, tokens, indexing);
+            }
+        }
+        flushWord(word, tokens);
+        flushCjk(cjk, tokens, indexing);
+        return tokens;
+    }
+
+    private static boolean isCjk(int codePoint) {
+        if (codePoint == 0x30FC) {
+            // 長音記号はカタカナの一部として扱う
+            return true;
+        }
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    private static void flushWord(StringBuilder word, List<String> tokens) {
+        if (word.length() > 0) {
+            tokens.add(WORD_PREFIX + word);
+            word.setLength(0);
+        }
+    }
+
+    private static void flushCjk(List<String> cjk, List<String> tokens, boolean indexing) {
+        if (cjk.size() == 1 || (indexing && !cjk.isEmpty())) {
+            tokens.addAll(cjk);
+        }
+        for (int i = 0; i + 1 < cjk.size(); i++) {
+            tokens.add(cjk.get(i) + cjk.get(i + 1));
+        }
+        cjk.clear();
+    }
+
+    /**
+     * 差し替え可能な転置インデックス。読み取りと書き込みはロックで分離し、DBからの構築はロックの外で行います。
+     */
+    private static final class InvertedIndex {
+
+        private final String name;
+
+        private final Supplier<Map<Long, Map<String, Float>>> loader;
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        /** 構築・再構築を直列化するロック */
+        private final Object rebuildLock = new Object();
+
+        /** 現在のインデックス（書き込みロックの下で変更・差し替える） */
+        private Postings current = new Postings();
+
+        /** 構築中に反映した変更（構築後のインデックスに適用し直す。構築中でない場合はnull） */
+        private List<Change> journal;
+
+        private volatile boolean built;
+
+        private InvertedIndex(String name, Supplier<Map<Long, Map<String, Float>>> loader) {
+            this.name = name;
+            this.loader = loader;
+        }
+
+        private int size() {
+            lock.readLock().lock();
+            try {
+                return current.documents.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void ensureBuilt() {
+            if (built) {
+                return;
+            }
+            synchronized (rebuildLock) {
+                if (!built) {
+                    load();
+                }
+            }
+        }
+
+        private void rebuildIfBuilt() {
+            if (!built) {
+                return;
+            }
+            synchronized (rebuildLock) {
+                load();
+            }
+        }
+
+        /**
+         * DBから読み込んだ内容でロックの外で新しいインデックスを作り、読み込み中に反映された変更を
+         * 適用し直してから書き込みロックの下で差し替える。
+         */
+        private void load() {
+            long start = System.nanoTime();
+            lock.writeLock().lock();
+            try {
+                journal = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            Postings next = new Postings();
+            try {
+                Map<Long, Map<String, Float>> loaded = loader.get();
+                if (loaded != null) {
+                    loaded.forEach(next::add);
+                }
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    journal = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+            int replayed;
+            lock.writeLock().lock();
+            try {
+                replayed = journal.size();
+                for (Change change : journal) {
+                    change.applyTo(next);
+                }
+                journal = null;
+                current = next;
+                built = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("問題検索インデックス構築: type={}, documents={}, terms={}, replayed={}, {}ms", name,
+                    next.documents.size(), next.postings.size(), replayed,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+
+        private void put(Long id, Map<String, Float> terms) {
+            apply(new Change(id, terms));
+        }
+
+        private void remove(Long id) {
+            apply(new Change(id, null));
+        }
+
+        private void apply(Change change) {
+            lock.writeLock().lock();
+            try {
+                if (journal != null) {
+                    journal.add(change);
+                }
+                // 未構築の場合は構築時にDBから読み込むため反映しない
+                if (built) {
+                    change.applyTo(current);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /** 全てのトークンを含む問題をスコアの降順（同点はID順）で返す */
+        private List<Long> search(List<String> tokens) {
+            ensureBuilt();
+            lock.readLock().lock();
+            try {
+                return current.search(tokens);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    /** 構築中に反映した1件の変更（terms が null の場合は除外） */
+    private static final class Change {
+
+        private final Long id;
+
+        private final Map<String, Float> terms;
+
+        private Change(Long id, Map<String, Float> terms) {
+            this.id = id;
+            this.terms = terms;
+        }
+
+        private void applyTo(Postings target) {
+            target.remove(id);
+            if (terms != null) {
+                target.add(id, terms);
+            }
+        }
+    }
+
+    /**
+     * 問題ID → 重み付き出現回数の転置インデックスの内容。同期は {@link InvertedIndex} が行います。
+     */
+    private static final class Postings {
+
+        /** トークン → 問題ID → 重み付き出現回数（英数字の前方一致のため順序付き） */
+        private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+
+        /** 問題ID → トークン → 重み付き出現回数（更新時に古いトークンを除くため） */
+        private final Map<Long, Map<String, Float>> documents = new HashMap<>();
+
+        /** 問題ID → 重み付きの長さ */
+        private final Map<Long, Double> lengths = new HashMap<>();
+
+        private double totalLength;
+
+        private void add(Long id, Map<String, Float> terms) {
+            if (terms.isEmpty()) {
+                return;
+            }
+            double length = 0;
+            for (Map.Entry<String, Float> term : terms.entrySet()) {
+                postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(id, term.getValue());
+                length += term.getValue();
+            }
+            documents.put(id, terms);
+            lengths.put(id, length);
+            totalLength += length;
+        }
+
+        private void remove(Long id) {
+            Map<String, Float> terms = documents.remove(id);
+            if (terms == null) {
+                return;
+            }
+            for (Map.Entry<String, Float> term : terms.entrySet()) {
+                Map<Long, Float> posting = postings.get(term.getKey());
+                if (posting != null) {
+                    posting.remove(id);
+                    if (posting.isEmpty()) {
+                        postings.remove(term.getKey());
+                    }
+                }
+            }
+            totalLength -= lengths.remove(id);
+        }
+
+        private List<Long> search(List<String> tokens) {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+            List<Map<Long, Float>> matches = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                Map<Long, Float> match = match(token);
+                if (match.isEmpty()) {
+                    return List.of();
+                }
+                matches.add(match);
+            }
+            // 該当件数の少ないトークンから絞り込む
+            matches.sort((a, b) -> Integer.compare(a.size(), b.size()));
+            Set<Long> candidates = matches.get(0).keySet();
+            double averageLength = totalLength / documents.size();
+            Map<Long, Double> scores = new HashMap<>();
+            for (Long id : candidates) {
+                double score = score(id, matches, averageLength);
+                if (score > 0) {
+                    scores.put(id, score);
+                }
+            }
+            List<Long> ranked = new ArrayList<>(scores.keySet());
+            ranked.sort((a, b) -> {
+                int compare = Double.compare(scores.get(b), scores.get(a));
+                return compare != 0 ? compare : Long.compare(a, b);
+            });
+            return ranked;
+        }
+
+        /** BM25 のスコア。いずれかのトークンを含まない場合は0 */
+        private double score(Long id, List<Map<Long, Float>> matches, double averageLength) {
+            double length = lengths.get(id);
+            double score = 0;
+            for (Map<Long, Float> match : matches) {
+                Float frequency = match.get(id);
+                if (frequency == null) {
+                    return 0;
+                }
+                double idf = Math.log(1 + (documents.size() - match.size() + 0.5) / (match.size() + 0.5));
+                score += idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+            }
+            return score;
+        }
+
+        /** トークンに一致する問題（英数字の語は前方一致で、一致した語の出現回数を合計する） */
+        private Map<Long, Float> match(String token) {
+            if (!token.startsWith(WORD_PREFIX)) {
+                Map<Long, Float> posting = postings.get(token);
+                return posting != null ? posting : Collections.emptyMap();
+            }
+            Map<Long, Float> merged = new HashMap<>();
+            for (Map<Long, Float> posting : postings.subMap(token, true, token + Character.MAX_VALUE, true).values()) {
+                posting.forEach((id, frequency) -> merged.merge(id, frequency, Float::sum));
+            }
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package jp.co.apsa.giiku.service;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jp.co.apsa.giiku.domain.repository.QuizQuestionBankRepository;
+import jp.co.apsa.giiku.domain.valueobject.AnswerKey;
+
+/**
+ * クイズ問題の解答キーキャッシュ。
+ * 問題IDごとに正規化済みの正解集合と解説を保持し、回答判定時のDBアクセスを省きます。
+ * ヒット数・ミス数・エントリ数は Actuator のメトリクスとして公開します。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class QuizAnswerKeyCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuizAnswerKeyCache.class);
+
+    /** メトリクス名 */
+    private static final String METRIC_NAME = "giiku.quiz.answer-key.cache";
+
+    private final QuizQuestionBankRepository quizQuestionBankRepository;
+
+    private final ConcurrentMap<Long, AnswerKey> answerKeys = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /** QuizAnswerKeyCache メソッド */
+    public QuizAnswerKeyCache(QuizQuestionBankRepository quizQuestionBankRepository, MeterRegistry meterRegistry) {
+        this.quizQuestionBankRepository = quizQuestionBankRepository;
+        FunctionCounter.builder(METRIC_NAME + ".requests", hits, LongAdder::doubleValue)
+                .tag("result", "hit")
+                .description("解答キーキャッシュのヒット数")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_NAME + ".requests", misses, LongAdder::doubleValue)
+                .tag("result", "miss")
+                .description("解答キーキャッシュのミス数")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", answerKeys, ConcurrentMap::size)
+                .description("解答キーキャッシュのエントリ数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 問題IDに対応する解答キーを取得します。未キャッシュの場合はDBから読み込みます。
+     *
+     * @param questionId 問題ID
+     * @return 解答キー（問題が存在しない場合は空）
+     */
+    public Optional<AnswerKey> get(Long questionId) {
+        if (questionId == null) {
+            return Optional.empty();
+        }
+        AnswerKey cached = answerKeys.get(questionId);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+        Optional<AnswerKey> loaded = quizQuestionBankRepository.findById(questionId)
+                .map(q -> AnswerKey.of(q.getCorrectAnswer(), q.getExplanation()));
+        loaded.ifPresent(key -> answerKeys.putIfAbsent(questionId, key));
+        return loaded;
+    }
+
+    /**
+     * 指定問題の解答キーを破棄します。
+     * トランザクション内で呼ばれた場合はコミット後にも再度破棄し、
+     * コミット前に古い値が再読込されることを防ぎます。
+     *
+     * @param questionId 問題ID
+     */
+    public void evict(Long questionId) {
+        if (questionId == null) {
+            return;
+        }
+        answerKeys.remove(questionId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    answerKeys.remove(questionId);
+                }
+            });
+        }
+        logger.debug("解答キーキャッシュを破棄しました: questionId={}", questionId);
+    }
+
+    /** 全ての解答キーを破棄します。 */
+    public void evictAll() {
+        answerKeys.clear();
+    }
+}
@@ -0,0 +1,186 @@
+package jp.co.apsa.giiku.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import jp.co.apsa.giiku.domain.entity.Quiz;
+import jp.co.apsa.giiku.domain.event.QuizChangedEvent;
+import jp.co.apsa.giiku.domain.repository.QuestionBankRepository;
+import jp.co.apsa.giiku.domain.repository.QuizRepository;
+
+/**
+ * クイズ自動採点サービス。
+ * クイズに含まれる全問題の解答キーを1回のクエリで取得し、メモリ上で採点します。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+@Transactional
+public class QuizGradingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuizGradingService.class);
+
+    /** 配点が未設定の問題に適用する点数 */
+    private static final int DEFAULT_POINTS = 1;
+
+    /** 再採点の対象となるクイズステータス */
+    private static final List<String> GRADABLE_STATUSES = List.of("COMPLETED", "SUBMITTED", "GRADED");
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private QuestionBankRepository questionBankRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * クイズを採点し、獲得点・得点率・合否をエンティティに反映します。
+     * 保存は呼び出し側で行います。
+     *
+     * @param quiz 採点対象のクイズ
+     * @return 採点結果を反映したクイズ
+     */
+    public Quiz grade(Quiz quiz) {
+        if (quiz == null) {
+            throw new IllegalArgumentException("クイズは必須です");
+        }
+        List<Long> questionIds = parseQuestionIds(quiz.getQuestionIds());
+        applyResult(quiz, questionIds, loadAnswerKeys(questionIds));
+        return quiz;
+    }
+
+    /**
+     * 指定チャプターの提出済みクイズを一括で再採点します。
+     * 対象クイズ全体の解答キーは1回のクエリでまとめて取得します。
+     *
+     * @param chapterId チャプターID
+     * @return 再採点したクイズ数
+     */
+    public int regradeByChapterId(Long chapterId) {
+        if (chapterId == null) {
+            throw new IllegalArgumentException("チャプターIDは必須です");
+        }
+
+        List<Quiz> quizzes = quizRepository.findByChapterIdAndQuizStatusIn(chapterId, GRADABLE_STATUSES);
+        if (quizzes.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<Long>> questionIdsByQuiz = new HashMap<>();
+        Set<Long> allQuestionIds = new LinkedHashSet<>();
+        for (Quiz quiz : quizzes) {
+            List<Long> questionIds = parseQuestionIds(quiz.getQuestionIds());
+            questionIdsByQuiz.put(quiz.getId(), questionIds);
+            allQuestionIds.addAll(questionIds);
+        }
+
+        Map<Long, ScoringKey> answerKeys = loadAnswerKeys(allQuestionIds);
+        LocalDateTime now = LocalDateTime.now();
+        List<QuizChangedEvent.Snapshot> before = new ArrayList<>(quizzes.size());
+        for (Quiz quiz : quizzes) {
+            before.add(QuizChangedEvent.Snapshot.of(quiz));
+            applyResult(quiz, questionIdsByQuiz.get(quiz.getId()), answerKeys);
+            quiz.setGradedTime(now);
+            quiz.setUpdatedAt(now);
+        }
+        quizRepository.saveAll(quizzes);
+        for (int i = 0; i < quizzes.size(); i++) {
+            eventPublisher.publishEvent(
+                    new QuizChangedEvent(before.get(i), QuizChangedEvent.Snapshot.of(quizzes.get(i))));
+        }
+
+        logger.info("チャプター単位の再採点完了: chapterId={}, quizzes={}, questions={}",
+                chapterId, quizzes.size(), allQuestionIds.size());
+        return quizzes.size();
+    }
+
+    /** 解答キーを一括取得 */
+    private Map<Long, ScoringKey> loadAnswerKeys(Collection<Long> questionIds) {
+        Map<Long, ScoringKey> answerKeys = new HashMap<>();
+        if (questionIds.isEmpty()) {
+            return answerKeys;
+        }
+        for (Object[] row : questionBankRepository.findAnswerKeysByIdIn(questionIds)) {
+            Long id = (Long) row[0];
+            String correctAnswer = row[1] != null ? row[1].toString().trim() : null;
+            int points = row[2] != null ? ((Number) row[2]).intValue() : DEFAULT_POINTS;
+            answerKeys.put(id, new ScoringKey(correctAnswer, points));
+        }
+        return answerKeys;
+    }
+
+    /** 採点結果をクイズへ反映 */
+    private void applyResult(Quiz quiz, List<Long> questionIds, Map<Long, ScoringKey> answerKeys) {
+        String[] studentAnswers = StringUtils.hasText(quiz.getStudentAnswers())
+                ? quiz.getStudentAnswers().split(",") : new String[0];
+        boolean answerable = !questionIds.isEmpty() && questionIds.size() == studentAnswers.length;
+
+        int totalPoints = 0;
+        int earnedPoints = 0;
+        for (int i = 0; i < questionIds.size(); i++) {
+            ScoringKey key = answerKeys.get(questionIds.get(i));
+            int points = key != null ? key.points : DEFAULT_POINTS;
+            totalPoints += points;
+            if (answerable && key != null && key.isCorrect(studentAnswers[i].trim())) {
+                earnedPoints += points;
+            }
+        }
+
+        double percentage = totalPoints > 0 ? (double) earnedPoints / totalPoints * 100.0 : 0.0;
+        quiz.setTotalQuestions(questionIds.size());
+        quiz.setTotalPoints(totalPoints);
+        quiz.setEarnedPoints(earnedPoints);
+        quiz.setPercentageScore(percentage);
+        quiz.setIsPassed(quiz.getPassingScore() != null && percentage >= quiz.getPassingScore());
+    }
+
+    /** カンマ区切りの問題IDを解析（不正な値を含む場合は空リスト） */
+    private List<Long> parseQuestionIds(String questionIds) {
+        List<Long> result = new ArrayList<>();
+        if (!StringUtils.hasText(questionIds)) {
+            return result;
+        }
+        try {
+            for (String id : questionIds.split(",")) {
+                result.add(Long.parseLong(id.trim()));
+            }
+        } catch (NumberFormatException e) {
+            logger.warn("問題IDの解析に失敗しました: {}", questionIds);
+            result.clear();
+        }
+        return result;
+    }
+
+    /** 採点用の解答キー */
+    private static final class ScoringKey {
+        private final String correctAnswer;
+        private final int points;
+
+        private ScoringKey(String correctAnswer, int points) {
+            this.correctAnswer = correctAnswer;
+            this.points = points;
+        }
+
+        private boolean isCorrect(String answer) {
+            return correctAnswer != null && correctAnswer.equalsIgnoreCase(answer);
+        }
+    }
+}
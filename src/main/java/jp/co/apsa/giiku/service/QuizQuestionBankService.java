@@ -1,17 +1,28 @@
 package jp.co.apsa.giiku.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import jp.co.apsa.giiku.domain.entity.QuizQuestionBank;
 import jp.co.apsa.giiku.domain.repository.QuizQuestionBankRepository;
 
 /**
  * QuizQuestionBank サービスクラス。
- * クイズ問題の取得機能を提供します。
+ * クイズ問題の取得・保存機能を提供します。
+ * 保存・削除時には解答キーキャッシュを破棄し、検索インデックスに反映します。
  *
  * @author 株式会社アプサ
  * @version 1.0
@@ -26,6 +37,92 @@ public class QuizQuestionBankService {
     @Autowired
     private QuizQuestionBankRepository quizQuestionBankRepository;
 
+    @Autowired
+    private QuizAnswerKeyCache quizAnswerKeyCache;
+
+    @Autowired
+    private RenderedPageCache renderedPageCache;
+
+    @Autowired
+    private QuestionSearchIndex questionSearchIndex;
+
+    /**
+     * IDでクイズ問題を取得します。
+     *
+     * @param id 問題ID
+     * @return クイズ問題
+     */
+    @Transactional(readOnly = true)
+    public Optional<QuizQuestionBank> findById(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("IDは必須です");
+        }
+        return quizQuestionBankRepository.findById(id);
+    }
+
+    /**
+     * クイズ問題を保存し、該当問題の解答キーキャッシュを破棄します。
+     *
+     * @param question クイズ問題
+     * @return 保存されたクイズ問題
+     */
+    public QuizQuestionBank save(QuizQuestionBank question) {
+        validateQuestion(question);
+        LocalDateTime now = LocalDateTime.now();
+        if (question.getCreatedAt() == null) {
+            question.setCreatedAt(question.getId() == null ? now
+                    : quizQuestionBankRepository.findById(question.getId())
+                            .map(QuizQuestionBank::getCreatedAt)
+                            .orElse(now));
+        }
+        question.setUpdatedAt(now);
+        QuizQuestionBank saved = quizQuestionBankRepository.save(question);
+        quizAnswerKeyCache.evict(saved.getId());
+        renderedPageCache.invalidate();
+        questionSearchIndex.indexQuizQuestion(saved);
+        return saved;
+    }
+
+    /**
+     * クイズ問題を削除し、該当問題の解答キーキャッシュを破棄します。
+     *
+     * @param id 問題ID
+     */
+    public void delete(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("IDは必須です");
+        }
+        if (!quizQuestionBankRepository.existsById(id)) {
+            throw new RuntimeException("クイズ問題が見つかりません: " + id);
+        }
+        quizQuestionBankRepository.deleteById(id);
+        quizAnswerKeyCache.evict(id);
+        renderedPageCache.invalidate();
+        questionSearchIndex.removeQuizQuestion(id);
+    }
+
+    /**
+     * 問題文・選択肢・解説を全文検索し、関連度の高い順にページ単位で返します。
+     *
+     * @param query 検索語（空白区切りの語を全て含む問題を返す）
+     * @param pageable ページング情報
+     * @return 該当する有効なクイズ問題
+     */
+    @Transactional(readOnly = true)
+    public Page<QuizQuestionBank> search(String query, Pageable pageable) {
+        if (!StringUtils.hasText(query)) {
+            return Page.empty(pageable);
+        }
+        Page<Long> ids = questionSearchIndex.searchQuizQuestions(query, pageable);
+        Map<Long, QuizQuestionBank> questions = quizQuestionBankRepository.findAllById(ids.getContent()).stream()
+                .collect(Collectors.toMap(QuizQuestionBank::getId, Function.identity()));
+        List<QuizQuestionBank> ranked = ids.getContent().stream()
+                .map(questions::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(ranked, pageable, ids.getTotalElements());
+    }
+
     /**
      * 指定されたチャプターIDのクイズ問題を取得します。
      *
@@ -53,4 +150,25 @@ public class QuizQuestionBankService {
         logger.debug("Retrieved {} quiz questions for lectureId={}", result.size(), lectureId);
         return result;
     }
+
+    private void validateQuestion(QuizQuestionBank question) {
+        if (question == null) {
+            throw new IllegalArgumentException("問題は必須です");
+        }
+        if (question.getChapterId() == null) {
+            throw new IllegalArgumentException("チャプターIDは必須です");
+        }
+        if (question.getQuestionNumber() == null) {
+            throw new IllegalArgumentException("問題番号は必須です");
+        }
+        if (!StringUtils.hasText(question.getQuestionText())) {
+            throw new IllegalArgumentException("問題文は必須です");
+        }
+        if (!StringUtils.hasText(question.getQuestionType())) {
+            throw new IllegalArgumentException("問題タイプは必須です");
+        }
+        if (!StringUtils.hasText(question.getCorrectAnswer())) {
+            throw new IllegalArgumentException("正解は必須です");
+        }
+    }
 }
@@ -1,15 +1,18 @@
 package jp.co.apsa.giiku.service;
 
 import jp.co.apsa.giiku.domain.entity.Quiz;
-import jp.co.apsa.giiku.domain.entity.QuestionBank;
 import jp.co.apsa.giiku.domain.entity.StudentProfile;
 import jp.co.apsa.giiku.domain.entity.TrainingProgram;
+import jp.co.apsa.giiku.domain.event.QuizChangedEvent;
 import jp.co.apsa.giiku.domain.repository.QuizRepository;
-import jp.co.apsa.giiku.domain.repository.QuestionBankRepository;
 import jp.co.apsa.giiku.domain.repository.StudentProfileRepository;
 import jp.co.apsa.giiku.domain.repository.TrainingProgramRepository;
+import jp.co.apsa.giiku.application.service.DashboardStatisticsService;
+import jp.co.apsa.giiku.dto.DashboardStatistics;
+import jp.co.apsa.giiku.mapper.QuizMapper;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -18,9 +21,9 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import jakarta.persistence.criteria.Predicate;
-import com.github.dozermapper.core.Mapper;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.Map;
@@ -42,7 +45,7 @@ public class QuizService {
     private QuizRepository quizRepository;
 
     @Autowired
-    private QuestionBankRepository questionBankRepository;
+    private QuizGradingService quizGradingService;
 
     @Autowired
     private StudentProfileRepository studentProfileRepository;
@@ -51,7 +54,13 @@ public class QuizService {
     private TrainingProgramRepository trainingProgramRepository;
 
     @Autowired
-    private Mapper mapper;
+    private QuizMapper quizMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private DashboardStatisticsService dashboardStatisticsService;
 
     /** 全てのクイズを取得 */
     @Transactional(readOnly = true)
@@ -77,13 +86,16 @@ public class QuizService {
     public Quiz save(Quiz quiz) {
         validateQuiz(quiz);
 
+        QuizChangedEvent.Snapshot before = quiz.getId() != null
+            ? quizRepository.findById(quiz.getId()).map(QuizChangedEvent.Snapshot::of).orElse(null)
+            : null;
         if (quiz.getId() == null) {
             quiz.setStartTime(LocalDateTime.now());
             quiz.setStatus("IN_PROGRESS");
         }
         quiz.setUpdatedAt(LocalDateTime.now());
 
-        return quizRepository.save(quiz);
+        return saveAndPublish(quiz, before);
     }
 
     /** クイズを更新 */
@@ -97,11 +109,12 @@ public class QuizService {
 
         validateQuiz(quiz);
 
+        QuizChangedEvent.Snapshot before = QuizChangedEvent.Snapshot.of(existing);
         // 基本情報の更新
-        mapper.map(quiz, existing);
+        quizMapper.update(quiz, existing);
         existing.setUpdatedAt(LocalDateTime.now());
 
-        return quizRepository.save(existing);
+        return saveAndPublish(existing, before);
     }
 
     /** クイズを削除 */
@@ -110,11 +123,11 @@ public class QuizService {
             throw new IllegalArgumentException("IDは必須です");
         }
 
-        if (!quizRepository.existsById(id)) {
-            throw new RuntimeException("クイズが見つかりません: " + id);
-        }
+        Quiz existing = quizRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("クイズが見つかりません: " + id));
 
-        quizRepository.deleteById(id);
+        quizRepository.delete(existing);
+        eventPublisher.publishEvent(new QuizChangedEvent(QuizChangedEvent.Snapshot.of(existing), null));
     }
 
     /** 学生IDでクイズを検索 */
@@ -263,15 +276,16 @@ public class QuizService {
         quiz.setCreatedAt(LocalDateTime.now());
         quiz.setUpdatedAt(LocalDateTime.now());
 
-        return quizRepository.save(quiz);
+        return saveAndPublish(quiz, null);
     }
 
     public Quiz startQuiz(Long id) {
         Quiz quiz = quizRepository.findById(id).orElseThrow();
+        QuizChangedEvent.Snapshot before = QuizChangedEvent.Snapshot.of(quiz);
         quiz.setStartTime(LocalDateTime.now());
         quiz.setStatus("IN_PROGRESS");
         quiz.setUpdatedAt(LocalDateTime.now());
-        return quizRepository.save(quiz);
+        return saveAndPublish(quiz, before);
     }
 
     /** クイズを提出・採点 */
@@ -287,6 +301,7 @@ public class QuizService {
             throw new IllegalArgumentException("このクイズは既に提出済みです");
         }
 
+        QuizChangedEvent.Snapshot before = QuizChangedEvent.Snapshot.of(quiz);
         quiz.setStudentAnswers(studentAnswers);
         quiz.setEndTime(LocalDateTime.now());
         quiz.setStatus("COMPLETED");
@@ -295,13 +310,12 @@ public class QuizService {
         long timeSpent = java.time.Duration.between(quiz.getStartTime(), quiz.getEndTime()).getSeconds();
         quiz.setTimeSpent((int) timeSpent);
 
-        // 自動採点
-        double score = calculateScore(quiz);
-        quiz.setScore(score);
+        // 自動採点（獲得点・得点率・合否を一括で反映）
+        quizGradingService.grade(quiz);
 
         quiz.setUpdatedAt(LocalDateTime.now());
 
-        return quizRepository.save(quiz);
+        return saveAndPublish(quiz, before);
     }
 
     public Quiz submitQuiz(Long id) {
@@ -322,18 +336,20 @@ public class QuizService {
         Quiz quiz = quizRepository.findById(quizId)
             .orElseThrow(() -> new RuntimeException("クイズが見つかりません: " + quizId));
 
+        QuizChangedEvent.Snapshot before = QuizChangedEvent.Snapshot.of(quiz);
         quiz.setScore(score);
         quiz.setUpdatedAt(LocalDateTime.now());
 
-        return quizRepository.save(quiz);
+        return saveAndPublish(quiz, before);
     }
 
     public Quiz gradeQuiz(Long id) {
         Quiz quiz = quizRepository.findById(id).orElseThrow();
-        quiz.setScore(calculateScore(quiz));
+        QuizChangedEvent.Snapshot before = QuizChangedEvent.Snapshot.of(quiz);
+        quizGradingService.grade(quiz);
         quiz.setStatus("GRADED");
         quiz.setGradedTime(LocalDateTime.now());
-        return quizRepository.save(quiz);
+        return saveAndPublish(quiz, before);
     }
 
     /** クイズ数をカウント */
@@ -382,14 +398,23 @@ public class QuizService {
         return findStudentCompletedQuizzes(studentId);
     }
 
+    /** 企業内のクイズ統計（ダッシュボード統計のメモリ上の値、DBアクセスなし） */
     @Transactional(readOnly = true)
     public List<Map<String, Object>> getQuizStatistics(Long companyId) {
-        return List.of();
+        DashboardStatistics statistics = dashboardStatisticsService.getCompanyStatistics(companyId);
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("companyId", companyId);
+        stats.put("inProgress", statistics.getQuizzesInProgress());
+        stats.put("completed", statistics.getQuizzesCompleted());
+        stats.put("averageScore", statistics.getAverageScore());
+        stats.put("passRate", statistics.getPassRate());
+        return List.of(stats);
     }
 
+    /** 企業内の完了クイズの平均得点率（ダッシュボード統計のメモリ上の値、DBアクセスなし） */
     @Transactional(readOnly = true)
     public BigDecimal calculateAverageScore(Long companyId) {
-        return BigDecimal.ZERO;
+        return dashboardStatisticsService.getCompanyStatistics(companyId).getAverageScore();
     }
 
     @Transactional(readOnly = true)
@@ -407,6 +432,11 @@ public class QuizService {
         return List.of();
     }
 
+    /** チャプター内の提出済みクイズを一括再採点 */
+    public int regradeByChapter(Long chapterId) {
+        return quizGradingService.regradeByChapterId(chapterId);
+    }
+
     public Quiz saveAnswers(Long id, Map<String, Object> answers) {
         Quiz quiz = quizRepository.findById(id).orElseThrow();
         quiz.setStudentAnswers(answers != null ? answers.toString() : null);
@@ -415,43 +445,11 @@ public class QuizService {
         return quizRepository.save(quiz);
     }
 
-    /** 自動採点処理 */
-    private double calculateScore(Quiz quiz) {
-        try {
-            if (!StringUtils.hasText(quiz.getQuestionIds()) || !StringUtils.hasText(quiz.getStudentAnswers())) {
-                return 0.0;
-            }
-
-            String[] questionIds = quiz.getQuestionIds().split(",");
-            String[] studentAnswers = quiz.getStudentAnswers().split(",");
-
-            if (questionIds.length != studentAnswers.length) {
-                return 0.0;
-            }
-
-            int correctCount = 0;
-            int totalQuestions = questionIds.length;
-
-            for (int i = 0; i < questionIds.length; i++) {
-                Long questionId = Long.parseLong(questionIds[i].trim());
-                String studentAnswer = studentAnswers[i].trim();
-
-                Optional<QuestionBank> questionOpt = questionBankRepository.findById(questionId);
-                if (questionOpt.isPresent()) {
-                    QuestionBank question = questionOpt.get();
-                    if (question.getCorrectAnswer() != null && 
-                        question.getCorrectAnswer().trim().equalsIgnoreCase(studentAnswer)) {
-                        correctCount++;
-                    }
-                }
-            }
-
-            return totalQuestions > 0 ? (double) correctCount / totalQuestions * 100.0 : 0.0;
-
-        } catch (Exception e) {
-            // 採点エラーの場合は0点を返す
-            return 0.0;
-        }
+    /** 保存してダッシュボード統計用の変更イベントを発行 */
+    private Quiz saveAndPublish(Quiz quiz, QuizChangedEvent.Snapshot before) {
+        Quiz saved = quizRepository.save(quiz);
+        eventPublisher.publishEvent(new QuizChangedEvent(before, QuizChangedEvent.Snapshot.of(saved)));
+        return saved;
     }
 
     /** クイズのバリデーション */
@@ -0,0 +1,169 @@
+package jp.co.apsa.giiku.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 月・週・日・講義ページの描画済みHTMLキャッシュ。
+ *
+ * <p>キーはページ（URI）とロールの組み合わせで、値には描画時のコンテンツバージョンを保持します。
+ * カリキュラムや講義コンテンツが更新されると {@link #invalidate()} でバージョンを進め、
+ * 全エントリを破棄します。古いバージョンで描画された結果は保存されません。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class RenderedPageCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(RenderedPageCache.class);
+
+    /** メトリクス名 */
+    private static final String METRIC_NAME = "giiku.page-cache";
+
+    private final AtomicLong version = new AtomicLong(1L);
+
+    private final Map<String, Page> pages;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder notModified = new LongAdder();
+
+    /** RenderedPageCache メソッド */
+    public RenderedPageCache(MeterRegistry meterRegistry,
+                             @Value("${giiku.page-cache.max-entries:500}") int maxEntries) {
+        this.pages = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Page> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        FunctionCounter.builder(METRIC_NAME + ".requests", hits, LongAdder::doubleValue)
+                .tag("result", "hit")
+                .description("描画済みページキャッシュのヒット数")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_NAME + ".requests", misses, LongAdder::doubleValue)
+                .tag("result", "miss")
+                .description("描画済みページキャッシュのミス数")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_NAME + ".requests", notModified, LongAdder::doubleValue)
+                .tag("result", "not-modified")
+                .description("If-None-Match により 304 を返した件数")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", this, RenderedPageCache::size)
+                .description("描画済みページキャッシュのエントリ数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 現在のコンテンツバージョンを取得します。
+     *
+     * @return コンテンツバージョン
+     */
+    public long currentVersion() {
+        return version.get();
+    }
+
+    /**
+     * 描画済みページを取得します。
+     *
+     * @param key ページキー
+     * @return 現在のバージョンで描画されたページ（無い場合はnull）
+     */
+    public Page get(String key) {
+        Page page;
+        synchronized (pages) {
+            page = pages.get(key);
+        }
+        if (page != null && page.getVersion() == version.get()) {
+            hits.increment();
+            return page;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 描画済みページを保存します。描画中にバージョンが進んでいた場合は保存しません。
+     *
+     * @param key  ページキー
+     * @param page 描画済みページ
+     */
+    public void put(String key, Page page) {
+        synchronized (pages) {
+            if (page.getVersion() == version.get()) {
+                pages.put(key, page);
+            }
+        }
+    }
+
+    /** 304 応答の件数を記録します。 */
+    public void recordNotModified() {
+        notModified.increment();
+    }
+
+    /**
+     * 全ページを破棄します。
+     * トランザクション内で呼ばれた場合はコミット後にも再度破棄し、
+     * コミット前の内容で描画されたページが残らないようにします。
+     */
+    public void invalidate() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        }
+        logger.debug("描画済みページキャッシュを破棄しました: version={}", version.get());
+    }
+
+    private void clear() {
+        synchronized (pages) {
+            version.incrementAndGet();
+            pages.clear();
+        }
+    }
+
+    private int size() {
+        synchronized (pages) {
+            return pages.size();
+        }
+    }
+
+    /** 描画済みページ（CSRFトークン部分はプレースホルダーに置き換え済み） */
+    public static final class Page {
+        private final long version;
+        private final String contentType;
+        private final String body;
+
+        /** Page メソッド */
+        public Page(long version, String contentType, String body) {
+            this.version = version;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        public long getVersion() { return version; }
+        public String getContentType() { return contentType; }
+        public String getBody() { return body; }
+    }
+}
@@ -1,16 +1,24 @@
 package jp.co.apsa.giiku.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import jp.co.apsa.giiku.domain.entity.StudentAnswer;
+import jp.co.apsa.giiku.domain.event.ExerciseAnsweredEvent;
 import jp.co.apsa.giiku.domain.repository.StudentAnswerRepository;
 
 /**
  * 学生回答サービス
  * クイズ回答の保存・取得機能を提供します。
+ * 回答画面からの書き込みは {@link StudentAnswerWriteBuffer} を経由してバッチで反映します。
  *
  * @author 株式会社アプサ
  * @version 1.0
@@ -23,6 +31,34 @@ public class StudentAnswerService {
     @Autowired
     private StudentAnswerRepository studentAnswerRepository;
 
+    @Autowired
+    private StudentAnswerWriteBuffer studentAnswerWriteBuffer;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 学生回答を書き込みバッファに受け付けます。
+     * 同一キーの回答は最新のもののみがバッチで書き込まれます。
+     * 演習回答（クイズIDなし）はバッファを経由せず {@link #saveExerciseAnswer} で保存します。
+     *
+     * @param quizId クイズID
+     * @param questionId 質問ID
+     * @param studentId 学生ID
+     * @param answerText 回答内容
+     * @throws IllegalArgumentException IDまたは回答内容が不正な場合
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void submitAnswer(Long quizId, Long questionId, Long studentId, String answerText) {
+        StudentAnswer answer = new StudentAnswer();
+        answer.setQuizId(quizId);
+        answer.setQuestionId(questionId);
+        answer.setStudentId(studentId);
+        answer.setAnswerText(answerText);
+        answer.setSubmittedAt(LocalDateTime.now());
+        studentAnswerWriteBuffer.offer(answer);
+    }
+
     /**
      * 学生回答を保存
      *
@@ -62,7 +98,9 @@ public class StudentAnswerService {
      * @return 保存された回答
      */
     public StudentAnswer saveExerciseAnswer(Long questionId, Long studentId, String answerText) {
-        return saveAnswer(0L, questionId, studentId, answerText);
+        StudentAnswer saved = saveAnswer(0L, questionId, studentId, answerText);
+        eventPublisher.publishEvent(new ExerciseAnsweredEvent(questionId, studentId));
+        return saved;
     }
 
     /**
@@ -74,7 +112,31 @@ public class StudentAnswerService {
      */
     @Transactional(readOnly = true)
     public List<StudentAnswer> getAnswers(Long quizId, Long studentId) {
-        return studentAnswerRepository.findByQuizIdAndStudentId(quizId, studentId);
+        return mergePending(studentAnswerRepository.findByQuizIdAndStudentId(quizId, studentId),
+                studentAnswerWriteBuffer.pendingByQuizIdAndStudentId(quizId, studentId));
+    }
+
+    /**
+     * クイズIDで全学生の回答を取得
+     *
+     * @param quizId クイズID
+     * @return 回答一覧
+     */
+    @Transactional(readOnly = true)
+    public List<StudentAnswer> getAnswersByQuizId(Long quizId) {
+        return mergePending(studentAnswerRepository.findByQuizId(quizId),
+                studentAnswerWriteBuffer.pendingByQuizId(quizId));
+    }
+
+    /**
+     * 演習問題の回答一覧を取得（演習回答はクイズID 0 で保存される）
+     *
+     * @param questionId 演習問題ID
+     * @return 回答一覧
+     */
+    @Transactional(readOnly = true)
+    public List<StudentAnswer> getExerciseAnswers(Long questionId) {
+        return studentAnswerRepository.findByQuizIdAndQuestionId(0L, questionId);
     }
 
     /**
@@ -85,6 +147,27 @@ public class StudentAnswerService {
      */
     @Transactional(readOnly = true)
     public List<StudentAnswer> getAnswersByQuestionId(Long questionId) {
-        return studentAnswerRepository.findAllByQuestionId(questionId);
+        return mergePending(studentAnswerRepository.findAllByQuestionId(questionId),
+                studentAnswerWriteBuffer.pendingByQuestionId(questionId));
+    }
+
+    /** 書き込み待ちの回答で保存済みの回答を上書きした一覧を返す */
+    private List<StudentAnswer> mergePending(List<StudentAnswer> stored, List<StudentAnswer> pending) {
+        if (pending.isEmpty()) {
+            return stored;
+        }
+        Map<String, StudentAnswer> pendingByKey = pending.stream()
+                .collect(Collectors.toMap(this::answerKey, Function.identity(), (a, b) -> b));
+        List<StudentAnswer> result = new ArrayList<>(stored.size() + pending.size());
+        for (StudentAnswer answer : stored) {
+            StudentAnswer newer = pendingByKey.remove(answerKey(answer));
+            result.add(newer != null ? newer : answer);
+        }
+        result.addAll(pendingByKey.values());
+        return result;
+    }
+
+    private String answerKey(StudentAnswer answer) {
+        return answer.getQuizId() + ":" + answer.getQuestionId() + ":" + answer.getStudentId();
     }
 }
@@ -0,0 +1,387 @@
+package jp.co.apsa.giiku.service;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jp.co.apsa.giiku.domain.entity.StudentAnswer;
+
+/**
+ * 学生回答の書き込みバッファ（write-behind）。
+ *
+ * <p>回答を (クイズID, 質問ID, 学生ID) 単位で集約したメモリ上のバッファに受け付け、
+ * 一定間隔で JDBC バッチの UPSERT として書き込みます。同じキーへの連続した回答は
+ * 最新の1件にまとめられます。バッファが上限に達した場合は呼び出しスレッドで同期的に
+ * 書き込み、回答を取りこぼしません。アプリケーション停止時には残りを全て書き込みます。</p>
+ *
+ * <p>NOT NULL 列とIDは受付時に検証します。バッチの書き込みに失敗した場合は1件ずつ書き込み直し、
+ * 外部キー違反など制約違反で書き込めない回答はデッドレター（student_answer_dead_letters）に移して
+ * 後続の回答を妨げません。制約違反以外の失敗（DB停止等）は次回のフラッシュで再試行します。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class StudentAnswerWriteBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentAnswerWriteBuffer.class);
+
+    /** PostgreSQL 用 UPSERT */
+    private static final String POSTGRES_UPSERT_SQL =
+            "INSERT INTO student_answers (quiz_id, question_id, student_id, answer_text, submitted_at) "
+            + "VALUES (?, ?, ?, ?, ?) "
+            + "ON CONFLICT (quiz_id, question_id, student_id) "
+            + "DO UPDATE SET answer_text = EXCLUDED.answer_text, submitted_at = EXCLUDED.submitted_at";
+
+    /** H2 等 ON CONFLICT 非対応DB用 UPSERT */
+    private static final String MERGE_UPSERT_SQL =
+            "MERGE INTO student_answers (quiz_id, question_id, student_id, answer_text, submitted_at) "
+            + "KEY (quiz_id, question_id, student_id) VALUES (?, ?, ?, ?, ?)";
+
+    /** デッドレター登録 */
+    private static final String DEAD_LETTER_SQL =
+            "INSERT INTO student_answer_dead_letters "
+            + "(quiz_id, question_id, student_id, answer_text, submitted_at, error_message, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    /** デッドレターに記録するエラーメッセージの最大長 */
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentMap<AnswerId, StudentAnswer> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder flushedCount = new LongAdder();
+
+    private final LongAdder overflowCount = new LongAdder();
+
+    private final LongAdder deadLetterCount = new LongAdder();
+
+    private final Object flushLock = new Object();
+
+    @Value("${giiku.answer-buffer.enabled:true}")
+    private boolean enabled;
+
+    @Value("${giiku.answer-buffer.capacity:10000}")
+    private int capacity;
+
+    @Value("${giiku.answer-buffer.batch-size:500}")
+    private int batchSize;
+
+    @Value("${giiku.answer-buffer.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    private ScheduledExecutorService flusher;
+
+    private String upsertSql;
+
+    /** StudentAnswerWriteBuffer メソッド */
+    public StudentAnswerWriteBuffer(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        Gauge.builder("giiku.answer-buffer.pending", pending, Map::size)
+                .description("書き込み待ちの回答数")
+                .register(meterRegistry);
+        FunctionCounter.builder("giiku.answer-buffer.flushed", flushedCount, LongAdder::doubleValue)
+                .description("バッチで書き込んだ回答数")
+                .register(meterRegistry);
+        FunctionCounter.builder("giiku.answer-buffer.overflow", overflowCount, LongAdder::doubleValue)
+                .description("バッファ上限により同期書き込みした回答数")
+                .register(meterRegistry);
+        FunctionCounter.builder("giiku.answer-buffer.dead-lettered", deadLetterCount, LongAdder::doubleValue)
+                .description("制約違反で書き込めずデッドレターに移した回答数")
+                .register(meterRegistry);
+    }
+
+    /** フラッシュスレッドを開始 */
+    @PostConstruct
+    void start() {
+        upsertSql = resolveUpsertSql();
+        if (!enabled) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "answer-write-buffer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        logger.info("回答書き込みバッファ開始: capacity={}, batchSize={}, interval={}ms",
+                capacity, batchSize, flushIntervalMs);
+    }
+
+    /** 停止時に残りの回答を全て書き込む（書き込めなかった回答はログに残し、例外は送出しない） */
+    @PreDestroy
+    void stop() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            List<StudentAnswer> lost = drain(Integer.MAX_VALUE);
+            logger.error("停止時の回答書き込みに失敗しました: 未書き込み={}", lost.size(), e);
+            lost.forEach(answer -> logDeadLetter(answer, e));
+        }
+        logger.info("回答書き込みバッファ停止: 書き込み済み={}, デッドレター={}",
+                flushedCount.sum(), deadLetterCount.sum());
+    }
+
+    /**
+     * 回答をバッファに受け付けます。
+     * バッファ無効時または上限到達時は呼び出しスレッドで同期的に書き込みます。
+     *
+     * @param answer 回答
+     * @throws IllegalArgumentException IDまたは回答内容が不正な場合
+     */
+    public void offer(StudentAnswer answer) {
+        Objects.requireNonNull(answer, "answer");
+        validate(answer);
+        if (answer.getSubmittedAt() == null) {
+            answer.setSubmittedAt(LocalDateTime.now());
+        }
+        AnswerId id = new AnswerId(answer.getQuizId(), answer.getQuestionId(), answer.getStudentId());
+        if (!enabled || (pending.size() >= capacity && !pending.containsKey(id))) {
+            if (enabled) {
+                overflowCount.increment();
+            }
+            write(List.of(answer));
+            return;
+        }
+        pending.put(id, answer);
+    }
+
+    /**
+     * 書き込み待ちの回答のうち、指定した質問IDのものを取得します。
+     *
+     * @param questionId 質問ID
+     * @return 書き込み待ちの回答一覧
+     */
+    public List<StudentAnswer> pendingByQuestionId(Long questionId) {
+        return pending.values().stream()
+                .filter(a -> Objects.equals(questionId, a.getQuestionId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 書き込み待ちの回答のうち、指定したクイズIDのものを取得します。
+     *
+     * @param quizId クイズID
+     * @return 書き込み待ちの回答一覧
+     */
+    public List<StudentAnswer> pendingByQuizId(Long quizId) {
+        return pending.values().stream()
+                .filter(a -> Objects.equals(quizId, a.getQuizId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 書き込み待ちの回答のうち、指定したクイズID・学生IDのものを取得します。
+     *
+     * @param quizId クイズID
+     * @param studentId 学生ID
+     * @return 書き込み待ちの回答一覧
+     */
+    public List<StudentAnswer> pendingByQuizIdAndStudentId(Long quizId, Long studentId) {
+        return pending.values().stream()
+                .filter(a -> Objects.equals(quizId, a.getQuizId()) && Objects.equals(studentId, a.getStudentId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * バッファ内の回答を全てバッチ書き込みします。
+     *
+     * @return 書き込んだ件数
+     */
+    public int flush() {
+        synchronized (flushLock) {
+            int total = 0;
+            while (!pending.isEmpty()) {
+                List<StudentAnswer> batch = drain(batchSize);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                try {
+                    write(batch);
+                    total += batch.size();
+                } catch (RuntimeException e) {
+                    logger.warn("回答バッチ書き込みエラーのため1件ずつ書き込み直します: size={}", batch.size(), e);
+                    total += writeEach(batch);
+                }
+            }
+            return total;
+        }
+    }
+
+    /**
+     * 回答を1件ずつ書き込みます。制約違反の回答はデッドレターに移し、
+     * それ以外の失敗時は未書き込みの回答をバッファに戻して例外を送出します。
+     */
+    private int writeEach(List<StudentAnswer> batch) {
+        int written = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            StudentAnswer answer = batch.get(i);
+            try {
+                write(List.of(answer));
+                written++;
+            } catch (DataIntegrityViolationException e) {
+                deadLetter(answer, e);
+            } catch (RuntimeException e) {
+                requeue(batch.subList(i, batch.size()));
+                throw e;
+            }
+        }
+        return written;
+    }
+
+    /** 書き込めない回答をデッドレターに移す */
+    private void deadLetter(StudentAnswer answer, DataIntegrityViolationException cause) {
+        deadLetterCount.increment();
+        logDeadLetter(answer, cause);
+        String message = Objects.toString(cause.getMostSpecificCause().getMessage(), cause.getClass().getName());
+        try {
+            jdbcTemplate.update(DEAD_LETTER_SQL, answer.getQuizId(), answer.getQuestionId(), answer.getStudentId(),
+                    answer.getAnswerText(), Timestamp.valueOf(answer.getSubmittedAt()),
+                    message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message,
+                    Timestamp.valueOf(LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            logger.error("回答デッドレターの登録に失敗しました: quizId={}, questionId={}, studentId={}",
+                    answer.getQuizId(), answer.getQuestionId(), answer.getStudentId(), e);
+        }
+    }
+
+    private void logDeadLetter(StudentAnswer answer, Exception cause) {
+        logger.error("回答を書き込めませんでした: quizId={}, questionId={}, studentId={}, submittedAt={}, answer={}, error={}",
+                answer.getQuizId(), answer.getQuestionId(), answer.getStudentId(), answer.getSubmittedAt(),
+                answer.getAnswerText(), cause.getMessage());
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.error("回答バッチ書き込みエラー（次回再試行）: pending={}", pending.size(), e);
+        }
+    }
+
+    /** バッファから最大 limit 件を取り出す */
+    private List<StudentAnswer> drain(int limit) {
+        List<StudentAnswer> batch = new ArrayList<>(Math.min(limit, pending.size()));
+        Iterator<AnswerId> it = pending.keySet().iterator();
+        while (it.hasNext() && batch.size() < limit) {
+            StudentAnswer answer = pending.remove(it.next());
+            if (answer != null) {
+                batch.add(answer);
+            }
+        }
+        return batch;
+    }
+
+    /** 書き込み失敗分を戻す（その間に届いた新しい回答を優先） */
+    private void requeue(List<StudentAnswer> batch) {
+        for (StudentAnswer answer : batch) {
+            pending.putIfAbsent(new AnswerId(answer.getQuizId(), answer.getQuestionId(), answer.getStudentId()), answer);
+        }
+    }
+
+    private void write(List<StudentAnswer> batch) {
+        jdbcTemplate.batchUpdate(upsertSql, batch, batch.size(), (ps, answer) -> {
+            ps.setLong(1, answer.getQuizId());
+            ps.setLong(2, answer.getQuestionId());
+            ps.setLong(3, answer.getStudentId());
+            ps.setString(4, answer.getAnswerText());
+            ps.setTimestamp(5, Timestamp.valueOf(answer.getSubmittedAt()));
+        });
+        flushedCount.add(batch.size());
+    }
+
+    /** NOT NULL 列とIDを検証する（演習回答のクイズID 0 は student_answers の外部キーを満たさないため受け付けない） */
+    private static void validate(StudentAnswer answer) {
+        requirePositive(answer.getQuizId(), "クイズID");
+        requirePositive(answer.getQuestionId(), "質問ID");
+        requirePositive(answer.getStudentId(), "学生ID");
+        if (answer.getAnswerText() == null) {
+            throw new IllegalArgumentException("回答内容は必須です");
+        }
+    }
+
+    private static void requirePositive(Long id, String name) {
+        if (id == null || id <= 0) {
+            throw new IllegalArgumentException(name + "が不正です: " + id);
+        }
+    }
+
+    private String resolveUpsertSql() {
+        try {
+            String product = jdbcTemplate.execute((Connection con) ->
+                    JdbcUtils.commonDatabaseName(con.getMetaData().getDatabaseProductName()));
+            return "PostgreSQL".equalsIgnoreCase(product) ? POSTGRES_UPSERT_SQL : MERGE_UPSERT_SQL;
+        } catch (RuntimeException e) {
+            logger.warn("DB種別の判定に失敗したため PostgreSQL 用 UPSERT を使用します", e);
+            return POSTGRES_UPSERT_SQL;
+        }
+    }
+
+    /** 回答の一意キー */
+    private static final class AnswerId {
+        private final Long quizId;
+        private final Long questionId;
+        private final Long studentId;
+
+        private AnswerId(Long quizId, Long questionId, Long studentId) {
+            this.quizId = quizId;
+            this.questionId = questionId;
+            this.studentId = studentId;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof AnswerId)) {
+                return false;
+            }
+            AnswerId other = (AnswerId) obj;
+            return Objects.equals(quizId, other.quizId)
+                    && Objects.equals(questionId, other.questionId)
+                    && Objects.equals(studentId, other.studentId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(quizId, questionId, studentId);
+        }
+    }
+}
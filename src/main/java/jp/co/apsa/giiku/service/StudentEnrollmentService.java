@@ -1,11 +1,14 @@
 package jp.co.apsa.giiku.service;
 
 import jp.co.apsa.giiku.domain.entity.StudentEnrollment;
+import jp.co.apsa.giiku.domain.event.EnrollmentChangedEvent;
 import jp.co.apsa.giiku.domain.repository.StudentEnrollmentRepository;
 import jp.co.apsa.giiku.domain.repository.StudentProfileRepository;
 import jp.co.apsa.giiku.domain.repository.TrainingProgramRepository;
+import jp.co.apsa.giiku.mapper.StudentEnrollmentMapper;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -13,7 +16,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.criteria.Predicate;
-import com.github.dozermapper.core.Mapper;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -43,7 +45,10 @@ public class StudentEnrollmentService {
     private TrainingProgramRepository trainingProgramRepository;
 
     @Autowired
-    private Mapper mapper;
+    private StudentEnrollmentMapper studentEnrollmentMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     /** 全ての受講登録を取得 */
     @Transactional(readOnly = true)
@@ -69,13 +74,16 @@ public class StudentEnrollmentService {
             throw new IllegalArgumentException("この学生は既に当該プログラムに登録済みです");
         }
 
+        EnrollmentChangedEvent.Snapshot before = enrollment.getId() != null
+            ? studentEnrollmentRepository.findById(enrollment.getId()).map(EnrollmentChangedEvent.Snapshot::of).orElse(null)
+            : null;
         if (enrollment.getId() == null) {
             enrollment.setEnrollmentDate(LocalDate.now());
             enrollment.setEnrollmentStatus("ENROLLED");
         }
         enrollment.setUpdatedAt(LocalDateTime.now());
 
-        return studentEnrollmentRepository.save(enrollment);
+        return saveAndPublish(enrollment, before);
     }
 
     /** 受講登録を更新 */
@@ -89,11 +97,12 @@ public class StudentEnrollmentService {
 
         validateEnrollment(enrollment);
 
+        EnrollmentChangedEvent.Snapshot before = EnrollmentChangedEvent.Snapshot.of(existing);
         // 基本情報の更新（学生IDとプログラムIDは変更不可）
-        mapper.map(enrollment, existing);
+        studentEnrollmentMapper.update(enrollment, existing);
         existing.setUpdatedAt(LocalDateTime.now());
 
-        return studentEnrollmentRepository.save(existing);
+        return saveAndPublish(existing, before);
     }
 
     /** 受講登録を削除 */
@@ -102,11 +111,11 @@ public class StudentEnrollmentService {
             throw new IllegalArgumentException("IDは必須です");
         }
 
-        if (!studentEnrollmentRepository.existsById(id)) {
-            throw new RuntimeException("受講登録が見つかりません: " + id);
-        }
+        StudentEnrollment existing = studentEnrollmentRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("受講登録が見つかりません: " + id));
 
-        studentEnrollmentRepository.deleteById(id);
+        studentEnrollmentRepository.delete(existing);
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(EnrollmentChangedEvent.Snapshot.of(existing), null));
     }
 
     /** 学生IDで受講登録を検索 */
@@ -230,6 +239,7 @@ public class StudentEnrollmentService {
         StudentEnrollment enrollment = studentEnrollmentRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("受講登録が見つかりません: " + id));
 
+        EnrollmentChangedEvent.Snapshot before = EnrollmentChangedEvent.Snapshot.of(enrollment);
         enrollment.setProgressPercentageFromDouble(progress);
         enrollment.setUpdatedAt(LocalDateTime.now());
 
@@ -243,7 +253,7 @@ public class StudentEnrollmentService {
             enrollment.setEnrollmentStatus("IN_PROGRESS");
         }
 
-        return studentEnrollmentRepository.save(enrollment);
+        return saveAndPublish(enrollment, before);
     }
 
     /** 受講登録数をカウント */
@@ -266,6 +276,13 @@ public class StudentEnrollmentService {
         return studentEnrollmentRepository.existsByStudentIdAndProgramId(studentId, programId);
     }
 
+    /** 保存してダッシュボード統計用の変更イベントを発行 */
+    private StudentEnrollment saveAndPublish(StudentEnrollment enrollment, EnrollmentChangedEvent.Snapshot before) {
+        StudentEnrollment saved = studentEnrollmentRepository.save(enrollment);
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(before, EnrollmentChangedEvent.Snapshot.of(saved)));
+        return saved;
+    }
+
     /** 受講登録のバリデーション */
     private void validateEnrollment(StudentEnrollment enrollment) {
         if (enrollment == null) {
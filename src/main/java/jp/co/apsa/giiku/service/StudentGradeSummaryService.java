@@ -0,0 +1,538 @@
+package jp.co.apsa.giiku.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jp.co.apsa.giiku.domain.entity.QuestionBank;
+import jp.co.apsa.giiku.domain.entity.StudentAnswer;
+import jp.co.apsa.giiku.domain.entity.StudentGradeSummary;
+import jp.co.apsa.giiku.domain.event.ExerciseAnsweredEvent;
+import jp.co.apsa.giiku.domain.event.MockTestResultRecordedEvent;
+import jp.co.apsa.giiku.domain.event.QuizChangedEvent;
+import jp.co.apsa.giiku.domain.repository.LectureChapterLinkRepository;
+import jp.co.apsa.giiku.domain.repository.MockTestResultRepository;
+import jp.co.apsa.giiku.domain.repository.QuestionBankRepository;
+import jp.co.apsa.giiku.domain.repository.QuizRepository;
+import jp.co.apsa.giiku.domain.repository.StudentAnswerRepository;
+import jp.co.apsa.giiku.domain.repository.StudentGradeSummaryRepository;
+import jp.co.apsa.giiku.domain.repository.StudentRepository;
+import jp.co.apsa.giiku.domain.valueobject.AnswerKey;
+
+/**
+ * 学生成績サマリー（{@code student_grade_summaries}）の集計サービス。
+ *
+ * <p>クイズの採点・演習問題への回答・模擬試験結果の記録をコミット後に受け取り、影響する
+ * （学生, 講義）を再計算待ちとして記録します。再計算待ちは {@code flush-interval-ms} ごとに
+ * 学生単位でまとめて処理するため、短時間に続く回答は1回の再計算に集約されます。</p>
+ *
+ * <ul>
+ *   <li>演習得点: 講義の有効な演習問題の配点に対する正答の配点の割合（演習の回答がない場合はnull）</li>
+ *   <li>クイズ得点: 講義のチャプターに紐づく採点済みクイズの得点率の平均</li>
+ *   <li>模擬試験得点: 模擬試験ごとの最高得点の平均（講義に紐づかないため学生の全講義で共通）</li>
+ *   <li>総合得点: 得点のある項目の重み付き平均</li>
+ * </ul>
+ *
+ * <p>回答・クイズ・模擬試験結果の学生IDはユーザーID（{@code users.id}）のため、再計算待ちとロックはユーザーIDで
+ * 管理し、サマリーの読み書きでは {@code students.user_id} から求めた受講者ID（{@code students.id}）を使用します。
+ * 受講者として登録されていないユーザーのサマリーは作成しません。</p>
+ *
+ * <p>既存データの取り込みには {@link #rebuildAll()} を使用します。学生を {@code rebuild-batch-size} 件ずつに
+ * 分割し、上限付きのスレッドプールで並列に再計算します。同じ学生の行は学生IDで選んだロックの下で
+ * 更新するため、差分の再計算と全件再構築が同時に走っても重複して作成されません。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+public class StudentGradeSummaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentGradeSummaryService.class);
+
+    /** 採点済みとして集計するクイズステータス */
+    private static final List<String> GRADED_STATUSES = List.of("COMPLETED", "SUBMITTED", "GRADED");
+
+    /** 演習回答のクイズID */
+    private static final Long EXERCISE_QUIZ_ID = 0L;
+
+    /** 配点が未設定の問題に適用する点数 */
+    private static final int DEFAULT_POINTS = 1;
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final StudentGradeSummaryRepository studentGradeSummaryRepository;
+    private final QuizRepository quizRepository;
+    private final QuestionBankRepository questionBankRepository;
+    private final LectureChapterLinkRepository lectureChapterLinkRepository;
+    private final MockTestResultRepository mockTestResultRepository;
+    private final StudentAnswerRepository studentAnswerRepository;
+    private final StudentAnswerService studentAnswerService;
+    private final StudentRepository studentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /** ユーザーIDごとの再計算待ち */
+    private final ConcurrentHashMap<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    /** 学生単位の更新を直列化するロック */
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    @Value("${giiku.grade-summary.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${giiku.grade-summary.flush-interval-ms:2000}")
+    private long flushIntervalMs = 2000;
+
+    @Value("${giiku.grade-summary.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    @Value("${giiku.grade-summary.rebuild-threads:4}")
+    private int rebuildThreads = 4;
+
+    @Value("${giiku.grade-summary.rebuild-batch-size:100}")
+    private int rebuildBatchSize = 100;
+
+    @Value("${giiku.grade-summary.weights.exercise:0.40}")
+    private BigDecimal exerciseWeight = new BigDecimal("0.40");
+
+    @Value("${giiku.grade-summary.weights.quiz:0.30}")
+    private BigDecimal quizWeight = new BigDecimal("0.30");
+
+    @Value("${giiku.grade-summary.weights.mock-test:0.30}")
+    private BigDecimal mockTestWeight = new BigDecimal("0.30");
+
+    @Value("${giiku.grade-summary.passing-threshold:60}")
+    private BigDecimal passingThreshold = BigDecimal.valueOf(60);
+
+    @Value("${giiku.grade-summary.excellent-threshold:80}")
+    private BigDecimal excellentThreshold = BigDecimal.valueOf(80);
+
+    private ScheduledExecutorService scheduler;
+
+    /** StudentGradeSummaryService メソッド */
+    public StudentGradeSummaryService(StudentGradeSummaryRepository studentGradeSummaryRepository,
+                                      QuizRepository quizRepository,
+                                      QuestionBankRepository questionBankRepository,
+                                      LectureChapterLinkRepository lectureChapterLinkRepository,
+                                      MockTestResultRepository mockTestResultRepository,
+                                      StudentAnswerRepository studentAnswerRepository,
+                                      StudentAnswerService studentAnswerService,
+                                      StudentRepository studentRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.studentGradeSummaryRepository = studentGradeSummaryRepository;
+        this.quizRepository = quizRepository;
+        this.questionBankRepository = questionBankRepository;
+        this.lectureChapterLinkRepository = lectureChapterLinkRepository;
+        this.mockTestResultRepository = mockTestResultRepository;
+        this.studentAnswerRepository = studentAnswerRepository;
+        this.studentAnswerService = studentAnswerService;
+        this.studentRepository = studentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /** 定期実行を開始 */
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "grade-summary");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /** 定期実行を停止（再計算待ちは残っていれば処理する） */
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            flushQuietly();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.error("成績サマリーの再計算に失敗しました（次回再試行）", e);
+        }
+    }
+
+    // ===== イベント =====
+
+    /** クイズの得点・ステータスが変わった場合に再計算待ちにする */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizChanged(QuizChangedEvent event) {
+        QuizChangedEvent.Snapshot before = event.getBefore();
+        QuizChangedEvent.Snapshot after = event.getAfter();
+        if (!isGraded(before) && !isGraded(after)) {
+            return;
+        }
+        if (before != null && after != null && isGraded(before) == isGraded(after)
+                && Objects.equals(before.getScore(), after.getScore())
+                && Objects.equals(before.getStudentId(), after.getStudentId())
+                && Objects.equals(before.getChapterId(), after.getChapterId())) {
+            return;
+        }
+        for (QuizChangedEvent.Snapshot snapshot : new QuizChangedEvent.Snapshot[] {before, after}) {
+            if (snapshot != null && snapshot.getStudentId() != null && snapshot.getChapterId() != null) {
+                mark(snapshot.getStudentId(), p -> p.chapterIds.add(snapshot.getChapterId()));
+            }
+        }
+    }
+
+    /** 回答した演習問題の講義を再計算待ちにする */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExerciseAnswered(ExerciseAnsweredEvent event) {
+        if (event.getStudentId() != null && event.getQuestionId() != null) {
+            mark(event.getStudentId(), p -> p.questionIds.add(event.getQuestionId()));
+        }
+    }
+
+    /** 模擬試験得点は講義に依存しないため、学生の既存の行を全て再計算待ちにする */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMockTestResultRecorded(MockTestResultRecordedEvent event) {
+        if (event.getStudentId() != null) {
+            mark(event.getStudentId(), p -> p.existingRows = true);
+        }
+    }
+
+    private static boolean isGraded(QuizChangedEvent.Snapshot snapshot) {
+        return snapshot != null && GRADED_STATUSES.contains(snapshot.getStatus());
+    }
+
+    private void mark(Long studentId, Consumer<Pending> change) {
+        pending.compute(studentId, (id, current) -> {
+            Pending target = current != null ? current : new Pending();
+            change.accept(target);
+            return target;
+        });
+    }
+
+    /**
+     * 再計算待ちの学生数を返します。
+     *
+     * @return 学生数
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    // ===== 差分の再計算 =====
+
+    /**
+     * 再計算待ちの（学生, 講義）を再計算します。失敗した学生は再計算待ちに戻して次の学生の処理を続け、
+     * {@code max-attempts} 回続けて失敗した学生は破棄します。
+     *
+     * @return 更新した行数
+     */
+    public int flush() {
+        int updated = 0;
+        int failed = 0;
+        int dropped = 0;
+        for (Long studentId : new ArrayList<>(pending.keySet())) {
+            Pending target = pending.remove(studentId);
+            if (target == null) {
+                continue;
+            }
+            try {
+                updated += recompute(studentId, resolveLectures(studentId, target));
+            } catch (RuntimeException e) {
+                failed++;
+                int attempts = target.failures + 1;
+                if (attempts >= maxAttempts) {
+                    dropped++;
+                    logger.error("成績サマリーの再計算に{}回失敗したため破棄しました: userId={}", attempts, studentId, e);
+                } else {
+                    logger.warn("成績サマリーの再計算に失敗しました（次回再試行）: userId={}, attempts={}",
+                            studentId, attempts, e);
+                    mark(studentId, p -> {
+                        p.merge(target);
+                        p.failures = Math.max(p.failures, attempts);
+                    });
+                }
+            }
+        }
+        if (failed > 0) {
+            logger.warn("成績サマリー差分再計算で失敗した学生があります: rows={}, failedStudents={}, droppedStudents={}",
+                    updated, failed, dropped);
+        } else if (updated > 0) {
+            logger.debug("成績サマリー差分再計算完了: rows={}", updated);
+        }
+        return updated;
+    }
+
+    private Set<Long> resolveLectures(Long studentId, Pending target) {
+        Set<Long> lectureIds = new HashSet<>();
+        for (Long chapterId : target.chapterIds) {
+            lectureIds.addAll(lectureChapterLinkRepository.findLectureIdsByChapterId(chapterId));
+        }
+        if (!target.questionIds.isEmpty()) {
+            for (Object[] row : questionBankRepository.findLectureIdsByIdIn(target.questionIds)) {
+                lectureIds.add((Long) row[1]);
+            }
+        }
+        if (target.existingRows) {
+            studentRepository.findIdByUserId(studentId).ifPresent(
+                    id -> lectureIds.addAll(studentGradeSummaryRepository.findLectureIdsByStudentId(id)));
+        }
+        return lectureIds;
+    }
+
+    // ===== 全件再構築 =====
+
+    /**
+     * クイズ・演習回答・模擬試験結果・既存のサマリーがある全学生のサマリーを並列に再構築します。
+     *
+     * @return 更新した行数
+     */
+    public int rebuildAll() {
+        Set<Long> studentIds = new TreeSet<>();
+        studentIds.addAll(quizRepository.findDistinctStudentIds());
+        studentIds.addAll(studentAnswerRepository.findDistinctStudentIdsByQuizId(EXERCISE_QUIZ_ID));
+        studentIds.addAll(mockTestResultRepository.findDistinctStudentIds());
+        studentIds.addAll(studentGradeSummaryRepository.findDistinctStudentUserIds());
+        studentIds.remove(null);
+        List<Long> ids = new ArrayList<>(studentIds);
+
+        long start = System.nanoTime();
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 待ち行列を上限付きにし、溢れた分は呼び出しスレッドで実行して投入を抑える
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(rebuildThreads, rebuildThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(rebuildThreads * 2), r -> {
+                    Thread thread = new Thread(r, "grade-summary-rebuild-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        List<Future<Integer>> futures = new ArrayList<>();
+        try {
+            for (int from = 0; from < ids.size(); from += rebuildBatchSize) {
+                List<Long> partition = ids.subList(from, Math.min(from + rebuildBatchSize, ids.size()));
+                futures.add(executor.submit(() -> rebuildStudents(partition)));
+            }
+            int updated = 0;
+            int failed = 0;
+            for (Future<Integer> future : futures) {
+                try {
+                    updated += future.get();
+                } catch (ExecutionException e) {
+                    failed++;
+                    logger.error("成績サマリー再構築の一部に失敗しました", e.getCause());
+                }
+            }
+            logger.info("成績サマリー再構築完了: students={}, rows={}, failedPartitions={}, elapsed={}ms",
+                    ids.size(), updated, failed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return updated;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("成績サマリーの再構築が中断されました", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int rebuildStudents(List<Long> studentIds) {
+        int updated = 0;
+        for (Long studentId : studentIds) {
+            updated += recompute(studentId, null);
+        }
+        return updated;
+    }
+
+    // ===== 再計算 =====
+
+    /**
+     * 学生の指定講義のサマリーを再計算します。
+     *
+     * @param studentId 学生のユーザーID（users.id）
+     * @param lectureIds 講義ID（nullの場合は学生に関係する全講義）
+     * @return 更新した行数
+     */
+    private int recompute(Long studentId, Collection<Long> lectureIds) {
+        if (lectureIds != null && lectureIds.isEmpty()) {
+            return 0;
+        }
+        synchronized (locks[Math.floorMod(studentId.hashCode(), LOCK_STRIPES)]) {
+            Integer updated = transactionTemplate.execute(status -> recomputeInTransaction(studentId, lectureIds));
+            return updated != null ? updated : 0;
+        }
+    }
+
+    private int recomputeInTransaction(Long studentId, Collection<Long> requestedLectureIds) {
+        Long summaryStudentId = studentRepository.findIdByUserId(studentId).orElse(null);
+        if (summaryStudentId == null) {
+            logger.debug("受講者が登録されていないため成績サマリーを作成しません: userId={}", studentId);
+            return 0;
+        }
+        Map<Long, Double> quizScores = new HashMap<>();
+        for (Object[] row : quizRepository.averageScoreGroupByLectureId(studentId, GRADED_STATUSES)) {
+            quizScores.put((Long) row[0], row[1] != null ? ((Number) row[1]).doubleValue() : null);
+        }
+        Map<Long, String> exerciseAnswers = new HashMap<>();
+        for (StudentAnswer answer : studentAnswerService.getAnswers(EXERCISE_QUIZ_ID, studentId)) {
+            exerciseAnswers.put(answer.getQuestionId(), answer.getAnswerText());
+        }
+        BigDecimal mockTestScore = mockTestScore(studentId);
+
+        Set<Long> lectureIds;
+        if (requestedLectureIds != null) {
+            lectureIds = new TreeSet<>(requestedLectureIds);
+        } else {
+            lectureIds = new TreeSet<>(quizScores.keySet());
+            if (!exerciseAnswers.isEmpty()) {
+                for (Object[] row : questionBankRepository.findLectureIdsByIdIn(exerciseAnswers.keySet())) {
+                    lectureIds.add((Long) row[1]);
+                }
+            }
+            lectureIds.addAll(studentGradeSummaryRepository.findLectureIdsByStudentId(summaryStudentId));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<StudentGradeSummary> summaries = new ArrayList<>(lectureIds.size());
+        for (Long lectureId : lectureIds) {
+            StudentGradeSummary summary = studentGradeSummaryRepository
+                    .findByStudentIdAndLectureId(summaryStudentId, lectureId)
+                    .orElseGet(() -> {
+                        StudentGradeSummary created = new StudentGradeSummary();
+                        created.setStudentId(summaryStudentId);
+                        created.setLectureId(lectureId);
+                        created.setCreatedAt(now);
+                        return created;
+                    });
+            Double quizScore = quizScores.get(lectureId);
+            apply(summary, exerciseScore(lectureId, exerciseAnswers),
+                    quizScore != null ? scale(BigDecimal.valueOf(quizScore)) : null, mockTestScore);
+            summary.setCalculatedAt(now);
+            summary.setUpdatedAt(now);
+            summaries.add(summary);
+        }
+        studentGradeSummaryRepository.saveAll(summaries);
+        return summaries.size();
+    }
+
+    /** 講義の演習得点（講義の問題への回答がない場合はnull）。正誤はクイズと同じ {@link AnswerKey} の規則で判定する */
+    private BigDecimal exerciseScore(Long lectureId, Map<Long, String> answers) {
+        if (answers.isEmpty()) {
+            return null;
+        }
+        int totalPoints = 0;
+        int earnedPoints = 0;
+        boolean answered = false;
+        for (QuestionBank question : questionBankRepository.findByLectureIdOrderByChapterAndQuestionNumber(lectureId)) {
+            int points = question.getPoints() != null ? question.getPoints() : DEFAULT_POINTS;
+            totalPoints += points;
+            if (!answers.containsKey(question.getId())) {
+                continue;
+            }
+            answered = true;
+            if (AnswerKey.of(question.getCorrectAnswer(), null).matches(answers.get(question.getId()))) {
+                earnedPoints += points;
+            }
+        }
+        if (!answered || totalPoints == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(earnedPoints).multiply(HUNDRED)
+                .divide(BigDecimal.valueOf(totalPoints), 2, RoundingMode.HALF_UP);
+    }
+
+    /** 模擬試験ごとの最高得点の平均（結果がない場合はnull） */
+    private BigDecimal mockTestScore(Long studentId) {
+        List<BigDecimal> bestScores = mockTestResultRepository.findBestScoresByStudentId(studentId);
+        if (bestScores.isEmpty()) {
+            return null;
+        }
+        BigDecimal sum = bestScores.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        return sum.divide(BigDecimal.valueOf(bestScores.size()), 2, RoundingMode.HALF_UP);
+    }
+
+    /** 各得点・総合得点・評価を設定 */
+    private void apply(StudentGradeSummary summary, BigDecimal exerciseScore, BigDecimal quizScore,
+                       BigDecimal mockTestScore) {
+        summary.setExerciseScore(exerciseScore);
+        summary.setQuizScore(quizScore);
+        summary.setMockTestScore(mockTestScore);
+
+        BigDecimal weightedSum = BigDecimal.ZERO;
+        BigDecimal weightTotal = BigDecimal.ZERO;
+        BigDecimal[][] components = {
+            {exerciseScore, exerciseWeight}, {quizScore, quizWeight}, {mockTestScore, mockTestWeight}
+        };
+        for (BigDecimal[] component : components) {
+            if (component[0] != null) {
+                weightedSum = weightedSum.add(component[0].multiply(component[1]));
+                weightTotal = weightTotal.add(component[1]);
+            }
+        }
+        if (weightTotal.signum() == 0) {
+            summary.setTotalScore(BigDecimal.ZERO.setScale(2));
+            summary.setGradeStatus("not_started");
+            return;
+        }
+        BigDecimal total = weightedSum.divide(weightTotal, 2, RoundingMode.HALF_UP);
+        summary.setTotalScore(total);
+        if (total.compareTo(excellentThreshold) >= 0) {
+            summary.setGradeStatus("excellent");
+        } else if (total.compareTo(passingThreshold) >= 0) {
+            summary.setGradeStatus("good");
+        } else {
+            summary.setGradeStatus("needs_improvement");
+        }
+    }
+
+    private static BigDecimal scale(BigDecimal value) {
+        return value.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /** 学生ごとの再計算待ち（pending.compute の中でのみ変更する） */
+    private static final class Pending {
+        private final Set<Long> chapterIds = new HashSet<>();
+        private final Set<Long> questionIds = new HashSet<>();
+        private boolean existingRows;
+        /** 続けて失敗した回数 */
+        private int failures;
+
+        void merge(Pending other) {
+            chapterIds.addAll(other.chapterIds);
+            questionIds.addAll(other.questionIds);
+            existingRows |= other.existingRows;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package jp.co.apsa.giiku.service;
 
 import jp.co.apsa.giiku.domain.entity.StudentProfile;
+import jp.co.apsa.giiku.domain.event.StudentChangedEvent;
 import jp.co.apsa.giiku.domain.repository.StudentProfileRepository;
 import jp.co.apsa.giiku.exception.StudentNotFoundException;
 import jp.co.apsa.giiku.exception.ValidationException;
+import jp.co.apsa.giiku.mapper.StudentProfileMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -12,7 +15,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import com.github.dozermapper.core.Mapper;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -36,7 +38,10 @@ public class StudentProfileService {
     private StudentProfileRepository studentProfileRepository;
 
     @Autowired
-    private Mapper mapper;
+    private StudentProfileMapper studentProfileMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     /** 学生プロフィールを作成 */
     public StudentProfile create(StudentProfile studentProfile) {
@@ -50,7 +55,7 @@ public class StudentProfileService {
                 "Student number already exists");
         }
 
-        return studentProfileRepository.save(studentProfile);
+        return saveAndPublish(studentProfile, null);
     }
 
     /** 学生プロフィールを更新 */
@@ -58,10 +63,11 @@ public class StudentProfileService {
         logger.info("Updating student profile with id: {}", id);
 
         StudentProfile existingProfile = findById(id);
+        StudentChangedEvent.Snapshot before = StudentChangedEvent.Snapshot.of(existingProfile);
 
         // 更新可能なフィールドのみ更新
-        mapper.map(studentProfile, existingProfile);
-        return studentProfileRepository.save(existingProfile);
+        studentProfileMapper.update(studentProfile, existingProfile);
+        return saveAndPublish(existingProfile, before);
     }
 
     /** IDで学生プロフィールを取得 */
@@ -189,8 +195,9 @@ public class StudentProfileService {
 
     public void updateLearningStatus(Long id, String status) {
         StudentProfile profile = findById(id);
+        StudentChangedEvent.Snapshot before = StudentChangedEvent.Snapshot.of(profile);
         profile.setEnrollmentStatus(status);
-        studentProfileRepository.save(profile);
+        saveAndPublish(profile, before);
     }
 
     public void deleteStudentProfile(Long id) {
@@ -213,6 +220,7 @@ public class StudentProfileService {
 
         StudentProfile studentProfile = findById(id);
         studentProfileRepository.delete(studentProfile);
+        eventPublisher.publishEvent(new StudentChangedEvent(StudentChangedEvent.Snapshot.of(studentProfile), null));
     }
 
     /** 学生番号の存在チェック */
@@ -234,6 +242,13 @@ public class StudentProfileService {
         return studentProfileRepository.countByGradeLevelAndCompanyId(companyId);
     }
 
+    /** 保存してダッシュボード統計用の変更イベントを発行 */
+    private StudentProfile saveAndPublish(StudentProfile profile, StudentChangedEvent.Snapshot before) {
+        StudentProfile saved = studentProfileRepository.save(profile);
+        eventPublisher.publishEvent(new StudentChangedEvent(before, StudentChangedEvent.Snapshot.of(saved)));
+        return saved;
+    }
+
     /** バリデーション */
     private void validateStudentProfile(StudentProfile studentProfile) {
         if (studentProfile == null) {
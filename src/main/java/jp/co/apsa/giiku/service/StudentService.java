@@ -1,5 +1,7 @@
 package jp.co.apsa.giiku.service;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.List;
 import java.util.Optional;
 import java.util.ArrayList;
@@ -7,20 +9,24 @@ import java.util.Map;
 import java.util.HashMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import com.github.dozermapper.core.Mapper;
 
+import jp.co.apsa.giiku.application.service.DashboardStatisticsService;
 import jp.co.apsa.giiku.domain.entity.StudentProfile;
+import jp.co.apsa.giiku.domain.event.StudentChangedEvent;
 import jp.co.apsa.giiku.domain.repository.CompanyRepository;
 import jp.co.apsa.giiku.domain.repository.StudentProfileRepository;
 import jp.co.apsa.giiku.domain.repository.UserRepository;
 import jp.co.apsa.giiku.dto.StudentRequest;
 import jp.co.apsa.giiku.dto.StudentResponse;
+import jp.co.apsa.giiku.dto.DashboardStatistics;
 import jp.co.apsa.giiku.dto.StudentStatistics;
 import jp.co.apsa.giiku.exception.StudentNotFoundException;
+import jp.co.apsa.giiku.mapper.StudentProfileMapper;
 
 /**
  * 学生プロフィールに関するビジネスロジックを提供します。
@@ -36,18 +42,24 @@ public class StudentService {
     private final StudentProfileRepository studentProfileRepository;
     private final UserRepository userRepository;
     private final CompanyRepository companyRepository;
-    private final Mapper mapper;
+    private final StudentProfileMapper studentProfileMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DashboardStatisticsService dashboardStatisticsService;
 
     /** StudentService メソッド */
     @Autowired
     public StudentService(StudentProfileRepository studentProfileRepository,
                           UserRepository userRepository,
                           CompanyRepository companyRepository,
-                          Mapper mapper) {
+                          StudentProfileMapper studentProfileMapper,
+                          ApplicationEventPublisher eventPublisher,
+                          DashboardStatisticsService dashboardStatisticsService) {
         this.studentProfileRepository = studentProfileRepository;
         this.userRepository = userRepository;
         this.companyRepository = companyRepository;
-        this.mapper = mapper;
+        this.studentProfileMapper = studentProfileMapper;
+        this.eventPublisher = eventPublisher;
+        this.dashboardStatisticsService = dashboardStatisticsService;
     }
 
     /**
@@ -102,7 +114,7 @@ public class StudentService {
     public StudentProfile save(StudentProfile profile) {
         validate(profile);
         checkReferences(profile);
-        return studentProfileRepository.save(profile);
+        return saveAndPublish(profile, null);
     }
 
     /**
@@ -114,13 +126,13 @@ public class StudentService {
      * @throws StudentNotFoundException ID が存在しない場合
      */
     public StudentProfile update(Long id, StudentProfile profile) {
-        if (!studentProfileRepository.existsById(id)) {
-            throw StudentNotFoundException.byId(id);
-        }
+        StudentChangedEvent.Snapshot before = studentProfileRepository.findById(id)
+                .map(StudentChangedEvent.Snapshot::of)
+                .orElseThrow(() -> StudentNotFoundException.byId(id));
         profile.setId(id);
         validate(profile);
         checkReferences(profile);
-        return studentProfileRepository.save(profile);
+        return saveAndPublish(profile, before);
     }
 
     /**
@@ -132,8 +144,9 @@ public class StudentService {
     public void deactivate(Long id) {
         StudentProfile profile = studentProfileRepository.findById(id)
                 .orElseThrow(() -> StudentNotFoundException.byId(id));
+        StudentChangedEvent.Snapshot before = StudentChangedEvent.Snapshot.of(profile);
         profile.setEnrollmentStatus(StudentProfile.EnrollmentStatus.WITHDRAWN);
-        studentProfileRepository.save(profile);
+        saveAndPublish(profile, before);
     }
 
     /**
@@ -143,10 +156,7 @@ public class StudentService {
      * @throws StudentNotFoundException ID が存在しない場合
      */
     public void delete(Long id) {
-        if (!studentProfileRepository.existsById(id)) {
-            throw StudentNotFoundException.byId(id);
-        }
-        studentProfileRepository.deleteById(id);
+        deleteAndPublish(id);
     }
 
     // ===== DTO ベースのメソッド =====
@@ -184,7 +194,7 @@ public class StudentService {
      */
     public StudentResponse createStudent(StudentRequest request) {
         StudentProfile profile = toStudentProfile(request);
-        StudentProfile saved = studentProfileRepository.save(profile);
+        StudentProfile saved = saveAndPublish(profile, null);
         return toStudentResponse(saved);
     }
 
@@ -199,8 +209,9 @@ public class StudentService {
     public StudentResponse updateStudent(Long id, StudentRequest request) {
         StudentProfile profile = studentProfileRepository.findById(id)
                 .orElseThrow(() -> StudentNotFoundException.byId(id));
+        StudentChangedEvent.Snapshot before = StudentChangedEvent.Snapshot.of(profile);
         updateProfileFromRequest(profile, request);
-        StudentProfile saved = studentProfileRepository.save(profile);
+        StudentProfile saved = saveAndPublish(profile, before);
         return toStudentResponse(saved);
     }
 
@@ -211,10 +222,7 @@ public class StudentService {
      * @throws StudentNotFoundException 学生が存在しない場合
      */
     public void deleteStudent(Long id) {
-        if (!studentProfileRepository.existsById(id)) {
-            throw StudentNotFoundException.byId(id);
-        }
-        studentProfileRepository.deleteById(id);
+        deleteAndPublish(id);
     }
 
     @Transactional(readOnly = true)
@@ -236,14 +244,39 @@ public class StudentService {
         return new HashMap<>();
     }
 
+    /**
+     * 全体の学生統計を返します（ダッシュボード統計のメモリ上の値、DBアクセスなし）。
+     *
+     * @return 学生統計
+     */
     @Transactional(readOnly = true)
     public StudentStatistics getStudentStatistics() {
-        return new StudentStatistics();
+        DashboardStatistics overall = dashboardStatisticsService.getOverallStatistics();
+        StudentStatistics statistics = new StudentStatistics();
+        statistics.setTotalStudents(overall.getTotalStudents());
+        statistics.setActiveStudents(overall.getActiveStudents());
+        statistics.setInactiveStudents(overall.getTotalStudents() - overall.getActiveStudents());
+        statistics.setTotalEnrollments(overall.getTotalEnrollments());
+        statistics.setInProgressStudents(overall.getActiveEnrollments());
+        statistics.setTotalCompletions(overall.getCompletedEnrollments());
+        statistics.setAverageScore(overall.getAverageScore());
+        if (overall.getTotalEnrollments() > 0) {
+            statistics.setCompletionRate(BigDecimal.valueOf(overall.getCompletedEnrollments() * 100.0
+                    / overall.getTotalEnrollments()).setScale(2, RoundingMode.HALF_UP));
+        } else {
+            statistics.setCompletionRate(BigDecimal.ZERO);
+        }
+        return statistics;
     }
 
+    /**
+     * 所属企業ごとの在籍中の学生数を返します（ダッシュボード統計のメモリ上の値、DBアクセスなし）。
+     *
+     * @return 企業名と在籍中の学生数
+     */
     @Transactional(readOnly = true)
     public Map<String, Long> getDepartmentStatistics() {
-        return new HashMap<>();
+        return new HashMap<>(dashboardStatisticsService.getActiveStudentsByCompany());
     }
 
     public List<StudentResponse> createStudentsBatch(List<StudentRequest> requests) {
@@ -254,6 +287,21 @@ public class StudentService {
         return new StudentResponse();
     }
 
+    /** 保存してダッシュボード統計用の変更イベントを発行 */
+    private StudentProfile saveAndPublish(StudentProfile profile, StudentChangedEvent.Snapshot before) {
+        StudentProfile saved = studentProfileRepository.save(profile);
+        eventPublisher.publishEvent(new StudentChangedEvent(before, StudentChangedEvent.Snapshot.of(saved)));
+        return saved;
+    }
+
+    /** 削除してダッシュボード統計用の変更イベントを発行 */
+    private void deleteAndPublish(Long id) {
+        StudentProfile profile = studentProfileRepository.findById(id)
+                .orElseThrow(() -> StudentNotFoundException.byId(id));
+        studentProfileRepository.delete(profile);
+        eventPublisher.publishEvent(new StudentChangedEvent(StudentChangedEvent.Snapshot.of(profile), null));
+    }
+
     /**
      * StudentProfile を StudentResponse に変換します。
      *
@@ -261,7 +309,7 @@ public class StudentService {
      * @return 変換された学生レスポンス
      */
     private StudentResponse toStudentResponse(StudentProfile profile) {
-        return mapper.map(profile, StudentResponse.class);
+        return studentProfileMapper.toResponse(profile);
     }
 
     /**
@@ -271,7 +319,7 @@ public class StudentService {
      * @return 変換された学生プロフィール
      */
     private StudentProfile toStudentProfile(StudentRequest request) {
-        return mapper.map(request, StudentProfile.class);
+        return studentProfileMapper.toEntity(request);
     }
 
     /**
@@ -281,7 +329,7 @@ public class StudentService {
      * @param request  リクエストデータ
      */
     private void updateProfileFromRequest(StudentProfile profile, StudentRequest request) {
-        mapper.map(request, profile);
+        studentProfileMapper.update(request, profile);
     }
 
     /**
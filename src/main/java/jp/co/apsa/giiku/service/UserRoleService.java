@@ -11,6 +11,7 @@ import jp.co.apsa.giiku.dto.UserRoleUpdateDto;
 import jp.co.apsa.giiku.dto.UserRoleResponseDto;
 import jp.co.apsa.giiku.dto.UserRoleSearchDto;
 import jp.co.apsa.giiku.dto.UserRoleStatsDto;
+import jp.co.apsa.giiku.mapper.UserRoleMapper;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -20,6 +21,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
@@ -28,7 +30,6 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import com.github.dozermapper.core.Mapper;
 
 /**
  * UserRoleサービスクラス。
@@ -52,7 +53,10 @@ public class UserRoleService {
     private CompanyRepository companyRepository;
 
     @Autowired
-    private Mapper mapper;
+    private UserRoleMapper userRoleMapper;
+
+    @Autowired
+    private PermissionIndex permissionIndex;
 
     /**
      * エンティティをレスポンスDTOに変換します。
@@ -61,7 +65,7 @@ public class UserRoleService {
      * @return レスポンスDTO
      */
     private UserRoleResponseDto toResponseDto(UserRole userRole) {
-        return mapper.map(userRole, UserRoleResponseDto.class);
+        return userRoleMapper.toResponseDto(userRole);
     }
 
     /** 全てのユーザー役割を取得 */
@@ -93,7 +97,9 @@ public class UserRoleService {
         }
         userRole.setUpdatedAt(LocalDateTime.now());
 
-        return userRoleRepository.save(userRole);
+        UserRole saved = userRoleRepository.save(userRole);
+        permissionIndex.evictUser(saved.getUserId());
+        return saved;
     }
 
     /** ユーザー役割を更新 */
@@ -107,11 +113,14 @@ public class UserRoleService {
 
         validateUserRole(userRole);
 
-        // 基本情報の更新
-        mapper.map(userRole, existing);
+        // 基本情報の更新（ユーザーの付け替えに備えて変更前のユーザーも破棄する）
+        permissionIndex.evictUser(existing.getUserId());
+        userRoleMapper.update(userRole, existing);
         existing.setUpdatedAt(LocalDateTime.now());
 
-        return userRoleRepository.save(existing);
+        UserRole saved = userRoleRepository.save(existing);
+        permissionIndex.evictUser(saved.getUserId());
+        return saved;
     }
 
     /** ユーザー役割を論理削除 */
@@ -126,6 +135,7 @@ public class UserRoleService {
         userRole.setActive(false);
         userRole.setUpdatedAt(LocalDateTime.now());
         userRoleRepository.save(userRole);
+        permissionIndex.evictUser(userRole.getUserId());
     }
 
     /** ユーザー役割を物理削除 */
@@ -134,11 +144,11 @@ public class UserRoleService {
             throw new IllegalArgumentException("IDは必須です");
         }
 
-        if (!userRoleRepository.existsById(id)) {
-            throw new RuntimeException("ユーザー役割が見つかりません: " + id);
-        }
+        UserRole userRole = userRoleRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("ユーザー役割が見つかりません: " + id));
 
-        userRoleRepository.deleteById(id);
+        userRoleRepository.delete(userRole);
+        permissionIndex.evictUser(userRole.getUserId());
     }
 
     /** ユーザーIDで役割を検索 */
@@ -263,7 +273,7 @@ public class UserRoleService {
      * @return 作成されたレスポンスDTO
      */
     public UserRoleResponseDto createUserRole(UserRoleCreateDto createDto) {
-        UserRole entity = mapper.map(createDto, UserRole.class);
+        UserRole entity = userRoleMapper.toEntity(createDto);
         UserRole saved = save(entity);
         return toResponseDto(saved);
     }
@@ -277,9 +287,12 @@ public class UserRoleService {
      */
     public Optional<UserRoleResponseDto> updateUserRole(Long id, UserRoleUpdateDto updateDto) {
         return userRoleRepository.findById(id).map(existing -> {
-            mapper.map(updateDto, existing);
+            permissionIndex.evictUser(existing.getUserId());
+            userRoleMapper.update(updateDto, existing);
             existing.setUpdatedAt(LocalDateTime.now());
-            return toResponseDto(userRoleRepository.save(existing));
+            UserRole saved = userRoleRepository.save(existing);
+            permissionIndex.evictUser(saved.getUserId());
+            return toResponseDto(saved);
         });
     }
 
@@ -290,10 +303,12 @@ public class UserRoleService {
      * @return 削除成功フラグ
      */
     public boolean deleteUserRole(Long id) {
-        if (!userRoleRepository.existsById(id)) {
+        Optional<UserRole> userRole = userRoleRepository.findById(id);
+        if (userRole.isEmpty()) {
             return false;
         }
-        userRoleRepository.deleteById(id);
+        userRoleRepository.delete(userRole.get());
+        permissionIndex.evictUser(userRole.get().getUserId());
         return true;
     }
 
@@ -330,6 +345,7 @@ public class UserRoleService {
         roles.stream()
             .filter(r -> roleNames.contains(r.getRoleName()))
             .forEach(r -> userRoleRepository.deleteById(r.getId()));
+        permissionIndex.evictUser(userId);
         return true;
     }
 
@@ -462,38 +478,22 @@ public class UserRoleService {
         return userRoleRepository.findAll(spec, pageable);
     }
 
-    /** ユーザーの権限チェック */
-    @Transactional(readOnly = true)
+    /** ユーザーの権限チェック（権限インデックスで判定） */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean hasPermission(Long userId, Long companyId, String permission) {
-        if (userId == null || companyId == null || !StringUtils.hasText(permission)) {
+        if (!StringUtils.hasText(permission)) {
             return false;
         }
-
-        List<UserRole> roles = findByUserIdAndCompanyId(userId, companyId);
-        LocalDateTime now = LocalDateTime.now();
-
-        return roles.stream()
-            .filter(role -> Boolean.TRUE.equals(role.getActive()))
-            .filter(role -> (role.getValidFrom() == null || role.getValidFrom().isBefore(now) || role.getValidFrom().isEqual(now)))
-            .filter(role -> (role.getValidUntil() == null || role.getValidUntil().isAfter(now) || role.getValidUntil().isEqual(now)))
-            .anyMatch(role -> role.getSpecialPermissions() != null && role.getSpecialPermissions().contains(permission));
+        return permissionIndex.hasPermission(userId, companyId, permission);
     }
 
-    /** ユーザーの役割チェック */
-    @Transactional(readOnly = true)
+    /** ユーザーの役割チェック（権限インデックスで判定） */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean hasRole(Long userId, Long companyId, String role) {
-        if (userId == null || companyId == null || !StringUtils.hasText(role)) {
+        if (!StringUtils.hasText(role)) {
             return false;
         }
-
-        List<UserRole> roles = findByUserIdAndCompanyId(userId, companyId);
-        LocalDateTime now = LocalDateTime.now();
-
-        return roles.stream()
-            .filter(userRole -> Boolean.TRUE.equals(userRole.getActive()))
-            .filter(userRole -> (userRole.getValidFrom() == null || userRole.getValidFrom().isBefore(now) || userRole.getValidFrom().isEqual(now)))
-            .filter(userRole -> (userRole.getValidUntil() == null || userRole.getValidUntil().isAfter(now) || userRole.getValidUntil().isEqual(now)))
-            .anyMatch(userRole -> role.equals(userRole.getRoleName()));
+        return permissionIndex.hasRole(userId, companyId, role);
     }
 
     /** ユーザー役割数をカウント */
@@ -12,7 +12,7 @@ import jp.co.apsa.giiku.domain.repository.WeekRepository;
 
 /**
  * 週サービス
- * 週情報の取得を提供する。
+ * 週情報の取得と更新を提供する。
  *
  * @author 株式会社アプサ
  * @version 1.0
@@ -25,6 +25,12 @@ public class WeekService {
     @Autowired
     private WeekRepository weekRepository;
 
+    @Autowired
+    private CurriculumTreeCache curriculumTreeCache;
+
+    @Autowired
+    private RenderedPageCache renderedPageCache;
+
     /** 全件取得 */
     @Transactional(readOnly = true)
     public List<Week> findAll() {
@@ -48,4 +54,19 @@ public class WeekService {
     public Optional<Week> findById(Long id) {
         return weekRepository.findById(id);
     }
+
+    /** 週を保存（カリキュラムツリーのキャッシュを破棄） */
+    public Week save(Week week) {
+        Week saved = weekRepository.save(week);
+        curriculumTreeCache.invalidate();
+        renderedPageCache.invalidate();
+        return saved;
+    }
+
+    /** 週を削除（カリキュラムツリーのキャッシュを破棄） */
+    public void delete(Long id) {
+        weekRepository.deleteById(id);
+        curriculumTreeCache.invalidate();
+        renderedPageCache.invalidate();
+    }
 }
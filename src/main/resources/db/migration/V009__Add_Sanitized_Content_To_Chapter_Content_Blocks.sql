@@ -0,0 +1,27 @@
+-- V009__Add_Sanitized_Content_To_Chapter_Content_Blocks.sql
+-- コンテンツブロックのサニタイズ済みHTMLを書き込み時に保持する
+-- 既存行は ContentBlockSanitizeBackfill によりバッチで埋める
+
+ALTER TABLE chapter_content_blocks ADD COLUMN sanitized_content TEXT;
+
+COMMENT ON COLUMN chapter_content_blocks.sanitized_content IS 'サニタイズ済みブロック内容（content から生成、NULL の場合は未生成）';
+
+-- content だけが更新された場合（SQL による直接更新など）は古いサニタイズ結果を破棄する
+CREATE FUNCTION public.reset_chapter_content_block_sanitized() RETURNS trigger
+    LANGUAGE plpgsql AS $$
+BEGIN
+    IF NEW.content IS DISTINCT FROM OLD.content
+            AND NEW.sanitized_content IS NOT DISTINCT FROM OLD.sanitized_content THEN
+        NEW.sanitized_content = NULL;
+    END IF;
+RETURN NEW;
+END;
+$$;
+
+CREATE TRIGGER reset_chapter_content_blocks_sanitized
+    BEFORE UPDATE ON public.chapter_content_blocks
+    FOR EACH ROW EXECUTE FUNCTION public.reset_chapter_content_block_sanitized();
+
+-- 未生成行の検索用
+CREATE INDEX idx_chapter_content_blocks_unsanitized ON chapter_content_blocks(id)
+    WHERE sanitized_content IS NULL AND content IS NOT NULL;
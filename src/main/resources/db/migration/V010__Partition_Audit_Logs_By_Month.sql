@@ -0,0 +1,83 @@
+-- V010__Partition_Audit_Logs_By_Month.sql
+-- audit_logs を created_at の月単位レンジパーティションに変換する
+-- 保持期間を過ぎたデータは AuditLogRetentionService がパーティション単位で切り離し・削除する
+
+ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+ALTER INDEX IF EXISTS idx_audit_logs_table_record RENAME TO idx_audit_logs_legacy_table_record;
+
+-- パーティションキーを主キーに含める必要があるため (id, created_at) を主キーとする
+CREATE TABLE audit_logs (
+    id BIGINT NOT NULL DEFAULT nextval('audit_logs_id_seq'),
+    table_name VARCHAR(100) NOT NULL,
+    operation_type VARCHAR(20) NOT NULL, -- INSERT, UPDATE, DELETE
+    record_id BIGINT,
+    old_values JSONB,
+    new_values JSONB,
+    changed_by VARCHAR(100),
+    change_timestamp TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    created_by bigint NOT NULL,
+    created_at timestamp with time zone NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_by bigint NOT NULL,
+    updated_at timestamp with time zone DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE audit_logs_id_seq OWNED BY audit_logs.id;
+
+COMMENT ON TABLE audit_logs IS '監査ログ（操作履歴を管理、created_at の月単位パーティション）';
+COMMENT ON COLUMN audit_logs.id IS 'ログID（連番）';
+COMMENT ON COLUMN audit_logs.table_name IS 'テーブル名（対象テーブル）';
+COMMENT ON COLUMN audit_logs.operation_type IS '操作タイプ（INSERT/UPDATE/DELETE）';
+COMMENT ON COLUMN audit_logs.record_id IS 'レコードID（対象レコード）';
+COMMENT ON COLUMN audit_logs.old_values IS '旧値（変更前の値）';
+COMMENT ON COLUMN audit_logs.new_values IS '新値（変更後の値）';
+COMMENT ON COLUMN audit_logs.changed_by IS '変更者（操作ユーザー）';
+COMMENT ON COLUMN audit_logs.change_timestamp IS '変更日時（操作時刻）';
+COMMENT ON COLUMN audit_logs.created_by IS '作成者ID（レコード作成ユーザー）';
+COMMENT ON COLUMN audit_logs.created_at IS '作成日時（レコード作成時刻、パーティションキー）';
+COMMENT ON COLUMN audit_logs.updated_by IS '更新者ID（最終更新ユーザー）';
+COMMENT ON COLUMN audit_logs.updated_at IS '更新日時（最終更新時刻）';
+
+CREATE INDEX idx_audit_logs_table_record ON audit_logs(table_name, record_id);
+CREATE INDEX idx_audit_logs_created_at ON audit_logs(created_at);
+
+-- どの月パーティションにも入らない行の受け皿（保持期間の削除はチャンク削除で行う）
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- 指定月のパーティション（audit_logs_pYYYYMM）を作成する。既に存在する場合は何もしない
+CREATE FUNCTION public.create_audit_log_partition(target_month DATE) RETURNS TEXT
+    LANGUAGE plpgsql AS $$
+DECLARE
+    month_start DATE := date_trunc('month', target_month)::date;
+    partition_name TEXT := 'audit_logs_p' || to_char(month_start, 'YYYYMM');
+BEGIN
+    IF to_regclass('public.' || partition_name) IS NULL THEN
+        EXECUTE format('CREATE TABLE public.%I PARTITION OF public.audit_logs FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, month_start, (month_start + INTERVAL '1 month')::date);
+    END IF;
+    RETURN partition_name;
+END;
+$$;
+
+-- 既存データの最古月から3か月先までのパーティションを作成
+DO $$
+DECLARE
+    first_month DATE;
+    last_month DATE := (date_trunc('month', CURRENT_DATE) + INTERVAL '3 months')::date;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(created_at), CURRENT_TIMESTAMP))::date
+      INTO first_month FROM audit_logs_legacy;
+    WHILE first_month <= last_month LOOP
+        PERFORM public.create_audit_log_partition(first_month);
+        first_month := (first_month + INTERVAL '1 month')::date;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO audit_logs (id, table_name, operation_type, record_id, old_values, new_values, changed_by,
+                        change_timestamp, created_by, created_at, updated_by, updated_at)
+SELECT id, table_name, operation_type, record_id, old_values, new_values, changed_by,
+       change_timestamp, created_by, COALESCE(created_at, CURRENT_TIMESTAMP), updated_by, updated_at
+  FROM audit_logs_legacy;
+
+DROP TABLE audit_logs_legacy;
@@ -0,0 +1,11 @@
+-- V011__Add_Audit_Log_Keyset_Indexes.sql
+-- 監査ログのキーセットページング（ORDER BY created_at DESC, id DESC）用インデックス
+-- 検索条件ごとに (条件列, created_at, id) の複合インデックスを作成し、条件付きでも先頭から辿れるようにする
+
+CREATE INDEX idx_audit_logs_created_at_id ON audit_logs(created_at DESC, id DESC);
+CREATE INDEX idx_audit_logs_created_by_created_at ON audit_logs(created_by, created_at DESC, id DESC);
+CREATE INDEX idx_audit_logs_operation_created_at ON audit_logs(operation_type, created_at DESC, id DESC);
+CREATE INDEX idx_audit_logs_table_created_at ON audit_logs(table_name, created_at DESC, id DESC);
+
+-- idx_audit_logs_created_at_id で代替できるため削除
+DROP INDEX IF EXISTS idx_audit_logs_created_at;
@@ -0,0 +1,21 @@
+-- V012__Create_Audit_Log_Hourly_Rollups.sql
+-- 監査ログの時間別集計テーブル
+-- AuditLogRollupService が確定した時間帯を集計し、操作種別別・作成者別の件数レポートはここから取得する
+
+CREATE TABLE audit_log_hourly_rollups (
+    id BIGSERIAL PRIMARY KEY,
+    bucket_start TIMESTAMP NOT NULL,
+    operation_type VARCHAR(20) NOT NULL,
+    created_by BIGINT NOT NULL,
+    table_name VARCHAR(100) NOT NULL,
+    event_count BIGINT NOT NULL,
+    CONSTRAINT uk_audit_log_hourly_rollups UNIQUE (bucket_start, operation_type, created_by, table_name)
+);
+
+COMMENT ON TABLE audit_log_hourly_rollups IS '監査ログ時間別集計（1時間・操作種別・作成者・テーブル名ごとの件数）';
+COMMENT ON COLUMN audit_log_hourly_rollups.id IS '集計ID（連番）';
+COMMENT ON COLUMN audit_log_hourly_rollups.bucket_start IS '集計対象時間帯の開始日時（正時）';
+COMMENT ON COLUMN audit_log_hourly_rollups.operation_type IS '操作種別';
+COMMENT ON COLUMN audit_log_hourly_rollups.created_by IS '作成者ID';
+COMMENT ON COLUMN audit_log_hourly_rollups.table_name IS '対象テーブル名';
+COMMENT ON COLUMN audit_log_hourly_rollups.event_count IS '件数';
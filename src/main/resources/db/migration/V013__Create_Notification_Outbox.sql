@@ -0,0 +1,34 @@
+-- V013__Create_Notification_Outbox.sql
+-- 通知のトランザクショナルアウトボックス
+-- 業務データと同じトランザクションで通知を書き込み、NotificationOutbox が FOR UPDATE SKIP LOCKED で取得して送信する
+
+CREATE TABLE notification_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    recipient VARCHAR(100) NOT NULL,
+    message TEXT NOT NULL,
+    urgent BOOLEAN NOT NULL DEFAULT FALSE,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP,
+    CONSTRAINT chk_notification_outbox_status CHECK (status IN ('PENDING', 'SENT', 'FAILED'))
+);
+
+-- 送信待ちの取得用（送信済み・失敗の行は含めない）
+CREATE INDEX idx_notification_outbox_pending ON notification_outbox(next_attempt_at, id) WHERE status = 'PENDING';
+-- 送信済みの行の削除用
+CREATE INDEX idx_notification_outbox_sent_at ON notification_outbox(sent_at) WHERE status = 'SENT';
+
+COMMENT ON TABLE notification_outbox IS '通知アウトボックス（業務データと同じトランザクションで書き込み、非同期に送信）';
+COMMENT ON COLUMN notification_outbox.id IS '通知ID（連番）';
+COMMENT ON COLUMN notification_outbox.recipient IS '通知先（Slack ユーザーID）';
+COMMENT ON COLUMN notification_outbox.message IS '通知本文';
+COMMENT ON COLUMN notification_outbox.urgent IS '緊急通知フラグ';
+COMMENT ON COLUMN notification_outbox.status IS '状態（PENDING/SENT/FAILED）';
+COMMENT ON COLUMN notification_outbox.attempts IS '送信試行回数';
+COMMENT ON COLUMN notification_outbox.next_attempt_at IS '次に送信できる日時（取得中はリース期限）';
+COMMENT ON COLUMN notification_outbox.last_error IS '最後の送信エラー';
+COMMENT ON COLUMN notification_outbox.created_at IS '作成日時';
+COMMENT ON COLUMN notification_outbox.sent_at IS '送信日時';
@@ -0,0 +1,27 @@
+-- V014__Create_Student_Answer_Dead_Letters.sql
+-- 学生回答のデッドレター
+-- StudentAnswerWriteBuffer が外部キー違反等の制約違反で書き込めなかった回答を保持する
+-- 元の回答を失わないよう、外部キーは設定しない
+
+CREATE TABLE student_answer_dead_letters (
+    id BIGSERIAL PRIMARY KEY,
+    quiz_id BIGINT NOT NULL,
+    question_id BIGINT NOT NULL,
+    student_id BIGINT NOT NULL,
+    answer_text TEXT,
+    submitted_at TIMESTAMP,
+    error_message VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_student_answer_dead_letters_created_at ON student_answer_dead_letters(created_at);
+
+COMMENT ON TABLE student_answer_dead_letters IS '学生回答デッドレター（制約違反で書き込めなかった回答）';
+COMMENT ON COLUMN student_answer_dead_letters.id IS 'デッドレターID（連番）';
+COMMENT ON COLUMN student_answer_dead_letters.quiz_id IS 'クイズID';
+COMMENT ON COLUMN student_answer_dead_letters.question_id IS '質問ID';
+COMMENT ON COLUMN student_answer_dead_letters.student_id IS '学生ID';
+COMMENT ON COLUMN student_answer_dead_letters.answer_text IS '回答内容';
+COMMENT ON COLUMN student_answer_dead_letters.submitted_at IS '回答日時';
+COMMENT ON COLUMN student_answer_dead_letters.error_message IS '書き込みエラー';
+COMMENT ON COLUMN student_answer_dead_letters.created_at IS '作成日時';
@@ -0,0 +1,23 @@
+-- V015__Create_Audit_Log_Rollup_State.sql
+-- 監査ログ時間別集計の進捗
+-- AuditLogRollupService が集計済みの終端と監査ログIDの走査位置を保存し、集計済みの時間帯に後から追加された行を再集計する
+
+CREATE TABLE audit_log_rollup_state (
+    id SMALLINT PRIMARY KEY,
+    rolled_up_until TIMESTAMP,
+    scan_from_log_id BIGINT NOT NULL DEFAULT 0,
+    last_seen_log_id BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_audit_log_rollup_state_single CHECK (id = 1)
+);
+
+-- 既存の集計の終端を引き継ぐ。走査位置は 0 とし、初回に全期間の集計漏れを再集計する
+INSERT INTO audit_log_rollup_state (id, rolled_up_until, scan_from_log_id, last_seen_log_id)
+SELECT 1, MAX(bucket_start) + INTERVAL '1 hour', 0, 0 FROM audit_log_hourly_rollups;
+
+COMMENT ON TABLE audit_log_rollup_state IS '監査ログ時間別集計の進捗（1行のみ）';
+COMMENT ON COLUMN audit_log_rollup_state.id IS '識別ID（常に1）';
+COMMENT ON COLUMN audit_log_rollup_state.rolled_up_until IS '集計済みの終端（この日時より前の時間帯は集計済み）';
+COMMENT ON COLUMN audit_log_rollup_state.scan_from_log_id IS '次回の走査開始位置（このIDより後の行を再集計の対象として調べる）';
+COMMENT ON COLUMN audit_log_rollup_state.last_seen_log_id IS '前回の実行時点の最大ログID';
+COMMENT ON COLUMN audit_log_rollup_state.updated_at IS '更新日時';
@@ -1,6 +1,7 @@
 /**
  * 回答モニタ用スクリプト
- * WebSocket を利用して /topic/answers/* を購読
+ * WebSocket を利用して /topic/answers/{quizId}/delta を購読
+ * （一定間隔で集約された差分フレームを受信して表示を更新）
  * 作成日: 2025-09-02
  */
 
@@ -15,6 +16,7 @@ document.addEventListener('DOMContentLoaded', () => {
         return el;
     })();
     let stompClient = null;
+    let latestAnswers = {};
 
     connectBtn.addEventListener('click', () => {
         const quizId = quizIdInput.value.trim();
@@ -27,15 +29,22 @@ document.addEventListener('DOMContentLoaded', () => {
 
         statusEl.textContent = '';
         statusEl.classList.remove('text-success', 'text-danger');
+        latestAnswers = {};
 
         const socket = new SockJS('/ws');
         stompClient = Stomp.over(socket);
         stompClient.connect({}, () => {
             statusEl.textContent = '接続しました';
             statusEl.classList.add('text-success');
-            stompClient.subscribe(`/topic/answers/${quizId}`, (message) => {
-                const payload = JSON.parse(message.body);
-                renderAnswers(payload);
+            stompClient.subscribe(`/topic/answers/${quizId}/delta`, (message) => {
+                const frame = JSON.parse(message.body);
+                (frame.newAnswers || []).forEach(answer => {
+                    latestAnswers[answer.questionId] = answer.answerText;
+                });
+                renderAnswers(latestAnswers);
+                if (frame.correctRatio !== null && frame.correctRatio !== undefined) {
+                    statusEl.textContent = `接続しました（直近の正答率: ${Math.round(frame.correctRatio * 100)}%）`;
+                }
             });
         });
     });
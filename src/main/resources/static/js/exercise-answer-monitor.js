@@ -1,15 +1,24 @@
 /**
  * 演習回答モニタリングスクリプト
- * 指定された質問IDの回答一覧を取得し、受講者をクリックすると内容を表示します。
+ * 指定された質問IDの回答一覧を表示し、受講者をクリックすると内容を表示します。
+ * WebSocket が利用できる場合は購読時のスナップショットと差分フレームで更新し、
+ * 利用できない場合のみ API から取得します。
  *
  * 作成日: 2025-09-02
  */
 
+// 質問ID → (学生ID → 回答) の最新状態
+const liveAnswers = new Map();
+
 export function refreshExerciseAnswerMonitor(questionId) {
     const monitor = document.querySelector(`.exercise-answer-monitor[data-question-id="${questionId}"]`);
     if (!monitor) {
         return;
     }
+    if (liveAnswers.has(String(questionId))) {
+        // 差分フレームで更新されるため取得不要
+        return;
+    }
 
     fetch(`/api/question-banks/${questionId}/answers`, {
         headers: { 'Accept': 'application/json' }
@@ -29,34 +38,7 @@ export function refreshExerciseAnswerMonitor(questionId) {
             if (!data) {
                 return;
             }
-            const list = monitor.querySelector('.exercise-student-list');
-            const display = monitor.querySelector('.exercise-answer-display');
-            if (!list || !display) {
-                return;
-            }
-            while (list.firstChild) {
-                list.removeChild(list.firstChild);
-            }
-            display.textContent = '受講者を選択してください';
-            if (data.length === 0) {
-                const li = document.createElement('li');
-                li.classList.add('list-group-item');
-                li.textContent = '回答なし';
-                list.appendChild(li);
-                display.textContent = '回答なし';
-                return;
-            }
-            data.forEach(row => {
-                const li = document.createElement('li');
-                li.classList.add('list-group-item', 'list-group-item-action');
-                li.textContent = row.studentName;
-                li.addEventListener('click', () => {
-                    display.textContent = row.answerText && row.answerText.trim() !== ''
-                        ? row.answerText
-                        : '回答なし';
-                });
-                list.appendChild(li);
-            });
+            renderRows(monitor, data);
         })
         .catch(err => {
             console.error('回答取得エラー', err);
@@ -67,12 +49,90 @@ export function refreshExerciseAnswerMonitor(questionId) {
         });
 }
 
+function renderRows(monitor, data) {
+    const list = monitor.querySelector('.exercise-student-list');
+    const display = monitor.querySelector('.exercise-answer-display');
+    if (!list || !display) {
+        return;
+    }
+    while (list.firstChild) {
+        list.removeChild(list.firstChild);
+    }
+    display.textContent = '受講者を選択してください';
+    if (data.length === 0) {
+        const li = document.createElement('li');
+        li.classList.add('list-group-item');
+        li.textContent = '回答なし';
+        list.appendChild(li);
+        display.textContent = '回答なし';
+        return;
+    }
+    data.forEach(row => {
+        const li = document.createElement('li');
+        li.classList.add('list-group-item', 'list-group-item-action');
+        li.textContent = row.studentName;
+        li.addEventListener('click', () => {
+            display.textContent = row.answerText && row.answerText.trim() !== ''
+                ? row.answerText
+                : '回答なし';
+        });
+        list.appendChild(li);
+    });
+}
+
+function applyFrame(questionId, frame) {
+    const monitor = document.querySelector(`.exercise-answer-monitor[data-question-id="${questionId}"]`);
+    const answers = liveAnswers.get(questionId);
+    if (!monitor || !answers) {
+        return;
+    }
+    (frame.newAnswers || []).forEach(entry => {
+        const current = answers.get(entry.studentId);
+        if (!current || current.answeredAt <= entry.answeredAt) {
+            answers.set(entry.studentId, entry);
+        }
+    });
+    renderRows(monitor, Array.from(answers.values()));
+}
+
+function connectLive(questionIds) {
+    const socket = new SockJS('/ws');
+    const stompClient = Stomp.over(socket);
+    stompClient.debug = null;
+    stompClient.connect({}, () => {
+        questionIds.forEach(questionId => {
+            liveAnswers.set(questionId, new Map());
+            stompClient.subscribe(`/topic/exercise-answers/${questionId}/delta`, message => {
+                applyFrame(questionId, JSON.parse(message.body));
+            });
+            // 購読時に現在の回答状態をスナップショットとして受信
+            stompClient.subscribe(`/app/exercise-answers/${questionId}`, message => {
+                applyFrame(questionId, JSON.parse(message.body));
+            });
+        });
+    }, () => {
+        questionIds.forEach(questionId => {
+            liveAnswers.delete(questionId);
+            refreshExerciseAnswerMonitor(questionId);
+        });
+    });
+}
+
 document.addEventListener('DOMContentLoaded', () => {
     const monitors = document.querySelectorAll('.exercise-answer-monitor');
+    const questionIds = [];
     monitors.forEach(monitor => {
         const questionId = monitor.dataset.questionId;
         if (questionId) {
-            refreshExerciseAnswerMonitor(questionId);
+            questionIds.push(questionId);
         }
     });
+    if (questionIds.length === 0) {
+        return;
+    }
+    if (typeof SockJS !== 'undefined' && typeof Stomp !== 'undefined') {
+        connectLive(questionIds);
+    } else {
+        questionIds.forEach(questionId => refreshExerciseAnswerMonitor(questionId));
+    }
 });
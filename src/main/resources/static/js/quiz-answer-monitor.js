@@ -1,15 +1,24 @@
 /**
  * クイズ回答モニタリングスクリプト
- * 指定された質問IDの回答一覧を取得してテーブルに描画します。
+ * 指定された質問IDの回答一覧をテーブルに描画します。
+ * WebSocket が利用できる場合は購読時のスナップショットと差分フレームで更新し、
+ * 利用できない場合のみ API から取得します。
  *
  * 作成日: 2025-09-02
  */
 
+// 質問ID → (学生ID:問題ID → 回答) の最新状態
+const liveAnswers = new Map();
+
 export function refreshQuizAnswerMonitor(questionId) {
     const monitor = document.querySelector(`.quiz-answer-monitor[data-question-id="${questionId}"]`);
     if (!monitor) {
         return;
     }
+    if (liveAnswers.has(String(questionId))) {
+        // 差分フレームで更新されるため取得不要
+        return;
+    }
 
     fetch(`/api/quizzes/questions/${questionId}/answers`, {
         headers: { 'Accept': 'application/json' }
@@ -29,39 +38,7 @@ export function refreshQuizAnswerMonitor(questionId) {
             if (!data) {
                 return;
             }
-            const tbody = monitor.querySelector('tbody');
-            if (!tbody) {
-                return;
-            }
-            while (tbody.firstChild) {
-                tbody.removeChild(tbody.firstChild);
-            }
-            if (data.length === 0) {
-                const row = document.createElement('tr');
-                const cell = document.createElement('td');
-                cell.colSpan = 3;
-                cell.textContent = '回答なし';
-                row.appendChild(cell);
-                tbody.appendChild(row);
-                return;
-            }
-            data.forEach(row => {
-                const tr = document.createElement('tr');
-
-                const studentTd = document.createElement('td');
-                studentTd.textContent = row.studentName;
-                tr.appendChild(studentTd);
-
-                const answerTd = document.createElement('td');
-                answerTd.textContent = row.answerText ?? '';
-                tr.appendChild(answerTd);
-
-                const correctTd = document.createElement('td');
-                correctTd.textContent = row.correct ? '○' : '×';
-                tr.appendChild(correctTd);
-
-                tbody.appendChild(tr);
-            });
+            renderRows(monitor, data);
         })
         .catch(err => {
             console.error('回答取得エラー', err);
@@ -80,12 +57,96 @@ export function refreshQuizAnswerMonitor(questionId) {
         });
 }
 
+function renderRows(monitor, data) {
+    const tbody = monitor.querySelector('tbody');
+    if (!tbody) {
+        return;
+    }
+    while (tbody.firstChild) {
+        tbody.removeChild(tbody.firstChild);
+    }
+    if (data.length === 0) {
+        const row = document.createElement('tr');
+        const cell = document.createElement('td');
+        cell.colSpan = 3;
+        cell.textContent = '回答なし';
+        row.appendChild(cell);
+        tbody.appendChild(row);
+        return;
+    }
+    data.forEach(row => {
+        const tr = document.createElement('tr');
+
+        const studentTd = document.createElement('td');
+        studentTd.textContent = row.studentName;
+        tr.appendChild(studentTd);
+
+        const answerTd = document.createElement('td');
+        answerTd.textContent = row.answerText ?? '';
+        tr.appendChild(answerTd);
+
+        const correctTd = document.createElement('td');
+        correctTd.textContent = row.correct ? '○' : '×';
+        tr.appendChild(correctTd);
+
+        tbody.appendChild(tr);
+    });
+}
+
+function applyFrame(questionId, frame) {
+    const monitor = document.querySelector(`.quiz-answer-monitor[data-question-id="${questionId}"]`);
+    const answers = liveAnswers.get(questionId);
+    if (!monitor || !answers) {
+        return;
+    }
+    (frame.newAnswers || []).forEach(entry => {
+        const key = `${entry.studentId}:${entry.questionId}`;
+        const current = answers.get(key);
+        if (!current || current.answeredAt <= entry.answeredAt) {
+            answers.set(key, entry);
+        }
+    });
+    renderRows(monitor, Array.from(answers.values()));
+}
+
+function connectLive(questionIds) {
+    const socket = new SockJS('/ws');
+    const stompClient = Stomp.over(socket);
+    stompClient.debug = null;
+    stompClient.connect({}, () => {
+        questionIds.forEach(questionId => {
+            liveAnswers.set(questionId, new Map());
+            stompClient.subscribe(`/topic/answers/${questionId}/delta`, message => {
+                applyFrame(questionId, JSON.parse(message.body));
+            });
+            // 購読時に現在の回答状態をスナップショットとして受信
+            stompClient.subscribe(`/app/answers/${questionId}`, message => {
+                applyFrame(questionId, JSON.parse(message.body));
+            });
+        });
+    }, () => {
+        questionIds.forEach(questionId => {
+            liveAnswers.delete(questionId);
+            refreshQuizAnswerMonitor(questionId);
+        });
+    });
+}
+
 document.addEventListener('DOMContentLoaded', () => {
     const monitors = document.querySelectorAll('.quiz-answer-monitor');
+    const questionIds = [];
     monitors.forEach(monitor => {
         const questionId = monitor.dataset.questionId;
         if (questionId) {
-            refreshQuizAnswerMonitor(questionId);
+            questionIds.push(questionId);
         }
     });
+    if (questionIds.length === 0) {
+        return;
+    }
+    if (typeof SockJS !== 'undefined' && typeof Stomp !== 'undefined') {
+        connectLive(questionIds);
+    } else {
+        questionIds.forEach(questionId => refreshQuizAnswerMonitor(questionId));
+    }
 });
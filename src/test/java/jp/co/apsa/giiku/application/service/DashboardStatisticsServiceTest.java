@@ -0,0 +1,181 @@
+package jp.co.apsa.giiku.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import jp.co.apsa.giiku.domain.entity.Company;
+import jp.co.apsa.giiku.domain.event.EnrollmentChangedEvent;
+import jp.co.apsa.giiku.domain.event.QuizChangedEvent;
+import jp.co.apsa.giiku.domain.event.StudentChangedEvent;
+import jp.co.apsa.giiku.domain.event.UserChangedEvent;
+import jp.co.apsa.giiku.domain.repository.CompanyRepository;
+import jp.co.apsa.giiku.domain.repository.QuizRepository;
+import jp.co.apsa.giiku.domain.repository.StudentEnrollmentRepository;
+import jp.co.apsa.giiku.domain.repository.StudentProfileRepository;
+import jp.co.apsa.giiku.domain.repository.UserRepository;
+import jp.co.apsa.giiku.dto.DashboardStatistics;
+
+/**
+ * DashboardStatisticsService のテストクラス。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardStatisticsService テスト")
+class DashboardStatisticsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private StudentProfileRepository studentProfileRepository;
+
+    @Mock
+    private StudentEnrollmentRepository studentEnrollmentRepository;
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private DashboardStatisticsService service;
+
+    @BeforeEach
+    void setUp() {
+        Company company = new Company();
+        company.setId(1L);
+        company.setName("アプサ");
+        when(userRepository.count()).thenReturn(10L);
+        when(companyRepository.findAll()).thenReturn(List.of(company));
+        when(studentProfileRepository.countGroupByCompanyIdAndEnrollmentStatus()).thenReturn(rows(
+                new Object[] {1L, "ENROLLED", 3L},
+                new Object[] {1L, "GRADUATED", 1L},
+                new Object[] {null, "ENROLLED", 2L}));
+        when(studentEnrollmentRepository.countGroupByCompanyIdAndEnrollmentStatus()).thenReturn(rows(
+                new Object[] {1L, "IN_PROGRESS", 2L},
+                new Object[] {1L, "COMPLETED", 1L}));
+        when(quizRepository.summarizeGroupByCompanyIdAndStatus()).thenReturn(rows(
+                new Object[] {1L, "IN_PROGRESS", 1L, 0L, null, 0L},
+                new Object[] {1L, "GRADED", 2L, 2L, 150.0, 1L}));
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    @Test
+    @DisplayName("初回参照時にDBから集計し、以降はDBにアクセスしない")
+    void loadsLazilyOnFirstRead() {
+        assertThat(service.getUserCount()).isEqualTo(10L);
+
+        DashboardStatistics stats = service.getCompanyStatistics(1L);
+        assertThat(stats.getTotalStudents()).isEqualTo(4L);
+        assertThat(stats.getActiveStudents()).isEqualTo(3L);
+        assertThat(stats.getActiveEnrollments()).isEqualTo(2L);
+        assertThat(stats.getCompletedEnrollments()).isEqualTo(1L);
+        assertThat(stats.getQuizzesInProgress()).isEqualTo(1L);
+        assertThat(stats.getQuizzesCompleted()).isEqualTo(2L);
+        assertThat(stats.getAverageScore()).isEqualByComparingTo(new BigDecimal("75.00"));
+        assertThat(stats.getPassRate()).isEqualByComparingTo(new BigDecimal("50.00"));
+
+        assertThat(service.getOverallStatistics().getActiveStudents()).isEqualTo(5L);
+        assertThat(service.getActiveStudentsByCompany()).containsOnlyKeys("アプサ").containsEntry("アプサ", 3L);
+        verify(userRepository, times(1)).count();
+        verify(quizRepository, times(1)).summarizeGroupByCompanyIdAndStatus();
+    }
+
+    @Test
+    @DisplayName("クイズの採点イベントで件数・平均点・合格率が更新される")
+    void appliesQuizChange() {
+        service.getUserCount();
+
+        service.onQuizChanged(new QuizChangedEvent(
+                new QuizChangedEvent.Snapshot(1L, 5L, 3L, "IN_PROGRESS", null, false),
+                new QuizChangedEvent.Snapshot(1L, 5L, 3L, "GRADED", 90.0, true)));
+
+        DashboardStatistics stats = service.getCompanyStatistics(1L);
+        assertThat(stats.getQuizzesInProgress()).isZero();
+        assertThat(stats.getQuizzesCompleted()).isEqualTo(3L);
+        assertThat(stats.getAverageScore()).isEqualByComparingTo(new BigDecimal("80.00"));
+        assertThat(stats.getPassRate()).isEqualByComparingTo(new BigDecimal("66.67"));
+    }
+
+    @Test
+    @DisplayName("学生・受講登録・ユーザーのイベントで差分が反映される")
+    void appliesStudentEnrollmentAndUserChanges() {
+        service.getUserCount();
+
+        service.onStudentChanged(new StudentChangedEvent(
+                new StudentChangedEvent.Snapshot(1L, "ENROLLED"),
+                new StudentChangedEvent.Snapshot(1L, "GRADUATED")));
+        service.onEnrollmentChanged(new EnrollmentChangedEvent(null,
+                new EnrollmentChangedEvent.Snapshot(1L, "ENROLLED")));
+        service.onUserChanged(UserChangedEvent.created(11L, "new-user"));
+        service.onUserChanged(UserChangedEvent.updated(11L, "new-user"));
+
+        DashboardStatistics stats = service.getCompanyStatistics(1L);
+        assertThat(stats.getTotalStudents()).isEqualTo(4L);
+        assertThat(stats.getActiveStudents()).isEqualTo(2L);
+        assertThat(stats.getTotalEnrollments()).isEqualTo(4L);
+        assertThat(stats.getActiveEnrollments()).isEqualTo(3L);
+        assertThat(service.getUserCount()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("突き合わせでイベントを経由しない変更がDBの集計値に補正される")
+    void reconcileReplacesDriftedCounters() {
+        service.getUserCount();
+        when(userRepository.count()).thenReturn(12L);
+
+        service.reconcile();
+
+        assertThat(service.getUserCount()).isEqualTo(12L);
+        assertThat(service.getCompanyStatistics(2L).getTotalStudents()).isZero();
+        assertThat(service.getCompanyStatistics(1L).getReconciledAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("突き合わせのスナップショット取得前に通知されたイベントは二重に数えず、取得後のイベントは反映する")
+    void reconcileReplaysOnlyEventsAfterSnapshot() {
+        service.getUserCount();
+        // 最初のクエリ（スナップショット取得）中に通知されたイベントはDBの集計値に含まれる
+        when(userRepository.count()).thenAnswer(invocation -> {
+            service.onUserChanged(UserChangedEvent.created(11L, "before-snapshot"));
+            return 11L;
+        });
+        // 以降のクエリ中に通知されたイベントはスナップショットに含まれない
+        Company company = new Company();
+        company.setId(1L);
+        company.setName("アプサ");
+        when(companyRepository.findAll()).thenAnswer(invocation -> {
+            service.onUserChanged(UserChangedEvent.created(12L, "after-snapshot"));
+            return List.of(company);
+        });
+
+        service.reconcile();
+
+        assertThat(service.getUserCount()).isEqualTo(12L);
+    }
+}
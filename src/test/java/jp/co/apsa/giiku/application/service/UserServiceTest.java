@@ -0,0 +1,178 @@
+package jp.co.apsa.giiku.application.service;
+
+import jp.co.apsa.giiku.config.SecurityAuditorAware;
+import jp.co.apsa.giiku.domain.entity.User;
+import jp.co.apsa.giiku.domain.event.UserChangedEvent;
+import jp.co.apsa.giiku.domain.repository.UserRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link UserService} と認証情報キャッシュのテストクラス。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserService Tests")
+class UserServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserPrincipalCache cache;
+
+    private UserService service;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserPrincipalCache(new SimpleMeterRegistry(), 2, 300);
+        service = new UserService(userRepository, cache, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static User user(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setPassword("$2a$10$hash");
+        user.setCompanyId(3L);
+        user.setRole("TRAINEE");
+        return user;
+    }
+
+    @Test
+    @DisplayName("2回目以降のログインはキャッシュからユーザーIDを持つプリンシパルを返す")
+    void loadUserByUsernameIsCached() {
+        when(userRepository.findByUsername("taro")).thenReturn(Optional.of(user(10L, "taro")));
+
+        UserDetails first = service.loadUserByUsername("taro");
+        UserDetails second = service.loadUserByUsername("taro");
+
+        verify(userRepository, times(1)).findByUsername("taro");
+        assertThat(first).isInstanceOf(LoginUser.class).isNotSameAs(second);
+        LoginUser principal = (LoginUser) second;
+        assertThat(principal.getUserId()).isEqualTo(10L);
+        assertThat(principal.getCompanyId()).isEqualTo(3L);
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_TRAINEE");
+    }
+
+    @Test
+    @DisplayName("認証後にパスワードが消去されてもキャッシュの内容は変わらない")
+    void erasedCredentialsDoNotLeakIntoCache() {
+        when(userRepository.findByUsername("taro")).thenReturn(Optional.of(user(10L, "taro")));
+
+        ((LoginUser) service.loadUserByUsername("taro")).eraseCredentials();
+
+        assertThat(service.loadUserByUsername("taro").getPassword()).isEqualTo("$2a$10$hash");
+    }
+
+    @Test
+    @DisplayName("存在しないユーザーは UsernameNotFoundException")
+    void unknownUserThrows() {
+        when(userRepository.findByUsername("nobody")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.loadUserByUsername("nobody"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("ユーザー名の変更時は旧ユーザー名のエントリもユーザーIDで破棄する")
+    void userChangedEvictsByUserId() {
+        when(userRepository.findByUsername("taro")).thenReturn(Optional.of(user(10L, "taro")));
+        service.loadUserByUsername("taro");
+
+        cache.onUserChanged(UserChangedEvent.updated(10L, "jiro"));
+
+        assertThat(cache.size()).isZero();
+        service.loadUserByUsername("taro");
+        verify(userRepository, times(2)).findByUsername("taro");
+    }
+
+    @Test
+    @DisplayName("読込中に破棄されたユーザーは古い内容で保存しない")
+    void evictDuringLoadIsNotOverwritten() {
+        when(userRepository.findByUsername("taro")).thenAnswer(invocation -> {
+            cache.evict(10L, "taro");
+            return Optional.of(user(10L, "taro"));
+        });
+
+        assertThat(service.loadUserByUsername("taro")).isNotNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("上限を超えると最も古く参照されたエントリを破棄し、期限切れは再読込する")
+    void boundedAndExpiring() {
+        when(userRepository.findByUsername(anyString()))
+                .thenAnswer(invocation -> Optional.of(user(1L, invocation.getArgument(0))));
+        service.loadUserByUsername("a");
+        service.loadUserByUsername("b");
+        service.loadUserByUsername("a");
+        service.loadUserByUsername("c");
+
+        assertThat(cache.size()).isEqualTo(2);
+        service.loadUserByUsername("b");
+        verify(userRepository, times(2)).findByUsername("b");
+
+        UserPrincipalCache expiring = new UserPrincipalCache(new SimpleMeterRegistry(), 10, 0);
+        UserService expiringService = new UserService(userRepository, expiring, transactionManager);
+        expiringService.loadUserByUsername("d");
+        expiringService.loadUserByUsername("d");
+        verify(userRepository, times(2)).findByUsername("d");
+    }
+
+    @Test
+    @DisplayName("監査ユーザーはプリンシパルのユーザーIDをDBを参照せずに返す")
+    void auditorReadsPrincipalWithoutQuery() {
+        LoginUser principal = cache.get("taro", name -> user(10L, name)).toPrincipal();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        assertThat(new SecurityAuditorAware(service).getCurrentAuditor()).contains(10L);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("ユーザー名だけの認証はキャッシュ経由で解決し、未認証は空を返す")
+    void auditorFallsBackToUsername() {
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(user(1L, "admin")));
+        SecurityAuditorAware auditorAware = new SecurityAuditorAware(service);
+
+        assertThat(auditorAware.getCurrentAuditor()).isEmpty();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("admin", null, List.of()));
+        assertThat(auditorAware.getCurrentAuditor()).contains(1L);
+        assertThat(auditorAware.getCurrentAuditor()).contains(1L);
+        verify(userRepository, times(1)).findByUsername("admin");
+    }
+}
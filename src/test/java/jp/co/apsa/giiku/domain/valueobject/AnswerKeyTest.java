@@ -0,0 +1,41 @@
+package jp.co.apsa.giiku.domain.valueobject;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link AnswerKey} のユニットテスト。
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+class AnswerKeyTest {
+
+    @Test
+    @DisplayName("正規化: 空白除去・小文字化・空要素除外")
+    void testNormalize() {
+        AnswerKey key = AnswerKey.of(" B, a ,,", "解説");
+        assertThat(key.getCorrectAnswers()).containsExactly("a", "b");
+        assertThat(key.getExplanation()).isEqualTo("解説");
+    }
+
+    @Test
+    @DisplayName("複数選択は順序に依存せず判定")
+    void testMatches() {
+        AnswerKey key = AnswerKey.of("A,C", null);
+        assertThat(key.matches("c, a")).isTrue();
+        assertThat(key.matches("A")).isFalse();
+        assertThat(key.matches(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("正解未設定の場合は常に不正解")
+    void testEmptyKey() {
+        AnswerKey key = AnswerKey.of(null, null);
+        assertThat(key.matches("")).isFalse();
+        assertThatThrownBy(() -> key.getCorrectAnswers().add("x"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
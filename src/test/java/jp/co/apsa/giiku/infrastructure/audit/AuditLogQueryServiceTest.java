@@ -0,0 +1,168 @@
+package jp.co.apsa.giiku.infrastructure.audit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import jp.co.apsa.giiku.domain.entity.AuditLog;
+import jp.co.apsa.giiku.dto.AuditLogPageDto;
+import jp.co.apsa.giiku.dto.AuditLogSearchDto;
+
+/**
+ * AuditLogQueryService のテストクラス。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@SpringBootTest(properties = {
+    // audit_logs テーブルの jsonb 列を H2 で作成するためのドメイン定義
+    "spring.datasource.url=jdbc:h2:mem:auditquery;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;INIT=CREATE DOMAIN IF NOT EXISTS JSONB AS JSON",
+    "audit.export.fetch-size=4"
+})
+@ActiveProfiles("test")
+public class AuditLogQueryServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 4, 1, 9, 0);
+
+    @Autowired
+    private AuditLogQueryService auditLogQueryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 10分おきに20件（偶数番目は users / UPDATE、奇数番目は lectures / INSERT）を登録します。
+     * 同一時刻の行も含め、(created_at, id) の順序で辿れることを確認するため2件ずつ同じ時刻にします。
+     */
+    @BeforeEach
+    public void setUp() {
+        for (int i = 0; i < 20; i++) {
+            boolean even = i % 2 == 0;
+            insertLog(even ? "users" : "lectures", even ? "UPDATE" : "INSERT", even ? 1L : 2L,
+                    BASE.plusMinutes((i / 2) * 10L));
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM audit_logs");
+    }
+
+    private void insertLog(String tableName, String operationType, long createdBy, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO audit_logs (table_name, operation_type, record_id, changed_by, "
+                + "change_timestamp, created_by, created_at, updated_by, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                tableName, operationType, 1L, "admin, \"root\"", Timestamp.valueOf(createdAt), createdBy,
+                Timestamp.valueOf(createdAt), createdBy, Timestamp.valueOf(createdAt));
+    }
+
+    /**
+     * カーソルで全ページを辿ると、重複・欠落なく新しい順に取得できることを検証します。
+     */
+    @Test
+    public void testFindPageWalksAllRowsWithCursor() {
+        List<AuditLog> all = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            AuditLogPageDto page = auditLogQueryService.findPage(null, cursor, 6);
+            all.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(4, pages);
+        assertEquals(20, all.size());
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < all.size(); i++) {
+            assertTrue(ids.add(all.get(i).getId()));
+            if (i > 0) {
+                AuditLog prev = all.get(i - 1);
+                AuditLog curr = all.get(i);
+                int cmp = prev.getCreatedAt().compareTo(curr.getCreatedAt());
+                assertTrue(cmp > 0 || (cmp == 0 && prev.getId() > curr.getId()));
+            }
+        }
+    }
+
+    /**
+     * 指定した条件だけが適用されることを検証します。
+     */
+    @Test
+    public void testFindPageAppliesSuppliedFiltersOnly() {
+        AuditLogSearchDto criteria = new AuditLogSearchDto();
+        criteria.setTableName("users");
+        criteria.setOperationType("");
+        criteria.setFrom(BASE.plusMinutes(30));
+
+        AuditLogPageDto page = auditLogQueryService.findPage(criteria, null, 50);
+
+        assertEquals(7, page.getItems().size());
+        assertFalse(page.isHasNext());
+        assertTrue(page.getItems().stream().allMatch(log -> "users".equals(log.getTableName())));
+
+        criteria = new AuditLogSearchDto();
+        criteria.setCreatedBy(2L);
+        criteria.setTo(BASE.plusMinutes(20));
+        assertEquals(2, auditLogQueryService.findPage(criteria, null, 50).getItems().size());
+    }
+
+    /**
+     * 不正なカーソル・ページサイズは IllegalArgumentException になることを検証します。
+     */
+    @Test
+    public void testFindPageRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> auditLogQueryService.findPage(null, "invalid", 10));
+        assertThrows(IllegalArgumentException.class, () -> auditLogQueryService.findPage(null, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> auditLogQueryService.findPage(null, null, AuditLogQueryService.MAX_PAGE_SIZE + 1));
+    }
+
+    /**
+     * NDJSON・CSV で全件が出力されることを検証します。
+     */
+    @Test
+    public void testExport() {
+        AuditLogSearchDto criteria = new AuditLogSearchDto();
+        criteria.setOperationType("INSERT");
+
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        assertEquals(10, auditLogQueryService.export(criteria, AuditLogQueryService.ExportFormat.NDJSON, ndjson));
+        String[] lines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(10, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":"));
+        assertTrue(lines[0].contains("\"operationType\":\"INSERT\""));
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        assertEquals(20, auditLogQueryService.export(null, AuditLogQueryService.ExportFormat.CSV, csv));
+        String[] rows = csv.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(21, rows.length);
+        assertTrue(rows[0].startsWith("id,table_name,operation_type"));
+        assertTrue(rows[1].contains(",\"admin, \"\"root\"\"\","));
+    }
+
+    /**
+     * エクスポート形式の解析を検証します。
+     */
+    @Test
+    public void testExportFormatOf() {
+        assertEquals(AuditLogQueryService.ExportFormat.CSV, AuditLogQueryService.ExportFormat.of("csv"));
+        assertEquals(AuditLogQueryService.ExportFormat.NDJSON, AuditLogQueryService.ExportFormat.of("NDJSON"));
+        assertThrows(IllegalArgumentException.class, () -> AuditLogQueryService.ExportFormat.of("xml"));
+    }
+}
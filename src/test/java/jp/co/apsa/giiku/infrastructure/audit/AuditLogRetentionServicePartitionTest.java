@@ -0,0 +1,85 @@
+package jp.co.apsa.giiku.infrastructure.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link AuditLogRetentionService} のパーティション経路のテストクラス。
+ * PostgreSQL のパーティション化された audit_logs を JdbcTemplate のモックで再現します。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditLogRetentionService Partition Tests")
+class AuditLogRetentionServicePartitionTest {
+
+    private static final String CREATE_PARTITION_SQL = "SELECT public.create_audit_log_partition(?)";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private AuditLogRetentionService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        service = new AuditLogRetentionService(jdbcTemplate, new SimpleMeterRegistry());
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+        when(jdbcTemplate.queryForObject(contains("pg_partitioned_table"), eq(Integer.class))).thenReturn(1);
+        // 当月は DEFAULT パーティションに該当月の行が残っているため作成に失敗する
+        when(jdbcTemplate.queryForObject(eq(CREATE_PARTITION_SQL), eq(String.class), any())).thenAnswer(invocation -> {
+            Date month = invocation.getArgument(2);
+            if (YearMonth.from(month.toLocalDate()).equals(YearMonth.now())) {
+                throw new DataIntegrityViolationException("updated partition constraint for default partition would be violated");
+            }
+            return "created";
+        });
+    }
+
+    @Test
+    @DisplayName("削除を先に行い、作成できない月があっても他の月のパーティション作成を続ける")
+    void purgeRunsBeforeBestEffortPartitionCreation() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenReturn(List.of("audit_logs_p202301", "audit_logs_default"));
+        LocalDateTime cutoff = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        AuditLogRetentionService.PurgeResult result = service.purgeBefore(cutoff);
+
+        assertThat(result.getRemovedPartitions()).containsExactly("audit_logs_p202301");
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_p202301");
+        inOrder.verify(jdbcTemplate).execute("DROP TABLE audit_logs_p202301");
+        inOrder.verify(jdbcTemplate).update(startsWith("DELETE FROM audit_logs"), any(), any());
+        inOrder.verify(jdbcTemplate).update(startsWith("DELETE FROM audit_log_hourly_rollups"), any());
+        inOrder.verify(jdbcTemplate, times(4)).queryForObject(eq(CREATE_PARTITION_SQL), eq(String.class), any());
+        verify(jdbcTemplate, never()).execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_default");
+    }
+
+    @Test
+    @DisplayName("作成できなかった月を返し、例外は送出しない")
+    void ensurePartitionsReportsFailedMonths() {
+        assertThat(service.ensurePartitions()).containsExactly(YearMonth.now());
+        verify(jdbcTemplate, times(4)).queryForObject(eq(CREATE_PARTITION_SQL), eq(String.class), any());
+    }
+}
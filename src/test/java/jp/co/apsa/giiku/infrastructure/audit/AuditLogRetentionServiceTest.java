@@ -0,0 +1,82 @@
+package jp.co.apsa.giiku.infrastructure.audit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * AuditLogRetentionService のテストクラス。
+ * H2 ではパーティションが利用できないため、チャンク削除による動作を検証します。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@SpringBootTest(properties = {
+    // audit_logs テーブルの jsonb 列を H2 で作成するためのドメイン定義
+    "spring.datasource.url=jdbc:h2:mem:auditretention;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;INIT=CREATE DOMAIN IF NOT EXISTS JSONB AS JSON",
+    "audit.retention.batch-size=5",
+    "audit.retention.chunk-pause-ms=0"
+})
+@ActiveProfiles("test")
+public class AuditLogRetentionServiceTest {
+
+    @Autowired
+    private AuditLogRetentionService auditLogRetentionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM audit_logs");
+    }
+
+    private void insertLog(LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO audit_logs (table_name, operation_type, record_id, changed_by, "
+                + "change_timestamp, created_by, created_at, updated_by, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                "users", "UPDATE", 1L, "admin", Timestamp.valueOf(createdAt), 1L, Timestamp.valueOf(createdAt),
+                1L, Timestamp.valueOf(createdAt));
+    }
+
+    /**
+     * 境界日時より前の行だけがバッチサイズ単位で削除されることを検証します。
+     */
+    @Test
+    public void testPurgeDeletesOldRowsInChunks() {
+        LocalDateTime cutoff = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int i = 0; i < 12; i++) {
+            insertLog(cutoff.minusDays(i + 1));
+        }
+        for (int i = 0; i < 3; i++) {
+            insertLog(cutoff.plusHours(i));
+        }
+
+        AuditLogRetentionService.PurgeResult result = auditLogRetentionService.purgeBefore(cutoff);
+
+        assertEquals(12, result.getDeletedRows());
+        assertTrue(result.getRemovedPartitions().isEmpty());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_logs", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM audit_logs WHERE created_at < ?", Integer.class, Timestamp.valueOf(cutoff)));
+    }
+
+    /**
+     * 月パーティション名から対象月を判定できることを検証します。
+     */
+    @Test
+    public void testPartitionMonth() {
+        assertEquals(YearMonth.of(2024, 3), AuditLogRetentionService.partitionMonth("audit_logs_p202403"));
+        assertNull(AuditLogRetentionService.partitionMonth("audit_logs_default"));
+        assertNull(AuditLogRetentionService.partitionMonth("audit_logs_p2024"));
+    }
+}
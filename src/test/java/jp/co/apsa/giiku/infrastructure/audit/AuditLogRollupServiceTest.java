@@ -0,0 +1,175 @@
+package jp.co.apsa.giiku.infrastructure.audit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import jp.co.apsa.giiku.domain.repository.AuditLogRepository;
+
+/**
+ * AuditLogRollupService と時間別集計を使った件数レポートのテストクラス。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@SpringBootTest(properties = {
+    // audit_logs テーブルの jsonb 列を H2 で作成するためのドメイン定義
+    "spring.datasource.url=jdbc:h2:mem:auditrollup;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;INIT=CREATE DOMAIN IF NOT EXISTS JSONB AS JSON"
+})
+@ActiveProfiles("test")
+public class AuditLogRollupServiceTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 4, 1, 0, 0);
+
+    @Autowired
+    private AuditLogRollupService auditLogRollupService;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        insertLog("users", "UPDATE", 1L, at(9, 10));
+        insertLog("users", "INSERT", 2L, at(9, 50));
+        insertLog("lectures", "UPDATE", 1L, at(10, 0));
+        insertLog("users", "UPDATE", 1L, at(10, 20));
+        insertLog("users", "DELETE", 2L, at(10, 59).plusSeconds(59));
+        insertLog("lectures", "INSERT", 1L, at(11, 5));
+        insertLog("users", "UPDATE", 2L, at(11, 59));
+        insertLog("users", "UPDATE", 1L, at(12, 30));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        auditLogRollupService.reset();
+        jdbcTemplate.update("DELETE FROM audit_logs");
+    }
+
+    private static LocalDateTime at(int hour, int minute) {
+        return DAY.withHour(hour).withMinute(minute);
+    }
+
+    private void insertLog(String tableName, String operationType, long createdBy, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO audit_logs (table_name, operation_type, record_id, changed_by, "
+                + "change_timestamp, created_by, created_at, updated_by, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                tableName, operationType, 1L, "admin", Timestamp.valueOf(createdAt), createdBy,
+                Timestamp.valueOf(createdAt), createdBy, Timestamp.valueOf(createdAt));
+    }
+
+    private Map<Object, Long> rawCounts(String column, LocalDateTime start, LocalDateTime end) {
+        Map<Object, Long> counts = new TreeMap<>();
+        jdbcTemplate.query("SELECT " + column + ", COUNT(*) FROM audit_logs "
+                + "WHERE created_at >= ? AND created_at <= ? GROUP BY " + column,
+                rs -> {
+                    counts.put(rs.getObject(1), rs.getLong(2));
+                },
+                Timestamp.valueOf(start), Timestamp.valueOf(end));
+        return counts;
+    }
+
+    private static Map<Object, Long> toMap(List<Object[]> rows) {
+        Map<Object, Long> counts = new TreeMap<>();
+        for (Object[] row : rows) {
+            counts.put(row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    /**
+     * 確定した時間帯だけが集計され、再実行しても重複しないことを検証します。
+     */
+    @Test
+    public void testRollUpUntilIsIncrementalAndIdempotent() {
+        assertEquals(3, auditLogRollupService.rollUpUntil(at(12, 10)));
+        assertEquals(0, auditLogRollupService.rollUpUntil(at(12, 10)));
+
+        assertEquals(7L, jdbcTemplate.queryForObject(
+                "SELECT SUM(event_count) FROM audit_log_hourly_rollups", Long.class));
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "SELECT event_count FROM audit_log_hourly_rollups WHERE bucket_start = ? "
+                + "AND operation_type = 'UPDATE' AND created_by = 1 AND table_name = 'users'",
+                Long.class, Timestamp.valueOf(at(9, 0))));
+
+        assertEquals(1, auditLogRollupService.rollUpUntil(at(13, 0)));
+        assertEquals(8L, jdbcTemplate.queryForObject(
+                "SELECT SUM(event_count) FROM audit_log_hourly_rollups", Long.class));
+    }
+
+    /**
+     * 集計の有無・範囲の端数にかかわらず、生データと同じ件数が得られることを検証します。
+     */
+    @Test
+    public void testReportCountsMatchRawRows() {
+        auditLogRollupService.rollUpUntil(at(12, 0));
+
+        LocalDateTime[][] ranges = {
+            {at(9, 0), at(12, 0)},
+            {at(9, 30), at(11, 30)},
+            {at(8, 0), at(13, 0)},
+            {at(10, 0), at(10, 0)},
+            {at(10, 59), at(11, 0)}
+        };
+        for (LocalDateTime[] range : ranges) {
+            Map<Object, Long> byOperation = rawCounts("operation_type", range[0], range[1]);
+            assertEquals(byOperation,
+                    toMap(auditLogRepository.countByOperationTypeAndCreatedAtBetween(range[0], range[1])));
+            assertEquals(rawCounts("created_by", range[0], range[1]),
+                    toMap(auditLogRepository.countByCreatedByAndCreatedAtBetween(range[0], range[1])));
+            assertEquals(byOperation.values().stream().mapToLong(Long::longValue).sum(),
+                    auditLogRepository.countByCreatedAtBetween(range[0], range[1]));
+        }
+    }
+
+    /**
+     * 集計済みの時間帯は生データではなく集計テーブルから数えることを検証します。
+     */
+    @Test
+    public void testAlignedRangeIsServedFromRollups() {
+        auditLogRollupService.rollUpUntil(at(12, 0));
+        jdbcTemplate.update("DELETE FROM audit_logs WHERE created_at = ?", Timestamp.valueOf(at(10, 20)));
+
+        List<Object[]> rows = auditLogRepository.countByOperationTypeAndCreatedAtBetween(at(10, 0), at(10, 59));
+
+        assertEquals(1, auditLogRepository.countByCreatedAtBetween(at(10, 30), at(10, 59).plusSeconds(59)));
+        assertEquals(3, auditLogRepository.countByCreatedAtBetween(at(10, 0), at(11, 0)));
+        assertEquals("UPDATE", rows.get(0)[0]);
+        assertEquals(1L, rows.get(0)[1]);
+    }
+
+    /**
+     * 集計済みの時間帯に後から追加された行が次回の集計で再集計されることを検証します。
+     */
+    @Test
+    public void testLateRowsInRolledUpHoursAreReRolled() {
+        assertEquals(3, auditLogRollupService.rollUpUntil(at(12, 0)));
+        insertLog("users", "DELETE", 3L, at(9, 40));
+        // 再集計までは集計済みの件数を返す（9時台の2件と10:00ちょうどの1件）
+        assertEquals(3, auditLogRepository.countByCreatedAtBetween(at(9, 0), at(10, 0)));
+
+        assertEquals(1, auditLogRollupService.rollUpUntil(at(12, 0)));
+        assertEquals(4, auditLogRepository.countByCreatedAtBetween(at(9, 0), at(10, 0)));
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "SELECT event_count FROM audit_log_hourly_rollups WHERE bucket_start = ? AND created_by = 3",
+                Long.class, Timestamp.valueOf(at(9, 0))));
+
+        // 件数が一致している時間帯は再集計しない
+        assertEquals(0, auditLogRollupService.rollUpUntil(at(12, 0)));
+        assertEquals(0, auditLogRollupService.rollUpUntil(at(12, 0)));
+    }
+}
@@ -0,0 +1,217 @@
+package jp.co.apsa.giiku.infrastructure.audit;
+
+import jp.co.apsa.giiku.domain.valueobject.AuditEvent;
+import jp.co.apsa.giiku.domain.valueobject.LogLevel;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link AuditLogWriter} と {@link AuditRingBuffer} のテストクラス。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditLogWriter Tests")
+class AuditLogWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AuditLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new AuditLogWriter(jdbcTemplate, meterRegistry, 8, 1.0);
+        ReflectionTestUtils.setField(writer, "batchSize", 4);
+        ReflectionTestUtils.setField(writer, "flushIntervalMs", 10_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(writer, "running", false);
+    }
+
+    /** 書き込みスレッドを起動せずに非同期モードにする */
+    private void runWithoutWriterThread() {
+        ReflectionTestUtils.setField(writer, "running", true);
+    }
+
+    private static AuditEvent event(long recordId) {
+        return AuditEvent.of("users", "UPDATE", recordId, null, "{}", "admin", 1L);
+    }
+
+    private double events(String result) {
+        return meterRegistry.get("giiku.audit.events").tag("result", result).functionCounter().count();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<List<AuditEvent>> writtenBatches(int times) {
+        ArgumentCaptor<Collection> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(times)).batchUpdate(anyString(), captor.capture(), anyInt(), any());
+        List<List<AuditEvent>> batches = new ArrayList<>();
+        for (Collection batch : captor.getAllValues()) {
+            batches.add(new ArrayList<>(batch));
+        }
+        return batches;
+    }
+
+    @Test
+    @DisplayName("満杯時は新しいイベントを破棄し、停止時に残りをバッチで書き込む")
+    void dropsNewestAndDrainsOnStop() {
+        runWithoutWriterThread();
+        for (long i = 1; i <= 10; i++) {
+            writer.enqueue(event(i));
+        }
+
+        assertThat(writer.depth()).isEqualTo(8);
+        assertThat(events("accepted")).isEqualTo(8.0);
+        assertThat(events("dropped")).isEqualTo(2.0);
+        assertThat(meterRegistry.get("giiku.audit.buffer.depth").gauge().value()).isEqualTo(8.0);
+
+        writer.stop();
+
+        List<List<AuditEvent>> batches = writtenBatches(2);
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSize(4));
+        assertThat(batches.get(0).get(0).getRecordId()).isEqualTo(1L);
+        assertThat(writer.depth()).isZero();
+        assertThat(events("written")).isEqualTo(8.0);
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST では古いイベントから破棄する")
+    void dropsOldest() {
+        ReflectionTestUtils.setField(writer, "overflowPolicy", AuditLogWriter.OverflowPolicy.DROP_OLDEST);
+        runWithoutWriterThread();
+        for (long i = 1; i <= 10; i++) {
+            writer.enqueue(event(i));
+        }
+        writer.flush();
+
+        List<List<AuditEvent>> batches = writtenBatches(2);
+        assertThat(batches.get(0).get(0).getRecordId()).isEqualTo(3L);
+        assertThat(batches.get(1).get(3).getRecordId()).isEqualTo(10L);
+        assertThat(events("dropped")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("高水位を超えると DEBUG のアプリケーションログは受け付けない")
+    void shedsLowPriorityAboveHighWatermark() {
+        writer = new AuditLogWriter(jdbcTemplate, meterRegistry = new SimpleMeterRegistry(), 8, 0.5);
+        runWithoutWriterThread();
+        for (long i = 1; i <= 4; i++) {
+            writer.enqueue(event(i));
+        }
+
+        assertThat(writer.enqueue(AuditEvent.message(LogLevel.DEBUG, "詳細", null))).isFalse();
+        assertThat(writer.enqueue(AuditEvent.message(LogLevel.ERROR, "障害", null))).isTrue();
+        assertThat(events("shed")).isEqualTo(1.0);
+        assertThat(writer.depth()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("書き込みスレッドがバッチ単位で書き込む")
+    void writerThreadFlushesBatches() throws Exception {
+        writer.start();
+        for (long i = 1; i <= 4; i++) {
+            writer.enqueue(event(i));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (events("written") < 4.0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        writer.stop();
+
+        assertThat(events("written")).isEqualTo(4.0);
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("書き込みに失敗したイベントは失敗件数として記録する")
+    void countsFailedWrites() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenThrow(new org.springframework.dao.DataAccessResourceFailureException("down"));
+        runWithoutWriterThread();
+        writer.enqueue(event(1L));
+        writer.enqueue(event(2L));
+
+        assertThat(writer.flush()).isZero();
+        assertThat(events("failed")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("リングバッファは複数スレッドからの追加で要素を失わない")
+    void ringBufferIsSafeUnderContention() throws Exception {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(1000);
+        assertThat(buffer.capacity()).isEqualTo(1024);
+
+        int producers = 4;
+        int perProducer = 20_000;
+        Set<Integer> consumed = ConcurrentHashMap.newKeySet();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicBoolean producing = new AtomicBoolean(true);
+        CountDownLatch done = new CountDownLatch(producers);
+        ExecutorService executor = Executors.newFixedThreadPool(producers + 1);
+        try {
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        if (!buffer.offer(base + i)) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    done.countDown();
+                });
+            }
+            executor.submit(() -> {
+                List<Integer> batch = new ArrayList<>();
+                while (producing.get() || buffer.size() > 0) {
+                    batch.clear();
+                    buffer.drainTo(batch, 256);
+                    consumed.addAll(batch);
+                }
+            });
+            assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+            producing.set(false);
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(consumed.size() + rejected.get()).isEqualTo(producers * perProducer);
+        assertThat(buffer.poll()).isNull();
+    }
+}
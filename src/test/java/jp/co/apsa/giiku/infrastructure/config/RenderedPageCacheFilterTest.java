@@ -0,0 +1,138 @@
+package jp.co.apsa.giiku.infrastructure.config;
+
+import jp.co.apsa.giiku.service.RenderedPageCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@link RenderedPageCacheFilter} のテストクラス。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("RenderedPageCacheFilter Tests")
+class RenderedPageCacheFilterTest {
+
+    private RenderedPageCache cache;
+
+    private RenderedPageCacheFilter filter;
+
+    private final MockHttpSession session = new MockHttpSession();
+
+    private final AtomicInteger renders = new AtomicInteger();
+
+    /** コントローラーとテンプレートの代わりにCSRFトークン入りのHTMLを出力 */
+    private final FilterChain renderingChain = (request, response) -> {
+        renders.incrementAndGet();
+        CsrfToken token = (CsrfToken) request.getAttribute(CsrfToken.class.getName());
+        response.setContentType("text/html;charset=UTF-8");
+        response.getWriter().write("<meta name=\"_csrf\" content=\"" + token.getToken() + "\"><h1>1ヶ月目</h1>");
+    };
+
+    @BeforeEach
+    void setUp() {
+        cache = new RenderedPageCache(new SimpleMeterRegistry(), 100);
+        filter = new RenderedPageCacheFilter(cache);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "student", "n/a", List.of(new SimpleGrantedAuthority("ROLE_STUDENT"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletRequest request(String csrfToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/month/month1");
+        request.setSession(session);
+        request.setAttribute(CsrfToken.class.getName(), new DefaultCsrfToken("X-CSRF-TOKEN", "_csrf", csrfToken));
+        return request;
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, renderingChain);
+        return response;
+    }
+
+    @Test
+    @DisplayName("2回目以降は描画せずにキャッシュから返し、CSRFトークンはリクエストごとに差し替える")
+    void servesCachedPageWithCurrentCsrfToken() throws Exception {
+        MockHttpServletResponse first = perform(request("token-1"));
+        MockHttpServletResponse second = perform(request("token-2"));
+
+        assertThat(renders).hasValue(1);
+        assertThat(first.getContentAsString()).contains("token-1");
+        assertThat(second.getContentAsString()).contains("token-2").doesNotContain("token-1").contains("1ヶ月目");
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(first.getHeader(HttpHeaders.ETAG)).startsWith("\"");
+        assertThat(second.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("private, no-cache");
+    }
+
+    @Test
+    @DisplayName("If-None-Match が一致する場合は描画せずに304を返す")
+    void returnsNotModifiedForMatchingEtag() throws Exception {
+        String etag = perform(request("token-1")).getHeader(HttpHeaders.ETAG);
+        cache.invalidate();
+        // バージョンが進んだため古いETagでは304にならない
+        MockHttpServletRequest stale = request("token-2");
+        stale.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        String newEtag = perform(stale).getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotEqualTo(etag);
+        assertThat(renders).hasValue(2);
+
+        MockHttpServletRequest revalidate = request("token-3");
+        revalidate.addHeader(HttpHeaders.IF_NONE_MATCH, newEtag);
+        MockHttpServletResponse response = perform(revalidate);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("ロールごとに別のページとして扱う")
+    void separatesEntriesByRole() throws Exception {
+        String studentEtag = perform(request("token-1")).getHeader(HttpHeaders.ETAG);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "teacher", "n/a", List.of(new SimpleGrantedAuthority("ROLE_INSTRUCTOR"))));
+        String instructorEtag = perform(request("token-2")).getHeader(HttpHeaders.ETAG);
+
+        assertThat(instructorEtag).isNotEqualTo(studentEtag);
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("エラー応答はキャッシュしない")
+    void doesNotCacheErrors() throws Exception {
+        FilterChain notFound = (request, response) -> {
+            renders.incrementAndGet();
+            ((HttpServletResponse) response).sendError(HttpServletResponse.SC_NOT_FOUND);
+        };
+        filter.doFilter(request("token-1"), new MockHttpServletResponse(), notFound);
+        filter.doFilter(request("token-1"), new MockHttpServletResponse(), notFound);
+
+        assertThat(renders).hasValue(2);
+    }
+}
@@ -0,0 +1,177 @@
+package jp.co.apsa.giiku.infrastructure.notification;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jp.co.apsa.giiku.domain.port.NotificationPort;
+
+/**
+ * NotificationOutbox のテストクラス。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@SpringBootTest(properties = {
+    "giiku.notification-outbox.max-attempts=2"
+})
+@ActiveProfiles("test")
+public class NotificationOutboxTest {
+
+    @Autowired
+    private NotificationOutbox notificationOutbox;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private NotificationPort notificationPort;
+
+    @AfterEach
+    public void cleanUp() {
+        jdbcTemplate.update("DELETE FROM notification_outbox");
+    }
+
+    private Map<String, Object> row(String recipient) {
+        return jdbcTemplate.queryForMap(
+                "SELECT status, attempts, next_attempt_at, sent_at FROM notification_outbox WHERE recipient = ?",
+                recipient);
+    }
+
+    /**
+     * コミットされた通知だけが送信され、ロールバックされた通知は書き込まれないことを検証します。
+     */
+    @Test
+    public void testOnlyCommittedNotificationsAreDelivered() {
+        when(notificationPort.sendNotificationAsync(anyString(), anyString(), anyBoolean()))
+                .thenReturn(CompletableFuture.completedFuture(true));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> notificationOutbox.enqueue("U1", "コミット", true));
+        transactionTemplate.executeWithoutResult(status -> {
+            notificationOutbox.enqueue("U2", "ロールバック", false);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(1, notificationOutbox.deliverPending());
+        assertEquals(0, notificationOutbox.deliverPending());
+
+        verify(notificationPort).sendNotificationAsync("U1", "コミット", true);
+        verifyNoMoreInteractions(notificationPort);
+        Map<String, Object> sent = row("U1");
+        assertEquals("SENT", sent.get("status"));
+        assertEquals(1, ((Number) sent.get("attempts")).intValue());
+        assertNotNull(sent.get("sent_at"));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notification_outbox WHERE recipient = 'U2'", Integer.class));
+    }
+
+    /**
+     * 送信に失敗した通知はバックオフ後に再送し、上限回数で失敗にすることを検証します。
+     */
+    @Test
+    public void testFailedDeliveryIsRetriedUntilMaxAttempts() {
+        when(notificationPort.sendNotificationAsync(anyString(), anyString(), anyBoolean()))
+                .thenReturn(CompletableFuture.completedFuture(false));
+        notificationOutbox.enqueue("U3", "失敗", false);
+
+        assertEquals(1, notificationOutbox.deliverPending());
+        Map<String, Object> pending = row("U3");
+        assertEquals("PENDING", pending.get("status"));
+        assertEquals(1, ((Number) pending.get("attempts")).intValue());
+        assertTrue(((Timestamp) pending.get("next_attempt_at")).toLocalDateTime().isAfter(LocalDateTime.now()));
+
+        // バックオフ中は取得しない
+        assertEquals(0, notificationOutbox.deliverPending());
+
+        jdbcTemplate.update("UPDATE notification_outbox SET next_attempt_at = ? WHERE recipient = 'U3'",
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)));
+        assertEquals(1, notificationOutbox.deliverPending());
+        Map<String, Object> failed = row("U3");
+        assertEquals("FAILED", failed.get("status"));
+        assertEquals(2, ((Number) failed.get("attempts")).intValue());
+        verify(notificationPort, times(2)).sendNotificationAsync("U3", "失敗", false);
+    }
+
+    /**
+     * 他のトランザクションがロックしている通知を待たずに読み飛ばすことを検証します。
+     */
+    @Test
+    public void testLockedNotificationsAreSkipped() throws Exception {
+        when(notificationPort.sendNotificationAsync(anyString(), anyString(), anyBoolean()))
+                .thenReturn(CompletableFuture.completedFuture(true));
+        notificationOutbox.enqueue("U4", "ロック中", false);
+        notificationOutbox.enqueue("U5", "送信", false);
+
+        ExecutorService other = Executors.newSingleThreadExecutor();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Future<?> holder = other.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                jdbcTemplate.queryForList("SELECT id FROM notification_outbox WHERE recipient = 'U4' FOR UPDATE");
+                locked.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+            assertEquals(1, notificationOutbox.deliverPending());
+            verify(notificationPort).sendNotificationAsync("U5", "送信", false);
+            verify(notificationPort, never()).sendNotificationAsync(eq("U4"), anyString(), anyBoolean());
+
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            other.shutdownNow();
+        }
+
+        assertEquals(1, notificationOutbox.deliverPending());
+        assertEquals("SENT", row("U4").get("status"));
+    }
+
+    /**
+     * 保持期間を過ぎた送信済みの通知だけを削除することを検証します。
+     */
+    @Test
+    public void testPurgeSentRemovesOnlyExpiredRows() {
+        when(notificationPort.sendNotificationAsync(anyString(), anyString(), anyBoolean()))
+                .thenReturn(CompletableFuture.completedFuture(true));
+        notificationOutbox.enqueue("U6", "古い", false);
+        notificationOutbox.enqueue("U7", "新しい", false);
+        notificationOutbox.deliverPending();
+        ReflectionTestUtils.setField(notificationOutbox, "retentionHours", 24L);
+        jdbcTemplate.update("UPDATE notification_outbox SET sent_at = ? WHERE recipient = 'U6'",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(2)));
+
+        assertEquals(1, notificationOutbox.purgeSent());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification_outbox", Integer.class));
+    }
+}
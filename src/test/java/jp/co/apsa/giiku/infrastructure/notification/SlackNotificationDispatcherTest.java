@@ -0,0 +1,144 @@
+package jp.co.apsa.giiku.infrastructure.notification;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jp.co.apsa.giiku.config.RestTemplateConfig;
+
+/**
+ * SlackNotificationDispatcher のテストクラス。
+ *
+ * <p>ローカルのスタブ Webhook サーバーに送信し、通知のまとめ送信と再試行を検証する。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+public class SlackNotificationDispatcherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+
+    /** 先頭から指定回数だけ 429 を返す */
+    private final AtomicInteger rateLimited = new AtomicInteger();
+
+    private HttpServer server;
+
+    private String webhookUrl;
+
+    private SlackNotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/hook", this::handle);
+        server.start();
+        webhookUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/hook";
+
+        dispatcher = new SlackNotificationDispatcher(
+                new RestTemplateConfig().slackRestTemplate(1000, 2000, 4), objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(dispatcher, "enabled", true);
+        ReflectionTestUtils.setField(dispatcher, "queueCapacity", 100);
+        ReflectionTestUtils.setField(dispatcher, "coalesceWindowMs", 300L);
+        ReflectionTestUtils.setField(dispatcher, "maxMessagesPerPayload", 20);
+        ReflectionTestUtils.setField(dispatcher, "ratePerSecond", 50.0);
+        ReflectionTestUtils.setField(dispatcher, "burst", 5);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "initialBackoffMs", 10L);
+        ReflectionTestUtils.setField(dispatcher, "maxBackoffMs", 50L);
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        if (rateLimited.getAndDecrement() > 0) {
+            exchange.getResponseHeaders().add("Retry-After", "0");
+            exchange.sendResponseHeaders(429, -1);
+            exchange.close();
+            return;
+        }
+        bodies.add(body);
+        byte[] ok = "ok".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, ok.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(ok);
+        }
+    }
+
+    private SlackNotificationService.SlackMessage message(String channel, String text) {
+        return new SlackNotificationService.SlackMessage(channel, "Giiku", ":robot:", text);
+    }
+
+    @Test
+    void submit_coalescesMessagesPerChannel() throws Exception {
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(dispatcher.submit(webhookUrl, message("#general", "通知" + i)));
+        }
+        results.add(dispatcher.submit(webhookUrl, message("#urgent", "緊急")));
+
+        for (CompletableFuture<Boolean> result : results) {
+            assertTrue(result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(2, bodies.size());
+
+        SlackNotificationService.SlackMessage general =
+                objectMapper.readValue(bodies.get(0), SlackNotificationService.SlackMessage.class);
+        assertEquals("#general", general.getChannel());
+        assertEquals("通知0\n通知1\n通知2\n通知3\n通知4", general.getText());
+
+        SlackNotificationService.SlackMessage urgent =
+                objectMapper.readValue(bodies.get(1), SlackNotificationService.SlackMessage.class);
+        assertEquals("#urgent", urgent.getChannel());
+        assertEquals("緊急", urgent.getText());
+    }
+
+    @Test
+    void submit_retriesAfterRateLimit() throws Exception {
+        rateLimited.set(2);
+
+        boolean result = dispatcher.submit(webhookUrl, message("#general", "再試行")).get(5, TimeUnit.SECONDS);
+
+        assertTrue(result);
+        assertEquals(1, bodies.size());
+        assertTrue(bodies.get(0).contains("再試行"));
+    }
+
+    @Test
+    void submit_failsAfterMaxAttempts() throws Exception {
+        rateLimited.set(10);
+
+        boolean result = dispatcher.submit(webhookUrl, message("#general", "失敗")).get(5, TimeUnit.SECONDS);
+
+        assertFalse(result);
+        assertTrue(bodies.isEmpty());
+        assertEquals(7, rateLimited.get());
+    }
+}
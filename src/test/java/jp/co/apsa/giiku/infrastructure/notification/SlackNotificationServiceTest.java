@@ -3,6 +3,8 @@ package jp.co.apsa.giiku.infrastructure.notification;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -93,4 +95,33 @@ public class SlackNotificationServiceTest {
         assertFalse(result);
         verify(restTemplate).postForEntity(eq("https://hooks.slack.test"), any(), eq(String.class));
     }
+
+    @Test
+    void sendNotificationAsync_withoutDispatcher_sendsOnDedicatedExecutor() {
+        AtomicReference<String> threadName = new AtomicReference<>();
+        when(restTemplate.postForEntity(anyString(), any(), eq(String.class))).thenAnswer(invocation -> {
+            threadName.set(Thread.currentThread().getName());
+            return new ResponseEntity<>("ok", HttpStatus.OK);
+        });
+
+        try {
+            boolean result = service.sendNotificationAsync("U123", "非同期テスト", false).join();
+
+            assertTrue(result);
+            verify(restTemplate).postForEntity(eq("https://hooks.slack.test"), any(), eq(String.class));
+            assertTrue(threadName.get().startsWith("slack-notification-"));
+        } finally {
+            service.stop();
+        }
+    }
+
+    @Test
+    void sendNotificationAsync_afterStop_completesWithFalse() {
+        service.stop();
+
+        boolean result = service.sendNotificationAsync("U123", "停止後", false).join();
+
+        assertFalse(result);
+        verifyNoInteractions(restTemplate);
+    }
 }
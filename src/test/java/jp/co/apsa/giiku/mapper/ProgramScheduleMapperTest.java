@@ -0,0 +1,81 @@
+package jp.co.apsa.giiku.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import jp.co.apsa.giiku.domain.entity.ProgramSchedule;
+import jp.co.apsa.giiku.dto.ProgramScheduleResponseDto;
+import jp.co.apsa.giiku.dto.ProgramScheduleUpdateDto;
+
+/**
+ * {@link ProgramScheduleMapper} のテストクラス。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("ProgramScheduleMapper Tests")
+class ProgramScheduleMapperTest {
+
+    private final ProgramScheduleMapper mapper = Mappers.getMapper(ProgramScheduleMapper.class);
+
+    private ProgramSchedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        schedule = new ProgramSchedule();
+        schedule.setId(1L);
+        schedule.setVersion(3L);
+        schedule.setProgramId(10L);
+        schedule.setInstructorId(20L);
+        schedule.setStartDate(LocalDate.of(2025, 4, 1));
+        schedule.setEndDate(LocalDate.of(2025, 4, 5));
+        schedule.setMaxStudents(30);
+        schedule.setCreatedBy(5L);
+        schedule.setCreatedAt(LocalDateTime.of(2025, 3, 1, 9, 0));
+    }
+
+    @Test
+    @DisplayName("複製ではID・バージョン・監査項目を引き継がない")
+    void copyExcludesIdentityAndAuditFields() {
+        ProgramSchedule copy = mapper.copy(schedule);
+
+        assertThat(copy).isNotSameAs(schedule);
+        assertThat(copy.getId()).isNull();
+        assertThat(copy.getVersion()).isZero();
+        assertThat(copy.getCreatedBy()).isNull();
+        assertThat(copy.getCreatedAt()).isNull();
+        assertThat(copy.getProgramId()).isEqualTo(10L);
+        assertThat(copy.getStartDate()).isEqualTo(LocalDate.of(2025, 4, 1));
+        assertThat(copy.getMaxStudents()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("レスポンスDTOには同名のプロパティを変換する")
+    void toResponseDtoMapsSameNamedProperties() {
+        ProgramScheduleResponseDto dto = mapper.toResponseDto(schedule);
+
+        assertThat(dto.getId()).isEqualTo(1L);
+        assertThat(dto.getProgramId()).isEqualTo(10L);
+        assertThat(dto.getInstructorId()).isEqualTo(20L);
+        assertThat(dto.getCreatedAt()).isEqualTo(LocalDateTime.of(2025, 3, 1, 9, 0));
+        assertThat(dto.getStartDateTime()).isNull();
+    }
+
+    @Test
+    @DisplayName("更新DTOの未設定項目は null で上書きする")
+    void updateOverwritesWithNulls() {
+        mapper.update(new ProgramScheduleUpdateDto(), schedule);
+
+        assertThat(schedule.getInstructorId()).isNull();
+        assertThat(schedule.getId()).isEqualTo(1L);
+        assertThat(schedule.getProgramId()).isEqualTo(10L);
+    }
+}
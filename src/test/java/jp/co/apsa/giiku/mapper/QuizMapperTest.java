@@ -0,0 +1,58 @@
+package jp.co.apsa.giiku.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import jp.co.apsa.giiku.domain.entity.Chapter;
+import jp.co.apsa.giiku.domain.entity.Quiz;
+
+/**
+ * {@link QuizMapper} のテストクラス。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("QuizMapper Tests")
+class QuizMapperTest {
+
+    private final QuizMapper mapper = Mappers.getMapper(QuizMapper.class);
+
+    @Test
+    @DisplayName("ID・作成日時・更新日時を除いて反映し、チャプターは参照を引き継ぐ")
+    void updateKeepsIdentityAndSharesChapter() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 4, 1, 9, 0);
+        Chapter current = new Chapter();
+        current.setId(3L);
+        Quiz existing = new Quiz();
+        existing.setId(1L);
+        existing.setChapter(current);
+        existing.setCreatedAt(createdAt);
+
+        Chapter next = new Chapter();
+        next.setId(4L);
+        Quiz update = new Quiz();
+        update.setId(99L);
+        update.setTitle("新しいタイトル");
+        update.setChapter(next);
+        update.setQuizStatus("GRADED");
+        update.setPercentageScore(85.0);
+        update.setCreatedAt(LocalDateTime.now());
+
+        mapper.update(update, existing);
+
+        assertThat(existing.getId()).isEqualTo(1L);
+        assertThat(existing.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(existing.getTitle()).isEqualTo("新しいタイトル");
+        assertThat(existing.getStatus()).isEqualTo("GRADED");
+        assertThat(existing.getScore()).isEqualTo(85.0);
+        assertThat(existing.getChapter()).isSameAs(next);
+        // 更新前のチャプターのIDは書き換えない
+        assertThat(current.getId()).isEqualTo(3L);
+    }
+}
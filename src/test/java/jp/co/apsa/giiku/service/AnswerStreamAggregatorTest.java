@@ -0,0 +1,164 @@
+package jp.co.apsa.giiku.service;
+
+import jp.co.apsa.giiku.domain.entity.StudentAnswer;
+import jp.co.apsa.giiku.domain.entity.User;
+import jp.co.apsa.giiku.domain.repository.UserRepository;
+import jp.co.apsa.giiku.domain.valueobject.AnswerKey;
+import jp.co.apsa.giiku.dto.AnswerDeltaFrame;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link AnswerStreamAggregator} のテストクラス。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnswerStreamAggregator Tests")
+class AnswerStreamAggregatorTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private StudentAnswerService studentAnswerService;
+
+    @Mock
+    private QuizAnswerKeyCache quizAnswerKeyCache;
+
+    private AnswerStreamAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new AnswerStreamAggregator(messagingTemplate, userRepository,
+                studentAnswerService, quizAnswerKeyCache);
+        ReflectionTestUtils.setField(aggregator, "legacyFrames", true);
+        ReflectionTestUtils.setField(aggregator, "snapshotIdleMinutes", 240L);
+    }
+
+    @Test
+    @DisplayName("ウィンドウ内の回答を1フレームに集約し、同一学生・同一問題は最新で置き換える")
+    void publishCoalescesWindowIntoSingleFrame() {
+        aggregator.recordQuizAnswer(1L, new AnswerDeltaFrame.Entry(10L, 100L, "A", false));
+        aggregator.recordQuizAnswer(1L, new AnswerDeltaFrame.Entry(10L, 100L, "b", true));
+        aggregator.recordQuizAnswer(1L, new AnswerDeltaFrame.Entry(10L, 101L, "B", true));
+        aggregator.recordQuizAnswer(1L, new AnswerDeltaFrame.Entry(11L, 101L, "a, c", false));
+
+        aggregator.publish();
+
+        ArgumentCaptor<AnswerDeltaFrame> captor = ArgumentCaptor.forClass(AnswerDeltaFrame.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/answers/1/delta"), captor.capture());
+        AnswerDeltaFrame frame = captor.getValue();
+        assertThat(frame.getAnswerCount()).isEqualTo(3);
+        assertThat(frame.getCorrectCount()).isEqualTo(2);
+        assertThat(frame.getCorrectRatio()).isEqualTo(2.0 / 3.0);
+        assertThat(frame.getOptionCounts().get(10L)).containsEntry("b", 2).doesNotContainKey("a");
+        assertThat(frame.getOptionCounts().get(11L)).containsEntry("a", 1).containsEntry("c", 1);
+    }
+
+    @Test
+    @DisplayName("演習回答は選択肢別件数を集計せず、回答がなければ配信しない")
+    void exerciseFramesSkipOptionCountsAndIdleWindowsAreSilent() {
+        aggregator.recordExerciseAnswer(5L, new AnswerDeltaFrame.Entry(5L, 100L, "自由記述", null));
+
+        aggregator.publish();
+        aggregator.publish();
+
+        ArgumentCaptor<AnswerDeltaFrame> captor = ArgumentCaptor.forClass(AnswerDeltaFrame.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/exercise-answers/5/delta"), captor.capture());
+        assertThat(captor.getValue().getOptionCounts()).isEmpty();
+        assertThat(captor.getValue().getCorrectRatio()).isNull();
+    }
+
+    @Test
+    @DisplayName("従来形式の配信は設定で無効化できる")
+    void legacyFramesCanBeDisabled() {
+        aggregator.sendLegacy("/topic/answers/1", "payload");
+        ReflectionTestUtils.setField(aggregator, "legacyFrames", false);
+        aggregator.sendLegacy("/topic/answers/1", "payload");
+
+        verify(messagingTemplate, times(1)).convertAndSend("/topic/answers/1", (Object) "payload");
+    }
+
+    @Test
+    @DisplayName("スナップショットは配信済みの回答も含めた累積をDBにアクセスせずに返す")
+    void snapshotReturnsCumulativeStateWithoutDatabaseAccess() {
+        User user = new User();
+        user.setName("山田");
+        when(userRepository.findById(100L)).thenReturn(Optional.of(user));
+
+        aggregator.recordQuizAnswer(1L, new AnswerDeltaFrame.Entry(10L, 100L, "A", true));
+        aggregator.publish();
+        aggregator.recordQuizAnswer(1L, new AnswerDeltaFrame.Entry(10L, 100L, "B", false));
+        aggregator.recordQuizAnswer(1L, new AnswerDeltaFrame.Entry(11L, 100L, "C", true));
+
+        AnswerDeltaFrame snapshot = aggregator.quizSnapshot(1L);
+        AnswerDeltaFrame empty = aggregator.quizSnapshot(2L);
+
+        assertThat(snapshot.getAnswerCount()).isEqualTo(2);
+        assertThat(snapshot.getCorrectCount()).isEqualTo(1);
+        assertThat(snapshot.getOptionCounts().get(10L)).containsOnlyKeys("b");
+        assertThat(snapshot.getNewAnswers()).extracting(AnswerDeltaFrame.Entry::getStudentName)
+                .containsOnly("山田");
+        assertThat(empty.getAnswerCount()).isZero();
+        assertThat(empty.getNewAnswers()).isEmpty();
+        verify(userRepository, times(1)).findById(100L);
+    }
+
+    @Test
+    @DisplayName("集計がない場合は保存済みの回答から一度だけ作り直し、その上に新しい回答を反映する")
+    void missingAggregateIsSeededFromStoredAnswers() {
+        User user = new User();
+        user.setId(100L);
+        user.setName("山田");
+        when(userRepository.findAllById(any())).thenReturn(List.of(user));
+        when(studentAnswerService.getAnswersByQuizId(1L)).thenReturn(List.of(
+                storedAnswer(1L, 10L, 100L, "A"), storedAnswer(1L, 11L, 100L, "B")));
+        when(quizAnswerKeyCache.get(anyLong())).thenReturn(Optional.of(AnswerKey.of("A", null)));
+
+        AnswerDeltaFrame seeded = aggregator.quizSnapshot(1L);
+        assertThat(seeded.getAnswerCount()).isEqualTo(2);
+        assertThat(seeded.getCorrectCount()).isEqualTo(1);
+        assertThat(seeded.getNewAnswers()).extracting(AnswerDeltaFrame.Entry::getStudentName).containsOnly("山田");
+
+        aggregator.recordQuizAnswer(1L, new AnswerDeltaFrame.Entry(11L, 100L, "A", true));
+        AnswerDeltaFrame updated = aggregator.quizSnapshot(1L);
+
+        assertThat(updated.getAnswerCount()).isEqualTo(2);
+        assertThat(updated.getCorrectCount()).isEqualTo(2);
+        assertThat(updated.getOptionCounts().get(11L)).containsOnlyKeys("a");
+        verify(studentAnswerService, times(1)).getAnswersByQuizId(1L);
+        verify(userRepository, never()).findById(any());
+    }
+
+    private static StudentAnswer storedAnswer(Long quizId, Long questionId, Long studentId, String answerText) {
+        StudentAnswer answer = new StudentAnswer();
+        answer.setQuizId(quizId);
+        answer.setQuestionId(questionId);
+        answer.setStudentId(studentId);
+        answer.setAnswerText(answerText);
+        answer.setSubmittedAt(LocalDateTime.now());
+        return answer;
+    }
+}
@@ -0,0 +1,109 @@
+package jp.co.apsa.giiku.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jp.co.apsa.giiku.domain.entity.LectureContentBlock;
+import jp.co.apsa.giiku.domain.repository.LectureContentBlockRepository;
+
+/**
+ * ContentSanitizer と ContentBlockSanitizeBackfill のテストクラス。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@SpringBootTest(properties = "giiku.content-sanitizer.backfill-batch-size=2")
+@ActiveProfiles("test")
+@Transactional
+public class ContentSanitizerTest {
+
+    private static final String RAW = "<p>本文</p><script>alert(1)</script>";
+
+    private static final String SANITIZED = "<p>本文</p>";
+
+    @Autowired
+    private ContentSanitizer contentSanitizer;
+
+    @Autowired
+    private ContentBlockSanitizeBackfill contentBlockSanitizeBackfill;
+
+    @Autowired
+    private LectureContentBlockService lectureContentBlockService;
+
+    @Autowired
+    private LectureContentBlockRepository lectureContentBlockRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * 同じ内容の2回目以降はキャッシュから返されることを検証します。
+     */
+    @Test
+    public void testSanitizeCachedHitsByContentHash() {
+        contentSanitizer.clear();
+        double hitsBefore = meterRegistry.get("giiku.content-sanitizer.cache.requests")
+                .tag("result", "hit").functionCounter().count();
+
+        assertEquals(SANITIZED, contentSanitizer.sanitizeCached(RAW));
+        assertEquals(SANITIZED, contentSanitizer.sanitizeCached(new String(RAW)));
+        assertNull(contentSanitizer.sanitizeCached(null));
+
+        double hitsAfter = meterRegistry.get("giiku.content-sanitizer.cache.requests")
+                .tag("result", "hit").functionCounter().count();
+        assertEquals(1.0, hitsAfter - hitsBefore);
+    }
+
+    /**
+     * 保存時にサニタイズ済み内容が生成されることを検証します。
+     */
+    @Test
+    public void testSaveStoresSanitizedContent() {
+        LectureContentBlock saved = lectureContentBlockService.save(block(RAW));
+
+        assertEquals(SANITIZED, saved.getSanitizedContent());
+        assertEquals(RAW, saved.getContent());
+    }
+
+    /**
+     * 未生成の行がバッチ単位で全て埋められ、再実行では何も更新しないことを検証します。
+     */
+    @Test
+    public void testBackfillFillsMissingRowsInBatches() {
+        List<LectureContentBlock> blocks = lectureContentBlockRepository.saveAllAndFlush(
+                List.of(block(RAW), block(RAW), block(RAW), block(null)));
+
+        int updated = contentBlockSanitizeBackfill.run();
+
+        assertEquals(3, updated);
+        for (LectureContentBlock block : blocks.subList(0, 3)) {
+            String stored = jdbcTemplate.queryForObject(
+                    "SELECT sanitized_content FROM chapter_content_blocks WHERE id = ?", String.class, block.getId());
+            assertEquals(SANITIZED, stored);
+        }
+        assertEquals(0, contentBlockSanitizeBackfill.run());
+    }
+
+    private static LectureContentBlock block(String content) {
+        LectureContentBlock block = new LectureContentBlock();
+        block.setChapterId(1L);
+        block.setBlockType("text");
+        block.setTitle("ブロック");
+        block.setContent(content);
+        block.setSortOrder(1);
+        return block;
+    }
+}
@@ -0,0 +1,123 @@
+package jp.co.apsa.giiku.service;
+
+import jp.co.apsa.giiku.domain.entity.Day;
+import jp.co.apsa.giiku.domain.entity.Month;
+import jp.co.apsa.giiku.domain.entity.Week;
+import jp.co.apsa.giiku.domain.repository.DayRepository;
+import jp.co.apsa.giiku.domain.repository.LectureRepository;
+import jp.co.apsa.giiku.domain.repository.MonthRepository;
+import jp.co.apsa.giiku.domain.repository.WeekRepository;
+import jp.co.apsa.giiku.dto.CurriculumTree;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link CurriculumTreeCache} のテストクラス。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CurriculumTreeCache Tests")
+class CurriculumTreeCacheTest {
+
+    @Mock
+    private MonthRepository monthRepository;
+
+    @Mock
+    private WeekRepository weekRepository;
+
+    @Mock
+    private DayRepository dayRepository;
+
+    @Mock
+    private LectureRepository lectureRepository;
+
+    private CurriculumTreeCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CurriculumTreeCache(monthRepository, weekRepository, dayRepository, lectureRepository);
+
+        Month month = new Month();
+        month.setId(1L);
+        month.setMonthNumber(1);
+        month.setTitle("1ヶ月目");
+        Week week = new Week();
+        week.setId(10L);
+        week.setMonthId(1L);
+        week.setWeekNumber(1);
+        week.setWeekName("第1週");
+        Day day2 = new Day();
+        day2.setId(101L);
+        day2.setWeekId(10L);
+        day2.setDayNumber(2);
+        day2.setDayName("2日目");
+        Day day1 = new Day();
+        day1.setId(100L);
+        day1.setWeekId(10L);
+        day1.setDayNumber(1);
+        day1.setDayName("1日目");
+
+        List<Object[]> lectures = new ArrayList<>();
+        lectures.add(new Object[] {1001L, 100L, 2, "講義2"});
+        lectures.add(new Object[] {1000L, 100L, 1, "講義1"});
+
+        when(monthRepository.findAll()).thenReturn(List.of(month));
+        when(weekRepository.findAll()).thenReturn(List.of(week));
+        when(dayRepository.findAll()).thenReturn(List.of(day2, day1));
+        when(lectureRepository.findOutlines()).thenReturn(lectures);
+    }
+
+    @Test
+    @DisplayName("月・週・日・講義を番号順のツリーとして構築する")
+    void buildsTree() {
+        CurriculumTree tree = cache.get();
+
+        assertThat(tree.getMonths()).hasSize(1);
+        CurriculumTree.WeekNode week = tree.getMonths().get(0).getWeeks().get(0);
+        assertThat(week.getDays()).extracting(CurriculumTree.DayNode::getDayNumber).containsExactly(1, 2);
+        assertThat(week.getDays().get(0).getLectures())
+                .extracting(CurriculumTree.LectureNode::getTitle).containsExactly("講義1", "講義2");
+        assertThat(tree.getNavMonths().get(0)).containsEntry("href", "/month/month1").containsEntry("label", "1ヶ月目");
+        assertThat(tree.getNavWeeks().get(0)).containsEntry("href", "/week/week1");
+        assertThat(tree.getNavDays()).extracting(link -> link.get("href")).containsExactly("/day/day1", "/day/day2");
+        assertThatThrownBy(() -> tree.getMonths().add(null)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("2回目以降はDBを参照しない")
+    void reusesCachedTree() {
+        CurriculumTree first = cache.get();
+        CurriculumTree second = cache.get();
+
+        assertThat(second).isSameAs(first);
+        verify(monthRepository, times(1)).findAll();
+        verify(lectureRepository, times(1)).findOutlines();
+    }
+
+    @Test
+    @DisplayName("破棄後の参照でツリーを再構築する")
+    void rebuildsAfterInvalidate() {
+        CurriculumTree first = cache.get();
+        cache.invalidate();
+        CurriculumTree second = cache.get();
+
+        assertThat(second).isNotSameAs(first);
+        verify(monthRepository, times(2)).findAll();
+        verify(weekRepository, times(2)).findAll();
+        verify(dayRepository, times(2)).findAll();
+    }
+}
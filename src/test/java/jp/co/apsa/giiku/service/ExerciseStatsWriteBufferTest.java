@@ -0,0 +1,158 @@
+package jp.co.apsa.giiku.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * ExerciseStatsWriteBuffer のテストクラス。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@SpringBootTest(properties = {
+    "giiku.exercise-stats.enabled=true",
+    "giiku.exercise-stats.flush-interval-ms=5"
+})
+@ActiveProfiles("test")
+public class ExerciseStatsWriteBufferTest {
+
+    private static final int ANSWERS = 10_000;
+
+    /** 回答する学生のユーザーID */
+    private static final Long USER_ID = 9001L;
+
+    /** テスト用の研修スケジュールID */
+    private static final long SCHEDULE_ID = 9001L;
+
+    @Autowired
+    private LectureGradeService lectureGradeService;
+
+    @Autowired
+    private ExerciseStatsWriteBuffer exerciseStatsWriteBuffer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** 回答する学生の現在の研修配属 */
+    private Long assignmentId;
+
+    /** 同じ講義を受講する別の研修配属 */
+    private Long otherAssignmentId;
+
+    @BeforeEach
+    public void setUp() {
+        assignmentId = assign(USER_ID, "active");
+        otherAssignmentId = assign(9002L, "active");
+        jdbcTemplate.update("INSERT INTO lecture_grades (training_assignment_id, lecture_id, exercise_score, "
+                + "exercise_max_score) VALUES (?, 9001, 3, 4)", assignmentId);
+        jdbcTemplate.update("INSERT INTO lecture_grades (training_assignment_id, lecture_id, exercise_score, "
+                + "exercise_max_score) VALUES (?, 9001, 7, 7)", otherAssignmentId);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        exerciseStatsWriteBuffer.flush();
+        jdbcTemplate.update("DELETE FROM lecture_grades WHERE lecture_id >= 9001");
+        jdbcTemplate.update("DELETE FROM training_assignments WHERE training_schedule_id = ?", SCHEDULE_ID);
+        jdbcTemplate.update("DELETE FROM students WHERE user_id >= 9001");
+    }
+
+    private Long assign(Long userId, String status) {
+        jdbcTemplate.update("INSERT INTO students (user_id, is_active) VALUES (?, TRUE)", userId);
+        Long studentId = jdbcTemplate.queryForObject("SELECT id FROM students WHERE user_id = ?", Long.class, userId);
+        jdbcTemplate.update("INSERT INTO training_assignments (training_schedule_id, student_id, assignment_date, status) "
+                + "VALUES (?, ?, CURRENT_DATE, ?)", SCHEDULE_ID, studentId, status);
+        return jdbcTemplate.queryForObject("SELECT id FROM training_assignments WHERE student_id = ?", Long.class,
+                studentId);
+    }
+
+    private Map<String, Object> grade(Long trainingAssignmentId, long lectureId) {
+        return jdbcTemplate.queryForMap("SELECT exercise_score, exercise_max_score FROM lecture_grades "
+                + "WHERE training_assignment_id = ? AND lecture_id = ?", trainingAssignmentId, lectureId);
+    }
+
+    /**
+     * 同時に回答されても、フラッシュ中の回答を含めて回答数・正解数が失われず、
+     * 同じ講義の他の研修配属の行は更新されないことを検証します。
+     */
+    @Test
+    public void testParallelAnswersAreNotLost() throws Exception {
+        runInParallel(9001L);
+        exerciseStatsWriteBuffer.flush();
+
+        Map<String, Object> row = grade(assignmentId, 9001L);
+        assertEquals(4 + ANSWERS, ((Number) row.get("exercise_max_score")).intValue());
+        assertEquals(3 + ANSWERS / 2, ((Number) row.get("exercise_score")).intValue());
+        Map<String, Object> other = grade(otherAssignmentId, 9001L);
+        assertEquals(7, ((Number) other.get("exercise_max_score")).intValue());
+        assertEquals(7, ((Number) other.get("exercise_score")).intValue());
+    }
+
+    /**
+     * 研修配属のない学生の回答は記録されないことを検証します。
+     */
+    @Test
+    public void testAnswerWithoutAssignmentIsIgnored() {
+        lectureGradeService.updateExerciseStats(9003L, 9003L, true);
+        exerciseStatsWriteBuffer.flush();
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM lecture_grades WHERE lecture_id = 9003", Integer.class));
+    }
+
+    /**
+     * バッファ無効時も回答ごとの書き込みで、行の作成と加算が同時に行われても回答数が失われないことを検証します。
+     */
+    @Test
+    public void testWriteThroughWhenDisabled() throws Exception {
+        ReflectionTestUtils.setField(exerciseStatsWriteBuffer, "enabled", false);
+        try {
+            runInParallel(9002L);
+        } finally {
+            ReflectionTestUtils.setField(exerciseStatsWriteBuffer, "enabled", true);
+        }
+
+        Map<String, Object> row = grade(assignmentId, 9002L);
+        assertEquals(ANSWERS, ((Number) row.get("exercise_max_score")).intValue());
+        assertEquals(ANSWERS / 2, ((Number) row.get("exercise_score")).intValue());
+    }
+
+    private void runInParallel(Long lectureId) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < ANSWERS; i++) {
+                boolean correct = i % 2 == 0;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    lectureGradeService.updateExerciseStats(USER_ID, lectureId, correct);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
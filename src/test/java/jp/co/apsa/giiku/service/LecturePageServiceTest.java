@@ -0,0 +1,192 @@
+package jp.co.apsa.giiku.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import jp.co.apsa.giiku.domain.entity.Chapter;
+import jp.co.apsa.giiku.domain.entity.Day;
+import jp.co.apsa.giiku.domain.entity.Lecture;
+import jp.co.apsa.giiku.domain.entity.LectureChapterLink;
+import jp.co.apsa.giiku.domain.entity.LectureContentBlock;
+import jp.co.apsa.giiku.domain.entity.LectureGoal;
+import jp.co.apsa.giiku.domain.entity.Month;
+import jp.co.apsa.giiku.domain.entity.QuestionBank;
+import jp.co.apsa.giiku.domain.entity.QuizQuestionBank;
+import jp.co.apsa.giiku.domain.entity.Week;
+import jp.co.apsa.giiku.dto.LecturePageView;
+
+/**
+ * LecturePageService のテストクラス。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@SpringBootTest(properties = {
+    // lectures テーブルの jsonb 列を H2 で作成するためのドメイン定義
+    "spring.datasource.url=jdbc:h2:mem:lecturepage;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;INIT=CREATE DOMAIN IF NOT EXISTS JSONB AS JSON",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Transactional
+public class LecturePageServiceTest {
+
+    /** ページ組み立てに許容するクエリ数の上限 */
+    private static final long MAX_QUERIES = 7;
+
+    @Autowired
+    private LecturePageService lecturePageService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * チャプター数に関係なく一定のクエリ数でページ全体を取得できることを検証します。
+     */
+    @Test
+    public void testQueryCountDoesNotGrowWithChapters() {
+        Day day = createHierarchy();
+        Lecture small = createLecture(day, 1, 2);
+        Lecture large = createLecture(day, 2, 10);
+        entityManager.flush();
+
+        long smallQueries = countQueries(small.getId(), 2);
+        long largeQueries = countQueries(large.getId(), 10);
+
+        assertEquals(smallQueries, largeQueries);
+        assertTrue(largeQueries <= MAX_QUERIES, "クエリ数: " + largeQueries);
+    }
+
+    /**
+     * 読み取りモデルの内容と、前後の講義・階層が設定されることを検証します。
+     */
+    @Test
+    public void testFindPageAssemblesView() {
+        Day day = createHierarchy();
+        Lecture first = createLecture(day, 1, 2);
+        Lecture second = createLecture(day, 2, 1);
+        entityManager.flush();
+        entityManager.clear();
+
+        LecturePageView page = lecturePageService.findPage(first.getId()).orElseThrow();
+
+        assertEquals("1月", page.getMonth().getTitle());
+        assertEquals("第1週", page.getWeek().getWeekName());
+        assertEquals("1日目", page.getDay().getDayName());
+        assertEquals(2, page.getChapters().size());
+        assertEquals(1, page.getGoals().size());
+        Long chapterId = page.getChapters().get(0).getId();
+        assertEquals(2, page.getContentBlocksByChapter().get(chapterId).size());
+        assertEquals("<b>本文</b>", page.getContentBlocksByChapter().get(chapterId).get(0).getContent());
+        assertEquals(1, page.getQuizQuestionsByChapter().get(chapterId).size());
+        assertEquals(1, page.getExercisesByChapter().get(chapterId).size());
+        assertNull(page.getPreviousLecture());
+        assertEquals(second.getId(), page.getNextLecture().getId());
+        assertThrows(UnsupportedOperationException.class, () -> page.getChapters().clear());
+        assertTrue(lecturePageService.findPage(-1L).isEmpty());
+    }
+
+    private long countQueries(Long lectureId, int expectedChapters) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        LecturePageView page = lecturePageService.findPage(lectureId).orElseThrow();
+        // テンプレートと同様にチャプター配下を参照しても追加のクエリが発生しないこと
+        page.getChapters().forEach(chapter -> {
+            page.getContentBlocksByChapter().get(chapter.getId()).forEach(LecturePageView.ContentBlock::getContent);
+            page.getQuizQuestionsByChapter().get(chapter.getId()).forEach(q -> q.getChapter().getTitle());
+            page.getExercisesByChapter().get(chapter.getId()).forEach(q -> q.getChapter().getTitle());
+        });
+
+        assertEquals(expectedChapters, page.getChapters().size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Day createHierarchy() {
+        Month month = new Month();
+        month.setMonthNumber(1);
+        month.setTitle("1月");
+        entityManager.persist(month);
+
+        Week week = new Week();
+        week.setMonthId(month.getId());
+        week.setWeekNumber(1);
+        week.setWeekName("第1週");
+        entityManager.persist(week);
+
+        Day day = new Day();
+        day.setWeekId(week.getId());
+        day.setDayNumber(1);
+        day.setDayName("1日目");
+        entityManager.persist(day);
+        return day;
+    }
+
+    private Lecture createLecture(Day day, int lectureNumber, int chapterCount) {
+        Lecture lecture = new Lecture();
+        lecture.setDayId(day.getId());
+        lecture.setLectureNumber(lectureNumber);
+        lecture.setTitle("講義" + lectureNumber);
+        lecture.setDurationMinutes(90);
+        entityManager.persist(lecture);
+
+        LectureGoal goal = new LectureGoal();
+        goal.setLectureId(lecture.getId());
+        goal.setGoalDescription("目標");
+        goal.setSortOrder(1);
+        entityManager.persist(goal);
+
+        for (int i = 1; i <= chapterCount; i++) {
+            Chapter chapter = new Chapter();
+            chapter.setChapterNumber(i);
+            chapter.setTitle("Ch" + i);
+            entityManager.persist(chapter);
+
+            LectureChapterLink link = new LectureChapterLink();
+            link.setLectureId(lecture.getId());
+            link.setChapter(chapter);
+            link.setSortOrder(i);
+            entityManager.persist(link);
+
+            for (int j = 1; j <= 2; j++) {
+                LectureContentBlock block = new LectureContentBlock();
+                block.setChapterId(chapter.getId());
+                block.setBlockType("text");
+                block.setTitle("Block" + j);
+                block.setContent("<b>本文</b><script>alert(1)</script>");
+                block.setSortOrder(j);
+                entityManager.persist(block);
+            }
+
+            QuizQuestionBank quiz = new QuizQuestionBank();
+            quiz.setChapter(chapter);
+            quiz.setQuestionNumber(1);
+            quiz.setQuestionType("single_choice");
+            quiz.setQuestionText("Q" + i);
+            quiz.setCorrectAnswer("A");
+            entityManager.persist(quiz);
+
+            QuestionBank exercise = new QuestionBank();
+            exercise.setChapter(chapter);
+            exercise.setQuestionNumber(1);
+            exercise.setQuestionType("free_text");
+            exercise.setQuestionText("E" + i);
+            entityManager.persist(exercise);
+        }
+        return lecture;
+    }
+}
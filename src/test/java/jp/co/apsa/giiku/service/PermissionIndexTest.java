@@ -0,0 +1,166 @@
+package jp.co.apsa.giiku.service;
+
+import jp.co.apsa.giiku.domain.entity.UserRole;
+import jp.co.apsa.giiku.domain.repository.UserRoleRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link PermissionIndex} のテストクラス。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PermissionIndex Tests")
+class PermissionIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 4, 1, 9, 0);
+
+    @Mock
+    private UserRoleRepository userRoleRepository;
+
+    private final AtomicLong clock = new AtomicLong(millis(NOW));
+
+    private PermissionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PermissionIndex(userRoleRepository, new SimpleMeterRegistry(), 100, clock::get);
+    }
+
+    private static long millis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static UserRole role(String roleName, String permissions, LocalDateTime from, LocalDateTime until) {
+        UserRole role = new UserRole(1L, roleName, UserRole.PermissionLevel.INSTRUCTOR, 2L);
+        role.setSpecialPermissions(permissions);
+        role.setValidFrom(from);
+        role.setValidUntil(until);
+        return role;
+    }
+
+    @Test
+    @DisplayName("特別権限はトークンの完全一致で判定し、2回目以降はDBを参照しない")
+    void permissionsAreParsedTokens() {
+        when(userRoleRepository.findByUserIdAndCompanyIdAndActiveTrueOrderByCreatedAtDesc(1L, 2L))
+                .thenReturn(List.of(role("INSTRUCTOR", "[\"quiz:grade\", \"report.export\"]", null, null)));
+
+        assertThat(index.hasPermission(1L, 2L, "quiz:grade")).isTrue();
+        assertThat(index.hasPermission(1L, 2L, "report.export")).isTrue();
+        assertThat(index.hasPermission(1L, 2L, "quiz")).isFalse();
+        assertThat(index.hasRole(1L, 2L, "INSTRUCTOR")).isTrue();
+        assertThat(index.hasRole(1L, 2L, "ADMIN")).isFalse();
+
+        verify(userRoleRepository, times(1)).findByUserIdAndCompanyIdAndActiveTrueOrderByCreatedAtDesc(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("無効・期間外のロールは含めず、最も早い境界を過ぎると再構築する")
+    void validityBoundaryTriggersRebuild() {
+        UserRole inactive = role("ADMIN", "all", null, null);
+        inactive.setActive(false);
+        when(userRoleRepository.findByUserIdAndCompanyIdAndActiveTrueOrderByCreatedAtDesc(1L, 2L))
+                .thenReturn(List.of(
+                        inactive,
+                        role("INSTRUCTOR", "quiz:grade", null, NOW.plusHours(1)),
+                        role("COMPANY_ADMIN", "report.export", NOW.plusMinutes(30), null),
+                        role("OBSERVER", "view", null, NOW.minusDays(1))));
+
+        assertThat(index.hasRole(1L, 2L, "ADMIN")).isFalse();
+        assertThat(index.hasRole(1L, 2L, "OBSERVER")).isFalse();
+        assertThat(index.hasPermission(1L, 2L, "quiz:grade")).isTrue();
+        assertThat(index.hasPermission(1L, 2L, "report.export")).isFalse();
+
+        clock.set(millis(NOW.plusMinutes(30)));
+        assertThat(index.hasPermission(1L, 2L, "report.export")).isTrue();
+
+        clock.set(millis(NOW.plusHours(1)));
+        assertThat(index.hasPermission(1L, 2L, "quiz:grade")).isTrue();
+        clock.set(millis(NOW.plusHours(1)) + 1);
+        assertThat(index.hasPermission(1L, 2L, "quiz:grade")).isFalse();
+
+        verify(userRoleRepository, times(3)).findByUserIdAndCompanyIdAndActiveTrueOrderByCreatedAtDesc(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("ロールの書き込みでユーザーの全会社の権限を破棄する")
+    void evictUserRebuildsOnNextCheck() {
+        when(userRoleRepository.findByUserIdAndCompanyIdAndActiveTrueOrderByCreatedAtDesc(1L, 2L))
+                .thenReturn(List.of(role("INSTRUCTOR", "quiz:grade", null, null)))
+                .thenReturn(List.of());
+
+        assertThat(index.hasPermission(1L, 2L, "quiz:grade")).isTrue();
+        index.evictUser(1L);
+        assertThat(index.hasPermission(1L, 2L, "quiz:grade")).isFalse();
+    }
+
+    @Test
+    @DisplayName("構築中に破棄されたユーザーの権限は保存せず、次の判定で再構築する")
+    void evictDuringBuildDiscardsStaleGrants() {
+        when(userRoleRepository.findByUserIdAndCompanyIdAndActiveTrueOrderByCreatedAtDesc(1L, 2L))
+                .thenAnswer(invocation -> {
+                    index.evictUser(1L);
+                    return List.of(role("INSTRUCTOR", "quiz:grade", null, null));
+                })
+                .thenReturn(List.of());
+
+        assertThat(index.hasPermission(1L, 2L, "quiz:grade")).isTrue();
+        assertThat(index.hasPermission(1L, 2L, "quiz:grade")).isFalse();
+        verify(userRoleRepository, times(2)).findByUserIdAndCompanyIdAndActiveTrueOrderByCreatedAtDesc(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("ロールバックしたトランザクション内で構築した権限は残らない")
+    void grantsBuiltBeforeRollbackAreNotKept() {
+        when(userRoleRepository.findByUserIdAndCompanyIdAndActiveTrueOrderByCreatedAtDesc(1L, 2L))
+                .thenReturn(List.of(role("ADMIN", "quiz:grade", null, null)))
+                .thenReturn(List.of(role("ADMIN", "quiz:grade", null, null)))
+                .thenReturn(List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // 同じトランザクション内のロール書き込み後の判定は未コミットの内容を読む
+            index.evictUser(1L);
+            assertThat(index.hasPermission(1L, 2L, "quiz:grade")).isTrue();
+            assertThat(index.hasRole(1L, 2L, "ADMIN")).isTrue();
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+        assertThat(index.hasPermission(1L, 2L, "quiz:grade")).isFalse();
+        verify(userRoleRepository, times(3)).findByUserIdAndCompanyIdAndActiveTrueOrderByCreatedAtDesc(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("ユーザー・会社・権限が未指定の場合はDBを参照せずfalse")
+    void nullArgumentsAreDenied() {
+        assertThat(index.hasPermission(null, 2L, "quiz:grade")).isFalse();
+        assertThat(index.hasRole(1L, null, "INSTRUCTOR")).isFalse();
+        assertThat(index.hasPermission(1L, 2L, null)).isFalse();
+        verifyNoInteractions(userRoleRepository);
+    }
+}
@@ -0,0 +1,210 @@
+package jp.co.apsa.giiku.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jp.co.apsa.giiku.domain.entity.Chapter;
+import jp.co.apsa.giiku.domain.entity.QuestionBank;
+import jp.co.apsa.giiku.domain.entity.QuizQuestionBank;
+import jp.co.apsa.giiku.domain.repository.ChapterRepository;
+
+/**
+ * QuestionSearchIndex と問題検索のテストクラス。
+ *
+ * <p>インデックスはコミット後に更新されるため、テストメソッドはトランザクションを使用しない。</p>
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class QuestionSearchIndexTest {
+
+    @Autowired
+    private QuestionBankService questionBankService;
+
+    @Autowired
+    private QuizQuestionBankService quizQuestionBankService;
+
+    @Autowired
+    private ChapterRepository chapterRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private QuestionSearchIndex questionSearchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Chapter chapter;
+
+    private final List<Long> exerciseIds = new ArrayList<>();
+
+    private final List<Long> quizIds = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        Chapter ch = new Chapter();
+        ch.setChapterNumber(1);
+        ch.setTitle("検索テスト");
+        chapter = chapterRepository.saveAndFlush(ch);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        exerciseIds.forEach(questionBankService::delete);
+        quizIds.forEach(quizQuestionBankService::delete);
+        exerciseIds.clear();
+        quizIds.clear();
+        chapterRepository.delete(chapter);
+    }
+
+    private QuestionBank exercise(int number, String text, String explanation) {
+        QuestionBank question = new QuestionBank();
+        question.setChapter(chapter);
+        question.setQuestionNumber(number);
+        question.setQuestionType("essay");
+        question.setQuestionText(text);
+        question.setExplanation(explanation);
+        question.setDifficultyLevel("easy");
+        QuestionBank saved = questionBankService.save(question);
+        exerciseIds.add(saved.getId());
+        return saved;
+    }
+
+    private QuizQuestionBank quiz(int number, String text, String optionB) {
+        QuizQuestionBank question = new QuizQuestionBank();
+        question.setChapter(chapter);
+        question.setQuestionNumber(number);
+        question.setQuestionType("single");
+        question.setQuestionText(text);
+        question.setOptionA("該当なし");
+        question.setOptionB(optionB);
+        question.setCorrectAnswer("B");
+        QuizQuestionBank saved = quizQuestionBankService.save(question);
+        quizIds.add(saved.getId());
+        return saved;
+    }
+
+    private List<Long> searchExercise(String query) {
+        return questionBankService.searchByQuestionText(query).stream()
+                .map(QuestionBank::getId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 日本語は2文字単位、英数字は前方一致で照合し、問題文に一致した問題が上位になることを検証します。
+     */
+    @Test
+    public void testSearchRanksQuestionTextAboveExplanation() {
+        QuestionBank inheritance = exercise(1, "オブジェクト指向における継承の利点を説明してください", null);
+        QuestionBank exception = exercise(2, "例外処理の基本", "継承したクラスで例外を扱う");
+        QuestionBank array = exercise(3, "Java の配列宣言", null);
+
+        assertEquals(List.of(inheritance.getId(), exception.getId()), searchExercise("継承"));
+        assertEquals(List.of(exception.getId()), searchExercise("継承 例外"));
+        assertEquals(List.of(array.getId()), searchExercise("ＪＡＶ"));
+        assertEquals(List.of(array.getId()), searchExercise("配"));
+        assertEquals(List.of(), searchExercise("継承関係"));
+    }
+
+    /**
+     * 保存・無効化・削除がコミット後にインデックスへ反映され、ロールバックした保存は反映されないことを検証します。
+     */
+    @Test
+    public void testIndexIsUpdatedIncrementallyOnCommit() {
+        QuestionBank question = exercise(1, "インターフェースの実装", null);
+        assertEquals(List.of(question.getId()), searchExercise("インターフェース"));
+
+        question.setQuestionText("抽象クラスの実装");
+        questionBankService.save(question);
+        assertEquals(List.of(), searchExercise("インターフェース"));
+        assertEquals(List.of(question.getId()), searchExercise("抽象クラス"));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            QuestionBank rolledBack = new QuestionBank();
+            rolledBack.setChapter(chapter);
+            rolledBack.setQuestionNumber(2);
+            rolledBack.setQuestionType("essay");
+            rolledBack.setQuestionText("抽象クラスの継承");
+            rolledBack.setDifficultyLevel("easy");
+            questionBankService.save(rolledBack);
+            status.setRollbackOnly();
+        });
+        assertEquals(List.of(question.getId()), searchExercise("抽象クラス"));
+
+        questionBankService.deactivate(question.getId());
+        assertEquals(List.of(), searchExercise("抽象クラス"));
+    }
+
+    /**
+     * 再構築後も、保存時と同じく有効フラグが未設定の問題を検索対象とし、無効な問題は除外することを検証します。
+     */
+    @Test
+    public void testRebuildTreatsNullActiveFlagAsActive() {
+        QuestionBank unset = exercise(1, "ポリモーフィズムの例", null);
+        QuestionBank inactive = exercise(2, "ポリモーフィズムの注意点", null);
+        assertEquals(List.of(unset.getId(), inactive.getId()), searchExercise("ポリモーフィズム"));
+
+        jdbcTemplate.update("UPDATE exercise_question_bank SET is_active = NULL WHERE id = ?", unset.getId());
+        jdbcTemplate.update("UPDATE exercise_question_bank SET is_active = FALSE WHERE id = ?", inactive.getId());
+        questionSearchIndex.rebuild();
+
+        assertEquals(List.of(unset.getId()), searchExercise("ポリモーフィズム"));
+    }
+
+    /**
+     * クイズ問題の選択肢も検索対象となり、関連度順にページ単位で取得できることを検証します。
+     */
+    @Test
+    public void testQuizSearchIsPaged() {
+        QuizQuestionBank first = quiz(1, "ガベージコレクションが行われる領域は", "ヒープ");
+        QuizQuestionBank second = quiz(2, "メモリ管理について正しいものは", "ガベージコレクションが自動で解放する");
+        QuizQuestionBank third = quiz(3, "finalize メソッドの説明として正しいものは", "ガベージコレクションの前に呼ばれる");
+
+        Page<QuizQuestionBank> page1 = quizQuestionBankService.search("ガベージコレクション", PageRequest.of(0, 2));
+        assertEquals(3, page1.getTotalElements());
+        assertEquals(2, page1.getContent().size());
+        assertEquals(first.getId(), page1.getContent().get(0).getId());
+
+        Page<QuizQuestionBank> page2 = quizQuestionBankService.search("ガベージコレクション", PageRequest.of(1, 2));
+        assertEquals(1, page2.getContent().size());
+        List<Long> all = new ArrayList<>();
+        page1.forEach(q -> all.add(q.getId()));
+        page2.forEach(q -> all.add(q.getId()));
+        assertTrue(all.containsAll(List.of(first.getId(), second.getId(), third.getId())));
+
+        assertEquals(List.of(third.getId()),
+                quizQuestionBankService.search("finalize", Pageable.unpaged()).map(QuizQuestionBank::getId).getContent());
+    }
+
+    /**
+     * 正規化とトークン分割を検証します。
+     */
+    @Test
+    public void testTokenize() {
+        assertEquals(List.of("#java", "入", "門", "入門"), QuestionSearchIndex.tokenize("Java入門", true));
+        assertEquals(List.of("#java", "入門"), QuestionSearchIndex.tokenizeQuery("ＪＡＶＡ　入門 入門"));
+        assertEquals(List.of("デー", "ータ", "タベ", "ベー", "ース"), QuestionSearchIndex.tokenizeQuery("データベース"));
+        assertEquals(List.of("継"), QuestionSearchIndex.tokenizeQuery("継"));
+    }
+}
@@ -0,0 +1,113 @@
+package jp.co.apsa.giiku.service;
+
+import jp.co.apsa.giiku.domain.entity.Quiz;
+import jp.co.apsa.giiku.domain.repository.QuestionBankRepository;
+import jp.co.apsa.giiku.domain.repository.QuizRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link QuizGradingService} のテストクラス。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuizGradingService Tests")
+class QuizGradingServiceTest {
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @Mock
+    private QuestionBankRepository questionBankRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private QuizGradingService quizGradingService;
+
+    @BeforeEach
+    void setUp() {
+        quizGradingService = new QuizGradingService();
+        ReflectionTestUtils.setField(quizGradingService, "quizRepository", quizRepository);
+        ReflectionTestUtils.setField(quizGradingService, "questionBankRepository", questionBankRepository);
+        ReflectionTestUtils.setField(quizGradingService, "eventPublisher", eventPublisher);
+    }
+
+    private static List<Object[]> answerKeys() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] {1L, "A", 2});
+        rows.add(new Object[] {2L, " b ", null});
+        rows.add(new Object[] {3L, "C", 1});
+        return rows;
+    }
+
+    private static Quiz quiz(Long id, String answers) {
+        Quiz quiz = new Quiz();
+        quiz.setId(id);
+        quiz.setQuestionIds("1,2,3");
+        quiz.setStudentAnswers(answers);
+        quiz.setPassingScore(70.0);
+        return quiz;
+    }
+
+    @Test
+    @DisplayName("配点を加味して採点し、獲得点・得点率・合否を反映する")
+    void gradeAppliesPointsAndPassFlag() {
+        when(questionBankRepository.findAnswerKeysByIdIn(anyCollection())).thenReturn(answerKeys());
+
+        Quiz result = quizGradingService.grade(quiz(1L, "a,B,D"));
+
+        assertThat(result.getTotalQuestions()).isEqualTo(3);
+        assertThat(result.getTotalPoints()).isEqualTo(4);
+        assertThat(result.getEarnedPoints()).isEqualTo(3);
+        assertThat(result.getPercentageScore()).isEqualTo(75.0);
+        assertThat(result.getIsPassed()).isTrue();
+        verify(questionBankRepository, times(1)).findAnswerKeysByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("回答数と問題数が一致しない場合は0点とする")
+    void gradeReturnsZeroWhenAnswerCountMismatches() {
+        when(questionBankRepository.findAnswerKeysByIdIn(anyCollection())).thenReturn(answerKeys());
+
+        Quiz result = quizGradingService.grade(quiz(1L, "A,B"));
+
+        assertThat(result.getEarnedPoints()).isZero();
+        assertThat(result.getPercentageScore()).isZero();
+        assertThat(result.getIsPassed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("チャプター再採点は解答キーを1回だけ取得する")
+    void regradeLoadsAnswerKeysOnce() {
+        List<Quiz> quizzes = List.of(quiz(1L, "A,B,C"), quiz(2L, "B,B,B"));
+        when(quizRepository.findByChapterIdAndQuizStatusIn(eq(10L), anyCollection())).thenReturn(quizzes);
+        when(questionBankRepository.findAnswerKeysByIdIn(anyCollection())).thenReturn(answerKeys());
+
+        int count = quizGradingService.regradeByChapterId(10L);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(quizzes.get(0).getPercentageScore()).isEqualTo(100.0);
+        assertThat(quizzes.get(1).getEarnedPoints()).isEqualTo(1);
+        assertThat(quizzes.get(1).getGradedTime()).isNotNull();
+        verify(questionBankRepository, times(1)).findAnswerKeysByIdIn(anyCollection());
+        verify(quizRepository).saveAll(quizzes);
+    }
+}
@@ -0,0 +1,111 @@
+package jp.co.apsa.giiku.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import jp.co.apsa.giiku.domain.entity.StudentAnswer;
+import jp.co.apsa.giiku.domain.repository.StudentAnswerRepository;
+
+/**
+ * StudentAnswerWriteBuffer のテストクラス。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@SpringBootTest(properties = {
+    "giiku.answer-buffer.enabled=true",
+    "giiku.answer-buffer.flush-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+public class StudentAnswerWriteBufferTest {
+
+    @Autowired
+    private StudentAnswerService studentAnswerService;
+
+    @Autowired
+    private StudentAnswerWriteBuffer studentAnswerWriteBuffer;
+
+    @Autowired
+    private StudentAnswerRepository studentAnswerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    public void cleanUp() {
+        studentAnswerRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM student_answer_dead_letters");
+    }
+
+    /**
+     * 同一キーの回答が最新の1件に集約され、UPSERTで書き込まれることを検証します。
+     */
+    @Test
+    public void testCoalescesAndUpsertsAnswers() {
+        studentAnswerService.submitAnswer(1L, 10L, 100L, "A");
+        studentAnswerService.submitAnswer(1L, 10L, 100L, "B");
+        studentAnswerService.submitAnswer(1L, 11L, 100L, "C");
+
+        // フラッシュ前でも書き込み待ちの回答が参照できる
+        assertEquals(2, studentAnswerService.getAnswers(1L, 100L).size());
+        assertEquals(0, studentAnswerRepository.count());
+
+        assertEquals(2, studentAnswerWriteBuffer.flush());
+        assertEquals(2, studentAnswerRepository.count());
+
+        studentAnswerService.submitAnswer(1L, 10L, 100L, "D");
+        studentAnswerWriteBuffer.flush();
+
+        List<StudentAnswer> answers = studentAnswerService.getAnswersByQuestionId(10L);
+        assertEquals(1, answers.size());
+        assertEquals("D", answers.get(0).getAnswerText());
+    }
+
+    /**
+     * IDまたは回答内容が不正な回答を受付時に拒否することを検証します。
+     */
+    @Test
+    public void testRejectsInvalidAnswersOnSubmit() {
+        assertThrows(IllegalArgumentException.class, () -> studentAnswerService.submitAnswer(0L, 10L, 100L, "A"));
+        assertThrows(IllegalArgumentException.class, () -> studentAnswerService.submitAnswer(1L, null, 100L, "A"));
+        assertThrows(IllegalArgumentException.class, () -> studentAnswerService.submitAnswer(1L, 10L, 100L, null));
+
+        assertEquals(0, studentAnswerWriteBuffer.flush());
+        assertEquals(0, studentAnswerRepository.count());
+    }
+
+    /**
+     * 制約違反の回答だけがデッドレターに移り、同じバッチの他の回答と後続の回答が書き込まれることを検証します。
+     */
+    @Test
+    public void testConstraintViolationIsDeadLetteredWithoutBlockingOthers() {
+        jdbcTemplate.execute("ALTER TABLE student_answers ADD CONSTRAINT chk_test_answer CHECK (answer_text <> 'NG')");
+        try {
+            studentAnswerService.submitAnswer(2L, 20L, 200L, "A");
+            studentAnswerService.submitAnswer(2L, 21L, 200L, "NG");
+            studentAnswerService.submitAnswer(2L, 22L, 200L, "C");
+
+            assertEquals(2, studentAnswerWriteBuffer.flush());
+            assertEquals(2, studentAnswerRepository.count());
+            assertEquals(1, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM student_answer_dead_letters WHERE question_id = 21 AND answer_text = 'NG'",
+                    Integer.class));
+
+            // 失敗した回答はバッファに残らない
+            studentAnswerService.submitAnswer(2L, 23L, 200L, "D");
+            assertEquals(1, studentAnswerWriteBuffer.flush());
+            assertEquals(3, studentAnswerRepository.count());
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE student_answers DROP CONSTRAINT chk_test_answer");
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package jp.co.apsa.giiku.service;
+
+import jp.co.apsa.giiku.domain.entity.QuestionBank;
+import jp.co.apsa.giiku.domain.entity.StudentAnswer;
+import jp.co.apsa.giiku.domain.entity.StudentGradeSummary;
+import jp.co.apsa.giiku.domain.event.ExerciseAnsweredEvent;
+import jp.co.apsa.giiku.domain.event.MockTestResultRecordedEvent;
+import jp.co.apsa.giiku.domain.event.QuizChangedEvent;
+import jp.co.apsa.giiku.domain.repository.LectureChapterLinkRepository;
+import jp.co.apsa.giiku.domain.repository.MockTestResultRepository;
+import jp.co.apsa.giiku.domain.repository.QuestionBankRepository;
+import jp.co.apsa.giiku.domain.repository.QuizRepository;
+import jp.co.apsa.giiku.domain.repository.StudentAnswerRepository;
+import jp.co.apsa.giiku.domain.repository.StudentGradeSummaryRepository;
+import jp.co.apsa.giiku.domain.repository.StudentRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link StudentGradeSummaryService} のテストクラス。
+ *
+ * @author 株式会社アプサ
+ * @version 1.0
+ * @since 2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudentGradeSummaryService Tests")
+class StudentGradeSummaryServiceTest {
+
+    /** ユーザーID（users.id） */
+    private static final Long STUDENT_ID = 5L;
+
+    /** 受講者ID（students.id） */
+    private static final Long SUMMARY_STUDENT_ID = 50L;
+
+    @Mock
+    private StudentGradeSummaryRepository studentGradeSummaryRepository;
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @Mock
+    private QuestionBankRepository questionBankRepository;
+
+    @Mock
+    private LectureChapterLinkRepository lectureChapterLinkRepository;
+
+    @Mock
+    private MockTestResultRepository mockTestResultRepository;
+
+    @Mock
+    private StudentAnswerRepository studentAnswerRepository;
+
+    @Mock
+    private StudentAnswerService studentAnswerService;
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StudentGradeSummaryService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new StudentGradeSummaryService(studentGradeSummaryRepository, quizRepository,
+                questionBankRepository, lectureChapterLinkRepository, mockTestResultRepository,
+                studentAnswerRepository, studentAnswerService, studentRepository, transactionManager);
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    private static QuestionBank question(Long id, String correctAnswer, Integer points) {
+        QuestionBank question = new QuestionBank();
+        question.setId(id);
+        question.setCorrectAnswer(correctAnswer);
+        question.setPoints(points);
+        return question;
+    }
+
+    private static StudentAnswer answer(Long questionId, String answerText) {
+        StudentAnswer answer = new StudentAnswer();
+        answer.setQuizId(0L);
+        answer.setQuestionId(questionId);
+        answer.setStudentId(STUDENT_ID);
+        answer.setAnswerText(answerText);
+        return answer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<StudentGradeSummary> savedSummaries() {
+        ArgumentCaptor<List<StudentGradeSummary>> captor = ArgumentCaptor.forClass(List.class);
+        verify(studentGradeSummaryRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("クイズの採点でチャプターが属する講義の行だけを再計算する")
+    void quizGradedRecomputesOnlyAffectedLecture() {
+        when(studentRepository.findIdByUserId(STUDENT_ID)).thenReturn(Optional.of(SUMMARY_STUDENT_ID));
+        when(lectureChapterLinkRepository.findLectureIdsByChapterId(3L)).thenReturn(List.of(10L));
+        when(quizRepository.averageScoreGroupByLectureId(eq(STUDENT_ID), anyCollection()))
+                .thenReturn(rows(new Object[] {10L, 80.0}, new Object[] {11L, 50.0}));
+        when(studentAnswerService.getAnswers(0L, STUDENT_ID)).thenReturn(List.of());
+        when(mockTestResultRepository.findBestScoresByStudentId(STUDENT_ID)).thenReturn(List.of());
+        when(studentGradeSummaryRepository.findByStudentIdAndLectureId(SUMMARY_STUDENT_ID, 10L)).thenReturn(Optional.empty());
+
+        service.onQuizChanged(new QuizChangedEvent(
+                new QuizChangedEvent.Snapshot(1L, STUDENT_ID, 3L, "IN_PROGRESS", null, false),
+                new QuizChangedEvent.Snapshot(1L, STUDENT_ID, 3L, "GRADED", 80.0, true)));
+        assertThat(service.pendingCount()).isEqualTo(1);
+
+        assertThat(service.flush()).isEqualTo(1);
+
+        List<StudentGradeSummary> saved = savedSummaries();
+        assertThat(saved).hasSize(1);
+        StudentGradeSummary summary = saved.get(0);
+        assertThat(summary.getStudentId()).isEqualTo(SUMMARY_STUDENT_ID);
+        assertThat(summary.getLectureId()).isEqualTo(10L);
+        assertThat(summary.getQuizScore()).isEqualByComparingTo("80.00");
+        assertThat(summary.getExerciseScore()).isNull();
+        assertThat(summary.getTotalScore()).isEqualByComparingTo("80.00");
+        assertThat(summary.getGradeStatus()).isEqualTo("excellent");
+        assertThat(summary.getCalculatedAt()).isNotNull();
+        assertThat(service.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("得点の変わらないクイズの保存は再計算待ちにしない")
+    void unchangedQuizIsIgnored() {
+        QuizChangedEvent.Snapshot graded = new QuizChangedEvent.Snapshot(1L, STUDENT_ID, 3L, "GRADED", 80.0, true);
+        service.onQuizChanged(new QuizChangedEvent(graded, graded));
+        service.onQuizChanged(new QuizChangedEvent(null,
+                new QuizChangedEvent.Snapshot(1L, STUDENT_ID, 3L, "IN_PROGRESS", null, false)));
+
+        assertThat(service.pendingCount()).isZero();
+        assertThat(service.flush()).isZero();
+        verifyNoInteractions(studentGradeSummaryRepository);
+    }
+
+    @Test
+    @DisplayName("演習の回答で演習得点・模擬試験得点を含む総合得点を計算する")
+    void exerciseAnswerUpdatesExistingRow() {
+        StudentGradeSummary existing = new StudentGradeSummary();
+        existing.setId(99L);
+        existing.setStudentId(SUMMARY_STUDENT_ID);
+        existing.setLectureId(10L);
+        when(studentRepository.findIdByUserId(STUDENT_ID)).thenReturn(Optional.of(SUMMARY_STUDENT_ID));
+        when(questionBankRepository.findLectureIdsByIdIn(anyCollection())).thenReturn(rows(new Object[] {7L, 10L}));
+        when(quizRepository.averageScoreGroupByLectureId(eq(STUDENT_ID), anyCollection())).thenReturn(rows());
+        when(studentAnswerService.getAnswers(0L, STUDENT_ID)).thenReturn(List.of(answer(7L, " B "), answer(8L, "x")));
+        when(mockTestResultRepository.findBestScoresByStudentId(STUDENT_ID))
+                .thenReturn(List.of(new BigDecimal("70"), new BigDecimal("90")));
+        when(questionBankRepository.findByLectureIdOrderByChapterAndQuestionNumber(10L))
+                .thenReturn(List.of(question(7L, "b", 2), question(8L, "y", null)));
+        when(studentGradeSummaryRepository.findByStudentIdAndLectureId(SUMMARY_STUDENT_ID, 10L))
+                .thenReturn(Optional.of(existing));
+
+        service.onExerciseAnswered(new ExerciseAnsweredEvent(7L, STUDENT_ID));
+        service.onExerciseAnswered(new ExerciseAnsweredEvent(7L, STUDENT_ID));
+        assertThat(service.flush()).isEqualTo(1);
+
+        StudentGradeSummary summary = savedSummaries().get(0);
+        assertThat(summary).isSameAs(existing);
+        assertThat(summary.getExerciseScore()).isEqualByComparingTo("66.67");
+        assertThat(summary.getQuizScore()).isNull();
+        assertThat(summary.getMockTestScore()).isEqualByComparingTo("80.00");
+        // (66.67 * 0.4 + 80 * 0.3) / 0.7
+        assertThat(summary.getTotalScore()).isEqualByComparingTo("72.38");
+        assertThat(summary.getGradeStatus()).isEqualTo("good");
+    }
+
+    @Test
+    @DisplayName("模擬試験結果の記録で学生の既存の行を全て再計算する")
+    void mockTestResultRecomputesExistingRows() {
+        when(studentRepository.findIdByUserId(STUDENT_ID)).thenReturn(Optional.of(SUMMARY_STUDENT_ID));
+        when(studentGradeSummaryRepository.findLectureIdsByStudentId(SUMMARY_STUDENT_ID)).thenReturn(List.of(10L, 11L));
+        when(quizRepository.averageScoreGroupByLectureId(eq(STUDENT_ID), anyCollection())).thenReturn(rows());
+        when(studentAnswerService.getAnswers(0L, STUDENT_ID)).thenReturn(List.of());
+        when(mockTestResultRepository.findBestScoresByStudentId(STUDENT_ID)).thenReturn(List.of(new BigDecimal("40")));
+        when(studentGradeSummaryRepository.findByStudentIdAndLectureId(eq(SUMMARY_STUDENT_ID), anyLong()))
+                .thenReturn(Optional.empty());
+
+        service.onMockTestResultRecorded(new MockTestResultRecordedEvent(1L, STUDENT_ID));
+
+        assertThat(service.flush()).isEqualTo(2);
+        assertThat(savedSummaries()).extracting(StudentGradeSummary::getGradeStatus)
+                .containsOnly("needs_improvement");
+    }
+
+    @Test
+    @DisplayName("失敗した学生は再計算待ちに戻し、上限回数続けて失敗すると破棄する")
+    void failedRecomputeIsRequeuedUntilMaxAttempts() {
+        ReflectionTestUtils.setField(service, "maxAttempts", 2);
+        when(studentRepository.findIdByUserId(STUDENT_ID)).thenReturn(Optional.of(SUMMARY_STUDENT_ID));
+        when(lectureChapterLinkRepository.findLectureIdsByChapterId(3L)).thenReturn(List.of(10L));
+        when(quizRepository.averageScoreGroupByLectureId(eq(STUDENT_ID), anyCollection()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        service.onQuizChanged(new QuizChangedEvent(null,
+                new QuizChangedEvent.Snapshot(1L, STUDENT_ID, 3L, "GRADED", 60.0, false)));
+
+        assertThat(service.flush()).isZero();
+        assertThat(service.pendingCount()).isEqualTo(1);
+        assertThat(service.flush()).isZero();
+        assertThat(service.pendingCount()).isZero();
+        verify(quizRepository, times(2)).averageScoreGroupByLectureId(eq(STUDENT_ID), anyCollection());
+    }
+
+    @Test
+    @DisplayName("失敗した学生があっても他の学生のサマリーは書き込む")
+    void failingStudentDoesNotBlockOthers() {
+        Long otherStudentId = 6L;
+        when(lectureChapterLinkRepository.findLectureIdsByChapterId(3L)).thenReturn(List.of(10L));
+        when(studentRepository.findIdByUserId(anyLong()))
+                .thenAnswer(invocation -> Optional.of((Long) invocation.getArgument(0) + 100));
+        when(quizRepository.averageScoreGroupByLectureId(eq(STUDENT_ID), anyCollection()))
+                .thenThrow(new IllegalStateException("bad data"));
+        when(quizRepository.averageScoreGroupByLectureId(eq(otherStudentId), anyCollection()))
+                .thenReturn(rows(new Object[] {10L, 70.0}));
+        when(studentAnswerService.getAnswers(0L, otherStudentId)).thenReturn(List.of());
+        when(mockTestResultRepository.findBestScoresByStudentId(otherStudentId)).thenReturn(List.of());
+        when(studentGradeSummaryRepository.findByStudentIdAndLectureId(otherStudentId + 100, 10L))
+                .thenReturn(Optional.empty());
+
+        for (Long studentId : List.of(STUDENT_ID, otherStudentId)) {
+            service.onQuizChanged(new QuizChangedEvent(null,
+                    new QuizChangedEvent.Snapshot(1L, studentId, 3L, "GRADED", 70.0, false)));
+        }
+
+        assertThat(service.flush()).isEqualTo(1);
+
+        StudentGradeSummary summary = savedSummaries().get(0);
+        assertThat(summary.getStudentId()).isEqualTo(otherStudentId + 100);
+        assertThat(summary.getQuizScore()).isEqualByComparingTo("70.00");
+        assertThat(service.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("全件再構築は全ての学生を分割して並列に再計算する")
+    void rebuildAllCoversEveryStudent() {
+        ReflectionTestUtils.setField(service, "rebuildThreads", 2);
+        ReflectionTestUtils.setField(service, "rebuildBatchSize", 1);
+        when(quizRepository.findDistinctStudentIds()).thenReturn(List.of(1L, 2L));
+        when(studentAnswerRepository.findDistinctStudentIdsByQuizId(0L)).thenReturn(List.of(2L, 3L));
+        when(mockTestResultRepository.findDistinctStudentIds()).thenReturn(List.of(3L));
+        when(studentGradeSummaryRepository.findDistinctStudentUserIds()).thenReturn(List.of(4L));
+        when(studentRepository.findIdByUserId(anyLong()))
+                .thenAnswer(invocation -> Optional.of((Long) invocation.getArgument(0) + 100));
+        when(quizRepository.averageScoreGroupByLectureId(anyLong(), anyCollection()))
+                .thenAnswer(invocation -> rows(new Object[] {10L, 75.0}));
+        when(studentAnswerService.getAnswers(eq(0L), anyLong())).thenReturn(List.of());
+        when(mockTestResultRepository.findBestScoresByStudentId(anyLong())).thenReturn(List.of());
+        when(studentGradeSummaryRepository.findLectureIdsByStudentId(anyLong())).thenReturn(List.of());
+        when(studentGradeSummaryRepository.findByStudentIdAndLectureId(anyLong(), eq(10L)))
+                .thenReturn(Optional.empty());
+
+        assertThat(service.rebuildAll()).isEqualTo(4);
+
+        verify(studentGradeSummaryRepository, times(4)).saveAll(anyList());
+        for (long studentId = 1; studentId <= 4; studentId++) {
+            verify(studentGradeSummaryRepository).findByStudentIdAndLectureId(studentId + 100, 10L);
+        }
+    }
+
+    @Test
+    @DisplayName("受講者として登録されていないユーザーのサマリーは作成しない")
+    void userWithoutStudentRowIsSkipped() {
+        when(lectureChapterLinkRepository.findLectureIdsByChapterId(3L)).thenReturn(List.of(10L));
+        when(studentRepository.findIdByUserId(STUDENT_ID)).thenReturn(Optional.empty());
+
+        service.onQuizChanged(new QuizChangedEvent(null,
+                new QuizChangedEvent.Snapshot(1L, STUDENT_ID, 3L, "GRADED", 60.0, false)));
+
+        assertThat(service.flush()).isZero();
+        assertThat(service.pendingCount()).isZero();
+        verifyNoInteractions(studentGradeSummaryRepository, quizRepository);
+    }
+}
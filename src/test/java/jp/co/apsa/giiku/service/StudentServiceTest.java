@@ -1,12 +1,15 @@
 package jp.co.apsa.giiku.service;
 
+import jp.co.apsa.giiku.application.service.DashboardStatisticsService;
 import jp.co.apsa.giiku.domain.entity.StudentProfile;
+import jp.co.apsa.giiku.domain.event.StudentChangedEvent;
 import jp.co.apsa.giiku.domain.repository.StudentProfileRepository;
 import jp.co.apsa.giiku.domain.repository.UserRepository;
 import jp.co.apsa.giiku.domain.repository.CompanyRepository;
 import jp.co.apsa.giiku.dto.StudentRequest;
 import jp.co.apsa.giiku.dto.StudentResponse;
 import jp.co.apsa.giiku.exception.StudentNotFoundException;
+import jp.co.apsa.giiku.mapper.StudentProfileMapper;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,10 +17,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import com.github.dozermapper.core.Mapper;
-import com.github.dozermapper.core.MapperModelContext;
-import com.github.dozermapper.core.metadata.MappingMetadata;
-import org.springframework.beans.BeanUtils;
+import org.mapstruct.factory.Mappers;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -46,54 +47,23 @@ class StudentServiceTest {
     @Mock
     private CompanyRepository companyRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DashboardStatisticsService dashboardStatisticsService;
+
     private StudentService studentService;
-    private Mapper mapper;
+    private StudentProfileMapper mapper;
 
     private StudentProfile profile;
     private StudentRequest request;
 
     @BeforeEach
     void setUp() {
-        mapper = new Mapper() {
-            @Override
-            public <T> T map(Object source, Class<T> destinationClass) {
-                if (source == null) {
-                    throw new NullPointerException();
-                }
-                try {
-                    T dest = destinationClass.getDeclaredConstructor().newInstance();
-                    BeanUtils.copyProperties(source, dest);
-                    return dest;
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-            }
-
-            @Override
-            public void map(Object source, Object destination) {
-                if (source == null || destination == null) {
-                    throw new NullPointerException();
-                }
-                BeanUtils.copyProperties(source, destination);
-            }
-
-            @Override
-            public <T> T map(Object source, Class<T> destinationClass, String mapId) {
-                return map(source, destinationClass);
-            }
-
-            @Override
-            public void map(Object source, Object destination, String mapId) {
-                map(source, destination);
-            }
-
-            @Override
-            public MappingMetadata getMappingMetadata() { return null; }
-
-            @Override
-            public MapperModelContext getMapperModelContext() { return null; }
-        };
-        studentService = new StudentService(studentProfileRepository, userRepository, companyRepository, mapper);
+        mapper = Mappers.getMapper(StudentProfileMapper.class);
+        studentService = new StudentService(studentProfileRepository, userRepository, companyRepository, mapper,
+                eventPublisher, dashboardStatisticsService);
 
         profile = new StudentProfile(1L, "S001", 100L, LocalDate.now());
         profile.setId(1L);
@@ -182,20 +152,22 @@ class StudentServiceTest {
     @Test
     @DisplayName("学生情報を削除できる")
     void testDeleteStudent() {
-        when(studentProfileRepository.existsById(1L)).thenReturn(true);
+        when(studentProfileRepository.findById(1L)).thenReturn(Optional.of(profile));
 
         studentService.deleteStudent(1L);
 
-        verify(studentProfileRepository).deleteById(1L);
+        verify(studentProfileRepository).delete(profile);
+        verify(eventPublisher).publishEvent(any(StudentChangedEvent.class));
     }
 
     @Test
     @DisplayName("存在しない学生情報削除時に例外が発生する")
     void testDeleteStudentNotFound() {
-        when(studentProfileRepository.existsById(1L)).thenReturn(false);
+        when(studentProfileRepository.findById(1L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> studentService.deleteStudent(1L))
             .isInstanceOf(StudentNotFoundException.class);
-        verify(studentProfileRepository).existsById(1L);
+        verify(studentProfileRepository).findById(1L);
+        verifyNoInteractions(eventPublisher);
     }
 }